@@ -0,0 +1,149 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.events;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark to measure the allocation rate and the number of events processed per second
+ * by an entire simulation, with and without {@link CloudSim#enableEventPooling() event pooling}.
+ *
+ * <p>Both measures are reported as auxiliary counters:
+ * "events" is the number of events processed per second and
+ * "allocatedBytes" is the number of bytes allocated per second by the benchmark thread.
+ * For detailed GC metrics, run JMH with the GC profiler ({@code -prof gc}).</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class EventPoolingBenchmark {
+    private static final int HOSTS = 50;
+    private static final int HOST_PES = 8;
+    private static final int VMS = 100;
+    private static final int VM_PES = 4;
+    private static final int CLOUDLET_LENGTH = 10_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Param({"false", "true"})
+    private boolean pooling;
+
+    @Param("5000")
+    private int cloudlets;
+
+    /**
+     * Counts the events processed and the bytes allocated by the simulations of a benchmark iteration.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long events;
+        public long allocatedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            events = 0;
+            allocatedBytes = 0;
+        }
+    }
+
+    /**
+     * Builds and runs an entire simulation.
+     * @param counters the counters of processed events and allocated bytes
+     * @return the simulation time when it finished
+     */
+    @Benchmark
+    public double testSimulation(final Counters counters) {
+        final long threadId = Thread.currentThread().getId();
+        final long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+
+        final CloudSim simulation = new CloudSim().setSilent(true);
+        if(pooling) {
+            simulation.enableEventPooling();
+        }
+
+        simulation.addOnEventProcessingListener(evt -> counters.events++);
+        new DatacenterSimple(simulation, createHosts());
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVmList(createVms());
+        broker.submitCloudletList(createCloudlets());
+        final double finishTime = simulation.start();
+
+        counters.allocatedBytes += THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return finishTime;
+    }
+
+    private List<Host> createHosts() {
+        final List<Host> list = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final List<Pe> peList = new ArrayList<>(HOST_PES);
+            for (int j = 0; j < HOST_PES; j++) {
+                peList.add(new PeSimple(1000));
+            }
+
+            list.add(new HostSimple(16384, 100000, 1000000, peList));
+        }
+
+        return list;
+    }
+
+    private List<Vm> createVms() {
+        final List<Vm> list = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            list.add(new VmSimple(1000, VM_PES).setRam(1024).setBw(1000).setSize(10000));
+        }
+
+        return list;
+    }
+
+    private List<Cloudlet> createCloudlets() {
+        final List<Cloudlet> list = new ArrayList<>(cloudlets);
+        for (int i = 0; i < cloudlets; i++) {
+            list.add(new CloudletSimple(CLOUDLET_LENGTH + i % 10 * 1000, 1).setUtilizationModel(new UtilizationModelFull()));
+        }
+
+        return list;
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Benchmarks that measure the allocation rate and throughput of
+ * simulation events, such as the effects of
+ * {@link org.cloudbus.cloudsim.core.CloudSim#enableEventPooling() event pooling}.
+ */
+package org.cloudsimplus.events;
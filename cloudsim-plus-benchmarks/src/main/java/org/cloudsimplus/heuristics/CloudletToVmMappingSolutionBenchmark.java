@@ -32,6 +32,7 @@ import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -44,14 +45,22 @@ import org.openjdk.jmh.annotations.State;
 @BenchmarkMode({Mode.AverageTime, Mode.Throughput})
 @State(Scope.Thread)
 public class CloudletToVmMappingSolutionBenchmark {
+    /**
+     * The number of Cloudlets (and VMs) in the solutions.
+     * Since neighbors are created by swapping the VMs of two Cloudlets
+     * and the cost is updated just by the difference of such a change,
+     * the time to create a neighbor shouldn't increase with this number.
+     */
+    @Param({"100", "100000"})
+    private int cloudlets;
+
     private CloudletToVmMappingSimulatedAnnealing heuristic;
     private CloudletToVmMappingSolution instance1;
     private CloudletToVmMappingSolution instance2;
 
     @Setup
     public void doSetup() {
-        CloudletToVmMappingSimulatedAnnealing heuristic =
-            new CloudletToVmMappingSimulatedAnnealing(0, new UniformDistr(0, 1));
+        heuristic = new CloudletToVmMappingSimulatedAnnealing(0, new UniformDistr(0, 1));
         instance1 = createInstance();
         instance2 = createInstance();
         /*Call the getCost the first time without measure it
@@ -63,7 +72,7 @@ public class CloudletToVmMappingSolutionBenchmark {
     private CloudletToVmMappingSolution createInstance() {
         final CloudletToVmMappingSolution result = new CloudletToVmMappingSolution(heuristic);
         UtilizationModel um = UtilizationModel.NULL;
-        IntStream.range(0, 100).forEach(i
+        IntStream.range(0, cloudlets).forEach(i
                 -> result.bindCloudletToVm(
                         new CloudletSimple(i, 1, 1).setUtilizationModel(um),
                         new VmSimple(i, 1000, 1))
@@ -77,6 +86,17 @@ public class CloudletToVmMappingSolutionBenchmark {
         return heuristic.createNeighbor(instance1);
     }
 
+    /**
+     * Creates a neighbor from the last created one,
+     * as it happens when the heuristic accepts every neighbor.
+     * @return the neighbor solution
+     */
+    @Benchmark
+    public CloudletToVmMappingSolution testCreateNeighborOfLastNeighbor() {
+        instance1 = heuristic.createNeighbor(instance1);
+        return instance1;
+    }
+
     @Benchmark
     public double testGetCostWhenFirstCall() {
         return instance1.getCost(true);
@@ -0,0 +1,155 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.logging;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark to measure the number of simulation events processed per second
+ * according to the logging configuration.
+ * It compares the default INFO level, the logging globally disabled
+ * by {@link Log#setLevel(Level) setting the level} to {@link Level#OFF}
+ * and the INFO level with the simulation in {@link CloudSim#setSilent(boolean) silent mode}.
+ *
+ * <p>Each benchmark invocation runs an entire simulation.
+ * The number of processed events is reported as an auxiliary counter,
+ * so that JMH shows the events/sec for every mode.
+ * Since the INFO mode really logs messages,
+ * consider redirecting the standard output to a file.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class LoggingOverheadBenchmark {
+    private static final int HOSTS = 50;
+    private static final int HOST_PES = 8;
+    private static final int VMS = 100;
+    private static final int VM_PES = 4;
+    private static final int CLOUDLET_LENGTH = 10_000;
+
+    /**
+     * The logging configuration: INFO (the default), OFF (global level) or SILENT (per-simulation).
+     */
+    @Param({"INFO", "OFF", "SILENT"})
+    private String mode;
+
+    @Param("2000")
+    private int cloudlets;
+
+    /**
+     * Counts the events processed by the simulations of a benchmark iteration.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class EventCounter {
+        public long events;
+
+        @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+        public void reset() {
+            events = 0;
+        }
+    }
+
+    @Setup
+    public void doSetup() {
+        Log.setLevel("OFF".equals(mode) ? Level.OFF : Level.INFO);
+    }
+
+    @TearDown
+    public void doTearDown() {
+        Log.setLevel(Level.INFO);
+    }
+
+    /**
+     * Builds and runs an entire simulation.
+     * @param counter the counter of processed events
+     * @return the simulation time when it finished
+     */
+    @Benchmark
+    public double testSimulation(final EventCounter counter) {
+        final CloudSim simulation = new CloudSim().setSilent("SILENT".equals(mode));
+        simulation.addOnEventProcessingListener(evt -> counter.events++);
+        new DatacenterSimple(simulation, createHosts());
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVmList(createVms());
+        broker.submitCloudletList(createCloudlets());
+        return simulation.start();
+    }
+
+    private List<Host> createHosts() {
+        final List<Host> list = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final List<Pe> peList = new ArrayList<>(HOST_PES);
+            for (int j = 0; j < HOST_PES; j++) {
+                peList.add(new PeSimple(1000));
+            }
+
+            list.add(new HostSimple(16384, 100000, 1000000, peList));
+        }
+
+        return list;
+    }
+
+    private List<Vm> createVms() {
+        final List<Vm> list = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            list.add(new VmSimple(1000, VM_PES).setRam(1024).setBw(1000).setSize(10000));
+        }
+
+        return list;
+    }
+
+    private List<Cloudlet> createCloudlets() {
+        final List<Cloudlet> list = new ArrayList<>(cloudlets);
+        final UtilizationModelDynamic ramAndBwModel = new UtilizationModelDynamic(0.1);
+        for (int i = 0; i < cloudlets; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(CLOUDLET_LENGTH + i % 10 * 1000, 1);
+            cloudlet.setUtilizationModelRam(ramAndBwModel).setUtilizationModelBw(ramAndBwModel);
+            list.add(cloudlet);
+        }
+
+        return list;
+    }
+}
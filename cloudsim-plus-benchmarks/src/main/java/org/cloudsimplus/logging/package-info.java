@@ -0,0 +1,6 @@
+/**
+ * Benchmarks that measure the overhead of logging on the simulation
+ * event throughput, comparing the logging levels and the
+ * {@link org.cloudbus.cloudsim.core.CloudSim#setSilent(boolean) silent mode}.
+ */
+package org.cloudsimplus.logging;
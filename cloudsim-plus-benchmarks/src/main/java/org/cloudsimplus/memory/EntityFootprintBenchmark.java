@@ -0,0 +1,131 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.memory;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Measures the average heap footprint (in bytes) of a {@link Cloudlet}, {@link Vm} and {@link Host},
+ * as they are created by default, without any listener, required file or history entry.
+ *
+ * <p>JMH measures time, not memory. This way, the footprint is computed from the
+ * heap usage reported by the {@link MemoryMXBean} before and after creating a large
+ * number of objects, forcing garbage collections in between.
+ * The results are averages that include every object created by the entity constructor
+ * (such as resources and default utilization models),
+ * which is what matters to estimate how many entities fit into a given heap.</p>
+ *
+ * <p>Run it with a fixed heap to reduce the noise, such as {@code -Xms2g -Xmx2g}.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+public final class EntityFootprintBenchmark {
+    private static final int OBJECTS = 200_000;
+    private static final int HOST_PES = 8;
+    private static final long HEAP_16GB = 16L * 1024 * 1024 * 1024;
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private EntityFootprintBenchmark(){}
+
+    public static void main(String[] args) {
+        final int objects = args.length > 0 ? Integer.parseInt(args[0]) : OBJECTS;
+
+        //Warm up class loading and the JIT, so that they don't affect the measurements
+        measure("warm-up", 1000, i -> new CloudletSimple(10000, 1));
+
+        System.out.printf("%nAverage heap footprint for %,d objects of each type%n", objects);
+        final double cloudletBytes = measure("Cloudlet", objects, i -> new CloudletSimple(10000, 1));
+        measure("Vm", objects, i -> new VmSimple(1000, 2));
+        measure("Host", objects, i -> new HostSimple(16384, 100000, 1000000, createPeList()));
+        System.out.printf("%nCloudlets fitting into a 16 GB heap (without any other object): %,d%n", (long)(HEAP_16GB / cloudletBytes));
+    }
+
+    private static List<Pe> createPeList() {
+        final List<Pe> peList = new ArrayList<>(HOST_PES);
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        return peList;
+    }
+
+    /**
+     * Creates a given number of objects, keeping them reachable,
+     * and computes the average heap increase per object.
+     *
+     * @param name the name of the type of object being measured
+     * @param objects number of objects to create
+     * @param factory function that creates the i-th object
+     * @return the average number of bytes per object
+     */
+    private static double measure(final String name, final int objects, final IntFunction<Object> factory) {
+        final Object[] holder = new Object[objects];
+        final long before = usedHeap();
+        for (int i = 0; i < objects; i++) {
+            holder[i] = factory.apply(i);
+        }
+
+        final double bytes = (usedHeap() - before) / (double) objects;
+        Reference.reachabilityFence(holder);
+        if(!"warm-up".equals(name)) {
+            System.out.printf("%-8s: %8.1f bytes%n", name, bytes);
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Forces garbage collections until the used heap stabilizes and returns it.
+     * @return the used heap in bytes
+     */
+    private static long usedHeap() {
+        long previous = Long.MAX_VALUE;
+        long used = MEMORY.getHeapMemoryUsage().getUsed();
+        for (int i = 0; i < 10 && used < previous; i++) {
+            previous = used;
+            System.gc();
+            used = MEMORY.getHeapMemoryUsage().getUsed();
+        }
+
+        return used;
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Benchmarks that measure the memory footprint of CloudSim Plus entities,
+ * such as Cloudlets, VMs and Hosts, instead of execution time.
+ * They are plain Java applications, since JMH doesn't measure memory usage.
+ */
+package org.cloudsimplus.memory;
@@ -0,0 +1,156 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.network;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletExecutionTask;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletReceiveTask;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletSendTask;
+import org.cloudbus.cloudsim.cloudlets.network.NetworkCloudlet;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.network.NetworkHost;
+import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.network.NetworkVm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark to assess how the cost of routing packets
+ * between {@link NetworkCloudlet}s scales with the number of VMs per Host.
+ * It's based on the network examples, but every Host runs thousands of VMs,
+ * each one with a Cloudlet exchanging packets with a Cloudlet in another VM
+ * (inside the same or another Host).
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class NetworkPacketDispatchBenchmark {
+    private static final int HOSTS = 2;
+    private static final int HOST_MIPS = 1000;
+    private static final int TASK_LENGTH = 1000;
+    private static final long PACKET_BYTES = 1000;
+    private static final int PACKETS_TO_SEND = 50;
+
+    @Param({"100", "1000", "4000"})
+    private int vmsPerHost;
+
+    /**
+     * Builds and runs an entire simulation.
+     * @return the simulation time when it finished
+     */
+    @Benchmark
+    public double testSimulation() {
+        final CloudSim simulation = new CloudSim().setSilent(true);
+        final NetworkDatacenter datacenter = createDatacenter(simulation);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<NetworkVm> vmList = createVms();
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(createCloudlets(vmList));
+        return simulation.start();
+    }
+
+    private NetworkDatacenter createDatacenter(final CloudSim simulation) {
+        final List<Host> hostList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final List<Pe> peList = new ArrayList<>(vmsPerHost);
+            for (int j = 0; j < vmsPerHost; j++) {
+                peList.add(new PeSimple(HOST_MIPS));
+            }
+
+            hostList.add(new NetworkHost(vmsPerHost * 64L, vmsPerHost * 100L, vmsPerHost * 1000L, peList));
+        }
+
+        final NetworkDatacenter dc = new NetworkDatacenter(simulation, hostList, new VmAllocationPolicySimple());
+        dc.setSchedulingInterval(5);
+        final EdgeSwitch edgeSwitch = new EdgeSwitch(simulation, dc);
+        dc.addSwitch(edgeSwitch);
+        for (final NetworkHost host : dc.<NetworkHost>getHostList()) {
+            edgeSwitch.connectHost(host);
+        }
+
+        return dc;
+    }
+
+    private List<NetworkVm> createVms() {
+        final int vms = HOSTS * vmsPerHost;
+        final List<NetworkVm> list = new ArrayList<>(vms);
+        for (int i = 0; i < vms; i++) {
+            final NetworkVm vm = new NetworkVm(HOST_MIPS, 1);
+            vm.setRam(64).setBw(100).setSize(1000);
+            list.add(vm);
+        }
+
+        return list;
+    }
+
+    /**
+     * Creates one Cloudlet for each VM, where Cloudlets
+     * are grouped in pairs: the first one sends packets to the second one.
+     * @param vmList the list of VMs to run the Cloudlets
+     * @return the list of created Cloudlets
+     */
+    private List<NetworkCloudlet> createCloudlets(final List<NetworkVm> vmList) {
+        final List<NetworkCloudlet> list = new ArrayList<>(vmList.size());
+        for (final NetworkVm vm : vmList) {
+            final NetworkCloudlet cloudlet = new NetworkCloudlet(TASK_LENGTH, 1);
+            cloudlet.setMemory(1).setUtilizationModel(new UtilizationModelFull()).setVm(vm).setBroker(vm.getBroker());
+            addExecutionTask(cloudlet);
+            list.add(cloudlet);
+        }
+
+        for (int i = 0; i + 1 < list.size(); i += 2) {
+            final NetworkCloudlet sender = list.get(i);
+            final NetworkCloudlet receiver = list.get(i + 1);
+
+            final CloudletSendTask sendTask = new CloudletSendTask(sender.getTasks().size());
+            sender.addTask(sendTask);
+            for (int j = 0; j < PACKETS_TO_SEND; j++) {
+                sendTask.addPacket(receiver, PACKET_BYTES);
+            }
+
+            final CloudletReceiveTask receiveTask = new CloudletReceiveTask(receiver.getTasks().size(), sender.getVm());
+            receiveTask.setExpectedPacketsToReceive(PACKETS_TO_SEND);
+            receiver.addTask(receiveTask);
+            addExecutionTask(receiver);
+        }
+
+        return list;
+    }
+
+    private void addExecutionTask(final NetworkCloudlet cloudlet) {
+        cloudlet.addTask(new CloudletExecutionTask(cloudlet.getTasks().size(), TASK_LENGTH));
+    }
+}
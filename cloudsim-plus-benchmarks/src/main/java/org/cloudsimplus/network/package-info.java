@@ -0,0 +1,6 @@
+/**
+ * Benchmarks that measure the cost of routing packets between
+ * {@link org.cloudbus.cloudsim.cloudlets.network.NetworkCloudlet}s,
+ * such as delivering packets to Hosts running a large number of VMs.
+ */
+package org.cloudsimplus.network;
@@ -0,0 +1,126 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.schedulers;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark to measure the number of processing updates per second
+ * a {@link CloudletScheduler} is able to perform
+ * for a large number of Cloudlets running inside a single VM.
+ *
+ * <p>The simulation is started and executed just until all Cloudlets are
+ * running. Then, each benchmark invocation calls
+ * {@link CloudletScheduler#updateProcessing(double, List)} directly,
+ * advancing the time passed to it.
+ * Cloudlets are long enough to never finish during the benchmark.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class CloudletSchedulerUpdateProcessingBenchmark {
+    private static final int VM_PES = 8;
+    private static final long CLOUDLET_LENGTH = 1_000_000_000;
+
+    @Param("10000")
+    private int cloudlets;
+
+    private CloudletScheduler scheduler;
+    private List<Double> mipsShare;
+    private double time;
+
+    @Setup
+    public void doSetup() {
+        final CloudSim simulation = new CloudSim();
+        new DatacenterSimple(simulation, Collections.singletonList(createHost()));
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        scheduler = new CloudletSchedulerTimeShared();
+        final Vm vm = new VmSimple(1000, VM_PES).setCloudletScheduler(scheduler);
+        vm.setRam(4096).setBw(10000).setSize(10000);
+        broker.submitVm(vm);
+        broker.submitCloudletList(createCloudlets());
+
+        simulation.startSync();
+        while(simulation.isRunning() && scheduler.getCloudletExecList().size() < cloudlets) {
+            simulation.runFor(1);
+        }
+
+        mipsShare = vm.getHost().getVmScheduler().getAllocatedMips(vm);
+        time = simulation.clock();
+    }
+
+    private Host createHost() {
+        final List<Pe> peList = new ArrayList<>(VM_PES);
+        for (int i = 0; i < VM_PES; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        return new HostSimple(8192, 100000, 100000, peList);
+    }
+
+    private List<Cloudlet> createCloudlets() {
+        final List<Cloudlet> list = new ArrayList<>(cloudlets);
+        final UtilizationModelDynamic ramAndBwModel = new UtilizationModelDynamic(0.00001);
+        for (int i = 0; i < cloudlets; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(CLOUDLET_LENGTH, 1);
+            cloudlet.setUtilizationModelCpu(new UtilizationModelFull())
+                    .setUtilizationModelRam(ramAndBwModel)
+                    .setUtilizationModelBw(ramAndBwModel);
+            list.add(cloudlet);
+        }
+
+        return list;
+    }
+
+    /**
+     * Updates the processing of all Cloudlets running inside the VM.
+     * @return the delay for the next Cloudlet to finish
+     */
+    @Benchmark
+    public double testUpdateProcessing() {
+        return scheduler.updateProcessing(++time, mipsShare);
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Benchmarks that measure the throughput of
+ * {@link org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler} operations,
+ * such as updating the processing of a large number of Cloudlets.
+ */
+package org.cloudsimplus.schedulers;
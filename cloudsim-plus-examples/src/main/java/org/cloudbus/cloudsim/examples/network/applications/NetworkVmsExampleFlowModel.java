@@ -0,0 +1,243 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.examples.network.applications;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.network.*;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.network.NetworkHost;
+import org.cloudbus.cloudsim.network.flows.FlowNetwork;
+import org.cloudbus.cloudsim.network.switches.AggregateSwitch;
+import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
+import org.cloudbus.cloudsim.network.switches.RootSwitch;
+import org.cloudbus.cloudsim.network.switches.Switch;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.util.TimeUtil;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.network.NetworkVm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An example running the same MPI-like application
+ * with the packet-level network simulation (where every packet is forwarded hop-by-hop by the switches)
+ * and with the flow-level network model enabled by {@link NetworkDatacenter#enableFlowNetwork()}.
+ *
+ * <p>The application has one {@link NetworkCloudlet} per Host,
+ * exchanging data with the next one in a ring.
+ * The Hosts are connected by a 3-level tree of Edge, Aggregate and Root switches,
+ * so that most packets cross the entire topology.
+ * The {@link CloudletSendTask} and {@link CloudletReceiveTask} are the same for both models.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ * @see FlowNetwork
+ */
+public class NetworkVmsExampleFlowModel {
+    private static final int AGGREGATE_SWITCHES = 2;
+    private static final int EDGE_SWITCHES_BY_AGGREGATE = 2;
+    private static final int HOSTS_BY_EDGE_SWITCH = 4;
+
+    private static final int HOST_MIPS = 1000;
+    private static final int HOST_PES = 4;
+    private static final int HOST_RAM = 2048;
+    private static final long HOST_STORAGE = 1000000;
+    private static final long HOST_BW = 10000;
+
+    private static final int ROUNDS = 10;
+    private static final int CLOUDLET_EXECUTION_TASK_LENGTH = 1000;
+    private static final long PACKET_DATA_LENGTH_IN_BYTES = 1_000_000;
+    private static final int PACKETS_TO_SEND = 50;
+    private static final long TASK_RAM = 100;
+
+    private final CloudSim simulation;
+    private final NetworkDatacenter datacenter;
+    private final List<NetworkVm> vmList;
+
+    public static void main(String[] args) {
+        new NetworkVmsExampleFlowModel(false);
+        new NetworkVmsExampleFlowModel(true);
+    }
+
+    private NetworkVmsExampleFlowModel(final boolean flowModel) {
+        final String model = flowModel ? "flow-level" : "packet-level";
+        System.out.printf("Starting %s with the %s network model%n", getClass().getSimpleName(), model);
+        final double startSecs = TimeUtil.currentTimeSecs();
+
+        simulation = new CloudSim();
+        datacenter = createDatacenter();
+        if(flowModel) {
+            datacenter.enableFlowNetwork();
+        }
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        vmList = createVms();
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(createNetworkCloudlets());
+        simulation.start();
+
+        final List<Cloudlet> finishedList = broker.getCloudletFinishedList();
+        final double finishTime = finishedList.stream().mapToDouble(Cloudlet::getFinishTime).max().orElse(0);
+        System.out.printf(
+            "%d Cloudlets finished at %.2f seconds (simulation time) after %.2f seconds (execution time)%n",
+            finishedList.size(), finishTime, TimeUtil.elapsedSeconds(startSecs));
+        datacenter.getFlowNetwork().ifPresent(flowNetwork ->
+            System.out.printf(
+                "%d flows finished with %d rate computations%n",
+                flowNetwork.getFinishedFlows(), flowNetwork.getRateComputations()));
+        System.out.println();
+    }
+
+    private NetworkDatacenter createDatacenter() {
+        final int hosts = AGGREGATE_SWITCHES * EDGE_SWITCHES_BY_AGGREGATE * HOSTS_BY_EDGE_SWITCH;
+        final List<Host> hostList = new ArrayList<>(hosts);
+        for (int i = 0; i < hosts; i++) {
+            hostList.add(createHost());
+        }
+
+        final NetworkDatacenter dc = new NetworkDatacenter(simulation, hostList, new VmAllocationPolicySimple());
+        dc.setSchedulingInterval(5);
+        createNetwork(dc);
+        return dc;
+    }
+
+    private Host createHost() {
+        final List<Pe> peList = new ArrayList<>(HOST_PES);
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(HOST_MIPS));
+        }
+
+        return new NetworkHost(HOST_RAM, HOST_BW, HOST_STORAGE, peList);
+    }
+
+    /**
+     * Creates a tree topology where a Root switch is connected to Aggregate switches,
+     * each one connected to Edge switches where the Hosts are connected to.
+     *
+     * @param dc the Datacenter where the network will be created
+     */
+    private void createNetwork(final NetworkDatacenter dc) {
+        final RootSwitch root = new RootSwitch(simulation, dc);
+        dc.addSwitch(root);
+
+        final List<NetworkHost> hosts = dc.getHostList();
+        int hostIndex = 0;
+        for (int i = 0; i < AGGREGATE_SWITCHES; i++) {
+            final AggregateSwitch aggregate = new AggregateSwitch(simulation, dc);
+            connect(root, aggregate);
+            dc.addSwitch(aggregate);
+            for (int j = 0; j < EDGE_SWITCHES_BY_AGGREGATE; j++) {
+                final EdgeSwitch edge = new EdgeSwitch(simulation, dc);
+                connect(aggregate, edge);
+                dc.addSwitch(edge);
+                for (int k = 0; k < HOSTS_BY_EDGE_SWITCH; k++) {
+                    edge.connectHost(hosts.get(hostIndex++));
+                }
+            }
+        }
+    }
+
+    private void connect(final Switch uplinkSwitch, final Switch downlinkSwitch) {
+        uplinkSwitch.getDownlinkSwitches().add(downlinkSwitch);
+        downlinkSwitch.getUplinkSwitches().add(uplinkSwitch);
+    }
+
+    /**
+     * Creates one VM for each Host, using all the Host PEs.
+     * @return the list of created VMs
+     */
+    private List<NetworkVm> createVms() {
+        final List<NetworkVm> list = new ArrayList<>();
+        for (int i = 0; i < datacenter.getHostList().size(); i++) {
+            final NetworkVm vm = new NetworkVm(HOST_MIPS, HOST_PES);
+            vm.setRam(HOST_RAM / 2).setBw(HOST_BW / 2).setSize(HOST_STORAGE / 2)
+              .setCloudletScheduler(new CloudletSchedulerTimeShared());
+            list.add(vm);
+        }
+
+        return list;
+    }
+
+    /**
+     * Creates one {@link NetworkCloudlet} for each VM.
+     * In every round, each Cloudlet executes some instructions,
+     * sends data to the next Cloudlet in the ring and receives data from the previous one.
+     *
+     * @return the list of created Cloudlets
+     */
+    private List<NetworkCloudlet> createNetworkCloudlets() {
+        final List<NetworkCloudlet> list = new ArrayList<>(vmList.size());
+        for (final NetworkVm vm : vmList) {
+            final NetworkCloudlet cloudlet = new NetworkCloudlet(CLOUDLET_EXECUTION_TASK_LENGTH, HOST_PES);
+            cloudlet
+                .setMemory(TASK_RAM)
+                .setUtilizationModel(new UtilizationModelFull())
+                .setVm(vm)
+                .setBroker(vm.getBroker());
+            list.add(cloudlet);
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < list.size(); i++) {
+                final NetworkCloudlet cloudlet = list.get(i);
+                final NetworkCloudlet next = list.get((i + 1) % list.size());
+                final NetworkCloudlet previous = list.get((i - 1 + list.size()) % list.size());
+                addExecutionTask(cloudlet);
+                addSendTask(cloudlet, next);
+                addReceiveTask(cloudlet, previous);
+            }
+        }
+
+        return list;
+    }
+
+    private void addExecutionTask(final NetworkCloudlet cloudlet) {
+        final CloudletTask task = new CloudletExecutionTask(cloudlet.getTasks().size(), CLOUDLET_EXECUTION_TASK_LENGTH);
+        task.setMemory(TASK_RAM);
+        cloudlet.addTask(task);
+    }
+
+    private void addSendTask(final NetworkCloudlet sourceCloudlet, final NetworkCloudlet destinationCloudlet) {
+        final CloudletSendTask task = new CloudletSendTask(sourceCloudlet.getTasks().size());
+        task.setMemory(TASK_RAM);
+        sourceCloudlet.addTask(task);
+        for (int i = 0; i < PACKETS_TO_SEND; i++) {
+            task.addPacket(destinationCloudlet, PACKET_DATA_LENGTH_IN_BYTES);
+        }
+    }
+
+    private void addReceiveTask(final NetworkCloudlet cloudlet, final NetworkCloudlet sourceCloudlet) {
+        final CloudletReceiveTask task = new CloudletReceiveTask(cloudlet.getTasks().size(), sourceCloudlet.getVm());
+        task.setMemory(TASK_RAM);
+        task.setExpectedPacketsToReceive(PACKETS_TO_SEND);
+        cloudlet.addTask(task);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.examples.performance;
+
+import org.cloudbus.cloudsim.util.Conversion;
+import org.cloudbus.cloudsim.util.TimeUtil;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelStochastic;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An example showing how long it takes and how much memory is required
+ * to record the resource utilization history of many {@link UtilizationModelStochastic}
+ * instances (one for each Cloudlet), save it to files and then load it
+ * to replay the same utilization in a new execution.
+ *
+ * <p>There are a set of constants you can change to see how
+ * time, memory and disk space are impacted,
+ * mainly {@link #CLOUDLETS} and {@link #SAMPLES_PER_CLOUDLET}.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ * @see UtilizationModelStochastic#saveHistory(String)
+ * @see UtilizationModelStochastic#loadHistory(String)
+ */
+public class UtilizationModelStochasticHistoryPerformance {
+    private static final int CLOUDLETS = 2_000;
+
+    /**
+     * Number of utilization values generated for each Cloudlet,
+     * one for each {@link #SCHEDULING_INTERVAL}.
+     */
+    private static final int SAMPLES_PER_CLOUDLET = 5_000;
+    private static final int SCHEDULING_INTERVAL = 10;
+    private static final long SEED = 123456;
+
+    public static void main(String[] args) {
+        new UtilizationModelStochasticHistoryPerformance();
+    }
+
+    private UtilizationModelStochasticHistoryPerformance() {
+        System.out.println("Starting " + this.getClass().getSimpleName() + " at " + LocalTime.now());
+        final Path dir = createTempDir();
+
+        double startSecs = TimeUtil.currentTimeSecs();
+        final List<UtilizationModelStochastic> models = recordHistory();
+        final double recordSecs = TimeUtil.elapsedSeconds(startSecs);
+
+        startSecs = TimeUtil.currentTimeSecs();
+        final long fileBytes = saveHistory(models, dir);
+        final double saveSecs = TimeUtil.elapsedSeconds(startSecs);
+
+        startSecs = TimeUtil.currentTimeSecs();
+        final double utilizationSum = replayHistory(dir);
+        final double replaySecs = TimeUtil.elapsedSeconds(startSecs);
+
+        deleteDir(dir);
+        System.out.printf("Mean replayed utilization: %.4f%n%n", utilizationSum / (CLOUDLETS * (double)SAMPLES_PER_CLOUDLET));
+        System.out.println("| Record time | Save time   | Load and replay time | History files size | Max Heap Used | Cloudlets  | Samples per Cloudlet |");
+        System.out.println("|-------------|-------------|----------------------|--------------------|---------------|------------|----------------------|");
+        System.out.printf(
+            "| %9.2f s | %9.2f s | %18.2f s | %15.2f MB | %10.2f GB | %10d | %20d |%n",
+            recordSecs, saveSecs, replaySecs, Conversion.bytesToMegaBytes(fileBytes),
+            getMaxHeapUtilizationGB(), CLOUDLETS, SAMPLES_PER_CLOUDLET);
+    }
+
+    /**
+     * Creates one {@link UtilizationModelStochastic} for each Cloudlet
+     * and requests the utilization along the simulation time,
+     * just as a Cloudlet would do, so that the history is recorded.
+     * @return the list of created utilization models
+     */
+    private List<UtilizationModelStochastic> recordHistory() {
+        final List<UtilizationModelStochastic> models = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final UtilizationModelStochastic um = new UtilizationModelStochastic(SEED + i);
+            for (int j = 0; j < SAMPLES_PER_CLOUDLET; j++) {
+                um.getUtilization(j * SCHEDULING_INTERVAL);
+            }
+
+            models.add(um);
+        }
+
+        return models;
+    }
+
+    /**
+     * Saves the history of every utilization model to a file.
+     * @return the total size of the written files (in bytes)
+     */
+    private long saveHistory(final List<UtilizationModelStochastic> models, final Path dir) {
+        long bytes = 0;
+        for (int i = 0; i < models.size(); i++) {
+            final Path file = historyFile(dir, i);
+            models.get(i).saveHistory(file.toString());
+            bytes += file.toFile().length();
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Loads the history files into new utilization models
+     * and requests the utilization for the same times recorded before.
+     * @return the sum of all the replayed utilization values
+     */
+    private double replayHistory(final Path dir) {
+        double sum = 0;
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final UtilizationModelStochastic um = new UtilizationModelStochastic();
+            um.loadHistory(historyFile(dir, i).toString());
+            for (int j = 0; j < SAMPLES_PER_CLOUDLET; j++) {
+                sum += um.getUtilization(j * SCHEDULING_INTERVAL);
+            }
+        }
+
+        return sum;
+    }
+
+    private Path historyFile(final Path dir, final int cloudletId) {
+        return dir.resolve("cloudlet" + cloudletId + ".bin");
+    }
+
+    private Path createTempDir() {
+        try {
+            return Files.createTempDirectory("utilization-history");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteDir(final Path dir) {
+        for (int i = 0; i < CLOUDLETS; i++) {
+            historyFile(dir, i).toFile().delete();
+        }
+
+        dir.toFile().delete();
+    }
+
+    /**
+     * Gets the maximum number of GB ever used by the application's heap.
+     * @return the max heap utilization in GB
+     * @see <a href="https://www.oracle.com/webfolder/technetwork/tutorials/obe/java/gc01/index.html">Java Garbage Collection Basics (for information about heap space)</a>
+     */
+    private double getMaxHeapUtilizationGB() {
+        final double memoryBytes =
+            ManagementFactory.getMemoryPoolMXBeans()
+                             .stream()
+                             .filter(bean -> bean.getType() == MemoryType.HEAP)
+                             .filter(bean -> bean.getName().contains("Eden Space") || bean.getName().contains("Survivor Space"))
+                             .map(MemoryPoolMXBean::getPeakUsage)
+                             .mapToDouble(MemoryUsage::getUsed)
+                             .sum();
+
+        return Conversion.bytesToGigaBytes(memoryBytes);
+    }
+}
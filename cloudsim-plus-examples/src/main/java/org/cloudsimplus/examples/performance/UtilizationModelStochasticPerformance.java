@@ -66,7 +66,7 @@ import static java.util.stream.Collectors.toCollection;
  * and {@link #STORE_CLOUDLETS_CPU_UTILIZATION_HISTORY}.
  * Just play with these values to see the results.</p>
  *
- * <p>Since the utilization history Map stored by the {@link UtilizationModelStochastic}
+ * <p>Since the utilization history stored by the {@link UtilizationModelStochastic}
  * is commonly not used after the simulation finishes,
  * maintaining such history is a time and memory expensive operation.
  * This way, if you don't need such a history, you can
@@ -0,0 +1,78 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.testbeds.linuxscheduler;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerCompletelyFair;
+import org.cloudsimplus.util.Log;
+
+import static org.cloudsimplus.testbeds.linuxscheduler.CloudletSchedulerExperiment.MAX_CLOUDLET_PES;
+
+/**
+ * Runs a single {@link CompletelyFairSchedulerExperiment} for an increasing
+ * number of Cloudlets submitted to the same VM, in order to show how
+ * the wall-clock time of the {@link CloudletSchedulerCompletelyFair}
+ * grows as its runqueue gets larger.
+ *
+ * <p>Differently from the {@link CompletelyFairSchedulerRunner}, this class
+ * doesn't compute any statistics about the simulation results.
+ * It just measures the execution time of each experiment.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+final class CompletelyFairSchedulerScalingBenchmark {
+    /**
+     * The number of Cloudlets to submit to the single VM in each experiment.
+     */
+    private static final int[] CLOUDLETS = {1_000, 10_000, 100_000};
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private CompletelyFairSchedulerScalingBenchmark(){/**/}
+
+    /**
+     * Starts the benchmark.
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        Log.setLevel(Level.WARN);
+        final CompletelyFairSchedulerRunner runner = new CompletelyFairSchedulerRunner();
+        System.out.printf("%n%s%n", CompletelyFairSchedulerScalingBenchmark.class.getSimpleName());
+        System.out.printf("%10s | %18s | %18s | %15s%n", "Cloudlets", "Finished Cloudlets", "Simulation Time(s)", "Wall Time (ms)");
+        for (int i = 0; i < CLOUDLETS.length; i++) {
+            final CompletelyFairSchedulerExperiment exp = new CompletelyFairSchedulerExperiment(i, runner);
+            exp.setCloudletPesPrng(runner.createRandomGen(i, 1, MAX_CLOUDLET_PES))
+               .setNumCloudletsToCreate(CLOUDLETS[i])
+               .setVerbose(false);
+
+            final long startTime = System.currentTimeMillis();
+            exp.run();
+            final long wallTime = System.currentTimeMillis() - startTime;
+
+            final int finished = exp.getBrokerList().stream().mapToInt(broker -> broker.getCloudletFinishedList().size()).sum();
+            System.out.printf("%10d | %18d | %18.2f | %15d%n", CLOUDLETS[i], finished, exp.getSimulation().clock(), wallTime);
+        }
+    }
+}
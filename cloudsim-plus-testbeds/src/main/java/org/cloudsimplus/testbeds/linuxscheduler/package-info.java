@@ -33,6 +33,9 @@
  * that allows to start a specific testbed. A testbed is a set of experiments executed
  * a given number of times defined by the runner class.</p>
  *
+ * <p>The {@link org.cloudsimplus.testbeds.linuxscheduler.CompletelyFairSchedulerScalingBenchmark}
+ * measures how the CFS execution time grows as the number of Cloudlets in a single VM increases.</p>
+ *
  * @author Manoel Campos da Silva Filho
  */
 package org.cloudsimplus.testbeds.linuxscheduler;
@@ -0,0 +1,320 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.allocationpolicies;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.listeners.HostEventInfo;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * An index for the Hosts of a {@link VmAllocationPolicy}, where Hosts are grouped
+ * into buckets according to their activation status and {@link Host#getFreePesNumber() number of free PEs}.
+ * This way, best, worst and first fit queries just check Hosts having enough free PEs for a given VM,
+ * instead of iterating over the entire Host list.
+ *
+ * <p>Inside each bucket, Hosts are sorted by their position in the Host list,
+ * so that ties are resolved in the same order a sequential search does.
+ * The index is kept up-to-date by a listener registered on every Host,
+ * which is notified when the Host activation status or number of free PEs changes.</p>
+ *
+ * <p><b>The index just considers Hosts having at least one free PE for each VM PE.</b>
+ * Some {@link org.cloudbus.cloudsim.schedulers.vm.VmScheduler}s may place a VM into a Host having
+ * less free PEs than the VM requires, when the MIPS requested by each VM PE are lower than the Host PE capacity.
+ * That is why the index is optional.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ * @see VmAllocationPolicy#enableHostIndex()
+ */
+final class HostCapacityIndex {
+    /**
+     * The policy whose Hosts are indexed.
+     */
+    private final VmAllocationPolicy policy;
+
+    /**
+     * The listener registered on every indexed Host to re-index it when its status changes.
+     */
+    private final EventListener<HostEventInfo> statusChangeListener;
+
+    /**
+     * Maps each indexed Host to its position in the {@link #hosts} array.
+     * It uses identity comparison since Host's equals relies on attributes that may change.
+     */
+    private final Map<Host, Integer> positions;
+
+    /**
+     * Buckets of active Hosts, where each key is a number of free PEs and each value
+     * is the set of positions for the Hosts having such a number of free PEs.
+     */
+    private final NavigableMap<Integer, NavigableSet<Integer>> activeBuckets;
+
+    /**
+     * Buckets of inactive Hosts, where each key is a number of free PEs and each value
+     * is the set of positions for the Hosts having such a number of free PEs.
+     */
+    private final NavigableMap<Integer, NavigableSet<Integer>> inactiveBuckets;
+
+    /**
+     * The indexed Hosts, in the same order they were in the Host list when the index was built.
+     */
+    private Host[] hosts;
+
+    /**
+     * The number of free PEs each Host had when it was indexed,
+     * used to find the bucket a Host is in.
+     */
+    private int[] indexedFreePes;
+
+    /**
+     * The activation status each Host had when it was indexed,
+     * used to find the bucket a Host is in.
+     */
+    private boolean[] indexedActive;
+
+    /**
+     * Indicates if the index must be built again,
+     * because Hosts were added or removed from the Host list.
+     */
+    private boolean stale;
+
+    HostCapacityIndex(final VmAllocationPolicy policy) {
+        this.policy = policy;
+        this.statusChangeListener = info -> update(info.getHost());
+        this.positions = new IdentityHashMap<>();
+        this.activeBuckets = new TreeMap<>();
+        this.inactiveBuckets = new TreeMap<>();
+        this.hosts = new Host[0];
+        this.indexedFreePes = new int[0];
+        this.indexedActive = new boolean[0];
+        this.stale = true;
+    }
+
+    /**
+     * Marks the index to be built again in the next query,
+     * since the Host list has changed.
+     */
+    void invalidate() {
+        this.stale = true;
+    }
+
+    /**
+     * Removes all Hosts from the index and unregisters the index listener from them.
+     */
+    void clear() {
+        for (final Host host : hosts) {
+            host.removeOnStatusChangeListener(statusChangeListener);
+        }
+
+        positions.clear();
+        activeBuckets.clear();
+        inactiveBuckets.clear();
+        hosts = new Host[0];
+        indexedFreePes = new int[0];
+        indexedActive = new boolean[0];
+        stale = true;
+    }
+
+    /**
+     * Builds the index again if the Host list has changed since the last query.
+     */
+    private void buildIfRequired() {
+        final List<Host> hostList = policy.getHostList();
+        if (!stale && hostList.size() == hosts.length) {
+            return;
+        }
+
+        clear();
+        hosts = hostList.toArray(new Host[0]);
+        indexedFreePes = new int[hosts.length];
+        indexedActive = new boolean[hosts.length];
+        for (int pos = 0; pos < hosts.length; pos++) {
+            positions.put(hosts[pos], pos);
+            addToBucket(pos);
+            hosts[pos].addOnStatusChangeListener(statusChangeListener);
+        }
+
+        stale = false;
+    }
+
+    /**
+     * Moves a Host to the bucket corresponding to its current status.
+     * @param host the Host whose status has changed
+     */
+    private void update(final Host host) {
+        final Integer pos = positions.get(host);
+        if (pos == null || (indexedActive[pos] == host.isActive() && indexedFreePes[pos] == host.getFreePesNumber())) {
+            return;
+        }
+
+        removeFromBucket(pos);
+        addToBucket(pos);
+    }
+
+    private void addToBucket(final int pos) {
+        indexedFreePes[pos] = hosts[pos].getFreePesNumber();
+        indexedActive[pos] = hosts[pos].isActive();
+        getBuckets(indexedActive[pos]).computeIfAbsent(indexedFreePes[pos], freePes -> new TreeSet<>()).add(pos);
+    }
+
+    private void removeFromBucket(final int pos) {
+        final NavigableMap<Integer, NavigableSet<Integer>> buckets = getBuckets(indexedActive[pos]);
+        final NavigableSet<Integer> bucket = buckets.get(indexedFreePes[pos]);
+        bucket.remove(pos);
+        if (bucket.isEmpty()) {
+            buckets.remove(indexedFreePes[pos]);
+        }
+    }
+
+    private NavigableMap<Integer, NavigableSet<Integer>> getBuckets(final boolean active) {
+        return active ? activeBuckets : inactiveBuckets;
+    }
+
+    /**
+     * Gets the buckets containing the Hosts that may have enough free PEs for a given VM.
+     * @param buckets the buckets to get the candidate ones
+     * @param vm the VM to find the candidate buckets
+     * @return the candidate buckets, sorted in ascending order of free PEs
+     */
+    private static NavigableMap<Integer, NavigableSet<Integer>> getCandidateBuckets(
+        final NavigableMap<Integer, NavigableSet<Integer>> buckets, final Vm vm)
+    {
+        return buckets.tailMap(Math.max(1, (int) vm.getNumberOfPes()), true);
+    }
+
+    /**
+     * Finds the first suitable Host for a VM that has the least number of free PEs,
+     * giving priority to active Hosts.
+     *
+     * @param vm the VM to find a Host for
+     * @return an {@link Optional} containing a suitable Host or an empty {@link Optional} if not found
+     */
+    Optional<Host> findBestFit(final Vm vm) {
+        buildIfRequired();
+        final Optional<Host> optional = findSuitableHost(getCandidateBuckets(activeBuckets, vm), vm);
+        return optional.isPresent() ? optional : findSuitableHost(getCandidateBuckets(inactiveBuckets, vm), vm);
+    }
+
+    /**
+     * Finds the first suitable Host for a VM that has the most number of free PEs,
+     * giving priority to active Hosts.
+     *
+     * @param vm the VM to find a Host for
+     * @return an {@link Optional} containing a suitable Host or an empty {@link Optional} if not found
+     */
+    Optional<Host> findWorstFit(final Vm vm) {
+        buildIfRequired();
+        final Optional<Host> optional = findSuitableHost(getCandidateBuckets(activeBuckets, vm).descendingMap(), vm);
+        return optional.isPresent() ? optional : findSuitableHost(getCandidateBuckets(inactiveBuckets, vm).descendingMap(), vm);
+    }
+
+    private Optional<Host> findSuitableHost(final NavigableMap<Integer, NavigableSet<Integer>> buckets, final Vm vm) {
+        for (final NavigableSet<Integer> bucket : buckets.values()) {
+            for (final int pos : bucket) {
+                if (hosts[pos].isSuitableForVm(vm)) {
+                    return Optional.of(hosts[pos]);
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Finds the position in the Host list of the first suitable Host for a VM,
+     * starting from a given position and moving to the beginning of the list
+     * when the end is reached.
+     *
+     * @param vm the VM to find a Host for
+     * @param startPos the position to start the search
+     * @return the position of the suitable Host found or -1 if not found
+     */
+    int findFirstFit(final Vm vm, final int startPos) {
+        buildIfRequired();
+        if (hosts.length == 0) {
+            return -1;
+        }
+
+        final int start = startPos % hosts.length;
+        final int pos = findFirstFit(vm, start, hosts.length);
+        return pos > -1 ? pos : findFirstFit(vm, 0, start);
+    }
+
+    /**
+     * Finds the position in the Host list of the first suitable Host for a VM
+     * inside a given range of positions.
+     *
+     * @param vm the VM to find a Host for
+     * @param fromPos the first position in the range (inclusive)
+     * @param toPos the last position in the range (exclusive)
+     * @return the position of the suitable Host found or -1 if not found
+     */
+    private int findFirstFit(final Vm vm, final int fromPos, final int toPos) {
+        final NavigableMap<Integer, NavigableSet<Integer>> activeCandidates = getCandidateBuckets(activeBuckets, vm);
+        final NavigableMap<Integer, NavigableSet<Integer>> inactiveCandidates = getCandidateBuckets(inactiveBuckets, vm);
+        int pos = fromPos;
+        while (pos < toPos) {
+            pos = Math.min(nextPosition(activeCandidates, pos), nextPosition(inactiveCandidates, pos));
+            if (pos >= toPos) {
+                break;
+            }
+
+            if (hosts[pos].isSuitableForVm(vm)) {
+                return pos;
+            }
+
+            pos++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Gets the smallest Host position inside a set of buckets
+     * that is equal to or greater than a given position.
+     * @param buckets the buckets to search
+     * @param fromPos the position to start the search
+     * @return the found position or {@link Integer#MAX_VALUE} if not found
+     */
+    private static int nextPosition(final NavigableMap<Integer, NavigableSet<Integer>> buckets, final int fromPos) {
+        int next = Integer.MAX_VALUE;
+        for (final NavigableSet<Integer> bucket : buckets.values()) {
+            final Integer pos = bucket.ceiling(fromPos);
+            if (pos != null && pos < next) {
+                next = pos;
+            }
+        }
+
+        return next;
+    }
+}
@@ -13,6 +13,7 @@ import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmGroup;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -67,6 +68,29 @@ public interface VmAllocationPolicy {
      */
     boolean allocateHostForVm(Vm vm);
 
+    /**
+     * Allocates Hosts for a list of {@link Vm}s or {@link VmGroup}s at once.
+     * VMs are placed in the given order, as if {@link #allocateHostForVm(Vm)}
+     * was called for each one. However, implementations may
+     * skip searching a Host for a VM when it's known that no Host is suitable for it.
+     *
+     * @param vmList the list of {@link Vm}s or {@link VmGroup}s to allocate Hosts to
+     * @param <T> the class of VMs in the list
+     * @return the list of VMs which a Host couldn't be allocated to
+     *         (an empty list if all VMs were placed)
+     * @see #allocateHostForVm(Vm)
+     */
+    default <T extends Vm> List<T> allocateHostForVm(final List<T> vmList) {
+        final List<T> failedVms = new ArrayList<>();
+        for (final T vm : vmList) {
+            if (!allocateHostForVm(vm)) {
+                failedVms.add(vm);
+            }
+        }
+
+        return failedVms;
+    }
+
     /**
      * Allocates a specified host for a given {@link Vm} or {@link VmGroup}.
      *
@@ -176,4 +200,38 @@ public interface VmAllocationPolicy {
      */
     void setHostCountForParallelSearch(int hostCountForParallelSearch);
 
+    /**
+     * Checks if the Host index is enabled, so that a Host for a VM
+     * is found by just checking Hosts that have enough free PEs for the VM,
+     * instead of iterating over the entire Host list.
+     *
+     * @return true if the Host index is enabled, false otherwise
+     * @see #enableHostIndex()
+     */
+    boolean isHostIndexEnabled();
+
+    /**
+     * Enables an index that groups Hosts by their activation status and number of free PEs,
+     * which is kept up-to-date as VMs are created and destroyed into Hosts.
+     * This way, policies such as {@link VmAllocationPolicyBestFit}, {@link VmAllocationPolicyWorstFit},
+     * {@link VmAllocationPolicyFirstFit} and {@link VmAllocationPolicySimple}
+     * just check Hosts that have enough free PEs for a VM,
+     * instead of iterating over the entire Host list.
+     * Other policies just ignore the index.
+     *
+     * <p><b>WARNING:</b> The index only considers Hosts having at least one free PE for each VM PE.
+     * If a {@link org.cloudbus.cloudsim.schedulers.vm.VmScheduler} is able to place a VM into a Host having
+     * less free PEs than the VM requires (such as when the MIPS requested by each VM PE are lower than
+     * the Host PE capacity), the index may not find such a Host.</p>
+     *
+     * @return
+     */
+    VmAllocationPolicy enableHostIndex();
+
+    /**
+     * Disables the Host index, so that the entire Host list is iterated to find a Host for a VM.
+     * @return
+     * @see #enableHostIndex()
+     */
+    VmAllocationPolicy disableHostIndex();
 }
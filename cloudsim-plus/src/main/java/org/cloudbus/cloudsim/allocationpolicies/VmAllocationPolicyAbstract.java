@@ -18,9 +18,12 @@ import org.cloudbus.cloudsim.util.Conversion;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmGroup;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
+import org.cloudsimplus.jfr.VmAllocationSearchEvent;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -64,6 +67,13 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
     /**@see #getHostCountForParallelSearch() */
     private int hostCountForParallelSearch;
 
+    /**
+     * An index of Hosts by their number of free PEs,
+     * which is null when the index is disabled.
+     * @see #enableHostIndex()
+     */
+    private HostCapacityIndex hostIndex;
+
     /**
      * Creates a VmAllocationPolicy.
      */
@@ -101,6 +111,9 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
     @Override
     public final void setDatacenter(final Datacenter datacenter) {
         this.datacenter = requireNonNull(datacenter);
+        if(hostIndex != null){
+            hostIndex.invalidate();
+        }
     }
 
     @Override
@@ -209,17 +222,23 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
             return false;
         }
 
-        LOGGER.info(
-            "{}: {}: {} more {} allocated to {}: new capacity is {}. Current resource usage is {}%",
-            scaling.getVm().getSimulation().clockStr(),
-            scaling.getClass().getSimpleName(),
-            (long) extraAmountToAllocate, resourceClass.getSimpleName(),
-            scaling.getVm(), vmResource.getCapacity(),
-            vmResource.getPercentUtilization() * 100);
+        if(Log.isInfoEnabled(LOGGER, scaling.getVm().getSimulation())) {
+            LOGGER.info(
+                "{}: {}: {} more {} allocated to {}: new capacity is {}. Current resource usage is {}%",
+                scaling.getVm().getSimulation().clockStr(),
+                scaling.getClass().getSimpleName(),
+                (long) extraAmountToAllocate, resourceClass.getSimpleName(),
+                scaling.getVm(), vmResource.getCapacity(),
+                vmResource.getPercentUtilization() * 100);
+        }
         return true;
     }
 
     private void showResourceIsUnavailable(final VerticalVmScaling scaling) {
+        if(!Log.isWarnEnabled(LOGGER, scaling.getVm().getSimulation())) {
+            return;
+        }
+
         final Class<? extends ResourceManageable> resourceClass = scaling.getResourceClass();
         final ResourceManageable hostResource = scaling.getVm().getHost().getResource(resourceClass);
         final double extraAmountToAllocate = scaling.getResourceAmountToScale();
@@ -255,13 +274,15 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
             return false;
         }
 
-        LOGGER.info(
-            "{}: {}: {} {} deallocated from {}: new capacity is {}. Current resource usage is {}%",
-            scaling.getVm().getSimulation().clockStr(),
-            scaling.getClass().getSimpleName(),
-            (long) amountToDeallocate, resourceClass.getSimpleName(),
-            scaling.getVm(), vmResource.getCapacity(),
-            vmResource.getPercentUtilization() * 100);
+        if(Log.isInfoEnabled(LOGGER, scaling.getVm().getSimulation())) {
+            LOGGER.info(
+                "{}: {}: {} {} deallocated from {}: new capacity is {}. Current resource usage is {}%",
+                scaling.getVm().getSimulation().clockStr(),
+                scaling.getClass().getSimpleName(),
+                (long) amountToDeallocate, resourceClass.getSimpleName(),
+                scaling.getVm(), vmResource.getCapacity(),
+                vmResource.getPercentUtilization() * 100);
+        }
         return true;
     }
 
@@ -289,10 +310,118 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
             return allocateHostForVm(vm, optional.get());
         }
 
-        LOGGER.warn("{}: {}: No suitable host found for {} in {}", vm.getSimulation().clockStr(), getClass().getSimpleName(), vm, datacenter);
+        if(Log.isWarnEnabled(LOGGER, vm.getSimulation())) {
+            LOGGER.warn("{}: {}: No suitable host found for {} in {}", vm.getSimulation().clockStr(), getClass().getSimpleName(), vm, datacenter);
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Since resources are just allocated while the VMs in the list are placed,
+     * a VM requiring the same resources as the last VM that couldn't be placed
+     * won't be placed either. This way, a Host isn't searched again for such a VM,
+     * when {@link #isPlacementFailureRepeatable() a failed placement is repeatable}.
+     * That avoids checking all Hosts for every remaining VM
+     * when a large list of equal VMs doesn't fit into the Datacenter.</p>
+     *
+     * @param vmList {@inheritDoc}
+     * @param <T> {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public <T extends Vm> List<T> allocateHostForVm(final List<T> vmList) {
+        final List<T> failedVms = new ArrayList<>();
+        final boolean failureRepeatable = isPlacementFailureRepeatable() && !getHostList().isEmpty();
+        Vm lastFailedVm = Vm.NULL;
+        for (final T vm : vmList) {
+            if (failureRepeatable && !vm.isCreated() && isSameResourceDemand(lastFailedVm, vm)) {
+                if(Log.isWarnEnabled(LOGGER, vm.getSimulation())) {
+                    LOGGER.warn("{}: {}: No suitable host found for {} in {}", vm.getSimulation().clockStr(), getClass().getSimpleName(), vm, datacenter);
+                }
+                failedVms.add(vm);
+            } else if (!allocateHostForVm(vm)) {
+                failedVms.add(vm);
+                //A VM that was already created isn't placed again, but that doesn't mean there is no suitable Host for it
+                lastFailedVm = vm.isCreated() ? lastFailedVm : vm;
+            }
+        }
+
+        return failedVms;
+    }
+
+    /**
+     * Checks if two VMs require the same amount of every resource
+     * to be placed into a Host.
+     *
+     * @param vm1 the first VM to compare
+     * @param vm2 the second VM to compare
+     * @return true if the VMs have the same resource demand, false otherwise
+     */
+    private boolean isSameResourceDemand(final Vm vm1, final Vm vm2) {
+        if (vm1 == Vm.NULL || vm1 instanceof VmGroup || vm2 instanceof VmGroup) {
+            return false;
+        }
+
+        return vm1.getNumberOfPes() == vm2.getNumberOfPes() &&
+               vm1.getStorage().getCapacity() == vm2.getStorage().getCapacity() &&
+               vm1.getCurrentRequestedRam() == vm2.getCurrentRequestedRam() &&
+               vm1.getCurrentRequestedBw() == vm2.getCurrentRequestedBw() &&
+               vm1.getCurrentRequestedMips().equals(vm2.getCurrentRequestedMips());
+    }
+
+    /**
+     * Checks if a VM that couldn't be placed would fail to be placed again,
+     * while no resource is released from any Host.
+     * That may be true when the policy checks all Hosts before giving up
+     * and no {@link #setFindHostForVmFunction(BiFunction) custom function} to find a Host was set.
+     *
+     * <p>Since a policy may select Hosts randomly or keep some state between placements,
+     * this method returns false by default, so that every VM is tried.
+     * Policies whose placement failures are known to be repeatable can override it.</p>
+     *
+     * @return true if the placement failure is repeatable, false otherwise
+     * @see #allocateHostForVm(List)
+     */
+    protected boolean isPlacementFailureRepeatable() {
         return false;
     }
 
+    /**
+     * Checks if the way a Host is selected for a VM is the one implemented by a given policy class.
+     * That is false when a {@link #setFindHostForVmFunction(BiFunction) custom function} to find a Host was set
+     * or a subclass of the given policy class overrides {@link #defaultFindHostForVm(Vm)}
+     * or {@link #allocateHostForVm(Vm)}.
+     * Subclasses that don't override such methods select Hosts just like the given policy class.
+     *
+     * @param policyClass the policy class that implements the Host selection
+     * @return true if the Hosts are selected as implemented by the given class, false otherwise
+     * @see #isPlacementFailureRepeatable()
+     */
+    protected final boolean isHostSelectionOf(final Class<? extends VmAllocationPolicyAbstract> policyClass) {
+        if(findHostForVmFunction != null) {
+            return false;
+        }
+
+        for (Class<?> clazz = getClass(); clazz != policyClass && clazz != null; clazz = clazz.getSuperclass()) {
+            if(declaresMethod(clazz, "defaultFindHostForVm") || declaresMethod(clazz, "allocateHostForVm")) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean declaresMethod(final Class<?> clazz, final String methodName) {
+        try {
+            clazz.getDeclaredMethod(methodName, Vm.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     @Override
     public boolean allocateHostForVm(final Vm vm, final Host host) {
         if(vm instanceof VmGroup){
@@ -313,9 +442,11 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
 
     private boolean createVm(final Vm vm, final Host host) {
         if (host.createVm(vm)) {
-            LOGGER.info(
-                "{}: {}: {} has been allocated to {}",
-                vm.getSimulation().clockStr(), getClass().getSimpleName(), vm, host);
+            if(Log.isInfoEnabled(LOGGER, vm.getSimulation())) {
+                LOGGER.info(
+                    "{}: {}: {} has been allocated to {}",
+                    vm.getSimulation().clockStr(), getClass().getSimpleName(), vm, host);
+            }
             return true;
         }
 
@@ -342,7 +473,18 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
 
     @Override
     public final Optional<Host> findHostForVm(final Vm vm) {
+        final VmAllocationSearchEvent searchEvent = new VmAllocationSearchEvent();
+        searchEvent.begin();
         final Optional<Host> optional = findHostForVmFunction == null ? defaultFindHostForVm(vm) : findHostForVmFunction.apply(this, vm);
+        if (searchEvent.shouldCommit()) {
+            searchEvent.policy = getClass().getSimpleName();
+            searchEvent.vmId = vm.getId();
+            searchEvent.hostFound = optional.isPresent();
+            searchEvent.hostId = optional.map(Host::getId).orElse(-1L);
+            searchEvent.simulationTime = vm.getSimulation().clock();
+            searchEvent.commit();
+        }
+
         //If the selected Host is not active, activate it (if it's already active, setActive has no effect)
         return optional.map(host -> host.setActive(true));
     }
@@ -389,5 +531,38 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
     public boolean isVmMigrationSupported() {
         return false;
     }
+
+    @Override
+    public boolean isHostIndexEnabled() {
+        return hostIndex != null;
+    }
+
+    @Override
+    public VmAllocationPolicy enableHostIndex() {
+        if(hostIndex == null){
+            hostIndex = new HostCapacityIndex(this);
+        }
+
+        return this;
+    }
+
+    @Override
+    public VmAllocationPolicy disableHostIndex() {
+        if(hostIndex != null){
+            hostIndex.clear();
+            hostIndex = null;
+        }
+
+        return this;
+    }
+
+    /**
+     * Gets the index of Hosts by their number of free PEs.
+     * @return the Host index or null if it's disabled
+     * @see #isHostIndexEnabled()
+     */
+    HostCapacityIndex getHostIndex() {
+        return hostIndex;
+    }
 }
 
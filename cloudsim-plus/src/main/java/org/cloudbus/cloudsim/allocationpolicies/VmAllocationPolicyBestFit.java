@@ -37,7 +37,8 @@ import java.util.stream.Stream;
  *
  * <p>This is a really computationally complex policy since the worst-case complexity
  * to allocate a Host for a VM is O(N), where N is the number of Hosts.
- * Such an implementation is not appropriate for large scale scenarios.</p>
+ * Such an implementation is not appropriate for large scale scenarios,
+ * unless the {@link #enableHostIndex() Host index} is enabled.</p>
  *
  * <p><b>NOTE: This policy doesn't perform optimization of VM allocation by means of VM migration.</b></p>
  *
@@ -55,6 +56,10 @@ public class VmAllocationPolicyBestFit extends VmAllocationPolicyAbstract {
      */
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
+        if(isHostIndexEnabled()){
+            return getHostIndex().findBestFit(vm);
+        }
+
         /* Since it's being used the min operation, the active comparator must be reversed so that
          * we get active hosts with minimum number of free PEs. */
         final Comparator<Host> activeComparator = Comparator.comparing(Host::isActive).reversed();
@@ -66,4 +71,16 @@ public class VmAllocationPolicyBestFit extends VmAllocationPolicyAbstract {
                 .min(comparator);
     }
 
+    /**
+     * {@inheritDoc}
+     * Since this policy checks all Hosts before giving up,
+     * a failed placement is repeatable, unless a custom function to find a Host is set.
+     * It's also false for subclasses that change how a Host is selected.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isPlacementFailureRepeatable() {
+        return isHostSelectionOf(VmAllocationPolicyBestFit.class);
+    }
 }
@@ -11,6 +11,8 @@ import java.util.Optional;
  * which finds the first Host having suitable resources to place a given VM.
  * This is a high time-efficient policy with a best-case complexity O(1)
  * and a worst-case complexity O(N), where N is the number of Hosts.
+ * If the {@link #enableHostIndex() Host index} is enabled,
+ * Hosts without enough free PEs for the VM are skipped without being checked.
  * Additionally, such a policy is resource efficient, because it performs
  * server consolidation by trying to place the maximum number of VMs
  * into the same Host in order to increase Host's resource usage.
@@ -39,6 +41,16 @@ public class VmAllocationPolicyFirstFit extends VmAllocationPolicyAbstract imple
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
         final List<Host> hostList = getHostList();
+        if(isHostIndexEnabled()){
+            final int hostIndex = getHostIndex().findFirstFit(vm, lastHostIndex);
+            if(hostIndex < 0){
+                return Optional.empty();
+            }
+
+            lastHostIndex = hostIndex;
+            return Optional.of(hostList.get(hostIndex));
+        }
+
         /* The for loop just defines the maximum number of Hosts to try.
          * When a suitable Host is found, the method returns immediately. */
         final int maxTries = hostList.size();
@@ -57,4 +69,17 @@ public class VmAllocationPolicyFirstFit extends VmAllocationPolicyAbstract imple
 
         return Optional.empty();
     }
+
+    /**
+     * {@inheritDoc}
+     * Since this policy tries every Host before giving up,
+     * a failed placement is repeatable, unless a custom function to find a Host is set.
+     * It's also false for subclasses that change how a Host is selected.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isPlacementFailureRepeatable() {
+        return isHostSelectionOf(VmAllocationPolicyFirstFit.class);
+    }
 }
@@ -39,5 +39,8 @@ final class VmAllocationPolicyNull implements VmAllocationPolicy {
     @Override public boolean isVmMigrationSupported() { return false; }
     @Override public int getHostCountForParallelSearch() { return 0; }
     @Override public void setHostCountForParallelSearch(int hostCountForParallelSearch) {/**/}
+    @Override public boolean isHostIndexEnabled() { return false; }
+    @Override public VmAllocationPolicy enableHostIndex() { return this; }
+    @Override public VmAllocationPolicy disableHostIndex() { return this; }
     @Override public void setFindHostForVmFunction(BiFunction<VmAllocationPolicy, Vm, Optional<Host>> findHostForVmFunction) {/**/}
 }
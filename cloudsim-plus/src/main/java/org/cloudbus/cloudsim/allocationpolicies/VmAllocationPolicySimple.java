@@ -23,7 +23,8 @@ import java.util.stream.Stream;
  *
  * <p>This is a really computationally complex policy since the worst-case complexity
  * to allocate a Host for a VM is O(N), where N is the number of Hosts.
- * Such an implementation is not appropriate for large scale scenarios.</p>
+ * Such an implementation is not appropriate for large scale scenarios,
+ * unless the {@link #enableHostIndex() Host index} is enabled.</p>
  *
  * <p><b>NOTE: This policy doesn't perform optimization of VM allocation by means of VM migration.</b></p>
  *
@@ -61,6 +62,10 @@ public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
      */
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
+        if(isHostIndexEnabled()){
+            return getHostIndex().findWorstFit(vm);
+        }
+
         final Comparator<Host> comparator = Comparator.comparing(Host::isActive)
                                                       .thenComparingLong(Host::getFreePesNumber);
 
@@ -70,4 +75,16 @@ public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
                 .max(comparator);
     }
 
+    /**
+     * {@inheritDoc}
+     * Since this policy checks all Hosts before giving up,
+     * a failed placement is repeatable, unless a custom function to find a Host is set.
+     * It's also false for subclasses that change how a Host is selected.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isPlacementFailureRepeatable() {
+        return isHostSelectionOf(VmAllocationPolicySimple.class);
+    }
 }
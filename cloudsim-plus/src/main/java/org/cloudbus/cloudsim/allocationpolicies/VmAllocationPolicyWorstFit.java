@@ -37,7 +37,8 @@ import java.util.stream.Stream;
  *
  * <p>This is a really computationally complex policy since the worst-case complexity
  * to allocate a Host for a VM is O(N), where N is the number of Hosts.
- * Such an implementation is not appropriate for large scale scenarios.
+ * Such an implementation is not appropriate for large scale scenarios,
+ * unless the {@link #enableHostIndex() Host index} is enabled.
  * <b>Additionally, such a policy may increase resource idleness.</b></p>
  *
  * <p><b>NOTE: This policy doesn't perform optimization of VM allocation by means of VM migration.</b></p>
@@ -56,6 +57,10 @@ public class VmAllocationPolicyWorstFit extends VmAllocationPolicyAbstract {
      */
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
+        if(isHostIndexEnabled()){
+            return getHostIndex().findWorstFit(vm);
+        }
+
         final Comparator<Host> activeComparator = Comparator.comparing(Host::isActive);
         final Comparator<Host> comparator = activeComparator.thenComparingLong(Host::getFreePesNumber);
 
@@ -65,4 +70,16 @@ public class VmAllocationPolicyWorstFit extends VmAllocationPolicyAbstract {
                 .max(comparator);
     }
 
+    /**
+     * {@inheritDoc}
+     * Since this policy checks all Hosts before giving up,
+     * a failed placement is repeatable, unless a custom function to find a Host is set.
+     * It's also false for subclasses that change how a Host is selected.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isPlacementFailureRepeatable() {
+        return isHostSelectionOf(VmAllocationPolicyWorstFit.class);
+    }
 }
@@ -12,6 +12,8 @@ import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicyAbstract;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.selectionpolicies.VmSelectionPolicy;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.jfr.MigrationPlanningEvent;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -98,6 +100,8 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     @Override
     public Map<Vm, Host> getOptimizedAllocationMap(final List<? extends Vm> vmList) {
         //@TODO See https://github.com/manoelcampos/cloudsim-plus/issues/94
+        final MigrationPlanningEvent planningEvent = new MigrationPlanningEvent();
+        planningEvent.begin();
         final Set<Host> overloadedHosts = getOverloadedHosts();
         printOverUtilizedHosts(overloadedHosts);
         saveAllocation();
@@ -105,6 +109,15 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
         final Map<Vm, Host> migrationMap = getMigrationMapFromOverloadedHosts(overloadedHosts);
         updateMigrationMapFromUnderloadedHosts(overloadedHosts, migrationMap);
         restoreAllocation();
+
+        if (planningEvent.shouldCommit()) {
+            planningEvent.policy = getClass().getSimpleName();
+            planningEvent.overloadedHosts = overloadedHosts.size();
+            planningEvent.migrations = migrationMap.size();
+            planningEvent.simulationTime = getDatacenter().getSimulation().clock();
+            planningEvent.commit();
+        }
+
         return migrationMap;
     }
 
@@ -150,14 +163,16 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
                 break;
             }
 
-            LOGGER.info("{}: VmAllocationPolicy: Underloaded hosts: {}", getDatacenter().getSimulation().clockStr(), underloadedHost);
+            if(Log.isInfoEnabled(LOGGER, getDatacenter().getSimulation())) {
+                LOGGER.info("{}: VmAllocationPolicy: Underloaded hosts: {}", getDatacenter().getSimulation().clockStr(), underloadedHost);
+            }
 
             ignoredSourceHosts.add(underloadedHost);
             ignoredTargetHosts.add(underloadedHost);
 
             final List<? extends Vm> vmsToMigrateFromHost = getVmsToMigrateFromUnderUtilizedHost(underloadedHost);
             if (!vmsToMigrateFromHost.isEmpty()) {
-                if(LOGGER.isInfoEnabled()) {
+                if(Log.isInfoEnabled(LOGGER, getDatacenter().getSimulation())) {
                     LOGGER.info("{}: VmAllocationPolicy: VMs to be reallocated from the underloaded {}: {}",
                         getDatacenter().getSimulation().clockStr(), underloadedHost, getVmIds(vmsToMigrateFromHost));
                 }
@@ -189,7 +204,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
      * @param overloadedHosts the over utilized hosts
      */
     private void printOverUtilizedHosts(final Set<Host> overloadedHosts) {
-        if (!overloadedHosts.isEmpty() && LOGGER.isWarnEnabled()) {
+        if (!overloadedHosts.isEmpty() && Log.isWarnEnabled(LOGGER, getDatacenter().getSimulation())) {
             final String hosts = overloadedHosts.stream().map(this::overloadedHostToString).collect(Collectors.joining(System.lineSeparator()));
             LOGGER.warn("{}: VmAllocationPolicy: Overloaded hosts in {}:{}{}",
                 getDatacenter().getSimulation().clockStr(), getDatacenter(), System.lineSeparator(), hosts);
@@ -400,15 +415,17 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
                 appendVmMigrationMsgToStringBuilder(builder, vm, targetHost);
             });
         }
-        LOGGER.info(
-            "{}: VmAllocationPolicy: Reallocation of VMs from overloaded hosts: {}{}",
-            getDatacenter().getSimulation().clockStr(), System.lineSeparator(), builder.toString());
+        if(Log.isInfoEnabled(LOGGER, getDatacenter().getSimulation())) {
+            LOGGER.info(
+                "{}: VmAllocationPolicy: Reallocation of VMs from overloaded hosts: {}{}",
+                getDatacenter().getSimulation().clockStr(), System.lineSeparator(), builder.toString());
+        }
 
         return migrationMap;
     }
 
     private void appendVmMigrationMsgToStringBuilder(final StringBuilder builder, final Vm vm, final Host targetHost) {
-        if(LOGGER.isInfoEnabled()) {
+        if(Log.isInfoEnabled(LOGGER, getDatacenter().getSimulation())) {
             builder.append("      ").append(vm).append(" will be migrated from ")
               .append(vm.getHost()).append(" to ").append(targetHost)
               .append(System.lineSeparator());
@@ -433,9 +450,11 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
             //try to find a target Host to place a VM from an underloaded Host that is not underloaded too
             final Optional<Host> optional = findHostForVm(vm, excludedHosts, host -> !isHostUnderloaded(host));
             if (!optional.isPresent()) {
-                LOGGER.warn(
-                    "{}: VmAllocationPolicy: A new Host, which isn't also underloaded or won't be overloaded, couldn't be found to migrate {}. Migration of VMs from the underloaded {} cancelled.",
-                    getDatacenter().getSimulation().clockStr(), vm, vm.getHost());
+                if(Log.isWarnEnabled(LOGGER, getDatacenter().getSimulation())) {
+                    LOGGER.warn(
+                        "{}: VmAllocationPolicy: A new Host, which isn't also underloaded or won't be overloaded, couldn't be found to migrate {}. Migration of VMs from the underloaded {} cancelled.",
+                        getDatacenter().getSimulation().clockStr(), vm, vm.getHost());
+                }
                 return new HashMap<>();
             }
             addVmToMigrationMap(migrationMap, vm, optional.get());
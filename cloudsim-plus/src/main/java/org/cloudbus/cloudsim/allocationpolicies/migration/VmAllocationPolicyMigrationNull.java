@@ -37,6 +37,9 @@ final class VmAllocationPolicyMigrationNull implements VmAllocationPolicyMigrati
     @Override public boolean isVmMigrationSupported() { return false; }
     @Override public int getHostCountForParallelSearch() { return 0; }
     @Override public void setHostCountForParallelSearch(int hostCountForParallelSearch) {/**/}
+    @Override public boolean isHostIndexEnabled() { return false; }
+    @Override public VmAllocationPolicy enableHostIndex() { return this; }
+    @Override public VmAllocationPolicy disableHostIndex() { return this; }
     @Override public <T extends Host> List<T> getHostList() {
         return Collections.emptyList();
     }
@@ -0,0 +1,189 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A stream of Cloudlets arriving at a {@link DatacenterBroker} along the simulation time,
+ * which is consumed one time window at a time.
+ * This way, just the Cloudlets arriving inside the current window are kept in memory,
+ * enabling the simulation of open-loop workloads of unbounded length.
+ *
+ * <p>The {@link Cloudlet#getSubmissionDelay() submission delay} of each Cloudlet
+ * returned by the stream {@link Iterator} is considered to be its arrival time,
+ * relative to the time the stream started. Cloudlets must be returned in ascending order of arrival time.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ * @see DatacenterBroker#submitCloudletStream(Iterator, double)
+ * @see DatacenterBroker#submitCloudletArrivals(ContinuousDistribution, Supplier, double)
+ */
+final class CloudletArrivalStream {
+    private final Iterator<? extends Cloudlet> cloudlets;
+
+    /**
+     * The length of each time window.
+     */
+    private final double window;
+
+    /**
+     * The simulation time the stream started, which arrival times are relative to.
+     */
+    private final double startTime;
+
+    /**
+     * The next Cloudlet read from the {@link #cloudlets} iterator, which wasn't returned yet
+     * (or {@link Cloudlet#NULL} if there are no more Cloudlets).
+     */
+    private Cloudlet next;
+
+    /**
+     * Creates a Cloudlet arrival stream.
+     * @param cloudlets an {@link Iterator} that provides Cloudlets in ascending order of arrival time
+     * @param window the length of each time window, in seconds
+     * @param startTime the simulation time the stream starts, which arrival times are relative to
+     */
+    CloudletArrivalStream(final Iterator<? extends Cloudlet> cloudlets, final double window, final double startTime) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("The time window must be greater than zero.");
+        }
+
+        this.cloudlets = requireNonNull(cloudlets);
+        this.window = window;
+        this.startTime = startTime;
+        this.next = readNext();
+    }
+
+    /**
+     * Creates an {@link Iterator} for an arrival process, which gets Cloudlets
+     * from a given {@link Supplier} and sets their arrival times
+     * according to a random inter-arrival time.
+     *
+     * @param interArrivalTimes the distribution to generate the time between two consecutive arrivals
+     *                          (such as a {@link org.cloudbus.cloudsim.distributions.PoissonDistr}
+     *                          or {@link org.cloudbus.cloudsim.distributions.ExponentialDistr})
+     * @param cloudletSupplier a {@link Supplier} that creates each arriving Cloudlet,
+     *                         which finishes the arrivals when returns null or {@link Cloudlet#NULL}
+     * @return the Cloudlet {@link Iterator}
+     */
+    static Iterator<Cloudlet> arrivals(
+        final ContinuousDistribution interArrivalTimes,
+        final Supplier<? extends Cloudlet> cloudletSupplier)
+    {
+        requireNonNull(interArrivalTimes);
+        requireNonNull(cloudletSupplier);
+        return new Iterator<Cloudlet>() {
+            private double arrivalTime;
+            private Cloudlet next;
+            private boolean finished;
+
+            @Override
+            public boolean hasNext() {
+                if (next != null || finished) {
+                    return next != null;
+                }
+
+                final Cloudlet cloudlet = cloudletSupplier.get();
+                if (cloudlet == null || cloudlet == Cloudlet.NULL) {
+                    finished = true;
+                    return false;
+                }
+
+                arrivalTime += interArrivalTimes.sample();
+                cloudlet.setSubmissionDelay(arrivalTime);
+                next = cloudlet;
+                return true;
+            }
+
+            @Override
+            public Cloudlet next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                final Cloudlet cloudlet = next;
+                next = null;
+                return cloudlet;
+            }
+        };
+    }
+
+    private Cloudlet readNext() {
+        return cloudlets.hasNext() ? requireNonNull(cloudlets.next()) : Cloudlet.NULL;
+    }
+
+    private double arrivalTime(final Cloudlet cloudlet) {
+        return startTime + cloudlet.getSubmissionDelay();
+    }
+
+    /**
+     * Checks if there are Cloudlets yet to arrive.
+     * @return true if there are more Cloudlets, false otherwise
+     */
+    boolean hasNext() {
+        return next != Cloudlet.NULL;
+    }
+
+    /**
+     * Gets the Cloudlets arriving inside the time window starting at the current time.
+     * The submission delay of each returned Cloudlet is changed to be relative to the current time,
+     * so that it can be submitted to the broker right away.
+     *
+     * @param currentTime the current simulation time, that is the start of the window
+     * @return the list of Cloudlets arriving in the window (which may be empty)
+     */
+    List<Cloudlet> nextWindow(final double currentTime) {
+        final double windowEnd = currentTime + window;
+        final List<Cloudlet> list = new ArrayList<>();
+        while (hasNext() && arrivalTime(next) < windowEnd) {
+            next.setSubmissionDelay(Math.max(arrivalTime(next) - currentTime, 0));
+            list.add(next);
+            next = readNext();
+        }
+
+        return list;
+    }
+
+    /**
+     * Gets the delay from the current time to the start of the next window where some Cloudlet arrives,
+     * skipping windows where no Cloudlet arrives.
+     * It must be called just after {@link #nextWindow(double)} and if {@link #hasNext()}.
+     *
+     * @param currentTime the current simulation time, that is the start of the current window
+     * @return the delay to the start of the next window
+     */
+    double nextWindowDelay(final double currentTime) {
+        final double delay = arrivalTime(next) - currentTime;
+        return delay <= window ? window : Math.floor(delay / window) * window;
+    }
+}
@@ -9,6 +9,9 @@ package org.cloudbus.cloudsim.brokers;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.SimEntity;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+import org.cloudbus.cloudsim.distributions.ExponentialDistr;
+import org.cloudbus.cloudsim.distributions.PoissonDistr;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmGroup;
 import org.cloudsimplus.listeners.DatacenterBrokerEventInfo;
@@ -18,9 +21,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Represents a broker acting on behalf of a cloud customer.
@@ -69,6 +74,7 @@ public interface DatacenterBroker extends SimEntity {
     /**
      * Gets the list of cloudlets submitted to the broker that are waiting to be created inside
      * some Vm yet.
+     * The returned list is a read-only view that reflects further changes in the waiting list.
      *
      * @param <T> the class of Cloudlets inside the list
      * @return the cloudlet waiting list
@@ -94,6 +100,7 @@ public interface DatacenterBroker extends SimEntity {
     /**
      * Gets a List of VMs submitted to the broker that are waiting to be created inside
      * some Datacenter yet.
+     * The returned list is a read-only view that reflects further changes in the waiting list.
      *
      * @param <T> the class of VMs inside the list
      * @return the list of waiting VMs
@@ -246,6 +253,42 @@ public interface DatacenterBroker extends SimEntity {
      */
     DatacenterBroker submitCloudletList(List<? extends Cloudlet> list, Vm vm, double submissionDelay);
 
+    /**
+     * Submits a stream of Cloudlets that arrive along the simulation time.
+     * Instead of submitting all Cloudlets up front, the broker pulls from the {@link Iterator}
+     * just the Cloudlets arriving in the current time window, when the simulation clock reaches such a window.
+     * This way, open-loop workloads of unbounded length can be simulated
+     * without keeping all Cloudlets in memory
+     * (as long as finished Cloudlets are not {@link #setRetainFinishedCloudlets(boolean) retained}).
+     *
+     * <p>The {@link Cloudlet#getSubmissionDelay() submission delay} of each Cloudlet is its arrival time,
+     * relative to the time the stream is submitted (or to the simulation start, if it's not started yet).
+     * The Iterator must return Cloudlets in ascending order of arrival time.</p>
+     *
+     * @param cloudlets an {@link Iterator} providing the Cloudlets in ascending order of arrival time
+     * @param window the length of each time window (in seconds) for which Cloudlets are pulled from the Iterator at once
+     * @return
+     * @see #submitCloudletArrivals(ContinuousDistribution, Supplier, double)
+     */
+    DatacenterBroker submitCloudletStream(Iterator<? extends Cloudlet> cloudlets, double window);
+
+    /**
+     * Submits a stream of Cloudlets that arrive according to an arrival process,
+     * where the time between two consecutive arrivals is given by a {@link ContinuousDistribution}
+     * (such as a {@link PoissonDistr} or {@link ExponentialDistr}).
+     * Cloudlets are created by the given {@link Supplier} just when
+     * the simulation clock reaches the time window they arrive.
+     *
+     * @param interArrivalTimes the distribution to generate the time between two consecutive arrivals
+     * @param cloudletSupplier a {@link Supplier} that creates each arriving Cloudlet,
+     *                         which finishes the arrivals when returns null or {@link Cloudlet#NULL}
+     * @param window the length of each time window (in seconds) for which Cloudlets are created at once
+     * @return
+     * @see #submitCloudletStream(Iterator, double)
+     */
+    DatacenterBroker submitCloudletArrivals(
+        ContinuousDistribution interArrivalTimes, Supplier<? extends Cloudlet> cloudletSupplier, double window);
+
     /**
      * Sets the {@link BiFunction} that selects and returns a Datacenter
      * to place submitted VMs.
@@ -329,6 +372,32 @@ public interface DatacenterBroker extends SimEntity {
      */
     boolean isSelectClosestDatacenter();
 
+    /**
+     * Defines if the broker keeps finished {@link Cloudlet}s after they return to it.
+     * The default behaviour is to keep them, so that they can be got from the
+     * {@link #getCloudletFinishedList()} to print simulation results.
+     *
+     * <p>When set to false, finished Cloudlets are not added to the {@link #getCloudletFinishedList()}
+     * and are removed from the {@link #getCloudletSubmittedList()} and {@link #getCloudletCreatedList()}.
+     * The {@link org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler} of the broker's VMs
+     * don't keep them either. This way, finished Cloudlets can be garbage collected,
+     * enabling the simulation of a huge number of Cloudlets
+     * whose results are collected elsewhere, such as by a
+     * {@link org.cloudbus.cloudsim.cloudlets.CloudletStore}.</p>
+     *
+     * @param retain true to keep finished Cloudlets, false to discard them
+     * @return
+     */
+    DatacenterBroker setRetainFinishedCloudlets(boolean retain);
+
+    /**
+     * Checks if the broker keeps finished {@link Cloudlet}s after they return to it.
+     *
+     * @return true if finished Cloudlets are kept (the default), false otherwise
+     * @see #setRetainFinishedCloudlets(boolean)
+     */
+    boolean isRetainFinishedCloudlets();
+
     /**
      * Gets a <b>read-only</b> list of cloudlets created inside some Vm.
      * @return the list of created Cloudlets
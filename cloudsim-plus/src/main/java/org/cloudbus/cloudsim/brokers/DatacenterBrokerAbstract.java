@@ -14,6 +14,7 @@ import org.cloudbus.cloudsim.core.events.CloudSimEvent;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.datacenters.TimeZoned;
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.cloudbus.cloudsim.vms.Vm;
@@ -24,10 +25,12 @@ import org.cloudsimplus.listeners.DatacenterBrokerEventInfo;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.traces.google.GoogleTaskEventsTraceReader;
+import org.cloudsimplus.util.Log;
 
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -41,6 +44,16 @@ import static java.util.Objects.requireNonNull;
 public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements DatacenterBroker {
     private boolean selectClosestDatacenter;
 
+    /** @see #isRetainFinishedCloudlets() */
+    private boolean retainFinishedCloudlets;
+
+    /**
+     * Number of finished Cloudlets that may still be into the {@link #cloudletSubmittedList}
+     * and {@link #cloudletsCreatedList} when {@link #retainFinishedCloudlets} is false.
+     * @see #removeFinishedCloudlets()
+     */
+    private int finishedCloudletsToRemove;
+
     /**
      * A default {@link Function} which always returns {@link #DEF_VM_DESTRUCTION_DELAY} to indicate that any VM should not be
      * immediately destroyed after it becomes idle.
@@ -74,7 +87,14 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     private Datacenter lastSelectedDc;
 
     /** @see #getVmWaitingList() */
-    private final List<Vm> vmWaitingList;
+    private final WaitingList<Vm> vmWaitingList;
+
+    /**
+     * Waiting VMs that don't have a creation request pending a Datacenter response,
+     * indexed by their sequence number in the {@link #vmWaitingList}.
+     * Just these VMs are checked when the creation of waiting VMs is requested.
+     */
+    private final NavigableMap<Long, Vm> vmsToRequestCreation;
 
     /** @see #getVmExecList() */
     private final List<Vm> vmExecList;
@@ -82,12 +102,41 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     /** @see #getVmCreatedList() */
     private final List<Vm> vmCreatedList;
 
+    /**
+     * An index of created VMs by their expected number of free PEs,
+     * which is just built when some broker requests it.
+     * @see #getVmFreePesIndex()
+     */
+    private VmFreePesIndex vmFreePesIndex;
+
     /** @see #getCloudletWaitingList() */
-    private final List<Cloudlet> cloudletWaitingList;
+    private final WaitingList<Cloudlet> cloudletWaitingList;
+
+    /**
+     * Waiting Cloudlets to be checked the next time the creation of waiting Cloudlets is requested,
+     * indexed by their sequence number in the {@link #cloudletWaitingList}.
+     */
+    private final NavigableMap<Long, Cloudlet> cloudletsToDispatch;
+
+    /**
+     * Waiting Cloudlets mapped to a VM which wasn't created yet, indexed by such a VM.
+     * Each map of Cloudlets is indexed by their sequence number in the {@link #cloudletWaitingList}.
+     * These Cloudlets are just checked again after the response for a VM creation request is received
+     * (whatever VM it is and whether it was created or not), so that the VM mapper can select
+     * another VM for them, instead of every time the creation of waiting Cloudlets is requested.
+     * It uses identity comparison since VM's equals relies on attributes that may change.
+     */
+    private final Map<Vm, NavigableMap<Long, Cloudlet>> cloudletsWaitingForVm;
 
     /** @see #getCloudletSubmittedList() */
     private final List<Cloudlet> cloudletSubmittedList;
 
+    /**
+     * Streams of Cloudlets which have more Cloudlets yet to arrive.
+     * @see #submitCloudletStream(Iterator, double)
+     */
+    private final List<CloudletArrivalStream> cloudletArrivalStreams;
+
     /** @see #getCloudletFinishedList() */
     private final List<Cloudlet> cloudletsFinishedList;
 
@@ -150,14 +199,19 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
         vmCreationRequests = 0;
         vmCreationAcks = 0;
+        retainFinishedCloudlets = true;
 
-        this.vmWaitingList = new ArrayList<>();
+        this.vmWaitingList = new WaitingList<>();
+        this.vmsToRequestCreation = new TreeMap<>();
         this.vmExecList = new ArrayList<>();
         this.vmCreatedList = new ArrayList<>();
-        this.cloudletWaitingList = new ArrayList<>();
+        this.cloudletWaitingList = new WaitingList<>();
+        this.cloudletsToDispatch = new TreeMap<>();
+        this.cloudletsWaitingForVm = new IdentityHashMap<>();
         this.cloudletsFinishedList = new ArrayList<>();
         this.cloudletsCreatedList = new ArrayList<>();
         this.cloudletSubmittedList = new ArrayList<>();
+        this.cloudletArrivalStreams = new ArrayList<>();
         setDatacenterList(new TreeSet<>());
 
         setDatacenterMapper(this::defaultDatacenterMapper);
@@ -180,6 +234,17 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return selectClosestDatacenter;
     }
 
+    @Override
+    public DatacenterBroker setRetainFinishedCloudlets(final boolean retain) {
+        this.retainFinishedCloudlets = retain;
+        return this;
+    }
+
+    @Override
+    public boolean isRetainFinishedCloudlets() {
+        return retainFinishedCloudlets;
+    }
+
     @Override
     public DatacenterBroker submitVmList(final List<? extends Vm> list, final double submissionDelay) {
         setDelayForEntitiesWithNoDelay(list, submissionDelay);
@@ -210,12 +275,16 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         sortVmsIfComparatorIsSet(list);
         setBrokerForEntities(list);
         lastSubmittedVm = setIdForEntitiesWithoutOne(list, lastSubmittedVm);
-        vmWaitingList.addAll(list);
+        for (final Vm vm : list) {
+            vmsToRequestCreation.put(vmWaitingList.add(vm), vm);
+        }
 
         if (isStarted() && !list.isEmpty()) {
-            LOGGER.info(
-                "{}: {}: List of {} VMs submitted to the broker during simulation execution. VMs creation request sent to Datacenter.",
-                getSimulation().clockStr(), getName(), list.size());
+            if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+                LOGGER.info(
+                    "{}: {}: List of {} VMs submitted to the broker during simulation execution. VMs creation request sent to Datacenter.",
+                    getSimulation().clockStr(), getName(), list.size());
+            }
             requestDatacenterToCreateWaitingVms(false);
         }
 
@@ -279,6 +348,48 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return submitCloudletList(newList);
     }
 
+    @Override
+    public DatacenterBroker submitCloudletStream(final Iterator<? extends Cloudlet> cloudlets, final double window) {
+        final CloudletArrivalStream stream = new CloudletArrivalStream(cloudlets, window, getSimulation().clock());
+        if (!stream.hasNext()) {
+            return this;
+        }
+
+        cloudletArrivalStreams.add(stream);
+
+        //If the broker isn't started yet, the first window of the stream is scheduled when it starts
+        if (isStarted()) {
+            schedule(0, CloudSimTags.CLOUDLET_ARRIVALS, stream);
+        }
+
+        return this;
+    }
+
+    @Override
+    public DatacenterBroker submitCloudletArrivals(
+        final ContinuousDistribution interArrivalTimes,
+        final Supplier<? extends Cloudlet> cloudletSupplier,
+        final double window)
+    {
+        return submitCloudletStream(CloudletArrivalStream.arrivals(interArrivalTimes, cloudletSupplier), window);
+    }
+
+    /**
+     * Submits the Cloudlets from a stream arriving in the time window starting at the current time,
+     * then schedules the next window where some Cloudlet arrives (if any).
+     *
+     * @param stream the stream to get the arriving Cloudlets from
+     */
+    private void processCloudletArrivals(final CloudletArrivalStream stream) {
+        final double time = getSimulation().clock();
+        final List<Cloudlet> cloudlets = stream.nextWindow(time);
+        if (stream.hasNext()) {
+            schedule(stream.nextWindowDelay(time), CloudSimTags.CLOUDLET_ARRIVALS, stream);
+        } else cloudletArrivalStreams.remove(stream);
+
+        submitCloudletList(cloudlets);
+    }
+
     @Override
     public DatacenterBroker submitCloudletList(final List<? extends Cloudlet> list, double submissionDelay) {
         return submitCloudletList(list, Vm.NULL, submissionDelay);
@@ -322,22 +433,30 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         lastSubmittedCloudlet = setIdForEntitiesWithoutOne(list, lastSubmittedCloudlet);
         cloudletSubmittedList.addAll(list);
         setSimulationForCloudletUtilizationModels(list);
-        cloudletWaitingList.addAll(list);
+        for (final Cloudlet cloudlet : list) {
+            cloudletsToDispatch.put(cloudletWaitingList.add(cloudlet), cloudlet);
+        }
         wereThereWaitingCloudlets = true;
 
         if (!isStarted()) {
             return this;
         }
 
-        LOGGER.info(
-            "{}: {}: List of {} Cloudlets submitted to the broker during simulation execution.",
-            getSimulation().clockStr(), getName(), list.size());
+        if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+            LOGGER.info(
+                "{}: {}: List of {} Cloudlets submitted to the broker during simulation execution.",
+                getSimulation().clockStr(), getName(), list.size());
+        }
 
         if (allNonDelayedVmsCreated()) {
-            LOGGER.info("Cloudlets creation request sent to Datacenter.");
+            if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+                LOGGER.info("Cloudlets creation request sent to Datacenter.");
+            }
             requestDatacentersToCreateWaitingCloudlets();
             notifyOnVmsCreatedListeners();
-        } else LOGGER.info("Waiting creation of {} VMs to send Cloudlets creation request to Datacenter.", vmWaitingList.size());
+        } else if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+            LOGGER.info("Waiting creation of {} VMs to send Cloudlets creation request to Datacenter.", vmWaitingList.size());
+        }
 
         return this;
     }
@@ -347,7 +466,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * @return
      */
     private boolean allNonDelayedVmsCreated() {
-        return vmWaitingList.stream().noneMatch(vm -> vm.getSubmissionDelay() == 0);
+        return vmWaitingList.asList().stream().noneMatch(vm -> vm.getSubmissionDelay() == 0);
     }
 
     /**
@@ -412,6 +531,14 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             return false;
         }
 
+        /* If the Cloudlet is waiting for its previous VM to be created,
+         * it must be checked again the next time waiting Cloudlets are dispatched. */
+        final NavigableMap<Long, Cloudlet> vmCloudlets = cloudletsWaitingForVm.get(cloudlet.getVm());
+        final long sequence = cloudletWaitingList.sequenceOf(cloudlet);
+        if (vmCloudlets != null && vmCloudlets.remove(sequence) != null) {
+            cloudletsToDispatch.put(sequence, cloudlet);
+        }
+
         cloudlet.setVm(vm);
         return true;
     }
@@ -422,7 +549,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             return;
         }
 
-        LOGGER.trace("{}: {}: Unknown event {} received.", getSimulation().clockStr(), this, evt.getTag());
+        if(Log.isTraceEnabled(LOGGER, getSimulation())) {
+            LOGGER.trace("{}: {}: Unknown event {} received.", getSimulation().clockStr(), this, evt.getTag());
+        }
     }
 
     private boolean processCloudletEvents(final SimEvent evt) {
@@ -452,6 +581,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             case CloudSimTags.CLOUDLET_FAIL:
                 processCloudletFail(evt);
                 return true;
+            case CloudSimTags.CLOUDLET_ARRIVALS:
+                processCloudletArrivals((CloudletArrivalStream) evt.getData());
+                return true;
         }
 
         return false;
@@ -460,7 +592,10 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     private boolean processVmEvents(final SimEvent evt) {
         switch (evt.getTag()) {
             case CloudSimTags.VM_CREATE_ACK:
-                processVmCreateResponseFromDatacenter(evt);
+                processVmCreateResponseFromDatacenter((Vm) evt.getData());
+                return true;
+            case CloudSimTags.VM_CREATE_BULK_ACK:
+                processVmCreateBulkResponseFromDatacenter(evt);
                 return true;
             case CloudSimTags.VM_VERTICAL_SCALING:
                 requestVmVerticalScaling(evt);
@@ -565,6 +700,10 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     }
 
     private void logCloudletStatusChange(final Cloudlet cloudlet, final String status) {
+        if(!Log.isInfoEnabled(LOGGER, getSimulation())) {
+            return;
+        }
+
         final String msg = cloudlet.getJobId() > 0 ? String.format("(job %d) ", cloudlet.getJobId()) : "";
         LOGGER.info("{}: {}: Request to {} {} {}received.", getSimulation().clockStr(), this, status, cloudlet, msg);
     }
@@ -593,19 +732,34 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     private void processDatacenterListRequest(final SimEvent evt) {
         setDatacenterList((Set<Datacenter>) evt.getData());
-        LOGGER.info("{}: {}: List of {} datacenters(s) received.", getSimulation().clockStr(), getName(), datacenterList.size());
+        if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+            LOGGER.info("{}: {}: List of {} datacenters(s) received.", getSimulation().clockStr(), getName(), datacenterList.size());
+        }
         requestDatacenterToCreateWaitingVms(false);
     }
 
+    /**
+     * Process the ack received from a Datacenter to a broker's request for
+     * creation of a list of VMs at once in that Datacenter.
+     *
+     * @param evt the ack event, containing the list of requested VMs
+     * @see #processVmCreateResponseFromDatacenter(Vm)
+     */
+    private void processVmCreateBulkResponseFromDatacenter(final SimEvent evt) {
+        //The VM_CREATE_BULK_ACK event is always sent with a List<Vm>
+        @SuppressWarnings("unchecked")
+        final List<Vm> vmList = (List<Vm>) evt.getData();
+        vmList.forEach(this::processVmCreateResponseFromDatacenter);
+    }
+
     /**
      * Process the ack received from a Datacenter to a broker's request for
      * creation of a Vm in that Datacenter.
      *
-     * @param evt a CloudSimEvent object
+     * @param vm the VM the ack refers to
      * @return true if the VM was created successfully, false otherwise
      */
-    private boolean processVmCreateResponseFromDatacenter(final SimEvent evt) {
-        final Vm vm = (Vm) evt.getData();
+    private boolean processVmCreateResponseFromDatacenter(final Vm vm) {
         boolean vmCreated = false;
         vmCreationAcks++;
 
@@ -615,6 +769,14 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             vmCreated = true;
         } else vm.notifyOnCreationFailureListeners(lastSelectedDc);
 
+        remapCloudletsWaitingForVm();
+
+        //A VM (or VmGroup) not entirely created may have its creation requested again
+        final long sequence = vmWaitingList.sequenceOf(vm);
+        if (sequence >= 0) {
+            vmsToRequestCreation.put(sequence, vm);
+        }
+
         if (allNonDelayedVmsCreated()) {
             requestDatacentersToCreateWaitingCloudlets();
             notifyOnVmsCreatedListeners();
@@ -682,13 +844,37 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * @see #submitVmList(java.util.List)
      */
     private boolean requestDatacenterToCreateWaitingVms(final boolean isFallbackDatacenter) {
-        for (final Vm vm : vmWaitingList) {
+        /* Consecutive VMs to be created in the same Datacenter and with the same submission delay
+         * are sent in a single request, keeping the order in which VMs were submitted. */
+        List<Vm> vmBatch = new ArrayList<>();
+        Datacenter batchDatacenter = Datacenter.NULL;
+        /* VMs whose creation was already requested and are waiting the Datacenter response
+         * aren't in the vmsToRequestCreation map and don't need to be checked. */
+        for (final Iterator<Vm> it = vmsToRequestCreation.values().iterator(); it.hasNext(); ) {
+            final Vm vm = it.next();
             this.lastSelectedDc = isFallbackDatacenter && selectClosestDatacenter ?
                                         defaultDatacenterMapper(lastSelectedDc, vm) :
                                         datacenterMapper.apply(lastSelectedDc, vm);
-            this.vmCreationRequests += requestVmCreation(lastSelectedDc, isFallbackDatacenter, vm);
+            if (!isVmCreationRequestable(lastSelectedDc, vm)) {
+                continue;
+            }
+
+            if (!vmBatch.isEmpty() &&
+                (batchDatacenter != lastSelectedDc || vmBatch.get(0).getSubmissionDelay() != vm.getSubmissionDelay()))
+            {
+                requestVmCreation(batchDatacenter, vmBatch);
+                vmBatch = new ArrayList<>();
+            }
+
+            logVmCreationRequest(lastSelectedDc, isFallbackDatacenter, vm);
+            vm.setLastTriedDatacenter(lastSelectedDc);
+            batchDatacenter = lastSelectedDc;
+            vmBatch.add(vm);
+            it.remove();
+            this.vmCreationRequests++;
         }
 
+        requestVmCreation(batchDatacenter, vmBatch);
         return lastSelectedDc != Datacenter.NULL;
     }
 
@@ -728,6 +914,21 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         vmWaitingList.remove(vm);
         vmExecList.add(vm);
         vmCreatedList.add(vm);
+        if(vmFreePesIndex != null){
+            vmFreePesIndex.add(vm);
+        }
+    }
+
+    /**
+     * Makes all Cloudlets waiting for a VM to be created to be checked again
+     * the next time waiting Cloudlets are dispatched.
+     * Since a VM was created or failed to be created, the VM mapper
+     * may select a different VM for such Cloudlets now.
+     * Otherwise, Cloudlets waiting for a VM that will never be created would be stranded.
+     */
+    private void remapCloudletsWaitingForVm() {
+        cloudletsWaitingForVm.values().forEach(cloudletsToDispatch::putAll);
+        cloudletsWaitingForVm.clear();
     }
 
     /**
@@ -737,9 +938,14 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     private void processCloudletReturn(final SimEvent evt) {
         final Cloudlet cloudlet = (Cloudlet) evt.getData();
-        cloudletsFinishedList.add(cloudlet);
+        if(retainFinishedCloudlets) {
+            cloudletsFinishedList.add(cloudlet);
+        } else removeFinishedCloudlets();
         ((VmSimple) cloudlet.getVm()).addExpectedFreePesNumber(cloudlet.getNumberOfPes());
-        LOGGER.info("{}: {}: {} finished and returned to broker.", getSimulation().clockStr(), getName(), cloudlet);
+        updateVmFreePesIndex(cloudlet.getVm());
+        if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+            LOGGER.info("{}: {}: {} finished and returned to broker.", getSimulation().clockStr(), getName(), cloudlet);
+        }
 
         if (cloudlet.getVm().getCloudletScheduler().isEmpty()) {
             requestIdleVmDestruction(cloudlet.getVm());
@@ -749,6 +955,23 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         requestVmDestructionAfterAllCloudletsFinished();
     }
 
+    /**
+     * Removes finished Cloudlets from the {@link #cloudletSubmittedList} and {@link #cloudletsCreatedList}
+     * when they must not be {@link #isRetainFinishedCloudlets() retained}.
+     * Since removing a single element from such lists is costly,
+     * finished Cloudlets are removed at once, just after they become
+     * at least half of the submitted Cloudlets.
+     */
+    private void removeFinishedCloudlets() {
+        if (++finishedCloudletsToRemove < cloudletSubmittedList.size() / 2) {
+            return;
+        }
+
+        cloudletSubmittedList.removeIf(Cloudlet::isFinished);
+        cloudletsCreatedList.removeIf(Cloudlet::isFinished);
+        finishedCloudletsToRemove = 0;
+    }
+
     /**
      * Request the destruction of VMs after all running cloudlets have finished and returned to the broker.
      * If there is no waiting Cloudlet, request all VMs to be destroyed.
@@ -781,7 +1004,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
         if (vm.isCreated()) {
             if((delay > DEF_VM_DESTRUCTION_DELAY && vm.isIdleEnough(delay)) || isFinished()) {
-                LOGGER.info("{}: {}: Requesting {} destruction.", getSimulation().clockStr(), getName(), vm);
+                if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+                    LOGGER.info("{}: {}: Requesting {} destruction.", getSimulation().clockStr(), getName(), vm);
+                }
                 sendNow(getDatacenter(vm), CloudSimTags.VM_DESTROY, vm);
             }
 
@@ -820,7 +1045,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             return cloudletsAffected;
         }
 
-        LOGGER.warn("Vm: " + vm.getId() + " does not belong to this broker! Broker: " + this.toString());
+        if(Log.isWarnEnabled(LOGGER, getSimulation())) {
+            LOGGER.warn("Vm: " + vm.getId() + " does not belong to this broker! Broker: " + this.toString());
+        }
         return new ArrayList<>();
     }
 
@@ -858,31 +1085,48 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     private boolean isBrokerIdle() {
         return cloudletWaitingList.isEmpty() &&
+               cloudletArrivalStreams.isEmpty() &&
                vmWaitingList.isEmpty() &&
                vmExecList.isEmpty();
     }
 
     /**
-     * Try to request the creation of a VM into a given datacenter
+     * Checks if the creation of a VM can be requested to a given datacenter.
      * @param datacenter the Datacenter to try creating the VM (or {@link Datacenter#NULL} if not Datacenter is available)
-     * @param isFallbackDatacenter indicate if the given Datacenter was selected when
-     *                             a previous one don't have enough capacity to place the requested VM
      * @param vm the VM to be placed
-     * @return 1 to indicate a VM creation request was sent to the datacenter,
-     *         0 to indicate the request was not sent due to lack of available datacenter
+     * @return true if the request can be sent to the datacenter,
+     *         false if it cannot due to lack of available datacenter
+     */
+    private boolean isVmCreationRequestable(final Datacenter datacenter, final Vm vm) {
+        return datacenter != Datacenter.NULL && !datacenter.equals(vm.getLastTriedDatacenter());
+    }
+
+    /**
+     * Requests the creation of a list of VMs into a given datacenter.
+     * If there are multiple VMs, a single request is sent for all of them.
+     *
+     * @param datacenter the Datacenter to try creating the VMs
+     * @param vmList the VMs to be placed, which must have the same submission delay
      */
-    private int requestVmCreation(final Datacenter datacenter, final boolean isFallbackDatacenter, final Vm vm) {
-        if (datacenter == Datacenter.NULL || datacenter.equals(vm.getLastTriedDatacenter())) {
-            return 0;
+    private void requestVmCreation(final Datacenter datacenter, final List<Vm> vmList) {
+        if (vmList.isEmpty()) {
+            return;
         }
 
-        logVmCreationRequest(datacenter, isFallbackDatacenter, vm);
-        send(datacenter, vm.getSubmissionDelay(), CloudSimTags.VM_CREATE_ACK, vm);
-        vm.setLastTriedDatacenter(datacenter);
-        return 1;
+        final Vm firstVm = vmList.get(0);
+        if (vmList.size() == 1) {
+            send(datacenter, firstVm.getSubmissionDelay(), CloudSimTags.VM_CREATE_ACK, firstVm);
+            return;
+        }
+
+        send(datacenter, firstVm.getSubmissionDelay(), CloudSimTags.VM_CREATE_BULK_ACK, vmList);
     }
 
     private void logVmCreationRequest(final Datacenter datacenter, final boolean isFallbackDatacenter, final Vm vm) {
+        if(!Log.isInfoEnabled(LOGGER, getSimulation())) {
+            return;
+        }
+
         final String fallbackMsg = isFallbackDatacenter ? " (due to lack of a suitable Host in previous one)" : "";
         if(vm.getSubmissionDelay() == 0)
             LOGGER.info(
@@ -904,16 +1148,22 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * <p>This method is called after all submitted VMs are created
      * in some Datacenter.</p>
      *
+     * <p>Consecutive Cloudlets to be sent to the same Datacenter with the same
+     * submission delay are sent in a single {@link CloudSimTags#CLOUDLET_SUBMIT_BULK} request.</p>
+     *
      * @see #submitCloudletList(java.util.List)
      */
     protected void requestDatacentersToCreateWaitingCloudlets() {
-        /* Uses Iterator to remove Cloudlets from the waiting list
-         * while iterating over that List. This avoids the collection of successfully
-         * created Cloudlets into a separate list.
-         * Cloudlets in such new list were removed just after the loop,
-         * degrading performance in large scale simulations. */
-        for (final Iterator<Cloudlet> it = cloudletWaitingList.iterator(); it.hasNext(); ) {
-            final CloudletSimple cloudlet = (CloudletSimple)it.next();
+        List<Cloudlet> cloudletBatch = new ArrayList<>();
+        Datacenter batchDatacenter = Datacenter.NULL;
+
+        /* Just Cloudlets that are not waiting for a VM to be created are checked,
+         * in the order they were submitted. Cloudlets mapped to a VM not created yet
+         * are moved to the cloudletsWaitingForVm map, until some VM creation response is received.
+         * This avoids iterating over the entire waiting list on other dispatches. */
+        for (final Iterator<Map.Entry<Long, Cloudlet>> it = cloudletsToDispatch.entrySet().iterator(); it.hasNext(); ) {
+            final Map.Entry<Long, Cloudlet> entry = it.next();
+            final CloudletSimple cloudlet = (CloudletSimple)entry.getValue();
             if (!cloudlet.getLastTriedDatacenter().equals(Datacenter.NULL)) {
                 continue;
             }
@@ -922,24 +1172,64 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             lastSelectedVm = vmMapper.apply(cloudlet);
             if (!lastSelectedVm.isCreated()) {
                 logPostponingCloudletExecution(cloudlet);
+                if (lastSelectedVm != Vm.NULL) {
+                    cloudletsWaitingForVm.computeIfAbsent(lastSelectedVm, vm -> new TreeMap<>()).put(entry.getKey(), cloudlet);
+                    it.remove();
+                }
                 continue;
             }
 
             ((VmSimple) lastSelectedVm).removeExpectedFreePesNumber(cloudlet.getNumberOfPes());
+            updateVmFreePesIndex(lastSelectedVm);
+
+            final Datacenter datacenter = getDatacenter(lastSelectedVm);
+            if (!cloudletBatch.isEmpty() &&
+                (batchDatacenter != datacenter || cloudletBatch.get(0).getSubmissionDelay() != cloudlet.getSubmissionDelay()))
+            {
+                requestCloudletCreation(batchDatacenter, cloudletBatch);
+                cloudletBatch = new ArrayList<>();
+            }
 
             logCloudletCreationRequest(cloudlet);
             cloudlet.setVm(lastSelectedVm);
-            send(getDatacenter(lastSelectedVm),
-                cloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
-            cloudlet.setLastTriedDatacenter(getDatacenter(lastSelectedVm));
+            cloudlet.setLastTriedDatacenter(datacenter);
+            batchDatacenter = datacenter;
+            cloudletBatch.add(cloudlet);
             cloudletsCreatedList.add(cloudlet);
+            cloudletWaitingList.remove(cloudlet);
             it.remove();
         }
 
+        requestCloudletCreation(batchDatacenter, cloudletBatch);
         allWaitingCloudletsSubmittedToVm();
     }
 
+    /**
+     * Requests the creation of a list of Cloudlets into a given datacenter.
+     * If there are multiple Cloudlets, a single request is sent for all of them.
+     *
+     * @param datacenter the Datacenter to send the Cloudlets to
+     * @param cloudletList the Cloudlets to be created, which must have the same submission delay
+     */
+    private void requestCloudletCreation(final Datacenter datacenter, final List<Cloudlet> cloudletList) {
+        if (cloudletList.isEmpty()) {
+            return;
+        }
+
+        final Cloudlet firstCloudlet = cloudletList.get(0);
+        if (cloudletList.size() == 1) {
+            send(datacenter, firstCloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT, firstCloudlet);
+            return;
+        }
+
+        send(datacenter, firstCloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT_BULK, cloudletList);
+    }
+
     private void logPostponingCloudletExecution(final Cloudlet cloudlet) {
+        if(!Log.isWarnEnabled(LOGGER, getSimulation())) {
+            return;
+        }
+
         final String vmMsg = cloudlet.getVm() == Vm.NULL ?
                                 "it couldn't be mapped to any VM" :
                                 String.format("bind Vm %d is not available", cloudlet.getVm().getId());
@@ -954,6 +1244,10 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     }
 
     private void logCloudletCreationRequest(final Cloudlet cloudlet) {
+        if(!Log.isInfoEnabled(LOGGER, getSimulation())) {
+            return;
+        }
+
         final String delayMsg =
             cloudlet.getSubmissionDelay() > 0 ?
                 String.format(" with a requested delay of %.0f seconds", cloudlet.getSubmissionDelay()) :
@@ -972,9 +1266,11 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
         //avoid duplicated notifications
         if (wereThereWaitingCloudlets) {
-            LOGGER.info(
-                "{}: {}: All waiting Cloudlets submitted to some VM.",
-                getSimulation().clockStr(), getName());
+            if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+                LOGGER.info(
+                    "{}: {}: All waiting Cloudlets submitted to some VM.",
+                    getSimulation().clockStr(), getName());
+            }
             wereThereWaitingCloudlets = false;
         }
 
@@ -984,14 +1280,19 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     @Override
     public void shutdownEntity() {
         super.shutdownEntity();
-        LOGGER.info("{}: {} is shutting down...", getSimulation().clockStr(), getName());
+        if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+            LOGGER.info("{}: {} is shutting down...", getSimulation().clockStr(), getName());
+        }
         requestVmDestructionAfterAllCloudletsFinished();
     }
 
     @Override
     public void startEntity() {
-        LOGGER.info("{} is starting...", getName());
+        if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+            LOGGER.info("{} is starting...", getName());
+        }
         schedule(getSimulation().getCloudInfoService(), 0, CloudSimTags.DATACENTER_LIST_REQUEST);
+        cloudletArrivalStreams.forEach(stream -> schedule(0, CloudSimTags.CLOUDLET_ARRIVALS, stream));
     }
 
     @Override
@@ -999,6 +1300,30 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return (List<T>) vmCreatedList;
     }
 
+    /**
+     * Gets an index of the {@link #getVmCreatedList() created VMs}
+     * by their {@link Vm#getExpectedFreePesNumber() expected number of free PEs},
+     * building it the first time the method is called.
+     * After that, the index is updated as VMs are created
+     * and Cloudlets are mapped to them or finish.
+     *
+     * @return the VM index
+     */
+    /* default */ VmFreePesIndex getVmFreePesIndex() {
+        if(vmFreePesIndex == null){
+            vmFreePesIndex = new VmFreePesIndex();
+            vmCreatedList.forEach(vmFreePesIndex::add);
+        }
+
+        return vmFreePesIndex;
+    }
+
+    private void updateVmFreePesIndex(final Vm vm) {
+        if(vmFreePesIndex != null){
+            vmFreePesIndex.update(vm);
+        }
+    }
+
     @Override
     public <T extends Vm> List<T> getVmExecList() {
         return (List<T>) vmExecList;
@@ -1006,13 +1331,13 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     @Override
     public <T extends Vm> List<T> getVmWaitingList() {
-        return (List<T>) vmWaitingList;
+        return (List<T>) vmWaitingList.asList();
     }
 
     @Override
     public Vm getWaitingVm(final int index) {
         if (index >= 0 && index < vmWaitingList.size()) {
-            return vmWaitingList.get(index);
+            return vmWaitingList.asList().get(index);
         }
         return Vm.NULL;
     }
@@ -1024,7 +1349,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     @Override
     public <T extends Cloudlet> List<T> getCloudletWaitingList() {
-        return (List<T>) cloudletWaitingList;
+        return (List<T>) cloudletWaitingList.asList();
     }
 
     @Override
@@ -3,13 +3,14 @@ package org.cloudbus.cloudsim.brokers;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.vms.Vm;
-
-import java.util.Comparator;
+import org.cloudsimplus.util.Log;
 
 /**
  * A implementation of {@link DatacenterBroker} that uses a Best Fit
  * mapping between submitted cloudlets and Vm's, trying to place a Cloudlet
  * at the best suitable Vm which can be found (according to the required Cloudlet's PEs).
+ * Created VMs are indexed by their expected number of free PEs,
+ * so that the best suitable VM is found in logarithmic time.
  * The Broker then places the submitted Vm's at the first Datacenter found.
  * If there isn't capacity in that one, it will try the other ones.
  *
@@ -41,16 +42,14 @@ public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
             return cloudlet.getVm();
         }
 
-        final Vm mappedVm = getVmCreatedList()
-            .stream()
-            .filter(vm -> vm.getExpectedFreePesNumber() >= cloudlet.getNumberOfPes())
-            .min(Comparator.comparingLong(Vm::getExpectedFreePesNumber))
-            .orElse(Vm.NULL);
+        final Vm mappedVm = getVmFreePesIndex().findBestFit(cloudlet.getNumberOfPes());
 
         if (mappedVm == Vm.NULL) {
-            LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
-                getSimulation().clockStr(), getName(), cloudlet, cloudlet.getNumberOfPes());
-        } else {
+            if(Log.isWarnEnabled(LOGGER, getSimulation())) {
+                LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
+                    getSimulation().clockStr(), getName(), cloudlet, cloudlet.getNumberOfPes());
+            }
+        } else if(Log.isTraceEnabled(LOGGER, getSimulation())) {
             LOGGER.trace("{}: {}: {} (PEs: {}) mapped to {} (available PEs: {}, tot PEs: {})",
                 getSimulation().clockStr(), getName(), cloudlet, cloudlet.getNumberOfPes(), mappedVm,
                 mappedVm.getExpectedFreePesNumber(), mappedVm.getFreePesNumber());
@@ -3,6 +3,7 @@ package org.cloudbus.cloudsim.brokers;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.util.Log;
 
 /**
  * A implementation of {@link DatacenterBroker} that uses a First Fit
@@ -43,27 +44,26 @@ public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
             return cloudlet.getVm();
         }
 
-        /* The for loop just defines the maximum number of Hosts to try.
-         * When a suitable Host is found, the method returns immediately. */
-        final int maxTries = getVmCreatedList().size();
-        for (int i = 0; i < maxTries; i++) {
-            final Vm vm = getVmCreatedList().get(lastVmIndex);
-            if (vm.getExpectedFreePesNumber() >= cloudlet.getNumberOfPes()) {
+        /* Finds the first VM with enough expected free PEs, starting from the last selected one.
+         * If the end of the Vm list is reached, starts from the beginning.
+         * Created VMs are indexed by their expected free PEs,
+         * so that VMs without enough PEs aren't checked. */
+        final int vmIndex = getVmFreePesIndex().findFirstFit(cloudlet.getNumberOfPes(), lastVmIndex);
+        if (vmIndex >= 0) {
+            lastVmIndex = vmIndex;
+            final Vm vm = getVmFreePesIndex().get(vmIndex);
+            if(Log.isTraceEnabled(LOGGER, getSimulation())) {
                 LOGGER.trace("{}: {}: {} (PEs: {}) mapped to {} (available PEs: {}, tot PEs: {})",
                     getSimulation().clockStr(), getName(), cloudlet, cloudlet.getNumberOfPes(), vm,
                     vm.getExpectedFreePesNumber(), vm.getFreePesNumber());
-                return vm;
             }
-
-            /* If it gets here, the previous Vm doesn't have capacity to place the Cloudlet.
-             * Then, moves to the next Vm.
-             * If the end of the Vm list is reached, starts from the beginning,
-             * until the max number of tries.*/
-            lastVmIndex = ++lastVmIndex % getVmCreatedList().size();
+            return vm;
         }
 
-        LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
-                getSimulation().clockStr(), getName(), cloudlet, cloudlet.getNumberOfPes());
+        if(Log.isWarnEnabled(LOGGER, getSimulation())) {
+            LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
+                    getSimulation().clockStr(), getName(), cloudlet, cloudlet.getNumberOfPes());
+        }
 
         return Vm.NULL;
     }
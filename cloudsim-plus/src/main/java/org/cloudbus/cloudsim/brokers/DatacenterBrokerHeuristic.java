@@ -6,6 +6,7 @@ import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.heuristics.CloudletToVmMappingHeuristic;
 import org.cloudsimplus.heuristics.CloudletToVmMappingSolution;
 import org.cloudsimplus.heuristics.Heuristic;
+import org.cloudsimplus.util.Log;
 
 import java.util.stream.Collectors;
 
@@ -57,16 +58,20 @@ public class DatacenterBrokerHeuristic extends DatacenterBrokerSimple {
         Depending on the heuristic parameters, it may take a while
         to get a solution.
         */
-        LOGGER.info(
-                "{} started the heuristic to get a suboptimal solution for mapping Cloudlets to Vm's running {} neighborhood searches by iteration.{}{}",
-                this, heuristic.getNeighborhoodSearchesByIteration(),
-                System.lineSeparator(),
-                "Please wait... It may take a while, depending on heuristic parameters and number of Cloudlets and Vm's.");
+        if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+            LOGGER.info(
+                    "{} started the heuristic to get a suboptimal solution for mapping Cloudlets to Vm's running {} neighborhood searches by iteration in {} parallel search(es).{}{}",
+                    this, heuristic.getNeighborhoodSearchesByIteration(), heuristic.getParallelSearches(),
+                    System.lineSeparator(),
+                    "Please wait... It may take a while, depending on heuristic parameters and number of Cloudlets and Vm's.");
+        }
 
 	    final CloudletToVmMappingSolution solution = heuristic.solve();
-        LOGGER.info(
-                "{} finished the solution find for mapping Cloudlets to Vm's in {} seconds with a solution cost of {}",
-                this, heuristic.getSolveTime(), solution.getCost());
+        if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+            LOGGER.info(
+                    "{} finished the solution find for mapping Cloudlets to Vm's in {} seconds with a solution cost of {}",
+                    this, heuristic.getSolveTime(), solution.getCost());
+        }
     }
 
     @Override
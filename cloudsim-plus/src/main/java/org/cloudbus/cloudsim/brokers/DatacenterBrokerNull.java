@@ -4,6 +4,7 @@ import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.SimEntity;
 import org.cloudbus.cloudsim.core.SimEntityNullBase;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.DatacenterBrokerEventInfo;
 import org.cloudsimplus.listeners.EventInfo;
@@ -11,9 +12,11 @@ import org.cloudsimplus.listeners.EventListener;
 
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A class that implements the Null Object Design Pattern for {@link DatacenterBroker}
@@ -49,6 +52,8 @@ final class DatacenterBrokerNull implements DatacenterBroker, SimEntityNullBase
     @Override public DatacenterBroker setVmMapper(Function<Cloudlet, Vm> vmMapper) { return this; }
     @Override public DatacenterBroker setSelectClosestDatacenter(boolean select) { return this; }
     @Override public boolean isSelectClosestDatacenter() { return false; }
+    @Override public DatacenterBroker setRetainFinishedCloudlets(boolean retain) { return this; }
+    @Override public boolean isRetainFinishedCloudlets() { return true; }
     @Override public List<Cloudlet> getCloudletCreatedList() { return Collections.emptyList(); }
     @Override public DatacenterBroker addOnVmsCreatedListener(EventListener<DatacenterBrokerEventInfo> listener) { return this; }
     @Override public DatacenterBroker removeOnVmsCreatedListener(EventListener<? extends EventInfo> listener) { return this; }
@@ -63,6 +68,8 @@ final class DatacenterBrokerNull implements DatacenterBroker, SimEntityNullBase
     @Override public DatacenterBroker submitCloudletList(List<? extends Cloudlet> list, double submissionDelay) { return this; }
     @Override public DatacenterBroker submitCloudletList(List<? extends Cloudlet> list, Vm vm) { return this; }
     @Override public DatacenterBroker submitCloudletList(List<? extends Cloudlet> list, Vm vm, double submissionDelay) { return this; }
+    @Override public DatacenterBroker submitCloudletStream(Iterator<? extends Cloudlet> cloudlets, double window) { return this; }
+    @Override public DatacenterBroker submitCloudletArrivals(ContinuousDistribution interArrivalTimes, Supplier<? extends Cloudlet> cloudletSupplier, double window) { return this; }
     @Override public DatacenterBroker submitVm(Vm vm) { return this; }
     @Override public DatacenterBroker submitVmList(List<? extends Vm> list) { return this; }
     @Override public DatacenterBroker submitVmList(List<? extends Vm> list, double submissionDelay) { return this; }
@@ -0,0 +1,211 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * An index for the {@link DatacenterBroker#getVmCreatedList() created VMs} of a broker,
+ * where VMs are grouped into buckets according to their
+ * {@link Vm#getExpectedFreePesNumber() expected number of free PEs}.
+ * This way, best and first fit queries just check VMs having enough
+ * expected free PEs for a given Cloudlet, instead of iterating over all created VMs.
+ *
+ * <p>Inside each bucket, VMs are sorted by their position in the created VM list,
+ * so that ties are resolved in the same order a sequential search does.
+ * The expected free PEs of a VM are just changed by the broker,
+ * which {@link #update(Vm) updates} the index every time it happens.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ * @see DatacenterBrokerBestFit
+ * @see DatacenterBrokerFirstFit
+ */
+final class VmFreePesIndex {
+    /**
+     * Maps each indexed VM to its position in the {@link #vms} array.
+     * It uses identity comparison since VM's equals relies on attributes that may change.
+     */
+    private final Map<Vm, Integer> positions;
+
+    /**
+     * Buckets of VMs, where each key is an expected number of free PEs and each value
+     * is the set of positions for the VMs having such a number of expected free PEs.
+     */
+    private final NavigableMap<Long, NavigableSet<Integer>> buckets;
+
+    /**
+     * The indexed VMs, in the same order they were added to the created VM list.
+     */
+    private Vm[] vms;
+
+    /**
+     * The expected number of free PEs each VM had when it was indexed,
+     * used to find the bucket a VM is in.
+     */
+    private long[] indexedFreePes;
+
+    /**
+     * The number of VMs in the index.
+     */
+    private int size;
+
+    VmFreePesIndex() {
+        this.positions = new IdentityHashMap<>();
+        this.buckets = new TreeMap<>();
+        this.vms = new Vm[16];
+        this.indexedFreePes = new long[16];
+    }
+
+    /**
+     * Adds a VM to the index, at the end of the VM list.
+     * @param vm the VM that was just created
+     */
+    void add(final Vm vm) {
+        if (positions.containsKey(vm)) {
+            return;
+        }
+
+        if (size == vms.length) {
+            vms = Arrays.copyOf(vms, size * 2);
+            indexedFreePes = Arrays.copyOf(indexedFreePes, size * 2);
+        }
+
+        final int pos = size++;
+        vms[pos] = vm;
+        positions.put(vm, pos);
+        addToBucket(pos);
+    }
+
+    /**
+     * Moves a VM to the bucket corresponding to its current number of expected free PEs.
+     * @param vm the VM whose number of expected free PEs has changed
+     */
+    void update(final Vm vm) {
+        final Integer pos = positions.get(vm);
+        if (pos == null || indexedFreePes[pos] == vm.getExpectedFreePesNumber()) {
+            return;
+        }
+
+        removeFromBucket(pos);
+        addToBucket(pos);
+    }
+
+    private void addToBucket(final int pos) {
+        indexedFreePes[pos] = vms[pos].getExpectedFreePesNumber();
+        buckets.computeIfAbsent(indexedFreePes[pos], freePes -> new TreeSet<>()).add(pos);
+    }
+
+    private void removeFromBucket(final int pos) {
+        final NavigableSet<Integer> bucket = buckets.get(indexedFreePes[pos]);
+        bucket.remove(pos);
+        if (bucket.isEmpty()) {
+            buckets.remove(indexedFreePes[pos]);
+        }
+    }
+
+    /**
+     * Gets the number of indexed VMs.
+     * @return the number of VMs
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets a VM from the index.
+     * @param pos the position of the VM in the created VM list
+     * @return the VM at the given position
+     */
+    Vm get(final int pos) {
+        return vms[pos];
+    }
+
+    /**
+     * Finds the first VM having the least number of expected free PEs
+     * that is enough to run a given number of PEs.
+     *
+     * @param pes the number of PEs required
+     * @return the VM found or {@link Vm#NULL} if not found
+     */
+    Vm findBestFit(final long pes) {
+        final Map.Entry<Long, NavigableSet<Integer>> entry = buckets.ceilingEntry(pes);
+        return entry == null ? Vm.NULL : vms[entry.getValue().first()];
+    }
+
+    /**
+     * Finds the position in the created VM list of the first VM
+     * having enough expected free PEs to run a given number of PEs,
+     * starting from a given position and moving to the beginning of the list
+     * when the end is reached.
+     *
+     * @param pes the number of PEs required
+     * @param startPos the position to start the search
+     * @return the position of the VM found or -1 if not found
+     */
+    int findFirstFit(final long pes, final int startPos) {
+        if (size == 0) {
+            return -1;
+        }
+
+        final int start = startPos % size;
+        if (indexedFreePes[start] >= pes) {
+            return start;
+        }
+
+        final NavigableMap<Long, NavigableSet<Integer>> candidates = buckets.tailMap(pes, true);
+        int pos = nextPosition(candidates, start);
+        if (pos == Integer.MAX_VALUE) {
+            pos = nextPosition(candidates, 0);
+        }
+
+        return pos < Integer.MAX_VALUE ? pos : -1;
+    }
+
+    /**
+     * Gets the smallest VM position inside a set of buckets
+     * that is equal to or greater than a given position.
+     * @param candidates the buckets to search
+     * @param fromPos the position to start the search
+     * @return the found position or {@link Integer#MAX_VALUE} if not found
+     */
+    private static int nextPosition(final NavigableMap<Long, NavigableSet<Integer>> candidates, final int fromPos) {
+        int next = Integer.MAX_VALUE;
+        for (final NavigableSet<Integer> bucket : candidates.values()) {
+            final Integer pos = bucket.ceiling(fromPos);
+            if (pos != null && pos < next) {
+                next = pos;
+            }
+        }
+
+        return next;
+    }
+}
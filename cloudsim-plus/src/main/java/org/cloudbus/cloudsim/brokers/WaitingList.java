@@ -0,0 +1,172 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import java.util.*;
+
+/**
+ * A list of entities (such as VMs or Cloudlets) waiting to be sent to a Datacenter,
+ * which keeps the order the entities were added,
+ * but enables removing any of them without shifting the remaining ones.
+ *
+ * <p>Each added entity receives a sequence number that increases
+ * according to the order entities are added.
+ * That number can be used by the broker to index waiting entities
+ * into other structures, while still being able to process them
+ * in the order they were submitted.</p>
+ *
+ * <p>The {@link #asList()} method provides a read-only {@link List} view
+ * of waiting entities. Accessing such a view by index just copies the waiting entities
+ * to an array after the list is changed, so that sequential indexed accesses
+ * don't require iterating over the entities again.</p>
+ *
+ * @param <T> the type of waiting entities
+ * @since CloudSim Plus 5.2.0
+ */
+final class WaitingList<T> {
+    /**
+     * Maps the sequence number of each waiting entity to the entity itself.
+     */
+    private final NavigableMap<Long, T> entities;
+
+    /**
+     * Maps each waiting entity to its sequence number.
+     * It uses identity comparison since entities' equals relies on attributes that may change.
+     */
+    private final Map<T, Long> sequences;
+
+    /** @see #asList() */
+    private final List<T> view;
+
+    /**
+     * The sequence number to be assigned to the next added entity.
+     */
+    private long nextSequence;
+
+    /**
+     * A copy of the waiting entities used to provide indexed access to the {@link #view},
+     * which is discarded when the list changes.
+     */
+    private Object[] snapshot;
+
+    WaitingList() {
+        this.entities = new TreeMap<>();
+        this.sequences = new IdentityHashMap<>();
+        this.view = new View();
+    }
+
+    /**
+     * Adds an entity to the end of the list.
+     * If the entity is already waiting, it keeps its current position.
+     *
+     * @param entity the entity to add
+     * @return the sequence number of the entity
+     */
+    long add(final T entity) {
+        final Long current = sequences.get(entity);
+        if (current != null) {
+            return current;
+        }
+
+        final long sequence = nextSequence++;
+        entities.put(sequence, entity);
+        sequences.put(entity, sequence);
+        snapshot = null;
+        return sequence;
+    }
+
+    /**
+     * Removes an entity from the list.
+     * @param entity the entity to remove
+     * @return true if the entity was waiting, false otherwise
+     */
+    boolean remove(final T entity) {
+        final Long sequence = sequences.remove(entity);
+        if (sequence == null) {
+            return false;
+        }
+
+        entities.remove(sequence);
+        snapshot = null;
+        return true;
+    }
+
+    /**
+     * Gets the sequence number of a waiting entity.
+     * @param entity the entity to get the sequence number
+     * @return the sequence number or -1 if the entity is not waiting
+     */
+    long sequenceOf(final T entity) {
+        final Long sequence = sequences.get(entity);
+        return sequence == null ? -1 : sequence;
+    }
+
+    boolean contains(final T entity) {
+        return sequences.containsKey(entity);
+    }
+
+    int size() {
+        return entities.size();
+    }
+
+    boolean isEmpty() {
+        return entities.isEmpty();
+    }
+
+    /**
+     * Gets a read-only {@link List} view of the waiting entities,
+     * in the order they were added, which reflects further changes in this list.
+     * @return the list view
+     */
+    List<T> asList() {
+        return view;
+    }
+
+    private final class View extends AbstractList<T> {
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(final int index) {
+            if (snapshot == null) {
+                snapshot = entities.values().toArray();
+            }
+
+            return (T) snapshot[index];
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return Collections.unmodifiableCollection(entities.values()).iterator();
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return sequences.containsKey(o);
+        }
+
+        @Override
+        public int size() {
+            return entities.size();
+        }
+    }
+}
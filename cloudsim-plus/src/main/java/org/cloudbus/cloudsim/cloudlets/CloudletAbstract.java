@@ -105,9 +105,13 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
     /** @see #getUtilizationModelBw() */
     private UtilizationModel utilizationModelBw;
 
-    private final Set<EventListener<CloudletVmEventInfo>> onStartListeners;
-    private final Set<EventListener<CloudletVmEventInfo>> onFinishListeners;
-    private final Set<EventListener<CloudletVmEventInfo>> onUpdateProcessingListeners;
+    /*
+     * Listener sets are just created when the first listener is added,
+     * since most Cloudlets in large simulations don't have any.
+     */
+    private Set<EventListener<CloudletVmEventInfo>> onStartListeners;
+    private Set<EventListener<CloudletVmEventInfo>> onFinishListeners;
+    private Set<EventListener<CloudletVmEventInfo>> onUpdateProcessingListeners;
 
     /** @see #getSubmissionDelay() */
     private double submissionDelay;
@@ -178,7 +182,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
         size of this ArrayList to be less than the default one.
         */
         this.datacenterExecutionList = new ArrayList<>(2);
-        this.requiredFiles = new LinkedList<>();
+        this.requiredFiles = Collections.emptyList();
         this.setId(id);
         this.setJobId(NOT_ASSIGNED);
         this.setNumberOfPes(pesNumber);
@@ -194,9 +198,9 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
         setUtilizationModelCpu(new UtilizationModelFull());
         setUtilizationModelRam(UtilizationModel.NULL);
         setUtilizationModelBw(UtilizationModel.NULL);
-        onStartListeners = new HashSet<>();
-        onFinishListeners = new HashSet<>();
-        onUpdateProcessingListeners = new HashSet<>();
+        onStartListeners = Collections.emptySet();
+        onFinishListeners = Collections.emptySet();
+        onUpdateProcessingListeners = Collections.emptySet();
     }
 
     public final Cloudlet reset() {
@@ -235,7 +239,12 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public Cloudlet addOnUpdateProcessingListener(final EventListener<CloudletVmEventInfo> listener) {
-        this.onUpdateProcessingListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(onUpdateProcessingListeners == Collections.EMPTY_SET){
+            onUpdateProcessingListeners = new HashSet<>();
+        }
+
+        this.onUpdateProcessingListeners.add(listener);
         return this;
     }
 
@@ -246,7 +255,12 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public Cloudlet addOnStartListener(final EventListener<CloudletVmEventInfo> listener) {
-        this.onStartListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(onStartListeners == Collections.EMPTY_SET){
+            onStartListeners = new HashSet<>();
+        }
+
+        this.onStartListeners.add(listener);
         return this;
     }
 
@@ -261,7 +275,12 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
             return this;
         }
 
-        this.onFinishListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(onFinishListeners == Collections.EMPTY_SET){
+            onFinishListeners = new HashSet<>();
+        }
+
+        this.onFinishListeners.add(listener);
         return this;
     }
 
@@ -413,8 +432,9 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
      */
     private void notifyListenersIfCloudletIsFinished() {
         if (isFinished()) {
-            onFinishListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, this)));
-            onFinishListeners.clear();
+            final Set<EventListener<CloudletVmEventInfo>> listeners = onFinishListeners;
+            onFinishListeners = Collections.emptySet();
+            listeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, this)));
         }
     }
 
@@ -641,8 +661,19 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
                 .sum();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Since most Cloudlets don't require files, the list is just created
+     * when it's first requested or a file is added.</p>
+     *
+     * @return {@inheritDoc}
+     */
     @Override
     public List<String> getRequiredFiles() {
+        if(requiredFiles == Collections.EMPTY_LIST){
+            requiredFiles = new LinkedList<>();
+        }
+
         return requiredFiles;
     }
 
@@ -657,11 +688,11 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public boolean addRequiredFile(final String fileName) {
-        if (getRequiredFiles().stream().anyMatch(reqFile -> reqFile.equals(fileName))) {
+        if (requiredFiles.stream().anyMatch(reqFile -> reqFile.equals(fileName))) {
             return false;
         }
 
-        requiredFiles.add(fileName);
+        getRequiredFiles().add(fileName);
         return true;
     }
 
@@ -676,7 +707,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public boolean deleteRequiredFile(final String filename) {
-        for (int i = 0; i < getRequiredFiles().size(); i++) {
+        for (int i = 0; i < requiredFiles.size(); i++) {
             final String temp = requiredFiles.get(i);
 
             if (temp.equals(filename)) {
@@ -690,7 +721,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public boolean requiresFiles() {
-        return !getRequiredFiles().isEmpty();
+        return !requiredFiles.isEmpty();
     }
 
     @Override
@@ -0,0 +1,564 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.cloudlets;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.listeners.CloudletVmEventInfo;
+import org.cloudsimplus.listeners.EventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A compact, structure-of-arrays storage for a huge number of homogeneous {@link Cloudlet}s,
+ * such as millions of short batch tasks.
+ * The attributes and execution results of each Cloudlet are kept into primitive arrays (columns),
+ * while all Cloudlets share the same {@link UtilizationModel}s, file size and output size.
+ *
+ * <p>Cloudlet objects are just created when the Cloudlets have to be executed:
+ * the store {@link #submit(DatacenterBroker, int) submits them to a broker}
+ * in batches, keeping at most a given number of Cloudlets in execution.
+ * When a Cloudlet finishes, its results are written back to the store columns
+ * and the next batch of Cloudlets is submitted when there is room for it.
+ * The broker is configured to not {@link DatacenterBroker#isRetainFinishedCloudlets() retain finished Cloudlets},
+ * so that the objects of finished ones can be garbage collected.
+ * Results must then be got from the store, such as by using the
+ * {@link org.cloudsimplus.builders.tables.CloudletStoreTableBuilder}.</p>
+ *
+ * <p>Cloudlets are accessed by their position into the store.
+ * Their ids are assigned by the broker when they are submitted,
+ * from the same sequence used for any other Cloudlet submitted to such a broker,
+ * so that ids are unique (see {@link #getCloudletId(int)}).
+ * Cloudlets release room for new ones to be submitted when they finish successfully,
+ * fail or are canceled. Just the status and VM of failed or canceled Cloudlets are stored.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+public class CloudletStore {
+    /**
+     * Default maximum number of Cloudlets submitted to the broker and not finished yet.
+     * @see #submit(DatacenterBroker)
+     */
+    public static final int DEF_MAX_CLOUDLETS_IN_EXECUTION = 10_000;
+
+    private static final int DEF_CAPACITY = 1024;
+    private static final Cloudlet.Status[] STATUS_VALUES = Cloudlet.Status.values();
+
+    private int size;
+    private long[] cloudletId;
+    private long[] length;
+    private int[] pesNumber;
+    private byte[] status;
+    private double[] execStartTime;
+    private double[] finishTime;
+    private long[] vmId;
+    private int[] vmPesNumber;
+    private long[] hostId;
+    private int[] hostPesNumber;
+    private long[] datacenterId;
+
+    private long fileSize;
+    private long outputSize;
+    private UtilizationModel utilizationModelCpu;
+    private UtilizationModel utilizationModelRam;
+    private UtilizationModel utilizationModelBw;
+
+    private DatacenterBroker broker;
+    private final EventListener<CloudletVmEventInfo> onCloudletFinishListener;
+    private int maxCloudletsInExecution;
+    private int cloudletsInExecution;
+    private int nextCloudletToSubmit;
+    private int finishedCloudlets;
+
+    /**
+     * Creates an empty store.
+     * By default, all Cloudlets use a {@link UtilizationModelFull} for CPU and a
+     * {@link UtilizationModel#NULL} for RAM and BW, having file and output size equal to 1.
+     */
+    public CloudletStore() {
+        this(DEF_CAPACITY);
+    }
+
+    /**
+     * Creates an empty store with a given initial capacity.
+     * @param initialCapacity the number of Cloudlets the store initially has room for
+     * @see #CloudletStore()
+     */
+    public CloudletStore(final int initialCapacity) {
+        if(initialCapacity <= 0){
+            throw new IllegalArgumentException("Initial capacity must be greater than zero.");
+        }
+
+        cloudletId = new long[initialCapacity];
+        length = new long[initialCapacity];
+        pesNumber = new int[initialCapacity];
+        status = new byte[initialCapacity];
+        execStartTime = new double[initialCapacity];
+        finishTime = new double[initialCapacity];
+        vmId = new long[initialCapacity];
+        vmPesNumber = new int[initialCapacity];
+        hostId = new long[initialCapacity];
+        hostPesNumber = new int[initialCapacity];
+        datacenterId = new long[initialCapacity];
+
+        fileSize = 1;
+        outputSize = 1;
+        utilizationModelCpu = new UtilizationModelFull();
+        utilizationModelRam = UtilizationModel.NULL;
+        utilizationModelBw = UtilizationModel.NULL;
+        onCloudletFinishListener = this::cloudletFinished;
+    }
+
+    /**
+     * Adds a Cloudlet to the store.
+     *
+     * @param length the length (in MI) of the Cloudlet
+     * @param pesNumber the number of PEs the Cloudlet requires
+     * @return the position of the Cloudlet into the store
+     * @throws IllegalStateException when the store was already submitted to a broker
+     */
+    public int add(final long length, final int pesNumber) {
+        if(length <= 0 || pesNumber <= 0){
+            throw new IllegalArgumentException("Cloudlet length and number of PEs must be greater than zero.");
+        }
+
+        if(broker != null){
+            throw new IllegalStateException("Cloudlets cannot be added after the store is submitted to a broker.");
+        }
+
+        ensureCapacity(size + 1);
+        this.cloudletId[size] = Cloudlet.NOT_ASSIGNED;
+        this.length[size] = length;
+        this.pesNumber[size] = pesNumber;
+        this.status[size] = (byte) Cloudlet.Status.INSTANTIATED.ordinal();
+        this.execStartTime[size] = Cloudlet.NOT_ASSIGNED;
+        this.finishTime[size] = Cloudlet.NOT_ASSIGNED;
+        this.vmId[size] = Cloudlet.NOT_ASSIGNED;
+        this.hostId[size] = Cloudlet.NOT_ASSIGNED;
+        this.datacenterId[size] = Cloudlet.NOT_ASSIGNED;
+        return size++;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if(capacity <= length.length){
+            return;
+        }
+
+        final int newCapacity = Math.max(capacity, length.length + (length.length >> 1));
+        cloudletId = Arrays.copyOf(cloudletId, newCapacity);
+        length = Arrays.copyOf(length, newCapacity);
+        pesNumber = Arrays.copyOf(pesNumber, newCapacity);
+        status = Arrays.copyOf(status, newCapacity);
+        execStartTime = Arrays.copyOf(execStartTime, newCapacity);
+        finishTime = Arrays.copyOf(finishTime, newCapacity);
+        vmId = Arrays.copyOf(vmId, newCapacity);
+        vmPesNumber = Arrays.copyOf(vmPesNumber, newCapacity);
+        hostId = Arrays.copyOf(hostId, newCapacity);
+        hostPesNumber = Arrays.copyOf(hostPesNumber, newCapacity);
+        datacenterId = Arrays.copyOf(datacenterId, newCapacity);
+    }
+
+    /**
+     * Submits the Cloudlets in this store to a given broker,
+     * keeping at most {@link #DEF_MAX_CLOUDLETS_IN_EXECUTION} Cloudlets in execution.
+     *
+     * @param broker the broker to submit the Cloudlets to
+     * @return this store
+     * @see #submit(DatacenterBroker, int)
+     */
+    public CloudletStore submit(final DatacenterBroker broker) {
+        return submit(broker, DEF_MAX_CLOUDLETS_IN_EXECUTION);
+    }
+
+    /**
+     * Submits the Cloudlets in this store to a given broker.
+     * Cloudlet objects are created and submitted in batches,
+     * so that at most a given number of them are in execution at any time.
+     * A new batch is submitted when the Cloudlets in execution drop to half of such a number.
+     *
+     * @param broker the broker to submit the Cloudlets to
+     * @param maxCloudletsInExecution the maximum number of Cloudlets submitted to the broker and not finished yet
+     * @return this store
+     * @throws IllegalStateException when the store was already submitted to a broker
+     */
+    public CloudletStore submit(final DatacenterBroker broker, final int maxCloudletsInExecution) {
+        requireNonNull(broker);
+        if(maxCloudletsInExecution <= 0){
+            throw new IllegalArgumentException("The maximum number of Cloudlets in execution must be greater than zero.");
+        }
+
+        if(this.broker != null){
+            throw new IllegalStateException("The store was already submitted to a broker.");
+        }
+
+        this.broker = broker;
+        this.maxCloudletsInExecution = maxCloudletsInExecution;
+        broker.setRetainFinishedCloudlets(false);
+        submitNextBatch();
+        return this;
+    }
+
+    /**
+     * Creates the Cloudlet objects for the next batch of Cloudlets
+     * and submits them to the broker at once.
+     */
+    private void submitNextBatch() {
+        final int batchSize = Math.min(maxCloudletsInExecution - cloudletsInExecution, size - nextCloudletToSubmit);
+        if(batchSize <= 0){
+            return;
+        }
+
+        final List<Cloudlet> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(createCloudlet(nextCloudletToSubmit++));
+        }
+
+        cloudletsInExecution += batchSize;
+        broker.submitCloudletList(batch);
+        for (final Cloudlet cloudlet : batch) {
+            cloudletId[((StoredCloudlet) cloudlet).index] = cloudlet.getId();
+        }
+    }
+
+    /**
+     * Creates a Cloudlet object from the data at a given position of the store.
+     * The Cloudlet has no id, so that the broker assigns one when it is submitted.
+     * @param index the position of the Cloudlet into the store
+     * @return the new Cloudlet
+     */
+    private Cloudlet createCloudlet(final int index) {
+        final Cloudlet cloudlet = new StoredCloudlet(index, length[index], pesNumber[index]);
+        cloudlet.setFileSize(fileSize)
+                .setOutputSize(outputSize)
+                .setUtilizationModelCpu(utilizationModelCpu)
+                .setUtilizationModelRam(utilizationModelRam)
+                .setUtilizationModelBw(utilizationModelBw)
+                .addOnFinishListener(onCloudletFinishListener);
+        status[index] = (byte) Cloudlet.Status.READY.ordinal();
+        return cloudlet;
+    }
+
+    /**
+     * Writes the results of a finished Cloudlet back to the store
+     * and submits the next batch of Cloudlets if there is room for it.
+     * @param info information about the finished Cloudlet
+     */
+    private void cloudletFinished(final CloudletVmEventInfo info) {
+        final Cloudlet cloudlet = info.getCloudlet();
+        final int index = ((StoredCloudlet) cloudlet).index;
+        if(!isInExecution(index)){
+            return;
+        }
+
+        final Vm vm = info.getVm();
+        final Host host = vm.getHost();
+
+        status[index] = (byte) Cloudlet.Status.SUCCESS.ordinal();
+        execStartTime[index] = cloudlet.getExecStartTime();
+        finishTime[index] = info.getTime();
+        vmId[index] = vm.getId();
+        vmPesNumber[index] = (int) vm.getNumberOfPes();
+        hostId[index] = host.getId();
+        hostPesNumber[index] = host.getWorkingPesNumber();
+        datacenterId[index] = host.getDatacenter().getId();
+        finishedCloudlets++;
+        releaseCloudletSlot();
+    }
+
+    /**
+     * Stores the status of a Cloudlet that has failed or was canceled
+     * and submits the next batch of Cloudlets if there is room for it.
+     * @param cloudlet the stopped Cloudlet
+     * @param newStatus the status the Cloudlet was changed to
+     */
+    private void cloudletStopped(final StoredCloudlet cloudlet, final Cloudlet.Status newStatus) {
+        final int index = cloudlet.index;
+        if(!isInExecution(index)){
+            return;
+        }
+
+        status[index] = (byte) newStatus.ordinal();
+        vmId[index] = cloudlet.getVm().getId();
+        releaseCloudletSlot();
+    }
+
+    private boolean isInExecution(final int index) {
+        return status[index] == Cloudlet.Status.READY.ordinal();
+    }
+
+    private void releaseCloudletSlot() {
+        if(--cloudletsInExecution <= maxCloudletsInExecution / 2) {
+            submitNextBatch();
+        }
+    }
+
+    /**
+     * Gets the number of Cloudlets in the store.
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of Cloudlets that have finished successfully.
+     * @return
+     */
+    public int getFinishedCloudletsNumber() {
+        return finishedCloudlets;
+    }
+
+    /**
+     * Gets the id of the Cloudlet at a given position,
+     * which is assigned by the broker when the Cloudlet is submitted.
+     * @param index the position of the Cloudlet
+     * @return the Cloudlet id or {@link Cloudlet#NOT_ASSIGNED} if it was not submitted yet
+     */
+    public long getCloudletId(final int index) {
+        return cloudletId[checkIndex(index)];
+    }
+
+    /**
+     * Gets the length (in MI) of the Cloudlet at a given position.
+     * @param index the position of the Cloudlet
+     * @return
+     */
+    public long getLength(final int index) {
+        return length[checkIndex(index)];
+    }
+
+    /**
+     * Gets the number of PEs required by the Cloudlet at a given position.
+     * @param index the position of the Cloudlet
+     * @return
+     */
+    public int getNumberOfPes(final int index) {
+        return pesNumber[checkIndex(index)];
+    }
+
+    /**
+     * Gets the status of the Cloudlet at a given position.
+     * @param index the position of the Cloudlet
+     * @return
+     */
+    public Cloudlet.Status getStatus(final int index) {
+        return STATUS_VALUES[status[checkIndex(index)]];
+    }
+
+    /**
+     * Gets the time the Cloudlet at a given position started executing.
+     * @param index the position of the Cloudlet
+     * @return
+     */
+    public double getExecStartTime(final int index) {
+        return execStartTime[checkIndex(index)];
+    }
+
+    /**
+     * Gets the time the Cloudlet at a given position finished.
+     * @param index the position of the Cloudlet
+     * @return the finish time or {@link Cloudlet#NOT_ASSIGNED} if it has not finished yet
+     */
+    public double getFinishTime(final int index) {
+        return finishTime[checkIndex(index)];
+    }
+
+    /**
+     * Gets the time the Cloudlet at a given position took to execute.
+     * @param index the position of the Cloudlet
+     * @return the execution time or {@link Cloudlet#NOT_ASSIGNED} if it has not finished yet
+     * @see Cloudlet#getActualCpuTime()
+     */
+    public double getActualCpuTime(final int index) {
+        checkIndex(index);
+        return finishTime[index] == Cloudlet.NOT_ASSIGNED ? Cloudlet.NOT_ASSIGNED : finishTime[index] - execStartTime[index];
+    }
+
+    /**
+     * Gets the id of the VM the Cloudlet at a given position finished into.
+     * @param index the position of the Cloudlet
+     * @return
+     */
+    public long getVmId(final int index) {
+        return vmId[checkIndex(index)];
+    }
+
+    /**
+     * Gets the number of PEs of the VM the Cloudlet at a given position finished into.
+     * @param index the position of the Cloudlet
+     * @return
+     */
+    public int getVmNumberOfPes(final int index) {
+        return vmPesNumber[checkIndex(index)];
+    }
+
+    /**
+     * Gets the id of the Host the Cloudlet at a given position finished into.
+     * @param index the position of the Cloudlet
+     * @return
+     */
+    public long getHostId(final int index) {
+        return hostId[checkIndex(index)];
+    }
+
+    /**
+     * Gets the number of working PEs of the Host the Cloudlet at a given position finished into, at the finish time.
+     * @param index the position of the Cloudlet
+     * @return
+     */
+    public int getHostWorkingPesNumber(final int index) {
+        return hostPesNumber[checkIndex(index)];
+    }
+
+    /**
+     * Gets the id of the Datacenter the Cloudlet at a given position finished into.
+     * @param index the position of the Cloudlet
+     * @return
+     */
+    public long getDatacenterId(final int index) {
+        return datacenterId[checkIndex(index)];
+    }
+
+    private int checkIndex(final int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        return index;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * Sets the input file size of all Cloudlets in the store.
+     * @param fileSize the file size (in bytes)
+     * @return this store
+     * @see Cloudlet#setFileSize(long)
+     */
+    public CloudletStore setFileSize(final long fileSize) {
+        if(fileSize <= 0){
+            throw new IllegalArgumentException("File size must be greater than zero.");
+        }
+
+        this.fileSize = fileSize;
+        return this;
+    }
+
+    public long getOutputSize() {
+        return outputSize;
+    }
+
+    /**
+     * Sets the output file size of all Cloudlets in the store.
+     * @param outputSize the output size (in bytes)
+     * @return this store
+     * @see Cloudlet#setOutputSize(long)
+     */
+    public CloudletStore setOutputSize(final long outputSize) {
+        if(outputSize <= 0){
+            throw new IllegalArgumentException("Output size must be greater than zero.");
+        }
+
+        this.outputSize = outputSize;
+        return this;
+    }
+
+    public UtilizationModel getUtilizationModelCpu() {
+        return utilizationModelCpu;
+    }
+
+    /**
+     * Sets the CPU {@link UtilizationModel} shared by all Cloudlets in the store.
+     * @param utilizationModelCpu the utilization model to set
+     * @return this store
+     */
+    public CloudletStore setUtilizationModelCpu(final UtilizationModel utilizationModelCpu) {
+        this.utilizationModelCpu = requireNonNull(utilizationModelCpu);
+        return this;
+    }
+
+    public UtilizationModel getUtilizationModelRam() {
+        return utilizationModelRam;
+    }
+
+    /**
+     * Sets the RAM {@link UtilizationModel} shared by all Cloudlets in the store.
+     * @param utilizationModelRam the utilization model to set
+     * @return this store
+     */
+    public CloudletStore setUtilizationModelRam(final UtilizationModel utilizationModelRam) {
+        this.utilizationModelRam = requireNonNull(utilizationModelRam);
+        return this;
+    }
+
+    public UtilizationModel getUtilizationModelBw() {
+        return utilizationModelBw;
+    }
+
+    /**
+     * Sets the BW {@link UtilizationModel} shared by all Cloudlets in the store.
+     * @param utilizationModelBw the utilization model to set
+     * @return this store
+     */
+    public CloudletStore setUtilizationModelBw(final UtilizationModel utilizationModelBw) {
+        this.utilizationModelBw = requireNonNull(utilizationModelBw);
+        return this;
+    }
+
+    /**
+     * A Cloudlet created by the store, which notifies it
+     * when the Cloudlet fails or is canceled, since such Cloudlets
+     * don't notify their {@link Cloudlet#addOnFinishListener(EventListener) finish listeners}.
+     */
+    private final class StoredCloudlet extends CloudletSimple {
+        /**
+         * The position of the Cloudlet into the store.
+         */
+        private final int index;
+
+        private StoredCloudlet(final int index, final long length, final long pesNumber) {
+            super(length, pesNumber);
+            this.index = index;
+        }
+
+        @Override
+        public boolean setStatus(final Status newStatus) {
+            final boolean changed = super.setStatus(newStatus);
+            if(changed && (newStatus == Status.FAILED || newStatus == Status.CANCELED || newStatus == Status.FAILED_RESOURCE_UNAVAILABLE)){
+                cloudletStopped(this, newStatus);
+            }
+
+            return changed;
+        }
+    }
+}
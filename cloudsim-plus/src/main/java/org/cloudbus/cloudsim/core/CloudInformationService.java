@@ -9,6 +9,7 @@ package org.cloudbus.cloudsim.core;
 
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -86,7 +87,9 @@ public class CloudInformationService extends CloudSimEntity {
     @Override
     public void shutdownEntity() {
         super.shutdownEntity();
-        LOGGER.info("{}: Notify all CloudSim Plus entities to shutdown.{}", super.getName(), System.lineSeparator());
+        if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+            LOGGER.info("{}: Notify all CloudSim Plus entities to shutdown.{}", super.getName(), System.lineSeparator());
+        }
 
         signalShutdown(datacenterList);
         signalShutdown(cisList);
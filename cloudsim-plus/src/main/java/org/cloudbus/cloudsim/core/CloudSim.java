@@ -14,6 +14,7 @@ import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
 import org.cloudbus.cloudsim.util.TimeUtil;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -168,8 +169,18 @@ public class CloudSim implements Simulation {
     private final Set<EventListener<EventInfo>> onSimulationPauseListeners;
     private final Set<EventListener<EventInfo>> onClockTickListeners;
     private final Set<EventListener<EventInfo>> onSimulationStartListeners;
+    private final Set<EventListener<EventInfo>> onSimulationFinishListeners;
     private boolean processEventsInParallel;
 
+    /** @see #getProfiler() */
+    private SimulationProfiler profiler;
+
+    /** @see #isSilent() */
+    private boolean silent;
+
+    /** @see #getEventPool() */
+    private CloudSimEventPool eventPool;
+
     /**
      * Creates a CloudSim simulation.
      * Internally it creates a CloudInformationService.
@@ -203,6 +214,7 @@ public class CloudSim implements Simulation {
         this.onSimulationPauseListeners = new HashSet<>();
         this.onClockTickListeners = new HashSet<>();
         this.onSimulationStartListeners = new HashSet<>();
+        this.onSimulationFinishListeners = new HashSet<>();
 
         // NOTE: the order for the lines below is important
         this.calendar = Calendar.getInstance();
@@ -231,7 +243,9 @@ public class CloudSim implements Simulation {
         }
 
         notifyEndOfSimulationToEntities();
-        LOGGER.info("Simulation: No more future events{}", System.lineSeparator());
+        if(Log.isInfoEnabled(LOGGER, this)) {
+            LOGGER.info("Simulation: No more future events{}", System.lineSeparator());
+        }
 
         final List<SimEntity> entitiesAlive = entities.stream().filter(CloudSimEntity::isAlive).collect(toList());
 
@@ -242,12 +256,21 @@ public class CloudSim implements Simulation {
 
         entitiesAlive.forEach(SimEntity::shutdownEntity);
         running = false;
+        notifyOnSimulationFinishListeners();
 
         printSimulationFinished();
+        if(profiler != null){
+            profiler.finish();
+            if(Log.isInfoEnabled(LOGGER, this)) {
+                LOGGER.info("{}{}", profiler.getReport(), System.lineSeparator());
+            }
+        }
 
-        LOGGER.debug(
-            "DeferredQueue >> max size: {} added to middle: {} added to tail: {}",
-            deferred.getMaxSize(), deferred.getAddedToMiddle(), deferred.getAddedToTail());
+        if(Log.isDebugEnabled(LOGGER, this)) {
+            LOGGER.debug(
+                "DeferredQueue >> max size: {} added to middle: {} added to tail: {}",
+                deferred.getMaxSize(), deferred.getAddedToMiddle(), deferred.getAddedToTail());
+        }
     }
 
     @Override
@@ -291,7 +314,13 @@ public class CloudSim implements Simulation {
                     "If you've paused the simulation and want to resume it, call the resume() method.");
         }
 
-        LOGGER.info("{}================== Starting {} =================={}", System.lineSeparator(), VERSION,  System.lineSeparator());
+        if(Log.isInfoEnabled(LOGGER, this)) {
+            LOGGER.info("{}================== Starting {} =================={}", System.lineSeparator(), VERSION,  System.lineSeparator());
+        }
+        if(profiler != null){
+            profiler.start();
+        }
+
         startEntitiesIfNotRunning();
         this.alreadyRunOnce = true;
     }
@@ -304,7 +333,15 @@ public class CloudSim implements Simulation {
         }
     }
 
-    private void notifyEventListeners(Set<EventListener<EventInfo>> onSimulationStartListeners, double clock) {
+    private void notifyOnSimulationFinishListeners() {
+        if(!onSimulationFinishListeners.isEmpty()) {
+            notifyEventListeners(new ArrayList<>(onSimulationFinishListeners), clock);
+            //Since the simulation finishes just once, clear the listeners to avoid them to be notified again
+            onSimulationFinishListeners.clear();
+        }
+    }
+
+    private void notifyEventListeners(Collection<EventListener<EventInfo>> onSimulationStartListeners, double clock) {
         onSimulationStartListeners.forEach(listener -> listener.update(EventInfo.of(listener, clock)));
     }
 
@@ -345,9 +382,11 @@ public class CloudSim implements Simulation {
 
     private boolean logSimulationAborted() {
         if(abortRequested){
-            LOGGER.info(
-                "{}================================================== Simulation aborted under request at time {} ==================================================",
-                System.lineSeparator(), clock);
+            if(Log.isInfoEnabled(LOGGER, this)) {
+                LOGGER.info(
+                    "{}================================================== Simulation aborted under request at time {} ==================================================",
+                    System.lineSeparator(), clock);
+            }
             return true;
         }
         return false;
@@ -362,7 +401,9 @@ public class CloudSim implements Simulation {
         entities.stream()
             .filter(CloudSimEntity::isAlive)
             .forEach(e -> sendNow(e, CloudSimTags.END_OF_SIMULATION));
-        LOGGER.info("{}: Processing last events before simulation shutdown.", clockStr());
+        if(Log.isInfoEnabled(LOGGER, this)) {
+            LOGGER.info("{}: Processing last events before simulation shutdown.", clockStr());
+        }
 
         while (true) {
             if(!runClockTickAndProcessFutureEvents(Double.MAX_VALUE)){
@@ -378,14 +419,16 @@ public class CloudSim implements Simulation {
                                 ? extra + " in reason of an explicit request to terminate() or terminateAt()"
                                 : "";
 
-        if(terminationTime > 0 && clock > lastCloudletProcessingUpdate + TimeUtil.minutesToSeconds(60)){
+        if(terminationTime > 0 && clock > lastCloudletProcessingUpdate + TimeUtil.minutesToSeconds(60) && Log.isWarnEnabled(LOGGER, this)){
             LOGGER.warn(
                 "Your simulation termination time was set to {} but the last time a Cloudlet has processed was {}. "+
                 "If you think your simulation is taking to long to finish, " +
                 "maybe it's because you set a too long termination time and new events aren't arriving so far.",
                 terminationTime, lastCloudletProcessingUpdate);
         }
-        LOGGER.info("{}================== {}{} =================={}", System.lineSeparator(), msg1, msg2, System.lineSeparator());
+        if(Log.isInfoEnabled(LOGGER, this)) {
+            LOGGER.info("{}================== {}{} =================={}", System.lineSeparator(), msg1, msg2, System.lineSeparator());
+        }
 
     }
 
@@ -530,9 +573,11 @@ public class CloudSim implements Simulation {
             * the simulation must keep running waiting for dynamic events
             * (such as the dynamic arrival of VMs or Cloudlets).
             * Without increasing the time, the simulation stops due to lack of new events.*/
-            LOGGER.info(
-                "{}: Simulation: Waiting more events or the clock to reach {} (the termination time set). Checking new events in {} seconds ({})",
-                clockStr(), terminationTime, increment, info);
+            if(Log.isInfoEnabled(LOGGER, this)) {
+                LOGGER.info(
+                    "{}: Simulation: Waiting more events or the clock to reach {} (the termination time set). Checking new events in {} seconds ({})",
+                    clockStr(), terminationTime, increment, info);
+            }
             setClock(clock + increment);
             return true;
         }
@@ -602,12 +647,16 @@ public class CloudSim implements Simulation {
 
     @Override
     public void send(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
-        send(new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
+        send(newEvent(src, dest, delay, tag, data));
     }
 
     @Override
     public void send(final SimEvent evt) {
         requireNonNull(evt);
+        if(eventPool != null){
+            eventPool.sending(evt);
+        }
+
         //Events with a negative tag have higher priority (except the "end of the simulation" event)
         if(evt.getTag() < 0 && evt.getTag() != CloudSimTags.END_OF_SIMULATION)
             future.addEventFirst(evt);
@@ -616,14 +665,35 @@ public class CloudSim implements Simulation {
 
     @Override
     public void sendFirst(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
-        sendFirst(new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
+        sendFirst(newEvent(src, dest, delay, tag, data));
     }
 
     @Override
     public void sendFirst(SimEvent evt) {
+        if(eventPool != null){
+            eventPool.sending(evt);
+        }
+
         future.addEventFirst(evt);
     }
 
+    /**
+     * Creates a {@link SimEvent.Type#SEND} event,
+     * getting it from the {@link #getEventPool() event pool} if it's enabled.
+     *
+     * @param src the source entity which is sending the message
+     * @param dest the destination entity which has to receive the message
+     * @param delay how many seconds after the current simulation time the event should be scheduled
+     * @param tag the tag that identifies the type of the message
+     * @param data the data attached to the message
+     * @return the new event
+     */
+    final CloudSimEvent newEvent(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
+        return eventPool == null ?
+                new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data) :
+                eventPool.acquire(delay, src, dest, tag, data);
+    }
+
     @Override
     public void wait(final CloudSimEntity src, final Predicate<SimEvent> predicate) {
         src.setState(SimEntity.State.WAITING);
@@ -640,6 +710,10 @@ public class CloudSim implements Simulation {
             deferred.remove(evt);
         }
 
+        if(profiler != null){
+            profiler.deferredLookup(evt != SimEvent.NULL);
+        }
+
         return evt;
     }
 
@@ -705,6 +779,10 @@ public class CloudSim implements Simulation {
         }
 
         setClock(evt.getTime());
+        if(profiler != null){
+            profiler.eventDispatched(clock, future.size());
+        }
+
         processEventByType(evt);
         for (final EventListener<SimEvent> listener : onEventProcessingListeners) {
             listener.update(evt);
@@ -790,7 +868,9 @@ public class CloudSim implements Simulation {
      */
     private void addEntityDynamically(final SimEntity entity) {
         requireNonNull(entity);
-        LOGGER.trace("Adding: {}", entity.getName());
+        if(Log.isTraceEnabled(LOGGER, this)) {
+            LOGGER.trace("Adding: {}", entity.getName());
+        }
         entity.start();
     }
 
@@ -807,11 +887,15 @@ public class CloudSim implements Simulation {
             throw new IllegalArgumentException("Attempt to send to a null entity detected.");
         }
 
+        if(eventPool != null){
+            eventPool.delivered(evt);
+        }
+
         final CloudSimEntity destEnt = (CloudSimEntity)evt.getDestination();
         if (destEnt.getState() == SimEntity.State.WAITING) {
             final Predicate<SimEvent> p = waitPredicates.get(destEnt);
             if (p == null || evt.getTag() == 9999 || p.test(evt)) {
-                destEnt.setEventBuffer(new CloudSimEvent(evt));
+                destEnt.setEventBuffer(evt);
                 destEnt.setState(SimEntity.State.RUNNABLE);
                 waitPredicates.remove(destEnt);
             } else {
@@ -831,7 +915,9 @@ public class CloudSim implements Simulation {
 
         running = true;
         entities.forEach(SimEntity::start);
-        LOGGER.info("Entities started.");
+        if(Log.isInfoEnabled(LOGGER, this)) {
+            LOGGER.info("Entities started.");
+        }
     }
 
     @Override
@@ -839,6 +925,27 @@ public class CloudSim implements Simulation {
         return running;
     }
 
+    @Override
+    public final boolean isSilent() {
+        return silent;
+    }
+
+    /**
+     * Enables or disables the silent mode for this simulation.
+     * In silent mode, log statements performed by the simulation components,
+     * except ERROR messages, don't even build their messages, what reduces the overhead
+     * of large-scale simulations.
+     * Other simulations running in the same JVM are not affected.
+     *
+     * @param silent true to enable the silent mode, false to disable it
+     * @return
+     * @see #isSilent()
+     */
+    public final CloudSim setSilent(final boolean silent) {
+        this.silent = silent;
+        return this;
+    }
+
     @Override
     public boolean pause() {
         return pause(clock);
@@ -850,7 +957,9 @@ public class CloudSim implements Simulation {
             return false;
         } else {
             pauseAt = time;
-            LOGGER.info("{}: Pausing simulation under request", clockStr());
+            if(Log.isInfoEnabled(LOGGER, this)) {
+                LOGGER.info("{}: Pausing simulation under request", clockStr());
+            }
             return true;
         }
     }
@@ -859,7 +968,7 @@ public class CloudSim implements Simulation {
     public boolean resume() {
         final boolean wasPaused = this.paused;
         this.paused = false;
-        if(wasPaused){
+        if(wasPaused && Log.isInfoEnabled(LOGGER, this)){
             LOGGER.info("{}: Resuming simulation under request", clockStr());
         }
 
@@ -976,6 +1085,17 @@ public class CloudSim implements Simulation {
         return this;
     }
 
+    @Override
+    public Simulation addOnSimulationFinishListener(final EventListener<EventInfo> listener) {
+        this.onSimulationFinishListeners.add(requireNonNull(listener));
+        return this;
+    }
+
+    @Override
+    public boolean removeOnSimulationFinishListener(final EventListener<EventInfo> listener) {
+        return this.onSimulationFinishListeners.remove(listener);
+    }
+
     @Override
     public boolean removeOnSimulationPauseListener(final EventListener<EventInfo> listener) {
         return this.onSimulationPauseListeners.remove(listener);
@@ -1031,6 +1151,117 @@ public class CloudSim implements Simulation {
         return future.getMaxEventsNumber();
     }
 
+    /**
+     * Enables the {@link SimulationProfiler} to collect performance metrics
+     * about the execution of this simulation, such as the number of events and
+     * the wall-clock time spent processing them for each tag and entity class.
+     * A report with the collected metrics is logged when the simulation finishes.
+     *
+     * <p>It should be called before starting the simulation,
+     * otherwise only the events processed after that will be profiled.</p>
+     *
+     * @return the enabled profiler
+     */
+    public SimulationProfiler enableProfiler() {
+        if(profiler == null) {
+            profiler = new SimulationProfiler();
+            if(running){
+                profiler.start();
+            }
+        }
+
+        return profiler;
+    }
+
+    /**
+     * Gets the {@link SimulationProfiler} collecting performance metrics about this simulation.
+     * @return an {@link Optional} containing the profiler or an empty one if it was not {@link #enableProfiler() enabled}
+     */
+    public Optional<SimulationProfiler> getProfiler() {
+        return Optional.ofNullable(profiler);
+    }
+
+    /**
+     * Gets the {@link SimulationProfiler} or null if it was not enabled,
+     * avoiding the creation of an {@link Optional} for every processed event.
+     * @return
+     */
+    SimulationProfiler getProfilerOrNull() {
+        return profiler;
+    }
+
+    /**
+     * Enables recycling of the events sent between entities,
+     * which reduces the allocation rate and garbage collection pressure
+     * on simulations with a huge number of events.
+     * An event is recycled after its destination entity processes it.
+     *
+     * <p><b>WARNING:</b> when enabled, event listeners and entities
+     * must not keep references to the events they receive,
+     * unless they call {@link SimEvent#retain()} or store a copy
+     * created by {@link CloudSimEvent#CloudSimEvent(SimEvent)}.
+     * Otherwise, the stored event may be reused for a different message.</p>
+     *
+     * @return the enabled event pool
+     */
+    public CloudSimEventPool enableEventPooling() {
+        if(eventPool == null) {
+            eventPool = new CloudSimEventPool();
+        }
+
+        return eventPool;
+    }
+
+    /**
+     * Gets the {@link CloudSimEventPool} recycling events in this simulation.
+     * @return an {@link Optional} containing the pool or an empty one if it was not {@link #enableEventPooling() enabled}
+     */
+    public Optional<CloudSimEventPool> getEventPool() {
+        return Optional.ofNullable(eventPool);
+    }
+
+    /**
+     * Gets the {@link CloudSimEventPool} or null if it was not enabled.
+     * @return
+     */
+    final CloudSimEventPool getEventPoolOrNull() {
+        return eventPool;
+    }
+
+    /**
+     * Creates an independent copy of this simulation, including all its entities
+     * (brokers, datacenters, hosts, VMs, Cloudlets), future and deferred events,
+     * listeners and the state of random number generators,
+     * so that the copy can continue from the current simulation time
+     * without having to re-run the warm-up period.
+     *
+     * <p>That enables running several "what-if" scenarios from the same
+     * checkpoint: simulate the common warm-up once, fork the simulation
+     * for each scenario, change the parameters of each fork and resume them.
+     * Keeping a fork which is never run is a cheap in-memory checkpoint
+     * that can be forked again later to restore that state.</p>
+     *
+     * <p>The simulation must not be processing events when this method is called.
+     * Call it before the simulation starts, between two calls to {@link #runFor(double)}
+     * or inside a {@link #addOnSimulationPauseListener(EventListener) pause listener}.
+     * The fork is returned not paused and can be run by calling {@link #start()}
+     * or {@link #runFor(double)}.
+     * The forked entities can be got from {@link #getEntityList()} of the returned object.
+     * Objects referenced by static fields (such as the {@code NULL} objects) are shared
+     * between the original and the forked simulations.</p>
+     *
+     * @return the forked simulation
+     * @throws UnsupportedOperationException if some object in the simulation cannot be copied
+     */
+    public CloudSim fork() {
+        final CloudSim fork = new SimulationCloner().deepCopy(this);
+        fork.paused = false;
+        fork.pauseAt = -1;
+        //The fork continues the already started simulation instead of starting a new one
+        fork.alreadyRunOnce = fork.alreadyRunOnce && !fork.running;
+        return fork;
+    }
+
     /** Gets the total number of events generated in the {@link FutureQueue} */
     public long getGeneratedEventsNumber() {
         return future.getSerial();
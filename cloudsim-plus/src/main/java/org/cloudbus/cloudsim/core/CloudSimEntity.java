@@ -9,7 +9,10 @@ package org.cloudbus.cloudsim.core;
 
 import org.apache.commons.lang3.StringUtils;
 import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.CloudSimEventPool;
 import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudsimplus.jfr.SimEventDispatchEvent;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -112,7 +115,7 @@ public abstract class CloudSimEntity implements SimEntity {
 
     @Override
     public boolean schedule(final SimEntity dest, final double delay, final int tag, final Object data) {
-        return schedule(new CloudSimEvent(delay, this, dest, tag, data));
+        return schedule(newEvent(dest, delay, tag, data));
     }
 
     @Override
@@ -144,15 +147,29 @@ public abstract class CloudSimEntity implements SimEntity {
         return true;
     }
 
+    /**
+     * Creates an event sent from this entity,
+     * that is recycled when the simulation {@link CloudSim#enableEventPooling() event pooling} is enabled.
+     */
+    private SimEvent newEvent(final SimEntity dest, final double delay, final int tag, final Object data) {
+        if(simulation instanceof CloudSim) {
+            return ((CloudSim) simulation).newEvent(this, dest, delay, tag, data);
+        }
+
+        return new CloudSimEvent(delay, this, dest, tag, data);
+    }
+
     private boolean canSendEvent(final SimEvent evt) {
         /**
          * If the simulation has finished and an  {@link CloudSimTags#END_OF_SIMULATION}
          * message is sent, it has to be processed to enable entities to shutdown.
          */
         if (!simulation.isRunning() && evt.getTag() != CloudSimTags.END_OF_SIMULATION) {
-            LOGGER.warn(
-                "{}: {}: Cannot send events before simulation starts or after it finishes. Trying to send message {} to {}",
-                getSimulation().clockStr(), this, evt.getTag(), evt.getDestination());
+            if(Log.isWarnEnabled(LOGGER, simulation)) {
+                LOGGER.warn(
+                    "{}: {}: Cannot send events before simulation starts or after it finishes. Trying to send message {} to {}",
+                    getSimulation().clockStr(), this, evt.getTag(), evt.getDestination());
+            }
             return false;
         }
 
@@ -220,7 +237,7 @@ public abstract class CloudSimEntity implements SimEntity {
      * @param data  The data to be sent with the event.
      */
     public void scheduleFirst(final SimEntity dest, final double delay, final int tag, final Object data) {
-        final CloudSimEvent evt = new CloudSimEvent(delay, this, dest, tag, data);
+        final SimEvent evt = newEvent(dest, delay, tag, data);
         if (!canSendEvent(evt)) {
             return;
         }
@@ -318,9 +335,15 @@ public abstract class CloudSimEntity implements SimEntity {
 
     public void run(final double until) {
         SimEvent evt = buffer == null ? getNextEvent(e -> e.getTime() <= until) : buffer;
+        final SimulationProfiler profiler = simulation instanceof CloudSim ? ((CloudSim) simulation).getProfilerOrNull() : null;
+        final CloudSimEventPool eventPool = simulation instanceof CloudSim ? ((CloudSim) simulation).getEventPoolOrNull() : null;
 
         while (evt != SimEvent.NULL) {
-            processEvent(evt);
+            processEventAndRecord(evt, profiler);
+            if (eventPool != null) {
+                eventPool.release(evt);
+            }
+
             if (state != State.RUNNABLE) {
                 break;
             }
@@ -331,6 +354,33 @@ public abstract class CloudSimEntity implements SimEntity {
         buffer = null;
     }
 
+    /**
+     * Processes an event, recording its processing into the {@link SimulationProfiler} (if enabled)
+     * and as a {@link SimEventDispatchEvent} (if a JFR recording is running).
+     *
+     * @param evt the event to process
+     * @param profiler the simulation profiler or null if it's disabled
+     */
+    private void processEventAndRecord(final SimEvent evt, final SimulationProfiler profiler) {
+        final SimEventDispatchEvent dispatchEvent = new SimEventDispatchEvent();
+        dispatchEvent.begin();
+        if (profiler == null) {
+            processEvent(evt);
+        } else {
+            final long startTime = System.nanoTime();
+            processEvent(evt);
+            profiler.eventProcessed(this, evt, System.nanoTime() - startTime);
+        }
+
+        if (dispatchEvent.shouldCommit()) {
+            dispatchEvent.tag = evt.getTag();
+            dispatchEvent.source = evt.getSource().getName();
+            dispatchEvent.destination = getName();
+            dispatchEvent.simulationTime = evt.getTime();
+            dispatchEvent.commit();
+        }
+    }
+
     /**
      * Gets a clone of the entity. This is used when independent replications
      * have been specified as an output analysis method. Clones or backups of
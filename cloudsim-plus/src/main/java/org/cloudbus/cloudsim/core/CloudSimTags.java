@@ -7,6 +7,7 @@
  */
 package org.cloudbus.cloudsim.core;
 
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
@@ -106,6 +107,41 @@ public final class CloudSimTags {
      */
     public static final int CLOUDLET_SUBMIT_ACK = BASE + 17;
 
+    /**
+     * Denotes the submission of a list of Cloudlets at once to a {@link Datacenter}.
+     * This tag is normally used between a DatacenterBroker and Datacenter entity
+     * to submit all Cloudlets to be sent to the same Datacenter with the same delay.
+     * When an event of this type is sent, the {@link SimEvent#getData()}
+     * must be a {@code List<Cloudlet>}.
+     * The Datacenter submits all the Cloudlets in a single pass,
+     * scheduling a single update of Cloudlets processing.
+     *
+     * @see #CLOUDLET_SUBMIT
+     * @see #CLOUDLET_SUBMIT_BULK_ACK
+     */
+    public static final int CLOUDLET_SUBMIT_BULK = BASE + 38;
+
+    /**
+     * Denotes the submission of a list of Cloudlets at once to a {@link Datacenter},
+     * with an acknowledgement, where the {@link SimEvent#getData()} of both the request
+     * and the reply event is a {@code List<Cloudlet>}.
+     * Using this tag, the Datacenter acknowledges the reception of the request
+     * by sending a single reply for all the Cloudlets.
+     *
+     * @see #CLOUDLET_SUBMIT_BULK
+     * @see #CLOUDLET_SUBMIT_ACK
+     */
+    public static final int CLOUDLET_SUBMIT_BULK_ACK = BASE + 39;
+
+    /**
+     * Denotes the arrival of the next time window of a stream of Cloudlets.
+     * This event is sent by a DatacenterBroker to itself to get
+     * the Cloudlets arriving in the current time window and submit them.
+     *
+     * @see DatacenterBroker#submitCloudletStream(java.util.Iterator, double)
+     */
+    public static final int CLOUDLET_ARRIVALS = BASE + 40;
+
     /**
      * Cancels a Cloudlet submitted in the Datacenter entity.
      * When an event of this type is sent, the {@link SimEvent#getData()}
@@ -227,6 +263,19 @@ public final class CloudSimTags {
      */
     public static final int VM_CREATE_ACK = BASE + 32;
 
+    /**
+     * Denotes a request to create a list of VMs at once in a {@link Datacenter},
+     * where the {@link SimEvent#getData()} of both the request and the reply event
+     * is a {@code List<Vm>}.
+     * Using this tag, the Datacenter acknowledges the reception of the request
+     * by sending a single reply for all the VMs.
+     * To check if each VM was in fact created inside the requested Datacenter
+     * one has only to call {@link Vm#isCreated()}.
+     *
+     * @see #VM_CREATE_ACK
+     */
+    public static final int VM_CREATE_BULK_ACK = BASE + 37;
+
     /**
      * Denotes a request to destroy a VM in a {@link Datacenter}.
      * When an event of this type is sent, the {@link SimEvent#getData()}
@@ -281,13 +330,23 @@ public final class CloudSimTags {
 
     /**
      * Denotes the transmission of packets up through the network topology.
+     * The event data is either a {@link org.cloudbus.cloudsim.network.HostPacket}
+     * or a List of them sent together.
      */
     public static final int NETWORK_EVENT_UP = BASE + 43;
 
     public static final int NETWORK_EVENT_SEND = BASE + 44;
 
+    /**
+     * Denotes a request for a {@link org.cloudbus.cloudsim.network.flows.FlowNetwork}
+     * to update the data transferred by its flows, finishing the ones completed.
+     */
+    public static final int NETWORK_FLOW_UPDATE = BASE + 45;
+
     /**
      * Denotes the transmission of packets down through the network topology.
+     * The event data is either a {@link org.cloudbus.cloudsim.network.HostPacket}
+     * or a List of them sent together.
      */
     public static final int NETWORK_EVENT_DOWN = BASE + 46;
 
@@ -97,6 +97,29 @@ public interface Simulation {
      */
     String clockStr();
 
+    /**
+     * Checks if the simulation is in silent mode,
+     * where log statements guarded by methods such as
+     * {@link org.cloudsimplus.util.Log#isInfoEnabled(org.slf4j.Logger, Simulation)}
+     * are neither logged nor have their arguments built,
+     * regardless of the logging level.
+     * That avoids the overhead of logging on large-scale simulations,
+     * without changing the global logging configuration
+     * (that is shared by all simulations in the same JVM).
+     *
+     * <p>The silent mode covers the lifecycle and processing messages
+     * of the simulation entities (such as the simulation start and finish,
+     * brokers, datacenters, hosts and switches), but ERROR messages are always logged,
+     * according to the logging level, since they report problems that must not go unnoticed.
+     * Components that are not bound to a simulation, such as storage devices and network topologies,
+     * just follow the logging level.</p>
+     *
+     * @return true if the simulation is silent, false otherwise (the default)
+     */
+    default boolean isSilent() {
+        return false;
+    }
+
     /**
      * Gets the current simulation time in minutes.
      *
@@ -182,6 +205,25 @@ public interface Simulation {
 
     Simulation addOnSimulationStartListener(EventListener<EventInfo> listener);
 
+    /**
+     * Adds a {@link EventListener} object that will be notified just once,
+     * when the simulation finishes, after all entities are shut down.
+     * When this Listener is notified, it will receive an {@link EventInfo} informing
+     * the time the simulation finished.
+     *
+     * @param listener the event listener to add
+     * @return
+     */
+    Simulation addOnSimulationFinishListener(EventListener<EventInfo> listener);
+
+    /**
+     * Removes a listener from the onSimulationFinishListener List.
+     *
+     * @param listener the listener to remove
+     * @return true if the listener was found and removed, false otherwise
+     */
+    boolean removeOnSimulationFinishListener(EventListener<EventInfo> listener);
+
     /**
      * Removes a listener from the onSimulationPausedListener List.
      *
@@ -0,0 +1,660 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.nio.channels.Channel;
+import java.util.*;
+
+/**
+ * Deep copies the entire object graph reachable from a {@link CloudSim} instance,
+ * so that a simulation can be forked at any point between two calls to
+ * {@link CloudSim#runFor(double)} (or while it's paused).
+ *
+ * <p>The copy is performed reflectively, without calling any constructor of the
+ * copied objects (which would register them into the simulation or generate new IDs).
+ * Objects are allocated by the {@code sun.reflect.ReflectionFactory} of the {@code jdk.unsupported} module,
+ * the same mechanism used by Java serialization. If such a class isn't available,
+ * the fork fails with an {@link UnsupportedOperationException}.
+ * It works in two phases:
+ * <ol>
+ *     <li>every reachable object is allocated and has its fields filled with the copies
+ *     of the original values, using an explicit stack instead of recursion, since the graph of
+ *     a large simulation is too deep for the call stack;</li>
+ *     <li>only after all objects are filled, hash-based and sorted collections are populated,
+ *     because the hash code and ordering of their elements usually depend on the
+ *     elements' fields.</li>
+ * </ol>
+ * </p>
+ *
+ * <p>The following objects are shared between the original and the copy, instead of being copied:
+ * <ul>
+ *     <li>values stored in static fields of the classes of the copied objects
+ *     (such as the {@code NULL} objects and default listeners);</li>
+ *     <li>immutable JDK objects (such as Strings, boxed primitives, enums and empty collections),
+ *     objects that don't have any instance field and non-capturing lambdas;</li>
+ *     <li>loggers and the standard streams ({@code System.out}, {@code System.err} and {@code System.in}).</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Any other object that can't be copied makes the fork fail with an {@link UnsupportedOperationException},
+ * instead of being shared, since a fork sharing mutable state with its parent isn't independent of it.
+ * That is the case of non-serializable JDK objects (such as open channels and threads),
+ * lambdas whose captured values can't be read (such as capturing lambdas created inside JDK classes)
+ * and objects of classes extending stateful JDK classes, which aren't collections nor serializable.</p>
+ *
+ * <p>JDK collections which are views of other collections can't be linked to the copy of their
+ * backing collections, since the internals of JDK classes aren't accessible. This way:
+ * <ul>
+ *     <li>unmodifiable views (such as the ones returned by {@link Collections#unmodifiableList(List)})
+ *     are copied as an unmodifiable view of an independent copy of their content.
+ *     If the original view wraps a collection which is also reachable from the simulation,
+ *     the copied view won't reflect later changes into the copy of such a collection;</li>
+ *     <li>synchronized views (such as the ones returned by {@link Collections#synchronizedList(List)})
+ *     are copied as a synchronized view of an independent copy of their content,
+ *     which is right when the view is the only reference to the wrapped collection;</li>
+ *     <li>other views (such as {@link Map#keySet()} or {@link List#subList(int, int)})
+ *     make the fork fail with an {@link UnsupportedOperationException}.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>{@link HashSet}s and {@link HashMap}s are copied as their linked counterparts,
+ * so that their iteration order is exactly the same as in the original simulation
+ * at the moment of the fork.
+ * That keeps the continuation of a forked simulation as close as possible
+ * to the one of the original simulation.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+final class SimulationCloner {
+    /** The {@code sun.reflect.ReflectionFactory} instance or null if it isn't available. */
+    private static final Object REFLECTION_FACTORY;
+
+    /** The {@code newConstructorForSerialization} method of {@link #REFLECTION_FACTORY} or null if it isn't available. */
+    private static final Method NEW_CONSTRUCTOR_FOR_SERIALIZATION;
+
+    static {
+        Object factory = null;
+        Method method = null;
+        try {
+            final Class<?> factoryClass = Class.forName("sun.reflect.ReflectionFactory");
+            factory = factoryClass.getMethod("getReflectionFactory").invoke(null);
+            method = factoryClass.getMethod("newConstructorForSerialization", Class.class, Constructor.class);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            //the fork fails when some object has to be allocated
+        }
+
+        REFLECTION_FACTORY = factory;
+        NEW_CONSTRUCTOR_FOR_SERIALIZATION = method;
+    }
+
+    private static final Class<?> ARRAYS_AS_LIST_CLASS = Arrays.asList().getClass();
+
+    /** Maps each original object to its copy. */
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    /** Objects that must not be copied. */
+    private final Set<Object> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** The classes whose static field values were already added to {@link #shared}. */
+    private final Set<Class<?>> visitedClasses = new HashSet<>();
+
+    /** Caches the instance fields of each class (including the inherited ones). */
+    private final Map<Class<?>, Field[]> fieldsCache = new HashMap<>();
+
+    /** Caches the constructors used to allocate objects of each class without calling their own constructors. */
+    private final Map<Class<?>, Constructor<?>> constructorsCache = new HashMap<>();
+
+    /** Pairs of original/copy objects whose content still has to be copied. */
+    private final Deque<Object[]> pendingFill = new ArrayDeque<>();
+
+    /** Maps the views created for copies of unmodifiable or synchronized collections to the collections they wrap. */
+    private final Map<Object, Object> collectionViews = new IdentityHashMap<>();
+
+    /** Tasks populating hash-based and sorted collections, executed after all objects are filled. */
+    private final List<Runnable> pendingPopulation = new ArrayList<>();
+
+    /**
+     * Creates a deep copy of a given object and all objects reachable from it.
+     * @param root the object to copy
+     * @param <T> the type of the object
+     * @return the copy of the given object
+     */
+    @SuppressWarnings("unchecked")
+    <T> T deepCopy(final T root) {
+        final T copy = (T) copy(root);
+        while (!pendingFill.isEmpty()) {
+            final Object[] pair = pendingFill.pop();
+            fill(pair[0], pair[1]);
+        }
+
+        pendingPopulation.forEach(Runnable::run);
+        return copy;
+    }
+
+    /**
+     * Gets the copy of a given object, allocating it (but not filling its content yet)
+     * if it wasn't copied yet.
+     * @param original the object to get a copy
+     * @return the copy or the original object itself if it has to be shared
+     */
+    private Object copy(final Object original) {
+        if (original == null) {
+            return null;
+        }
+
+        final Object existing = copies.get(original);
+        if (existing != null) {
+            return existing;
+        }
+
+        final Class<?> klass = original.getClass();
+        registerStaticValuesAsShared(klass);
+        if (shared.contains(original) || isImmutable(original)) {
+            return original;
+        }
+
+        final Object copy = allocate(original, klass);
+        copies.put(original, copy);
+        if (copy != original && !isLambda(klass)) {
+            pendingFill.push(new Object[]{original, copy});
+        }
+
+        return copy;
+    }
+
+    private Object allocate(final Object original, final Class<?> klass) {
+        if (klass.isArray()) {
+            return Array.newInstance(klass.getComponentType(), Array.getLength(original));
+        }
+
+        if (isLambda(klass)) {
+            return copyLambda(original, klass);
+        }
+
+        if (isJdkClass(klass)) {
+            return isCollection(original) ? allocateCollection(original, klass) : copyJdkObject(original);
+        }
+
+        if (isLogger(klass)) {
+            return original;
+        }
+
+        final Class<?> jdkSuperclass = getJdkSuperclass(klass);
+        if (isStatelessJdkClass(jdkSuperclass)) {
+            return getInstanceFields(klass).length == 0 ? original : newInstance(klass, Object.class);
+        }
+
+        if (isCollection(original)) {
+            if (getComparator(original) != null) {
+                throw new UnsupportedOperationException(
+                    "Cannot fork an object of " + klass + " since it extends a sorted JDK collection");
+            }
+
+            return newInstance(klass, jdkSuperclass);
+        }
+
+        /* The state stored into the JDK superclass isn't accessible by reflection,
+         * so the object is just copied if it can be entirely serialized. */
+        if (original instanceof Serializable && getInstanceFields(klass).length == 0) {
+            return copyBySerialization(original);
+        }
+
+        throw new UnsupportedOperationException(
+            "Cannot fork an object of " + klass + " since it extends " + jdkSuperclass);
+    }
+
+    /**
+     * Creates an object of a given class, just calling the no-args constructor
+     * of a given superclass, instead of any constructor of the class itself.
+     * @param klass the class of the object to create
+     * @param constructorClass the superclass whose no-args constructor will be called
+     * @return the new object
+     */
+    private Object newInstance(final Class<?> klass, final Class<?> constructorClass) {
+        if (NEW_CONSTRUCTOR_FOR_SERIALIZATION == null) {
+            throw new UnsupportedOperationException(
+                "Cannot fork a simulation since the sun.reflect.ReflectionFactory class of the jdk.unsupported module isn't available");
+        }
+
+        try {
+            Constructor<?> constructor = constructorsCache.get(klass);
+            if (constructor == null) {
+                constructor = (Constructor<?>) NEW_CONSTRUCTOR_FOR_SERIALIZATION.invoke(
+                    REFLECTION_FACTORY, klass, constructorClass.getDeclaredConstructor());
+                constructorsCache.put(klass, constructor);
+            }
+
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new UnsupportedOperationException("Cannot fork an object of " + klass, e);
+        }
+    }
+
+    /**
+     * Copies the content of an original object to its previously allocated copy.
+     */
+    @SuppressWarnings("unchecked")
+    private void fill(final Object original, final Object copy) {
+        final Class<?> klass = original.getClass();
+        if (klass.isArray()) {
+            fillArray(original, copy, klass);
+            return;
+        }
+
+        /* Fields of JDK classes aren't accessible, but the ones
+         * declared by subclasses of JDK collections are copied before their elements. */
+        for (final Field field : getInstanceFields(klass)) {
+            copyField(field, original, copy);
+        }
+
+        if (!isJdkCollection(original, klass)) {
+            return;
+        }
+
+        if (original instanceof Map) {
+            final Map<Object, Object> target = unwrap(copy);
+            final List<Object[]> entries = new ArrayList<>(((Map<?, ?>) original).size());
+            ((Map<?, ?>) original).forEach((key, value) -> entries.add(new Object[]{copy(key), copy(value)}));
+            pendingPopulation.add(() -> entries.forEach(entry -> target.put(entry[0], entry[1])));
+        } else {
+            fillCollection((Collection<?>) original, copy);
+        }
+    }
+
+    /**
+     * Checks if an object is a JDK collection or map, or an object of a class extending one,
+     * whose elements must be copied through the collection API.
+     */
+    private static boolean isJdkCollection(final Object original, final Class<?> klass) {
+        return isCollection(original) && (isJdkClass(klass) || !isStatelessJdkClass(getJdkSuperclass(klass)));
+    }
+
+    private void fillArray(final Object original, final Object copy, final Class<?> klass) {
+        final int length = Array.getLength(original);
+        if (klass.getComponentType().isPrimitive()) {
+            System.arraycopy(original, 0, copy, 0, length);
+            return;
+        }
+
+        final Object[] source = (Object[]) original;
+        final Object[] target = (Object[]) copy;
+        for (int i = 0; i < length; i++) {
+            target[i] = copy(source[i]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fillCollection(final Collection<?> original, final Object copy) {
+        if (copy.getClass() == ARRAYS_AS_LIST_CLASS) {
+            final List<Object> target = (List<Object>) copy;
+            int i = 0;
+            for (final Object element : original) {
+                target.set(i++, copy(element));
+            }
+
+            return;
+        }
+
+        final Collection<Object> target = unwrap(copy);
+        final List<Object> elements = new ArrayList<>(original.size());
+        original.forEach(element -> elements.add(copy(element)));
+        if (target instanceof List || target instanceof ArrayDeque) {
+            target.addAll(elements);
+        } else {
+            pendingPopulation.add(() -> target.addAll(elements));
+        }
+    }
+
+    private void copyField(final Field field, final Object original, final Object copy) {
+        try {
+            final Class<?> type = field.getType();
+            if (type == int.class) {
+                field.setInt(copy, field.getInt(original));
+            } else if (type == long.class) {
+                field.setLong(copy, field.getLong(original));
+            } else if (type == double.class) {
+                field.setDouble(copy, field.getDouble(original));
+            } else if (type == boolean.class) {
+                field.setBoolean(copy, field.getBoolean(original));
+            } else if (type == float.class) {
+                field.setFloat(copy, field.getFloat(original));
+            } else if (type == short.class) {
+                field.setShort(copy, field.getShort(original));
+            } else if (type == byte.class) {
+                field.setByte(copy, field.getByte(original));
+            } else if (type == char.class) {
+                field.setChar(copy, field.getChar(original));
+            } else {
+                field.set(copy, copy(field.get(original)));
+            }
+        } catch (IllegalAccessException e) {
+            throw new UnsupportedOperationException("Cannot fork field " + field, e);
+        }
+    }
+
+    /**
+     * Allocates an empty collection or map of the same kind of a given original one.
+     * Collections that cannot be instantiated (such as unmodifiable and synchronized ones) are
+     * copied as a view of a new collection, which is filled later.
+     */
+    private Object allocateCollection(final Object original, final Class<?> klass) {
+        if (klass == HashSet.class) {
+            return new LinkedHashSet<>(((Set<?>) original).size());
+        }
+
+        if (klass == HashMap.class) {
+            return new LinkedHashMap<>(((Map<?, ?>) original).size());
+        }
+
+        if (klass == ARRAYS_AS_LIST_CLASS) {
+            return Arrays.asList(new Object[((List<?>) original).size()]);
+        }
+
+        final Comparator<?> comparator = getComparator(original);
+        try {
+            return comparator == null ?
+                       klass.getConstructor().newInstance() :
+                       klass.getConstructor(Comparator.class).newInstance(copy(comparator));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return newCollectionView(original, klass, comparator);
+        }
+    }
+
+    /**
+     * Creates a view for a new collection, which will be filled with the copies of the elements
+     * of a given original collection that can't be instantiated.
+     * @throws UnsupportedOperationException when the original collection is a view that
+     *                                       can't be re-created, such as {@link Map#keySet()}
+     */
+    private Object newCollectionView(final Object original, final Class<?> klass, final Comparator<?> comparator) {
+        final String name = klass.getName();
+        final boolean synchronizedView = name.startsWith("java.util.Collections$Synchronized");
+        if (!synchronizedView && !isUnmodifiable(name)) {
+            throw new UnsupportedOperationException(
+                "Cannot fork a " + name + " since it's a view of another collection");
+        }
+
+        final Object wrapped;
+        final Object view;
+        if (original instanceof SortedMap) {
+            final SortedMap<Object, Object> map = new TreeMap<>(copy(comparator));
+            view = synchronizedView ? Collections.synchronizedSortedMap(map) : Collections.unmodifiableSortedMap(map);
+            wrapped = map;
+        } else if (original instanceof Map) {
+            final Map<Object, Object> map = new LinkedHashMap<>();
+            view = synchronizedView ? Collections.synchronizedMap(map) : Collections.unmodifiableMap(map);
+            wrapped = map;
+        } else if (original instanceof SortedSet) {
+            final SortedSet<Object> set = new TreeSet<>(copy(comparator));
+            view = synchronizedView ? Collections.synchronizedSortedSet(set) : Collections.unmodifiableSortedSet(set);
+            wrapped = set;
+        } else if (original instanceof Set) {
+            final Set<Object> set = new LinkedHashSet<>();
+            view = synchronizedView ? Collections.synchronizedSet(set) : Collections.unmodifiableSet(set);
+            wrapped = set;
+        } else {
+            final List<Object> list = new ArrayList<>();
+            view = synchronizedView ? Collections.synchronizedList(list) : Collections.unmodifiableList(list);
+            wrapped = list;
+        }
+
+        collectionViews.put(view, wrapped);
+        return view;
+    }
+
+    /**
+     * Checks if a JDK collection class is unmodifiable, either because it's immutable
+     * or because it's an unmodifiable view of another collection.
+     * @param name the name of the class
+     */
+    private static boolean isUnmodifiable(final String name) {
+        return name.startsWith("java.util.ImmutableCollections$") ||
+               name.startsWith("java.util.Collections$Unmodifiable") ||
+               name.startsWith("java.util.Collections$Singleton") ||
+               name.startsWith("java.util.Collections$CopiesList");
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Comparator<T> copy(final Comparator<?> comparator) {
+        return (Comparator<T>) copy((Object) comparator);
+    }
+
+    private static Comparator<?> getComparator(final Object collection) {
+        if (collection instanceof SortedSet) {
+            return ((SortedSet<?>) collection).comparator();
+        }
+
+        if (collection instanceof SortedMap) {
+            return ((SortedMap<?, ?>) collection).comparator();
+        }
+
+        if (collection instanceof PriorityQueue) {
+            return ((PriorityQueue<?>) collection).comparator();
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the collection or map to be populated for a copy
+     * created by {@link #allocateCollection(Object, Class)}.
+     * For views, that is the wrapped collection.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T unwrap(final Object copy) {
+        final Object wrapped = collectionViews.get(copy);
+        return (T) (wrapped == null ? copy : wrapped);
+    }
+
+    /**
+     * Copies a JDK object which isn't a collection.
+     * Since the internals of JDK classes aren't accessible by reflection,
+     * serializable objects (such as {@link Random} and {@link Calendar})
+     * are copied by serialization. Just the standard streams are shared.
+     * @throws UnsupportedOperationException when the object isn't serializable
+     */
+    private Object copyJdkObject(final Object original) {
+        if (original == System.out || original == System.err || original == System.in) {
+            return original;
+        }
+
+        if (original instanceof Channel) {
+            throw new UnsupportedOperationException("Cannot fork a simulation holding an open " + original.getClass().getName());
+        }
+
+        if (!(original instanceof Serializable)) {
+            throw new UnsupportedOperationException(
+                "Cannot fork a simulation holding a non-serializable " + original.getClass().getName());
+        }
+
+        return copyBySerialization(original);
+    }
+
+    private static Object copyBySerialization(final Object original) {
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(original);
+            }
+
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return in.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new UnsupportedOperationException("Cannot fork a " + original.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Creates a new instance of a capturing lambda, with copies of the captured values.
+     * @throws UnsupportedOperationException when the lambda can't be instantiated or its captured
+     *                                       values can't be read (such as for capturing lambdas created inside JDK classes)
+     */
+    private Object copyLambda(final Object original, final Class<?> klass) {
+        if (isJdkClass(klass)) {
+            if (Arrays.stream(klass.getDeclaredFields()).anyMatch(field -> !Modifier.isStatic(field.getModifiers()))) {
+                throw new UnsupportedOperationException(
+                    "Cannot fork a capturing lambda created inside the JDK: " + klass.getName());
+            }
+
+            return original;
+        }
+
+        final Field[] fields = getInstanceFields(klass);
+        if (fields.length == 0) {
+            return original;
+        }
+
+        try {
+            final Object[] args = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                args[i] = copy(fields[i].get(original));
+            }
+
+            final Constructor<?> constructor = klass.getDeclaredConstructors()[0];
+            constructor.setAccessible(true);
+            return constructor.newInstance(args);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new UnsupportedOperationException("Cannot fork the lambda " + klass.getName(), e);
+        }
+    }
+
+    /**
+     * Gets the non-static fields of a class and its superclasses,
+     * in the order they are declared.
+     * Fields inherited from JDK classes (such as the {@code modCount} of an {@link AbstractList}) are
+     * not accessible and are left with their default values.
+     */
+    private Field[] getInstanceFields(final Class<?> klass) {
+        final Field[] cached = fieldsCache.get(klass);
+        if (cached != null) {
+            return cached;
+        }
+
+        final List<Field> fields = new ArrayList<>();
+        for (Class<?> current = klass; current != null && !isJdkClass(current); current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+
+        final Field[] result = fields.toArray(new Field[0]);
+        fieldsCache.put(klass, result);
+        return result;
+    }
+
+    /**
+     * Adds the values of the static fields of a class, its superclasses and interfaces
+     * to the set of objects that must be shared with the copy.
+     */
+    private void registerStaticValuesAsShared(final Class<?> klass) {
+        if (klass == null || isJdkClass(klass) || !visitedClasses.add(klass)) {
+            return;
+        }
+
+        for (final Field field : klass.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                try {
+                    field.setAccessible(true);
+                    final Object value = field.get(null);
+                    if (value != null) {
+                        shared.add(value);
+                    }
+                } catch (IllegalAccessException | RuntimeException ignored) {
+                    //the field is kept out of the shared set
+                }
+            }
+        }
+
+        registerStaticValuesAsShared(klass.getSuperclass());
+        for (final Class<?> anInterface : klass.getInterfaces()) {
+            registerStaticValuesAsShared(anInterface);
+        }
+    }
+
+    /**
+     * Gets the first JDK class in the hierarchy of a given class (which may be the class itself).
+     */
+    private static Class<?> getJdkSuperclass(final Class<?> klass) {
+        Class<?> current = klass;
+        while (!isJdkClass(current)) {
+            current = current.getSuperclass();
+        }
+
+        return current;
+    }
+
+    /**
+     * Checks if a JDK class doesn't store any relevant state, so that the fields of its subclasses
+     * store all the state of their objects.
+     * That is the case of {@link Object} and of skeletal implementations such as {@link AbstractList}.
+     */
+    private static boolean isStatelessJdkClass(final Class<?> jdkClass) {
+        return jdkClass == Object.class || jdkClass.getName().startsWith("java.util.Abstract");
+    }
+
+    private static boolean isCollection(final Object object) {
+        return object instanceof Collection || object instanceof Map;
+    }
+
+    private static boolean isImmutable(final Object object) {
+        return object instanceof String || object instanceof Integer || object instanceof Long ||
+               object instanceof Double || object instanceof Float || object instanceof Short ||
+               object instanceof Byte || object instanceof java.math.BigInteger || object instanceof java.math.BigDecimal ||
+               object instanceof Boolean || object instanceof Character ||
+               object instanceof Enum || object instanceof Class ||
+               object instanceof java.time.temporal.TemporalAccessor ||
+               isEmptyImmutableCollection(object);
+    }
+
+    private static boolean isEmptyImmutableCollection(final Object object) {
+        final boolean empty = object instanceof Collection && ((Collection<?>) object).isEmpty() ||
+                              object instanceof Map && ((Map<?, ?>) object).isEmpty();
+        if (!empty || !isJdkClass(object.getClass())) {
+            return false;
+        }
+
+        final String name = object.getClass().getName();
+        return name.contains("Empty") || name.contains("Immutable");
+    }
+
+    private static boolean isJdkClass(final Class<?> klass) {
+        final String name = klass.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
+    private static boolean isLambda(final Class<?> klass) {
+        return klass.isSynthetic() && klass.getName().contains("$$Lambda");
+    }
+
+    private static boolean isLogger(final Class<?> klass) {
+        final String name = klass.getName();
+        return name.startsWith("org.slf4j.") || name.startsWith("ch.qos.logback.") || name.startsWith("org.apache.logging.");
+    }
+}
@@ -29,6 +29,7 @@ final class SimulationNull implements Simulation {
     }
     @Override public double clock() { return 0.0; }
     @Override public String clockStr() { return ""; }
+    @Override public boolean isSilent() { return false; }
     @Override public double clockInMinutes() { return 0.0; }
     @Override public double clockInHours() { return 0.0; }
     @Override public SimEvent findFirstDeferred(SimEntity dest, Predicate<SimEvent> predicate) { return SimEvent.NULL; }
@@ -52,6 +53,10 @@ final class SimulationNull implements Simulation {
         return this;
     }
     @Override public Simulation addOnSimulationStartListener(EventListener<EventInfo> listener) { return this; }
+    @Override public Simulation addOnSimulationFinishListener(EventListener<EventInfo> listener) { return this; }
+    @Override public boolean removeOnSimulationFinishListener(EventListener<EventInfo> listener) {
+        return false;
+    }
     @Override public boolean removeOnSimulationPauseListener(EventListener<EventInfo> listener) {
         return false;
     }
@@ -0,0 +1,350 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.util.ExecutionTimeMeasurer;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Collects performance metrics about the execution of a {@link CloudSim} simulation,
+ * to show where the simulation (wall-clock) time goes.
+ * It records, for every {@link CloudSimTags tag} and for every entity class,
+ * the number of events processed by entities and the time spent processing them,
+ * the size of the future event queue along the simulation
+ * and the hit rate of lookups into the deferred event queue.
+ *
+ * <p>The profiler is disabled by default and can be enabled by calling
+ * {@link CloudSim#enableProfiler()} before starting the simulation.
+ * When it's disabled, the simulation just performs a null check for each event.
+ * When the simulation finishes, a summary {@link #getReport() report} is logged.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+public final class SimulationProfiler {
+    /** The default number of processed events between two samples of the future queue size. */
+    public static final int DEFAULT_QUEUE_SAMPLING_INTERVAL = 1000;
+
+    /** The maximum number of rows printed for each table in the {@link #getReport() report}. */
+    private static final int MAX_REPORT_ROWS = 15;
+
+    private static final Map<Integer, String> TAG_NAMES = tagNames();
+
+    /**
+     * The event counter and processing time for a tag or entity class.
+     */
+    private static final class Counter {
+        private long events;
+        private long nanos;
+    }
+
+    /** A counter for tags and entity classes without any processed event. */
+    private static final Counter NO_EVENTS = new Counter();
+
+    private final Map<Integer, Counter> tagCounters;
+    private final Map<Class<?>, Counter> entityCounters;
+    private final String executionTimeName;
+    private long totalEvents;
+    private long totalNanos;
+    private int queueSamplingInterval;
+    private long dispatchedEvents;
+    private double[] queueSampleTimes;
+    private int[] queueSampleSizes;
+    private int queueSamples;
+    private int maxFutureQueueSize;
+    private long deferredLookups;
+    private long deferredHits;
+    private double wallClockSeconds;
+
+    SimulationProfiler() {
+        this.tagCounters = new HashMap<>();
+        this.entityCounters = new HashMap<>();
+        this.queueSamplingInterval = DEFAULT_QUEUE_SAMPLING_INTERVAL;
+        this.queueSampleTimes = new double[64];
+        this.queueSampleSizes = new int[64];
+        this.executionTimeName = SimulationProfiler.class.getSimpleName() + '@' + System.identityHashCode(this);
+        this.wallClockSeconds = -1;
+    }
+
+    private static Map<Integer, String> tagNames() {
+        final Map<Integer, String> names = new HashMap<>();
+        for (final Field field : CloudSimTags.class.getFields()) {
+            if (field.getType() == int.class && Modifier.isStatic(field.getModifiers())) {
+                try {
+                    names.merge(field.getInt(null), field.getName(), (a, b) -> a + '/' + b);
+                } catch (IllegalAccessException ignored) {
+                    //public fields are always accessible
+                }
+            }
+        }
+
+        return names;
+    }
+
+    /**
+     * Starts measuring the wall-clock time of the simulation run.
+     */
+    void start() {
+        ExecutionTimeMeasurer.start(executionTimeName);
+    }
+
+    /**
+     * Finishes measuring the wall-clock time of the simulation run.
+     */
+    void finish() {
+        if (wallClockSeconds < 0) {
+            wallClockSeconds = ExecutionTimeMeasurer.end(executionTimeName);
+        }
+    }
+
+    /**
+     * Records the processing of an event by an entity.
+     * @param entity the entity that processed the event
+     * @param evt the processed event
+     * @param nanos the wall-clock time spent processing the event (in nanoseconds)
+     */
+    void eventProcessed(final SimEntity entity, final SimEvent evt, final long nanos) {
+        totalEvents++;
+        totalNanos += nanos;
+        add(tagCounters.computeIfAbsent(evt.getTag(), tag -> new Counter()), nanos);
+        add(entityCounters.computeIfAbsent(entity.getClass(), klass -> new Counter()), nanos);
+    }
+
+    private static void add(final Counter counter, final long nanos) {
+        counter.events++;
+        counter.nanos += nanos;
+    }
+
+    /**
+     * Records an event dispatched by the simulation,
+     * sampling the size of the future event queue every {@link #getQueueSamplingInterval()} events.
+     * @param time the current simulation time
+     * @param futureQueueSize the current size of the future queue
+     */
+    void eventDispatched(final double time, final int futureQueueSize) {
+        maxFutureQueueSize = Math.max(maxFutureQueueSize, futureQueueSize);
+        if (dispatchedEvents++ % queueSamplingInterval != 0) {
+            return;
+        }
+
+        if (queueSamples == queueSampleTimes.length) {
+            queueSampleTimes = Arrays.copyOf(queueSampleTimes, queueSamples * 2);
+            queueSampleSizes = Arrays.copyOf(queueSampleSizes, queueSamples * 2);
+        }
+
+        queueSampleTimes[queueSamples] = time;
+        queueSampleSizes[queueSamples++] = futureQueueSize;
+    }
+
+    /**
+     * Records a lookup for an event into the deferred queue.
+     * @param hit true if a matching event was found, false otherwise
+     */
+    void deferredLookup(final boolean hit) {
+        deferredLookups++;
+        if (hit) {
+            deferredHits++;
+        }
+    }
+
+    /**
+     * Gets the number of processed events between two samples of the future queue size.
+     * @return
+     */
+    public int getQueueSamplingInterval() {
+        return queueSamplingInterval;
+    }
+
+    /**
+     * Sets the number of processed events between two samples of the future queue size.
+     * @param queueSamplingInterval the sampling interval to set (in number of events)
+     * @return
+     */
+    public SimulationProfiler setQueueSamplingInterval(final int queueSamplingInterval) {
+        if (queueSamplingInterval <= 0) {
+            throw new IllegalArgumentException("Sampling interval must be positive.");
+        }
+
+        this.queueSamplingInterval = queueSamplingInterval;
+        return this;
+    }
+
+    /**
+     * Gets the total number of events processed by entities.
+     * @return
+     */
+    public long getEventsNumber() {
+        return totalEvents;
+    }
+
+    /**
+     * Gets the total wall-clock time entities spent processing events (in nanoseconds).
+     * @return
+     */
+    public long getProcessingNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Gets the number of events with a given tag processed by entities.
+     * @param tag the {@link CloudSimTags tag} of the events
+     * @return
+     */
+    public long getEventsNumber(final int tag) {
+        return tagCounters.getOrDefault(tag, NO_EVENTS).events;
+    }
+
+    /**
+     * Gets the wall-clock time entities spent processing events with a given tag (in nanoseconds).
+     * @param tag the {@link CloudSimTags tag} of the events
+     * @return
+     */
+    public long getProcessingNanos(final int tag) {
+        return tagCounters.getOrDefault(tag, NO_EVENTS).nanos;
+    }
+
+    /**
+     * Gets the number of events processed by entities of a given class.
+     * @param entityClass the class of the entities
+     * @return
+     */
+    public long getEventsNumber(final Class<? extends SimEntity> entityClass) {
+        return entityCounters.getOrDefault(entityClass, NO_EVENTS).events;
+    }
+
+    /**
+     * Gets the wall-clock time entities of a given class spent processing events (in nanoseconds).
+     * @param entityClass the class of the entities
+     * @return
+     */
+    public long getProcessingNanos(final Class<? extends SimEntity> entityClass) {
+        return entityCounters.getOrDefault(entityClass, NO_EVENTS).nanos;
+    }
+
+    /**
+     * Gets the maximum size the future event queue has reached.
+     * @return
+     */
+    public int getMaxFutureQueueSize() {
+        return maxFutureQueueSize;
+    }
+
+    /**
+     * Gets the number of collected samples of the future queue size.
+     * @return
+     * @see #getQueueSamplingInterval()
+     */
+    public int getFutureQueueSamplesNumber() {
+        return queueSamples;
+    }
+
+    /**
+     * Gets the simulation time a given sample of the future queue size was collected.
+     * @param index the index of the sample
+     * @return
+     */
+    public double getFutureQueueSampleTime(final int index) {
+        Objects.checkIndex(index, queueSamples);
+        return queueSampleTimes[index];
+    }
+
+    /**
+     * Gets the size of the future queue at a given sample.
+     * @param index the index of the sample
+     * @return
+     */
+    public int getFutureQueueSampleSize(final int index) {
+        Objects.checkIndex(index, queueSamples);
+        return queueSampleSizes[index];
+    }
+
+    /**
+     * Gets the number of times entities looked up the deferred queue for an event.
+     * @return
+     */
+    public long getDeferredQueueLookups() {
+        return deferredLookups;
+    }
+
+    /**
+     * Gets the percentage of lookups into the deferred queue that found a matching event,
+     * in scale from 0 to 1.
+     * @return
+     */
+    public double getDeferredQueueHitRate() {
+        return deferredLookups == 0 ? 0 : deferredHits / (double) deferredLookups;
+    }
+
+    /**
+     * Gets the wall-clock time the simulation took to run (in seconds),
+     * measured by the {@link ExecutionTimeMeasurer}.
+     * @return the simulation run time or -1 if the simulation has not finished yet
+     */
+    public double getWallClockSeconds() {
+        return wallClockSeconds;
+    }
+
+    /**
+     * Gets a summary report of the collected metrics.
+     * @return
+     */
+    public String getReport() {
+        final String nl = System.lineSeparator();
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format("Simulation profile: %d events processed by entities in %.3f seconds", totalEvents, totalNanos / 1e9));
+        if (wallClockSeconds >= 0) {
+            report.append(String.format(" (simulation run time: %.3f seconds)", wallClockSeconds));
+        }
+
+        report.append(nl);
+        appendTable(report, "Tag", tagCounters, tag -> TAG_NAMES.getOrDefault(tag, "") + " (" + tag + ')');
+        appendTable(report, "Entity class", entityCounters, Class::getSimpleName);
+        report.append(String.format("  Future queue: max size %d, %d samples (one every %d events)%n",
+                                    maxFutureQueueSize, queueSamples, queueSamplingInterval));
+        report.append(String.format("  Deferred queue: %d lookups, %.2f%% hit rate%n",
+                                    deferredLookups, getDeferredQueueHitRate() * 100));
+        return report.toString();
+    }
+
+    private <K> void appendTable(
+        final StringBuilder report, final String title,
+        final Map<K, Counter> counters, final Function<K, String> nameFunction)
+    {
+        report.append(String.format("  %-48s %12s %12s %12s %7s%n", title, "Events", "Time (ms)", "Avg (us)", "Time %"));
+        counters.entrySet()
+                .stream()
+                .sorted((a, b) -> Long.compare(b.getValue().nanos, a.getValue().nanos))
+                .limit(MAX_REPORT_ROWS)
+                .forEach(entry -> {
+                    final Counter counter = entry.getValue();
+                    report.append(String.format("  %-48s %12d %12.3f %12.3f %6.2f%%%n",
+                        nameFunction.apply(entry.getKey()), counter.events, counter.nanos / 1e6,
+                        counter.nanos / 1e3 / counter.events, totalNanos == 0 ? 0 : counter.nanos * 100.0 / totalNanos));
+                });
+    }
+}
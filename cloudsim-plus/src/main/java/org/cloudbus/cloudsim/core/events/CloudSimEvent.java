@@ -29,12 +29,12 @@ public final class CloudSimEvent implements SimEvent {
      */
     private Simulation simulation;
 
-    private final Type type;
+    private Type type;
 
     /**
      * The actual simulation time that this event was scheduled to (at which it should occur).
      */
-    private final double time;
+    private double time;
 
     /**
      * Time that the event was removed from the queue to start service.
@@ -51,15 +51,30 @@ public final class CloudSimEvent implements SimEvent {
      */
     private SimEntity dest;
 
-    private final int tag;
+    private int tag;
 
-    private final Object data;
+    private Object data;
 
     /**
      * @see #getSerial()
      */
     private long serial = -1;
 
+    /**
+     * Indicates if this event was created by a {@link CloudSimEventPool}
+     * and can be recycled after it's processed.
+     */
+    boolean pooled;
+
+    /**
+     * Indicates if this event was already delivered to its destination entity.
+     * @see CloudSimEventPool#delivered(SimEvent)
+     */
+    boolean delivered;
+
+    /** @see #retain() */
+    private boolean retained;
+
     /**
      * Creates a {@link Type#SEND} CloudSimEvent.
      * @param delay how many seconds after the current simulation time the event should be scheduled
@@ -137,13 +152,15 @@ public final class CloudSimEvent implements SimEvent {
 
     /**
      * Creates a CloudSimEvent cloning another given one.
+     * The clone keeps the time of the original event and is never recycled
+     * by a {@link CloudSimEventPool}, so that it can be safely stored.
      *
      * @param src the event to clone
+     * @see #retain()
      */
     public CloudSimEvent(final SimEvent src) {
-        this(
-            src.getType(), src.getTime(),
-            src.getSource(), src.getDestination(), src.getTag(), src.getData());
+        init(src.getType(), src.getTime(), src.getSource(), src.getDestination(), src.getTag(), src.getData());
+        this.endWaitingTime = src.getEndWaitingTime();
     }
 
     /**
@@ -164,13 +181,59 @@ public final class CloudSimEvent implements SimEvent {
             throw new IllegalArgumentException("Delay can't be negative.");
         }
 
+        init(type, src.getSimulation().clock() + delay, src, dest, tag, data);
+    }
+
+    /**
+     * Sets the attributes of this event, which is used both to create a new event
+     * and to reuse a recycled one.
+     *
+     * @param type the internal type of the event
+     * @param time the absolute simulation time the event is scheduled to
+     * @param src the source entity which is sending the message
+     * @param dest the destination entity which has to receive the message
+     * @param tag the tag that identifies the type of the message
+     * @param data the data attached to the message
+     * @return this event
+     */
+    CloudSimEvent init(
+        final Type type, final double time,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
         this.type = type;
         this.setSource(src);
         this.setDestination(dest);
         this.setSimulation(src.getSimulation());
-        this.time = simulation.clock() + delay;
+        this.time = time;
         this.tag = tag;
         this.data = data;
+        this.serial = -1;
+        this.endWaitingTime = 0;
+        this.delivered = false;
+        this.retained = false;
+        return this;
+    }
+
+    /**
+     * Clears the references held by this event when it's recycled,
+     * so that they can be garbage collected while the event is idle in the pool.
+     */
+    void clear() {
+        this.src = SimEntity.NULL;
+        this.dest = SimEntity.NULL;
+        this.data = null;
+    }
+
+    @Override
+    public SimEvent retain() {
+        this.retained = true;
+        return this;
+    }
+
+    @Override
+    public boolean isRetained() {
+        return retained;
     }
 
     @Override
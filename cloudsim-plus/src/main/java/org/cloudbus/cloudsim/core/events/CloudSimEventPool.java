@@ -0,0 +1,149 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A pool of {@link CloudSimEvent}s that recycles events after they are processed
+ * by their destination entity, reducing the allocation rate and the garbage collection
+ * pressure on simulations with a huge number of events.
+ * It's enabled by {@link CloudSim#enableEventPooling()}.
+ *
+ * <p>Only events created by the pool are recycled.
+ * An event is not recycled if it was {@link SimEvent#retain() retained}
+ * or if it was sent again after being delivered (for instance, when an entity forwards a received event).
+ * Events created by user code with the {@link CloudSimEvent} constructors are never recycled.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+public final class CloudSimEventPool {
+    private final Deque<CloudSimEvent> freeEvents = new ArrayDeque<>();
+
+    /** @see #getCreatedEvents() */
+    private long createdEvents;
+
+    /** @see #getReusedEvents() */
+    private long reusedEvents;
+
+    /**
+     * Gets a {@link SimEvent.Type#SEND} event from the pool,
+     * creating a new one if the pool is empty.
+     *
+     * @param delay how many seconds after the current simulation time the event should be scheduled
+     * @param src the source entity which is sending the message
+     * @param dest the destination entity which has to receive the message
+     * @param tag the tag that identifies the type of the message
+     * @param data the data attached to the message, that depends on the message tag
+     * @return the event
+     */
+    public CloudSimEvent acquire(final double delay, final SimEntity src, final SimEntity dest, final int tag, final Object data) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("Delay can't be negative.");
+        }
+
+        final CloudSimEvent evt = freeEvents.pollFirst();
+        if(evt == null) {
+            createdEvents++;
+            final CloudSimEvent newEvent = new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data);
+            newEvent.pooled = true;
+            return newEvent;
+        }
+
+        reusedEvents++;
+        return evt.init(SimEvent.Type.SEND, src.getSimulation().clock() + delay, src, dest, tag, data);
+    }
+
+    /**
+     * Notifies that an event was delivered to its destination entity.
+     * @param evt the delivered event
+     */
+    public void delivered(final SimEvent evt) {
+        if(evt instanceof CloudSimEvent) {
+            ((CloudSimEvent) evt).delivered = true;
+        }
+    }
+
+    /**
+     * Notifies that an event is being sent. If it was already delivered,
+     * some entity is forwarding it, therefore it won't be recycled.
+     * @param evt the event being sent
+     */
+    public void sending(final SimEvent evt) {
+        if(evt instanceof CloudSimEvent && ((CloudSimEvent) evt).delivered) {
+            evt.retain();
+        }
+    }
+
+    /**
+     * Returns an event to the pool after it was processed by its destination entity,
+     * if it was created by the pool and wasn't retained.
+     *
+     * @param evt the processed event
+     * @return true if the event was recycled, false otherwise
+     */
+    public boolean release(final SimEvent evt) {
+        if(!(evt instanceof CloudSimEvent)) {
+            return false;
+        }
+
+        final CloudSimEvent cloudSimEvent = (CloudSimEvent) evt;
+        if(!cloudSimEvent.pooled || !cloudSimEvent.delivered || cloudSimEvent.isRetained()) {
+            return false;
+        }
+
+        cloudSimEvent.clear();
+        cloudSimEvent.delivered = false;
+        freeEvents.addFirst(cloudSimEvent);
+        return true;
+    }
+
+    /**
+     * Gets the number of events the pool had to create because there was no free event to reuse.
+     * @return
+     */
+    public long getCreatedEvents() {
+        return createdEvents;
+    }
+
+    /**
+     * Gets the number of times a recycled event was reused.
+     * @return
+     */
+    public long getReusedEvents() {
+        return reusedEvents;
+    }
+
+    /**
+     * Gets the number of recycled events currently waiting to be reused.
+     * @return
+     */
+    public int getFreeEvents() {
+        return freeEvents.size();
+    }
+}
@@ -135,5 +135,32 @@ public interface SimEvent extends Comparable<SimEvent>, EventInfo {
      */
     Simulation getSimulation();
 
+    /**
+     * Marks this event as retained, indicating that user code is keeping a reference to it
+     * (for instance, storing it into a collection or sending it again),
+     * so that it will never be recycled when {@link org.cloudbus.cloudsim.core.CloudSim#enableEventPooling() event pooling}
+     * is enabled. Events which aren't retained must not be used
+     * after the {@link org.cloudbus.cloudsim.core.SimEntity#processEvent(SimEvent)}
+     * or {@link org.cloudbus.cloudsim.core.Simulation#addOnEventProcessingListener(EventListener) listener}
+     * that received them returns.
+     * Alternatively, a copy of the event can be created using {@link CloudSimEvent#CloudSimEvent(SimEvent)}.
+     *
+     * <p>Just {@link CloudSimEvent}s are pooled. Since events from other implementations
+     * are never recycled, the default implementation does nothing.</p>
+     *
+     * @return this event
+     */
+    default SimEvent retain() {
+        return this;
+    }
+
+    /**
+     * Checks if this event was {@link #retain() retained} by user code.
+     * @return true if the event is retained, false otherwise (the default)
+     */
+    default boolean isRetained() {
+        return false;
+    }
+
     @Override int compareTo(SimEvent evt);
 }
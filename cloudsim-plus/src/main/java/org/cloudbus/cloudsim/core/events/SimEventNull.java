@@ -46,6 +46,8 @@ final class SimEventNull implements SimEvent {
         return 0;
     }
     @Override public void setSerial(long serial) {/**/}
+    @Override public SimEvent retain() { return this; }
+    @Override public boolean isRetained() { return false; }
     @Override public Simulation getSimulation() {
         return Simulation.NULL;
     }
@@ -15,6 +15,7 @@ import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.power.models.PowerAware;
 import org.cloudbus.cloudsim.power.models.PowerModel;
 import org.cloudbus.cloudsim.resources.DatacenterStorage;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.HostEventInfo;
@@ -259,6 +260,39 @@ public interface Datacenter extends SimEntity, PowerAware, TimeZoned {
      */
     Datacenter disableMigrations();
 
+    /**
+     * Checks if the analytic processing of Cloudlets is enabled.
+     * In such a mode, the processing of Cloudlets is updated just when some state change
+     * is expected (such as a Cloudlet completion or a change in its resource utilization),
+     * instead of at every {@link #getSchedulingInterval() scheduling interval}.
+     * It avoids updating all running Cloudlets at time instants where nothing changes.
+     *
+     * <p>The {@link #getSchedulingInterval() scheduling interval} is just used to sample the utilization of
+     * Cloudlets whose {@link UtilizationModel} cannot predict when the utilization changes
+     * (see {@link UtilizationModel#getNextUtilizationChangeTime(double)}).</p>
+     *
+     * @return true if the analytic processing is enabled; false otherwise
+     */
+    boolean isAnalyticProcessingEnabled();
+
+    /**
+     * Enables the analytic processing of Cloudlets.
+     *
+     * @return
+     * @see #isAnalyticProcessingEnabled()
+     */
+    Datacenter enableAnalyticProcessing();
+
+    /**
+     * Disables the analytic processing of Cloudlets,
+     * making their processing to be updated at every {@link #getSchedulingInterval() scheduling interval}
+     * (if it's set).
+     *
+     * @return
+     * @see #isAnalyticProcessingEnabled()
+     */
+    Datacenter disableAnalyticProcessing();
+
     /**
      * Sets a {@link DatacenterPowerSupply} to enable computing the Datacenter's power consumption,
      * based on the consumption of its {@link Host}s.
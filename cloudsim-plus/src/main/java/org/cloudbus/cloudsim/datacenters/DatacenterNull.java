@@ -49,6 +49,9 @@ final class DatacenterNull implements Datacenter, SimEntityNullBase {
     @Override public boolean isMigrationsEnabled() { return false; }
     @Override public Datacenter enableMigrations() { return this; }
     @Override public Datacenter disableMigrations() { return this; }
+    @Override public boolean isAnalyticProcessingEnabled() { return false; }
+    @Override public Datacenter enableAnalyticProcessing() { return this; }
+    @Override public Datacenter disableAnalyticProcessing() { return this; }
     @Override public void setPowerSupply(DatacenterPowerSupply powerSupply) {}
     @Override public DatacenterPowerSupply getPowerSupply() { return DatacenterPowerSupply.NULL; }
 
@@ -24,8 +24,10 @@ import org.cloudbus.cloudsim.util.MathUtil;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 import org.cloudsimplus.faultinjection.HostFaultInjection;
+import org.cloudsimplus.jfr.HostsUpdateEvent;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.HostEventInfo;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,6 +58,15 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      */
     private boolean migrationsEnabled;
 
+    /** @see #isAnalyticProcessingEnabled() */
+    private boolean analyticProcessingEnabled;
+
+    /**
+     * The time of the last {@link CloudSimTags#VM_UPDATE_CLOUDLET_PROCESSING} event
+     * scheduled when the {@link #isAnalyticProcessingEnabled() analytic processing} is enabled.
+     */
+    private double nextCloudletProcessingUpdateTime;
+
     private List<? extends Host> hostList;
 
     /** @see #getCharacteristics() */
@@ -199,7 +210,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             return;
         }
 
-        LOGGER.trace("{}: {}: Unknown event {} received.", getSimulation().clockStr(), this, evt.getTag());
+        if(Log.isTraceEnabled(LOGGER, getSimulation())) {
+            LOGGER.trace("{}: {}: Unknown event {} received.", getSimulation().clockStr(), this, evt.getTag());
+        }
     }
 
     private boolean processHostEvents(final SimEvent evt) {
@@ -221,9 +234,11 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     private void processHostAdditionRequest(final SimEvent evt) {
         getHostFromHostEvent(evt).ifPresent(host -> {
             this.addHost(host);
-            LOGGER.info(
-                "{}: {}: Host {} added to {} during simulation runtime",
-                getSimulation().clockStr(), getClass().getSimpleName(), host.getId(), this);
+            if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+                LOGGER.info(
+                    "{}: {}: Host {} added to {} during simulation runtime",
+                    getSimulation().clockStr(), getClass().getSimpleName(), host.getId(), this);
+            }
             //Notification must be sent only for Hosts added during simulation runtime
             notifyOnHostAvailableListeners(host);
         });
@@ -237,9 +252,11 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         final long hostId = (long)srcEvt.getData();
         final Host host = getHostById(hostId);
         if(host == Host.NULL) {
-            LOGGER.warn(
-                "{}: {}: Host {} was not found to be removed from {}.",
-                getSimulation().clockStr(), getClass().getSimpleName(), hostId, this);
+            if(Log.isWarnEnabled(LOGGER, getSimulation())) {
+                LOGGER.warn(
+                    "{}: {}: Host {} was not found to be removed from {}.",
+                    getSimulation().clockStr(), getClass().getSimpleName(), hostId, this);
+            }
             return;
         }
 
@@ -288,6 +305,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             case CloudSimTags.VM_CREATE_ACK:
                 processVmCreate(evt);
                 return true;
+            case CloudSimTags.VM_CREATE_BULK_ACK:
+                processVmCreateBulk(evt);
+                return true;
             case CloudSimTags.VM_VERTICAL_SCALING:
                 requestVmVerticalScaling(evt);
                 return true;
@@ -336,6 +356,14 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             case CloudSimTags.CLOUDLET_SUBMIT_ACK:
                 processCloudletSubmit(evt, true);
                 return true;
+            // A list of new Cloudlets arrives at once
+            case CloudSimTags.CLOUDLET_SUBMIT_BULK:
+                processCloudletSubmitBulk(evt, false);
+                return true;
+            // A list of new Cloudlets arrives at once, but the sender asks for a single ack
+            case CloudSimTags.CLOUDLET_SUBMIT_BULK_ACK:
+                processCloudletSubmitBulk(evt, true);
+                return true;
             // Cancels a previously submitted Cloudlet
             case CloudSimTags.CLOUDLET_CANCEL:
                 processCloudlet(evt, CloudSimTags.CLOUDLET_CANCEL);
@@ -409,14 +437,21 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
                 processCloudletResume(cloudlet, true);
                 break;
             default:
-                LOGGER.trace(
-                    "{}: Unable to handle a request from {} with event tag = {}",
-                    this, evt.getSource().getName(), evt.getTag());
+                if(Log.isTraceEnabled(LOGGER, getSimulation())) {
+                    LOGGER.trace(
+                        "{}: Unable to handle a request from {} with event tag = {}",
+                        this, evt.getSource().getName(), evt.getTag());
+                }
 
         }
     }
     /**
-     * Processes the submission of a Cloudlet by a DatacenterBroker.
+     * Processes the submission of a single Cloudlet by a DatacenterBroker.
+     *
+     * <p>Brokers usually submit their Cloudlets in a list,
+     * which is processed by {@link #processCloudletSubmitBulk(SimEvent, boolean)} instead.
+     * To customize the submission of every Cloudlet, whatever the way it was submitted,
+     * override {@link #submitCloudletToVm(Cloudlet)}.</p>
      *
      * @param evt information about the event just happened
      * @param ack indicates if the event's sender expects to receive an
@@ -429,32 +464,98 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             return;
         }
 
+        final double nextUpdateDelay = submitCloudletToVm(cloudlet);
+        if (nextUpdateDelay != Double.MAX_VALUE) {
+            scheduleCloudletProcessingUpdate(nextUpdateDelay);
+        }
+
+        sendCloudletSubmitAckToBroker(cloudlet, ack);
+    }
+
+    /**
+     * Processes the event for a Broker which wants to submit a list of Cloudlets at once
+     * to this Datacenter. Each Cloudlet is submitted to its VM by {@link #submitCloudletToVm(Cloudlet)},
+     * just as in {@link #processCloudletSubmit(SimEvent, boolean)},
+     * but Cloudlets whose processing has to be updated at the same time
+     * share a single update event.
+     * If an ack is requested, this Datacenter sends a single acknowledgement
+     * back to the Broker, containing the same list of Cloudlets.
+     *
+     * @param evt information about the event just happened
+     * @param ack indicates if the event's sender expects to receive an
+     * acknowledge message when the event finishes to be processed
+     * @see CloudSimTags#CLOUDLET_SUBMIT_BULK
+     */
+    protected void processCloudletSubmitBulk(final SimEvent evt, final boolean ack) {
+        //The CLOUDLET_SUBMIT_BULK event is always sent with a List<Cloudlet>
+        @SuppressWarnings("unchecked")
+        final List<Cloudlet> cloudletList = (List<Cloudlet>) evt.getData();
+
+        /* The finish of a Cloudlet is just detected when the Cloudlets processing is updated.
+         * This way, an update is scheduled for each distinct delay (in the order they are found),
+         * instead of the earliest one only. */
+        final Set<Double> updateDelays = new LinkedHashSet<>();
+        for (final Cloudlet cloudlet : cloudletList) {
+            if (cloudlet.isFinished()) {
+                notifyBrokerAboutAlreadyFinishedCloudlet(cloudlet, false);
+                continue;
+            }
+
+            final double updateDelay = submitCloudletToVm(cloudlet);
+            if (updateDelay != Double.MAX_VALUE) {
+                updateDelays.add(updateDelay);
+            }
+        }
+
+        updateDelays.forEach(this::scheduleCloudletProcessingUpdate);
+
+        if (ack && !cloudletList.isEmpty()) {
+            sendNow(cloudletList.get(0).getBroker(), CloudSimTags.CLOUDLET_SUBMIT_BULK_ACK, cloudletList);
+        }
+    }
+
+    /**
+     * Submits a cloudlet, which isn't finished yet, to be executed inside its bind VM,
+     * without scheduling the update of Cloudlets processing.
+     * It's called for every Cloudlet submitted by a broker, either
+     * {@link #processCloudletSubmit(SimEvent, boolean) individually} or
+     * {@link #processCloudletSubmitBulk(SimEvent, boolean) in a list}.
+     *
+     * @param cloudlet the cloudlet to the executed
+     * @return the delay to update the Cloudlets processing, according to the cloudlet estimated finish time,
+     *         or {@link Double#MAX_VALUE} if the cloudlet isn't in the execution queue
+     */
+    protected double submitCloudletToVm(final Cloudlet cloudlet) {
         cloudlet.assignToDatacenter(this);
-        submitCloudletToVm(cloudlet, ack);
+        return addCloudletToVm(cloudlet);
     }
 
     /**
-     * Submits a cloudlet to be executed inside its bind VM.
+     * Adds a cloudlet to the {@link CloudletScheduler} of its bind VM,
+     * without scheduling the update of Cloudlets processing.
      *
      * @param cloudlet the cloudlet to the executed
-     * @param ack indicates if the Broker is waiting for an ACK after the Datacenter
-     * receives the cloudlet submission
+     * @return the delay to update the Cloudlets processing, according to the cloudlet estimated finish time,
+     *         or {@link Double#MAX_VALUE} if the cloudlet isn't in the execution queue
+     * @see #getCloudletProcessingUpdateInterval(double)
      */
-    private void submitCloudletToVm(final Cloudlet cloudlet, final boolean ack) {
+    private double addCloudletToVm(final Cloudlet cloudlet) {
         // time to transfer cloudlet's files
-        final double fileTransferTime = getDatacenterStorage().predictFileTransferTime(cloudlet.getRequiredFiles());
+        final double fileTransferTime =
+            cloudlet.requiresFiles() ? getDatacenterStorage().predictFileTransferTime(cloudlet.getRequiredFiles()) : 0;
 
         final CloudletScheduler scheduler = cloudlet.getVm().getCloudletScheduler();
+        final double advanceDelay = advanceVmProcessing(cloudlet.getVm());
         final double estimatedFinishTime = scheduler.cloudletSubmit(cloudlet, fileTransferTime);
 
         // if this cloudlet is in the exec queue
         if (estimatedFinishTime > 0.0 && !Double.isInfinite(estimatedFinishTime)) {
-             send(this,
-                getCloudletProcessingUpdateInterval(estimatedFinishTime),
-                CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING);
+            return analyticProcessingEnabled ?
+                        nextStateChangeDelay(advanceDelay, cloudlet, estimatedFinishTime) :
+                        getCloudletProcessingUpdateInterval(estimatedFinishTime);
         }
 
-        sendCloudletSubmitAckToBroker(cloudlet, ack);
+        return Double.MAX_VALUE;
     }
 
     /**
@@ -472,7 +573,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * @see #updateCloudletProcessing()
      */
     protected double getCloudletProcessingUpdateInterval(final double nextFinishingCloudletTime){
-        if(schedulingInterval == 0) {
+        /* In analytic processing, the scheduling interval is just considered by the CloudletScheduler
+         * for Cloudlets whose utilization changes cannot be predicted. */
+        if(schedulingInterval == 0 || analyticProcessingEnabled) {
             return nextFinishingCloudletTime;
         }
 
@@ -495,13 +598,15 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * acknowledge message when the event finishes to be processed
      */
     protected void processCloudletResume(final Cloudlet cloudlet, final boolean ack) {
+        final double advanceDelay = advanceVmProcessing(cloudlet.getVm());
         final double estimatedFinishTime = cloudlet.getVm()
             .getCloudletScheduler().cloudletResume(cloudlet);
 
         if (estimatedFinishTime > 0.0 && estimatedFinishTime > getSimulation().clock()) {
-            schedule(this,
-                getCloudletProcessingUpdateInterval(estimatedFinishTime),
-                CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING);
+            scheduleCloudletProcessingUpdate(
+                analyticProcessingEnabled ?
+                    nextStateChangeDelay(advanceDelay, cloudlet, estimatedFinishTime - getSimulation().clock()) :
+                    getCloudletProcessingUpdateInterval(estimatedFinishTime));
         }
 
         sendAck(ack, cloudlet, CloudSimTags.CLOUDLET_RESUME_ACK);
@@ -521,7 +626,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * acknowledge message when the event finishes to be processed
      */
     protected void processCloudletPause(final Cloudlet cloudlet, final boolean ack) {
+        advanceVmProcessing(cloudlet.getVm());
         cloudlet.getVm().getCloudletScheduler().cloudletPause(cloudlet);
+        rescheduleVmProcessing(cloudlet.getVm());
         sendAck(ack, cloudlet, CloudSimTags.CLOUDLET_PAUSE_ACK);
     }
 
@@ -531,7 +638,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * @param cloudlet cloudlet to be canceled
      */
     protected void processCloudletCancel(final Cloudlet cloudlet) {
+        advanceVmProcessing(cloudlet.getVm());
         cloudlet.getVm().getCloudletScheduler().cloudletCancel(cloudlet);
+        rescheduleVmProcessing(cloudlet.getVm());
         sendNow(cloudlet.getBroker(), CloudSimTags.CLOUDLET_CANCEL, cloudlet);
     }
 
@@ -549,16 +658,58 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
         final boolean hostAllocatedForVm = vmAllocationPolicy.allocateHostForVm(vm);
         if (hostAllocatedForVm) {
-            vm.updateProcessing(vm.getHost().getVmScheduler().getAllocatedMips(vm));
+            updateCreatedVmProcessing(vm);
         }
 
-        /* Acknowledges that the request was received by the Datacenter,
-          (the broker is expecting that if the Vm was created or not). */
-        send(vm.getBroker(), getSimulation().getMinTimeBetweenEvents(), CloudSimTags.VM_CREATE_ACK, vm);
-
+        sendVmCreateAck(vm, CloudSimTags.VM_CREATE_ACK, vm);
         return hostAllocatedForVm;
     }
 
+    /**
+     * Process the event for a Broker which wants to create a list of VMs at once in this
+     * Datacenter. The VMs are placed by the {@link VmAllocationPolicy} in a single pass
+     * and this Datacenter will then send a single acknowledgement
+     * back to the Broker, containing the same list of VMs.
+     *
+     * @param evt information about the event just happened
+     * @see VmAllocationPolicy#allocateHostForVm(List)
+     */
+    private void processVmCreateBulk(final SimEvent evt) {
+        //The VM_CREATE_BULK_ACK event is always sent with a List<Vm>
+        @SuppressWarnings("unchecked")
+        final List<Vm> vmList = (List<Vm>) evt.getData();
+
+        final Set<Vm> failedVms = new HashSet<>(vmAllocationPolicy.allocateHostForVm(vmList));
+        for (final Vm vm : vmList) {
+            if (!failedVms.contains(vm)) {
+                updateCreatedVmProcessing(vm);
+            }
+        }
+
+        sendVmCreateAck(vmList.get(0), CloudSimTags.VM_CREATE_BULK_ACK, vmList);
+    }
+
+    /**
+     * Updates the processing of a VM just placed into a Host,
+     * so that it gets the MIPS allocated to it.
+     * @param vm the created VM
+     */
+    private void updateCreatedVmProcessing(final Vm vm) {
+        vm.updateProcessing(vm.getHost().getVmScheduler().getAllocatedMips(vm));
+    }
+
+    /**
+     * Acknowledges to the broker of a VM that a request to create VMs was received by the Datacenter
+     * (the broker is expecting that if the VMs were created or not).
+     *
+     * @param vm a VM from the creation request, used to get its broker
+     * @param tag the tag of the acknowledgement event
+     * @param data the data to send (the requested VM or list of VMs)
+     */
+    private void sendVmCreateAck(final Vm vm, final int tag, final Object data) {
+        send(vm.getBroker(), getSimulation().getMinTimeBetweenEvents(), tag, data);
+    }
+
     /**
      * Process the event sent by a Broker, requesting the destruction of a given VM
      * created in this Datacenter. This Datacenter may send, upon
@@ -576,6 +727,14 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             sendNow(vm.getBroker(), CloudSimTags.VM_DESTROY_ACK, vm);
         }
 
+        logVmDestruction(vm);
+    }
+
+    private void logVmDestruction(final Vm vm) {
+        if(!Log.isWarnEnabled(LOGGER, getSimulation())) {
+            return;
+        }
+
         final String warningMsg = generateNotFinishedCloudletsWarning(vm);
         final String msg = String.format(
                 "%s: %s: %s destroyed on %s. %s",
@@ -637,8 +796,11 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             updateHostsProcessing();
         }
 
-        if (result)
-            LOGGER.info("{}: Migration of {} to {} is completed", getSimulation().clockStr(), vm, targetHost);
+        if (result) {
+            if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+                LOGGER.info("{}: Migration of {} to {} is completed", getSimulation().clockStr(), vm, targetHost);
+            }
+        }
         else LOGGER.error("{}: {}: Allocation of {} to the destination Host failed!", getSimulation().clockStr(), this, vm);
     }
 
@@ -652,9 +814,11 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * receives the cloudlet submission
      */
     private void notifyBrokerAboutAlreadyFinishedCloudlet(final Cloudlet cloudlet, final boolean ack) {
-        LOGGER.warn(
-            "{}: {} owned by {} is already completed/finished. It won't be executed again.",
-            getName(), cloudlet, cloudlet.getBroker());
+        if(Log.isWarnEnabled(LOGGER, getSimulation())) {
+            LOGGER.warn(
+                "{}: {} owned by {} is already completed/finished. It won't be executed again.",
+                getName(), cloudlet, cloudlet.getBroker());
+        }
 
         /*
          NOTE: If a Cloudlet has finished, then it won't be processed.
@@ -698,12 +862,22 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
      */
     private double updateHostsProcessing() {
+        final HostsUpdateEvent updateEvent = new HostsUpdateEvent();
+        updateEvent.begin();
         double nextSimulationTime = Double.MAX_VALUE;
         for (final Host host : getHostList()) {
             final double time = host.updateProcessing(getSimulation().clock());
             nextSimulationTime = Math.min(time, nextSimulationTime);
         }
 
+        if (updateEvent.shouldCommit()) {
+            updateEvent.datacenter = getName();
+            updateEvent.hosts = getHostList().size();
+            updateEvent.nextUpdateDelay = nextSimulationTime;
+            updateEvent.simulationTime = getSimulation().clock();
+            updateEvent.commit();
+        }
+
         // Guarantees a minimal interval before scheduling the event
         final double minTimeBetweenEvents = getSimulation().getMinTimeBetweenEvents()+0.01;
         nextSimulationTime = nextSimulationTime == 0 ? nextSimulationTime : Math.max(nextSimulationTime, minTimeBetweenEvents);
@@ -735,17 +909,155 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             return Double.MAX_VALUE;
         }
         double nextSimulationTime = updateHostsProcessing();
+        setLastProcessTime(getSimulation().clock());
 
         if (nextSimulationTime != Double.MAX_VALUE) {
             nextSimulationTime = getCloudletProcessingUpdateInterval(nextSimulationTime);
-            schedule(nextSimulationTime, CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING);
+            scheduleCloudletProcessingUpdate(nextSimulationTime);
         }
-        setLastProcessTime(getSimulation().clock());
 
         checkIfVmMigrationsAreNeeded();
         return nextSimulationTime;
     }
 
+    /**
+     * Schedules the next update of Cloudlets processing.
+     * When the {@link #isAnalyticProcessingEnabled() analytic processing} is enabled,
+     * the update isn't scheduled if there is already a pending one at the same or an earlier time,
+     * since such an update will compute when the next state change happens.
+     *
+     * @param delay the delay (from the current simulation time) to update the processing
+     */
+    private void scheduleCloudletProcessingUpdate(final double delay) {
+        if(analyticProcessingEnabled) {
+            final double time = getSimulation().clock() + delay;
+            if(isCloudletProcessingUpdatePending() && nextCloudletProcessingUpdateTime <= time) {
+                return;
+            }
+
+            nextCloudletProcessingUpdateTime = time;
+        }
+
+        schedule(delay, CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING);
+    }
+
+    /**
+     * Checks if the last update of Cloudlets processing scheduled in analytic processing
+     * is yet to happen and won't be ignored for being too close to the previous update
+     * (see {@link #isTimeToUpdateCloudletsProcessing()}).
+     *
+     * @return true if there is a pending update; false otherwise
+     */
+    private boolean isCloudletProcessingUpdatePending() {
+        return nextCloudletProcessingUpdateTime > getSimulation().clock() &&
+               nextCloudletProcessingUpdateTime >= lastProcessTime + getSimulation().getMinTimeBetweenEvents();
+    }
+
+    /**
+     * Updates the processing of Cloudlets running inside a VM up to the current time,
+     * when the {@link #isAnalyticProcessingEnabled() analytic processing} is enabled.
+     * It must be called before changing the state of the VM Cloudlets
+     * (such as submitting or pausing a Cloudlet),
+     * so that the progress made so far is computed according to the previous state.
+     * Since the processing is not periodically updated in analytic mode,
+     * that would be computed considering the new state otherwise.
+     *
+     * @param vm the VM to update the processing of its Cloudlets
+     * @return the delay until the next expected state change of the VM Cloudlets,
+     *         before the VM state is changed; or {@link Double#MAX_VALUE} if the processing
+     *         wasn't updated now (since it was already updated at the current time
+     *         and the delay of the next update was scheduled)
+     */
+    private double advanceVmProcessing(final Vm vm) {
+        final CloudletScheduler scheduler = vm.getCloudletScheduler();
+        if(analyticProcessingEnabled && scheduler.getPreviousTime() < getSimulation().clock()) {
+            return scheduler.updateProcessing(getSimulation().clock(), vm.getHost().getVmScheduler().getAllocatedMips(vm));
+        }
+
+        return Double.MAX_VALUE;
+    }
+
+    /**
+     * Gets the delay until the next expected state change of the Cloudlets running inside a VM,
+     * after a Cloudlet was submitted to or resumed in such a VM,
+     * when the {@link #isAnalyticProcessingEnabled() analytic processing} is enabled.
+     * The delay is computed from the one got when the VM processing was
+     * {@link #advanceVmProcessing(Vm) advanced} just before that change,
+     * so that the Cloudlets processing isn't updated again at the same time.
+     *
+     * <p>Such a Cloudlet either finishes or changes its resource utilization.
+     * A new Cloudlet just reduces the resources available for the other ones,
+     * so they are not expected to change their state earlier than previously computed.
+     * If they change it later, the processing is updated earlier than required
+     * and then rescheduled.</p>
+     *
+     * @param advanceDelay the delay got when the VM processing was advanced
+     * @param cloudlet the Cloudlet submitted or resumed
+     * @param estimatedFinishDelay the delay for the Cloudlet to finish, as estimated by the {@link CloudletScheduler}
+     * @return the delay (from the current simulation time) or {@link Double#MAX_VALUE} if no change is expected
+     */
+    private double nextStateChangeDelay(final double advanceDelay, final Cloudlet cloudlet, final double estimatedFinishDelay) {
+        final double delay = Math.min(advanceDelay, Math.min(estimatedFinishDelay, nextUtilizationChangeDelay(cloudlet)));
+        return delay == Double.MAX_VALUE ? delay : Math.max(delay, getSimulation().getMinTimeBetweenEvents()+0.01);
+    }
+
+    /**
+     * Gets the delay until the resource utilization of a given Cloudlet changes.
+     * If such a change cannot be predicted, the {@link #getSchedulingInterval() scheduling interval}
+     * is used instead (if it's set), as the {@link CloudletScheduler} does.
+     *
+     * @param cloudlet the Cloudlet to get the delay of its next utilization change
+     * @return the delay (from the current simulation time) or {@link Double#MAX_VALUE} if no change is expected
+     */
+    private double nextUtilizationChangeDelay(final Cloudlet cloudlet) {
+        final double clock = getSimulation().clock();
+        final double cpuChangeTime = cloudlet.getUtilizationModelCpu().getNextUtilizationChangeTime(clock);
+        final double ramChangeTime = cloudlet.getUtilizationModelRam().getNextUtilizationChangeTime(clock);
+        final double bwChangeTime = cloudlet.getUtilizationModelBw().getNextUtilizationChangeTime(clock);
+        if(cpuChangeTime < 0 || ramChangeTime < 0 || bwChangeTime < 0) {
+            return schedulingInterval > 0 ? schedulingInterval : Double.MAX_VALUE;
+        }
+
+        final double changeTime = Math.min(cpuChangeTime, Math.min(ramChangeTime, bwChangeTime));
+        return changeTime > clock && changeTime != Double.MAX_VALUE ? changeTime - clock : Double.MAX_VALUE;
+    }
+
+    /**
+     * Schedules the next update of the Cloudlets processing after some Cloudlets stopped running
+     * inside a VM, when the {@link #isAnalyticProcessingEnabled() analytic processing} is enabled.
+     * Since the remaining Cloudlets may get more resources, they may finish
+     * earlier than previously predicted.
+     *
+     * @param vm the VM that had the state of its Cloudlets changed
+     */
+    private void rescheduleVmProcessing(final Vm vm) {
+        if(!analyticProcessingEnabled) {
+            return;
+        }
+
+        final double delay = nextVmStateChangeDelay(vm);
+        if(delay != Double.MAX_VALUE) {
+            scheduleCloudletProcessingUpdate(delay);
+        }
+    }
+
+    /**
+     * Gets the delay until the next expected state change of the Cloudlets running inside a VM,
+     * when the {@link #isAnalyticProcessingEnabled() analytic processing} is enabled.
+     * Such a change is either a Cloudlet completion or a change in the resource utilization of some Cloudlet.
+     * The estimated finish time returned when a Cloudlet is submitted or resumed
+     * doesn't consider utilization changes, so the Cloudlets processing is updated
+     * at the current time to get such a delay.
+     *
+     * @param vm the VM to get the delay of the next state change of its Cloudlets
+     * @return the delay (from the current simulation time) or {@link Double#MAX_VALUE} if no change is expected
+     */
+    private double nextVmStateChangeDelay(final Vm vm) {
+        final double delay = vm.getCloudletScheduler().updateProcessing(
+                                    getSimulation().clock(), vm.getHost().getVmScheduler().getAllocatedMips(vm));
+        return delay == Double.MAX_VALUE ? delay : Math.max(delay, getSimulation().getMinTimeBetweenEvents()+0.01);
+    }
+
     private boolean isTimeToUpdateCloudletsProcessing() {
         // if some time passed since last processing
         // R: for term is to allow loop at simulation start. Otherwise, one initial
@@ -773,10 +1085,22 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     @Override
     public void requestVmMigration(final Vm sourceVm, final Host targetHost) {
-        final String currentTime = getSimulation().clockStr();
         final Host sourceHost = sourceVm.getHost();
 
         final double delay = timeToMigrateVm(sourceVm, targetHost);
+        logVmMigrationStart(sourceVm, sourceHost, targetHost, delay);
+
+        sourceHost.addVmMigratingOut(sourceVm);
+        targetHost.addMigratingInVm(sourceVm);
+
+        send(this, delay, CloudSimTags.VM_MIGRATE, new TreeMap.SimpleEntry<>(sourceVm, targetHost));
+    }
+
+    private void logVmMigrationStart(final Vm sourceVm, final Host sourceHost, final Host targetHost, final double delay) {
+        if(!Log.isInfoEnabled(LOGGER, getSimulation())) {
+            return;
+        }
+
         final String msg1 =
             sourceHost == Host.NULL ?
                 String.format("%s to %s", sourceVm, targetHost) :
@@ -785,12 +1109,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         final String msg2 = String.format(
             "It's expected to finish in %.2f seconds, considering the %.0f%% of bandwidth allowed for migration and the VM RAM size.",
             delay, getBandwidthPercentForMigration()*100);
-        LOGGER.info("{}: {}: Migration of {} is started. {}", currentTime, getName(), msg1, msg2);
-
-        sourceHost.addVmMigratingOut(sourceVm);
-        targetHost.addMigratingInVm(sourceVm);
-
-        send(this, delay, CloudSimTags.VM_MIGRATE, new TreeMap.SimpleEntry<>(sourceVm, targetHost));
+        LOGGER.info("{}: {}: Migration of {} is started. {}", getSimulation().clockStr(), getName(), msg1, msg2);
     }
 
     /**
@@ -808,12 +1127,16 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     @Override
     public void shutdownEntity() {
         super.shutdownEntity();
-        LOGGER.info("{}: {} is shutting down...", getSimulation().clockStr(), getName());
+        if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+            LOGGER.info("{}: {} is shutting down...", getSimulation().clockStr(), getName());
+        }
     }
 
     @Override
     protected void startEntity() {
-        LOGGER.info("{} is starting...", getName());
+        if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+            LOGGER.info("{} is starting...", getName());
+        }
         sendNow(getSimulation().getCloudInfoService(), CloudSimTags.DATACENTER_REGISTRATION_REQUEST, this);
     }
 
@@ -968,6 +1291,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     @Override
     public <T extends Host> Datacenter removeHost(final T host) {
         hostList.remove(host);
+
+        //Sets the Datacenter again so that the VmAllocationPolicy is aware of the removed Host
+        vmAllocationPolicy.setDatacenter(this);
         return this;
     }
 
@@ -1044,9 +1370,11 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     @Override
     public final Datacenter enableMigrations() {
         if(!vmAllocationPolicy.isVmMigrationSupported()){
-            LOGGER.warn(
-                "{}: {}: It was requested to enable VM migrations but the {} doesn't support that.",
-                getSimulation().clockStr(), getName(), vmAllocationPolicy.getClass().getSimpleName());
+            if(Log.isWarnEnabled(LOGGER, getSimulation())) {
+                LOGGER.warn(
+                    "{}: {}: It was requested to enable VM migrations but the {} doesn't support that.",
+                    getSimulation().clockStr(), getName(), vmAllocationPolicy.getClass().getSimpleName());
+            }
             return this;
         }
 
@@ -1060,6 +1388,23 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return this;
     }
 
+    @Override
+    public boolean isAnalyticProcessingEnabled() {
+        return analyticProcessingEnabled;
+    }
+
+    @Override
+    public final Datacenter enableAnalyticProcessing() {
+        this.analyticProcessingEnabled = true;
+        return this;
+    }
+
+    @Override
+    public final Datacenter disableAnalyticProcessing() {
+        this.analyticProcessingEnabled = false;
+        return this;
+    }
+
     @Override
     public void setPowerSupply(final DatacenterPowerSupply powerSupply) {
         this.powerSupply = powerSupply == null ? DatacenterPowerSupply.NULL : powerSupply.setDatacenter(this);
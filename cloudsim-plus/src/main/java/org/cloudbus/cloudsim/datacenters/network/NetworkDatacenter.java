@@ -12,12 +12,14 @@ import org.cloudbus.cloudsim.core.Simulation;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
 import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.network.flows.FlowNetwork;
 import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
 import org.cloudbus.cloudsim.network.switches.Switch;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static java.util.stream.Collectors.toList;
 
@@ -50,6 +52,11 @@ public class NetworkDatacenter extends DatacenterSimple {
      */
     private final List<Switch> switchMap;
 
+    /**
+     * @see #getFlowNetwork()
+     */
+    private FlowNetwork flowNetwork;
+
     /**
      * Creates a NetworkDatacenter with the given parameters.
      *
@@ -100,4 +107,33 @@ public class NetworkDatacenter extends DatacenterSimple {
     public List<Switch> getSwitchMap() {
         return Collections.unmodifiableList(switchMap);
     }
+
+    /**
+     * Enables the flow-level network model, so that packets sent between VMs in different Hosts
+     * are transferred as flows sharing the bandwidth of the network links,
+     * instead of being forwarded packet-by-packet through the {@link Switch}es.
+     * The switches are still required to define the network topology,
+     * but don't process packets anymore.
+     * It must be called before starting the simulation.
+     *
+     * @return the enabled {@link FlowNetwork}
+     * @see #getFlowNetwork()
+     */
+    public FlowNetwork enableFlowNetwork() {
+        if(flowNetwork == null) {
+            flowNetwork = new FlowNetwork(this);
+        }
+
+        return flowNetwork;
+    }
+
+    /**
+     * Gets the flow-level network model, if it was enabled.
+     * @return an {@link Optional} containing the {@link FlowNetwork}
+     *         or an empty one if the packet-level simulation is being used.
+     * @see #enableFlowNetwork()
+     */
+    public Optional<FlowNetwork> getFlowNetwork() {
+        return Optional.ofNullable(flowNetwork);
+    }
 }
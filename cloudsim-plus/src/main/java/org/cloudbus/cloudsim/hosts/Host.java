@@ -21,6 +21,7 @@ import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmUtilizationHistory;
 import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.listeners.HostEventInfo;
 import org.cloudsimplus.listeners.HostUpdatesVmsProcessingEventInfo;
 
 import java.util.DoubleSummaryStatistics;
@@ -498,6 +499,28 @@ public interface Host extends Machine, Comparable<Host> {
      */
     boolean removeOnUpdateProcessingListener(EventListener<HostUpdatesVmsProcessingEventInfo> listener);
 
+    /**
+     * Adds a listener object that will be notified every time
+     * the Host is activated or deactivated, fails or recovers,
+     * or its {@link #getFreePesNumber() number of free PEs} changes
+     * (such as when a VM is created or destroyed inside it).
+     *
+     * @param listener the listener to add
+     * @return
+     * @see #setActive(boolean)
+     * @see #setFailed(boolean)
+     */
+    Host addOnStatusChangeListener(EventListener<HostEventInfo> listener);
+
+    /**
+     * Removes a listener object from the OnStatusChangeListener List.
+     *
+     * @param listener the listener to remove
+     * @return true if the listener was found and removed, false otherwise
+     * @see #addOnStatusChangeListener(EventListener)
+     */
+    boolean removeOnStatusChangeListener(EventListener<HostEventInfo> listener);
+
     /**
      * Sets the CloudSim instance that represents the simulation the Entity is related to.
      * Such attribute has to be set by the {@link Datacenter} that the host belongs to.
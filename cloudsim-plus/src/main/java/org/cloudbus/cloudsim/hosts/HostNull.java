@@ -10,6 +10,7 @@ import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.listeners.HostEventInfo;
 import org.cloudsimplus.listeners.HostUpdatesVmsProcessingEventInfo;
 
 import java.util.*;
@@ -120,6 +121,8 @@ final class HostNull implements Host {
     @Override public void destroyAllVms() {/**/}
     @Override public boolean removeOnUpdateProcessingListener(EventListener<HostUpdatesVmsProcessingEventInfo> listener) { return false; }
     @Override public Host addOnUpdateProcessingListener(EventListener<HostUpdatesVmsProcessingEventInfo> listener) { return Host.NULL; }
+    @Override public Host addOnStatusChangeListener(EventListener<HostEventInfo> listener) { return Host.NULL; }
+    @Override public boolean removeOnStatusChangeListener(EventListener<HostEventInfo> listener) { return false; }
     @Override public long getAvailableStorage() {
         return 0L;
     }
@@ -18,13 +18,16 @@ import org.cloudbus.cloudsim.resources.*;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerSpaceShared;
 import org.cloudbus.cloudsim.util.Conversion;
+import org.cloudbus.cloudsim.util.StateHistory;
 import org.cloudbus.cloudsim.util.TimeUtil;
 import org.cloudbus.cloudsim.vms.UtilizationHistory;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmGroup;
 import org.cloudbus.cloudsim.vms.VmStateHistoryEntry;
 import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.listeners.HostEventInfo;
 import org.cloudsimplus.listeners.HostUpdatesVmsProcessingEventInfo;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,7 +65,7 @@ public class HostSimple implements Host {
     private static long defaultStorageCapacity = (long)Conversion.gigaToMega(500);
 
     /** @see #getStateHistory() */
-    private final List<HostStateHistoryEntry> stateHistory;
+    private final StateHistory.Recorder<HostStateHistoryEntry> stateHistory;
 
     /**@see #getPowerModel() */
     private PowerModel powerModel;
@@ -112,17 +115,26 @@ public class HostSimple implements Host {
     /** @see #getPeList() */
     private List<Pe> peList;
 
+    /*
+     * The sets of migrating VMs and listeners below are just created
+     * when the first element is added, since most Hosts in large
+     * simulations don't use them.
+     */
+
     /** @see #getVmsMigratingIn() */
-    private final Set<Vm> vmsMigratingIn;
+    private Set<Vm> vmsMigratingIn;
 
     /** @see #getVmsMigratingOut() */
-    private final Set<Vm> vmsMigratingOut;
+    private Set<Vm> vmsMigratingOut;
 
     /** @see #getDatacenter() */
     private Datacenter datacenter;
 
     /** @see Host#removeOnUpdateProcessingListener(EventListener) */
-    private final Set<EventListener<HostUpdatesVmsProcessingEventInfo>> onUpdateProcessingListeners;
+    private Set<EventListener<HostUpdatesVmsProcessingEventInfo>> onUpdateProcessingListeners;
+
+    /** @see Host#addOnStatusChangeListener(EventListener) */
+    private Set<EventListener<HostEventInfo>> onStatusChangeListeners;
 
     /** @see #getSimulation() */
     private Simulation simulation;
@@ -250,6 +262,7 @@ public class HostSimple implements Host {
      * @see #setVmScheduler(VmScheduler)
      */
     public HostSimple(final long ram, final long bw, final long storage, final List<Pe> peList, final boolean activate) {
+        this.onStatusChangeListeners = Collections.emptySet();
         this.setId(-1);
         this.setSimulation(Simulation.NULL);
         this.setActive(activate);
@@ -266,14 +279,14 @@ public class HostSimple implements Host {
         this.setFailed(false);
         this.shutdownTime = -1;
         this.setDatacenter(Datacenter.NULL);
-        this.onUpdateProcessingListeners = new HashSet<>();
+        this.onUpdateProcessingListeners = Collections.emptySet();
         this.resources = new ArrayList<>();
         this.vmCreatedList = new ArrayList<>();
         this.provisioners = new ArrayList<>();
-        this.vmsMigratingIn = new HashSet<>();
-        this.vmsMigratingOut = new HashSet<>();
+        this.vmsMigratingIn = Collections.emptySet();
+        this.vmsMigratingOut = Collections.emptySet();
         this.powerModel = PowerModel.NULL;
-        this.stateHistory = new LinkedList<>();
+        this.stateHistory = StateHistory.newRecorder(HostStateHistoryEntry::new, this::getSimulation);
     }
 
     /**
@@ -516,7 +529,12 @@ public class HostSimple implements Host {
             setShutdownTime(getSimulation().clock());
         }
 
+        final boolean changed = this.active != activate;
         this.active = activate;
+        if(changed) {
+            notifyOnStatusChangeListeners();
+        }
+
         return this;
     }
 
@@ -528,7 +546,7 @@ public class HostSimple implements Host {
      * @see #setActive(boolean)
      */
     private void showActivationLogBeforeModification(final boolean activate) {
-        if(simulation == null || !simulation.isRunning() ) {
+        if(simulation == null || !simulation.isRunning() || !Log.isInfoEnabled(LOGGER, simulation)) {
             return;
         }
 
@@ -841,6 +859,7 @@ public class HostSimple implements Host {
         * it must remain inactive.*/
         if(failed && this.active){
             this.active = false;
+            notifyOnStatusChangeListeners();
         }
 
         return true;
@@ -854,6 +873,7 @@ public class HostSimple implements Host {
     public final void setPeStatus(final List<Pe> peList, final Pe.Status newStatus){
         /*For performance reasons, stores the number of free and failed PEs
         instead of iterating over the PE list every time to find out.*/
+        final int previousFreePesNumber = this.freePesNumber;
         for (final Pe pe : peList) {
             if(pe.getStatus() == newStatus) {
                 continue;
@@ -872,11 +892,15 @@ public class HostSimple implements Host {
 
             pe.setStatus(newStatus);
         }
+
+        if(previousFreePesNumber != this.freePesNumber) {
+            notifyOnStatusChangeListeners();
+        }
     }
 
     @Override
     public <T extends Vm> Set<T> getVmsMigratingIn() {
-        return (Set<T>)vmsMigratingIn;
+        return Collections.unmodifiableSet((Set<T>)vmsMigratingIn);
     }
 
     @Override
@@ -885,6 +909,10 @@ public class HostSimple implements Host {
             return false;
         }
 
+        if(vmsMigratingIn == Collections.EMPTY_SET){
+            vmsMigratingIn = new HashSet<>();
+        }
+
         vmsMigratingIn.add(vm);
         if(!allocateResourcesForVm(vm, true)){
             vmsMigratingIn.remove(vm);
@@ -912,6 +940,10 @@ public class HostSimple implements Host {
 
     @Override
     public boolean addVmMigratingOut(final Vm vm) {
+        if(vmsMigratingOut == Collections.EMPTY_SET){
+            vmsMigratingOut = new HashSet<>();
+        }
+
         return this.vmsMigratingOut.add(vm);
     }
 
@@ -950,10 +982,48 @@ public class HostSimple implements Host {
             return this;
         }
 
-        this.onUpdateProcessingListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(onUpdateProcessingListeners == Collections.EMPTY_SET){
+            onUpdateProcessingListeners = new HashSet<>();
+        }
+
+        this.onUpdateProcessingListeners.add(listener);
         return this;
     }
 
+    @Override
+    public Host addOnStatusChangeListener(final EventListener<HostEventInfo> listener) {
+        if(listener.equals(EventListener.NULL)){
+            return this;
+        }
+
+        requireNonNull(listener);
+        if(onStatusChangeListeners == Collections.EMPTY_SET){
+            onStatusChangeListeners = new HashSet<>();
+        }
+
+        this.onStatusChangeListeners.add(listener);
+        return this;
+    }
+
+    @Override
+    public boolean removeOnStatusChangeListener(final EventListener<HostEventInfo> listener) {
+        return onStatusChangeListeners.remove(listener);
+    }
+
+    /**
+     * Notifies all registered listeners that the Host status has changed.
+     * @see #addOnStatusChangeListener(EventListener)
+     */
+    private void notifyOnStatusChangeListeners() {
+        if(onStatusChangeListeners.isEmpty()){
+            return;
+        }
+
+        final double time = getSimulation().clock();
+        onStatusChangeListeners.forEach(listener -> listener.update(HostEventInfo.of(listener, this, time)));
+    }
+
     @Override
     public long getAvailableStorage() {
         return storage.getAvailableResource();
@@ -1233,12 +1303,14 @@ public class HostSimple implements Host {
     private double addVmResourceUseToHistoryIfNotMigratingIn(final Vm vm, final double currentTime) {
         double totalAllocatedMips = getVmScheduler().getTotalAllocatedMipsForVm(vm);
         if (getVmsMigratingIn().contains(vm)) {
-            LOGGER.info("{}: {}: {} is migrating in", getSimulation().clockStr(), this, vm);
+            if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+                LOGGER.info("{}: {}: {} is migrating in", getSimulation().clockStr(), this, vm);
+            }
             return totalAllocatedMips;
         }
 
         final double totalRequestedMips = vm.getCurrentRequestedTotalMips();
-        if (totalAllocatedMips + 0.1 < totalRequestedMips) {
+        if (totalAllocatedMips + 0.1 < totalRequestedMips && Log.isWarnEnabled(LOGGER, getSimulation())) {
             final String reason = getVmsMigratingOut().contains(vm) ? "migration overhead" : "capacity unavailability";
             final long notAllocatedMipsByPe = (long)((totalRequestedMips - totalAllocatedMips)/vm.getNumberOfPes());
             LOGGER.warn(
@@ -1254,7 +1326,9 @@ public class HostSimple implements Host {
         vm.addStateHistoryEntry(entry);
 
         if (vm.isInMigration()) {
-            LOGGER.info("{}: {}: {} is migrating out ", getSimulation().clockStr(), this, vm);
+            if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+                LOGGER.info("{}: {}: {} is migrating out ", getSimulation().clockStr(), this, vm);
+            }
             totalAllocatedMips /= getVmScheduler().getMaxCpuUsagePercentDuringOutMigration();
         }
 
@@ -1291,21 +1365,21 @@ public class HostSimple implements Host {
         final double requestedMips,
         final boolean isActive)
     {
-        final HostStateHistoryEntry newState = new HostStateHistoryEntry(time, allocatedMips, requestedMips, isActive);
-        if (!stateHistory.isEmpty()) {
-            final HostStateHistoryEntry previousState = stateHistory.get(stateHistory.size() - 1);
-            if (previousState.getTime() == time) {
-                stateHistory.set(stateHistory.size() - 1, newState);
-                return;
-            }
-        }
-
-        stateHistory.add(newState);
+        stateHistory.record(time, allocatedMips, requestedMips, isActive);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The history is stored in a compact columnar format and its entries
+     * are just created when accessed. The returned {@link StateHistory}
+     * allows reading the recorded data without creating entry objects,
+     * besides limiting, downsampling or spilling the history to disk.</p>
+     *
+     * @return {@inheritDoc}
+     */
     @Override
-    public List<HostStateHistoryEntry> getStateHistory() {
-        return Collections.unmodifiableList(stateHistory);
+    public StateHistory<HostStateHistoryEntry> getStateHistory() {
+        return stateHistory.getHistory();
     }
 
     @Override
@@ -8,9 +8,11 @@
 package org.cloudbus.cloudsim.hosts.network;
 
 import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
 import org.cloudbus.cloudsim.hosts.HostSimple;
 import org.cloudbus.cloudsim.network.HostPacket;
 import org.cloudbus.cloudsim.network.VmPacket;
+import org.cloudbus.cloudsim.network.flows.FlowNetwork;
 import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
@@ -18,11 +20,15 @@ import org.cloudbus.cloudsim.schedulers.cloudlet.network.CloudletTaskScheduler;
 import org.cloudbus.cloudsim.schedulers.cloudlet.network.CloudletTaskSchedulerSimple;
 import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerSpaceShared;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * NetworkHost class extends {@link HostSimple} to support simulation of
@@ -72,6 +78,20 @@ public class NetworkHost extends HostSimple {
      */
     private EdgeSwitch edgeSwitch;
 
+    /**
+     * The VMs placed into this Host, used to check in constant time
+     * if a packet is targeting a local VM.
+     * It's lazily rebuilt from the {@link #getVmList()} on every processing update.
+     * @see #isLocalVm(Vm)
+     */
+    private final Set<Vm> localVms;
+
+    /**
+     * Indicates if the {@link #localVms} must be rebuilt before being used,
+     * since the VM list may have changed since the last processing update.
+     */
+    private boolean localVmsOutdated;
+
     /**
      * Creates and powers on a NetworkHost using a {@link VmSchedulerSpaceShared} as default.
      *
@@ -85,10 +105,12 @@ public class NetworkHost extends HostSimple {
         hostPktsReceived = new ArrayList<>();
         pktsToSendForExternalVms = new ArrayList<>();
         pktsToSendForLocalVms = new ArrayList<>();
+        localVms = new HashSet<>();
     }
 
     @Override
     public double updateProcessing(final double currentTime) {
+        localVmsOutdated = true;
         final double timeOfNextFinishingCloudlet = super.updateProcessing(currentTime);
         receivePackets();
         sendAllPacketListsOfAllVms();
@@ -110,18 +132,22 @@ public class NetworkHost extends HostSimple {
     private void receivePacket(final VmPacket vmPacket) {
         final Vm destinationVm = receiveVmPacket(vmPacket);
         //Checks if the destinationVm is inside this host
-        if(getVmList().contains(destinationVm)){
+        if(isLocalVm(destinationVm)){
             final CloudletTaskScheduler taskScheduler = getVmPacketScheduler(destinationVm);
             taskScheduler.addPacketToListOfPacketsSentFromVm(vmPacket);
-            LOGGER.trace(
-                "{}: {}: {} received pkt with {} bytes from {} in {} and forwarded it to {} in {}",
-                getSimulation().clockStr(), getClass().getSimpleName(), this,
-                vmPacket.getSize(), vmPacket.getSenderCloudlet(), vmPacket.getSource(),
-                vmPacket.getReceiverCloudlet(), vmPacket.getDestination());
+            if(Log.isTraceEnabled(LOGGER, getSimulation())) {
+                LOGGER.trace(
+                    "{}: {}: {} received pkt with {} bytes from {} in {} and forwarded it to {} in {}",
+                    getSimulation().clockStr(), getClass().getSimpleName(), this,
+                    vmPacket.getSize(), vmPacket.getSenderCloudlet(), vmPacket.getSource(),
+                    vmPacket.getReceiverCloudlet(), vmPacket.getDestination());
+            }
         }
-        else LOGGER.warn(
+        else if(Log.isWarnEnabled(LOGGER, getSimulation())) {
+            LOGGER.warn(
                 "{}: {}: Destination {} was not found inside {}",
                 getSimulation().clockStr(), getClass(), vmPacket.getDestination(), this);
+        }
     }
 
     /**
@@ -169,8 +195,18 @@ public class NetworkHost extends HostSimple {
 
     /**
      * Sends packets from the local packets buffer to VMs outside this host.
+     * If the {@link NetworkDatacenter#enableFlowNetwork() flow-level network model} is enabled,
+     * the packets are sent as flows. Otherwise, they are sent to the {@link #getEdgeSwitch() Edge Switch}.
      */
     private void sendPacketsToExternalVms() {
+        final Optional<FlowNetwork> flowNetwork = getFlowNetwork();
+        if(flowNetwork.isPresent()){
+            pktsToSendForExternalVms.forEach(pkt -> totalDataTransferBytes += pkt.getSize());
+            flowNetwork.get().send(pktsToSendForExternalVms);
+            pktsToSendForExternalVms.clear();
+            return;
+        }
+
         for (final HostPacket pkt : pktsToSendForExternalVms) {
             final double delay = edgeSwitch.downlinkTransferDelay(pkt, pktsToSendForExternalVms.size());
             totalDataTransferBytes += pkt.getSize();
@@ -183,6 +219,14 @@ public class NetworkHost extends HostSimple {
         pktsToSendForExternalVms.clear();
     }
 
+    private Optional<FlowNetwork> getFlowNetwork() {
+        if(getDatacenter() instanceof NetworkDatacenter){
+            return ((NetworkDatacenter) getDatacenter()).getFlowNetwork();
+        }
+
+        return Optional.empty();
+    }
+
     private CloudletTaskScheduler getVmPacketScheduler(final Vm vm) {
         return vm.getCloudletScheduler().getTaskScheduler();
     }
@@ -236,10 +280,25 @@ public class NetworkHost extends HostSimple {
         final Vm receiverVm = vmPkt.getDestination();
 
         //If the VM is inside this Host, the packet doesn't travel through the network
-        final List<HostPacket> pktsToSend = getVmList().contains(receiverVm) ? pktsToSendForLocalVms : pktsToSendForExternalVms;
+        final List<HostPacket> pktsToSend = isLocalVm(receiverVm) ? pktsToSendForLocalVms : pktsToSendForExternalVms;
         pktsToSend.add(hostPkt);
     }
 
+    /**
+     * Checks if a VM is placed into this Host.
+     * @param vm the VM to check
+     * @return true if the VM is inside this Host, false otherwise
+     */
+    private boolean isLocalVm(final Vm vm) {
+        if(localVmsOutdated){
+            localVms.clear();
+            localVms.addAll(getVmList());
+            localVmsOutdated = false;
+        }
+
+        return localVms.contains(vm);
+    }
+
     public int getTotalDataTransferBytes() {
         return totalDataTransferBytes;
     }
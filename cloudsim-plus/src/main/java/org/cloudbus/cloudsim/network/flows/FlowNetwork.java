@@ -0,0 +1,442 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.network.flows;
+
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
+import org.cloudbus.cloudsim.hosts.network.NetworkHost;
+import org.cloudbus.cloudsim.network.HostPacket;
+import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
+import org.cloudbus.cloudsim.network.switches.Switch;
+import org.cloudbus.cloudsim.util.Conversion;
+import org.cloudsimplus.util.Log;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * A flow-level (fluid) network model for a {@link NetworkDatacenter},
+ * which is an alternative to the packet-level simulation performed by its {@link Switch}es.
+ *
+ * <p>Each {@link HostPacket} sent to a VM in another Host
+ * becomes a {@link NetworkFlow} crossing the {@link NetworkLink}s
+ * between the source and destination Hosts, according to the
+ * Edge, Aggregate and Root switches topology.
+ * The bandwidth of each link is shared among the flows crossing it
+ * according to max-min fairness. The rates are just recomputed when flows start or finish,
+ * instead of on every packet hop. This way, the number of events
+ * doesn't depend on the number of switches a packet crosses,
+ * but just on the number of flows.</p>
+ *
+ * <p>After the data of a flow is transferred, the packet is delivered
+ * to the destination Host after a latency, which is the sum
+ * of the {@link Switch#getSwitchingDelay() switching delay}
+ * of the switches in the path.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ * @see NetworkDatacenter#enableFlowNetwork()
+ */
+public class FlowNetwork extends CloudSimEntity {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlowNetwork.class.getSimpleName());
+
+    private final NetworkDatacenter datacenter;
+
+    /** Links from each Host to its Edge Switch. */
+    private final Map<NetworkHost, NetworkLink> hostUplinks;
+
+    /** Links from the Edge Switch of each Host to the Host. */
+    private final Map<NetworkHost, NetworkLink> hostDownlinks;
+
+    /** Links from each Switch to its first uplink Switch. */
+    private final Map<Switch, NetworkLink> switchUplinks;
+
+    /** Links from the first uplink Switch of each Switch to the Switch. */
+    private final Map<Switch, NetworkLink> switchDownlinks;
+
+    /** @see #getActiveFlows() */
+    private final List<NetworkFlow> activeFlows;
+
+    /** The links crossed by at least one active flow. */
+    private final Set<NetworkLink> activeLinks;
+
+    /**
+     * The times of {@link CloudSimTags#NETWORK_FLOW_UPDATE} events still pending,
+     * so that a new event is scheduled only when the next flow finishes
+     * before the ones already scheduled.
+     */
+    private final TreeSet<Double> pendingUpdateTimes;
+
+    /** The last time the flows data transfer was updated. */
+    private double lastUpdateTime;
+
+    /** @see #getFinishedFlows() */
+    private long finishedFlows;
+
+    /** @see #getRateComputations() */
+    private long rateComputations;
+
+    /**
+     * Creates a flow network for a given Datacenter.
+     * @param datacenter the Datacenter whose network will be simulated
+     * @see NetworkDatacenter#enableFlowNetwork()
+     */
+    public FlowNetwork(final NetworkDatacenter datacenter) {
+        super(datacenter.getSimulation());
+        this.datacenter = datacenter;
+        this.hostUplinks = new HashMap<>();
+        this.hostDownlinks = new HashMap<>();
+        this.switchUplinks = new HashMap<>();
+        this.switchDownlinks = new HashMap<>();
+        this.activeFlows = new ArrayList<>();
+        this.activeLinks = new LinkedHashSet<>();
+        this.pendingUpdateTimes = new TreeSet<>();
+    }
+
+    @Override
+    protected void startEntity() {/**/}
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void processEvent(final SimEvent evt) {
+        switch (evt.getTag()) {
+            case CloudSimTags.NETWORK_FLOW_UPDATE:
+                pendingUpdateTimes.pollFirst();
+                updateFlows();
+            break;
+            case CloudSimTags.NETWORK_EVENT_HOST:
+                deliverPackets((List<HostPacket>) evt.getData());
+            break;
+        }
+    }
+
+    /**
+     * Starts one flow for each given packet,
+     * recomputing the rates of all active flows just once.
+     *
+     * @param packets the packets to send to VMs in other Hosts
+     */
+    public void send(final List<HostPacket> packets) {
+        if(packets.isEmpty()){
+            return;
+        }
+
+        transferData();
+        for (final HostPacket pkt : packets) {
+            startFlow(pkt);
+        }
+
+        computeMaxMinFairRates(activeLinks, activeFlows);
+        rateComputations++;
+        finishFlows();
+    }
+
+    private void startFlow(final HostPacket pkt) {
+        final NetworkHost source = pkt.getSource();
+        final NetworkHost destination = (NetworkHost) pkt.getVmPacket().getDestination().getHost();
+        pkt.setDestination(destination);
+
+        final List<NetworkLink> path = new ArrayList<>(6);
+        final double latency = buildPath(source, destination, path);
+        final double megaBits = Conversion.bytesToMegaBits(pkt.getSize());
+        final NetworkFlow flow = new NetworkFlow(pkt, megaBits, path, latency, getSimulation().clock());
+        for (final NetworkLink link : path) {
+            link.addFlow(flow);
+            activeLinks.add(link);
+        }
+
+        activeFlows.add(flow);
+        if(Log.isTraceEnabled(LOGGER, getSimulation())) {
+            LOGGER.trace(
+                "{}: {}: {} started with {} bytes crossing {} links",
+                getSimulation().clockStr(), getName(), flow, pkt.getSize(), path.size());
+        }
+    }
+
+    /**
+     * Adds to a list the links between two Hosts.
+     * Packets go up through the Switches until reaching
+     * one that connects to the destination Host (directly or indirectly),
+     * then go down to the destination.
+     *
+     * @param source the source Host
+     * @param destination the destination Host
+     * @param path the list to add the links to
+     * @return the sum of the switching delay of the switches in the path (in seconds)
+     */
+    private double buildPath(final NetworkHost source, final NetworkHost destination, final List<NetworkLink> path) {
+        final EdgeSwitch srcEdge = getEdgeSwitch(source);
+        final EdgeSwitch dstEdge = getEdgeSwitch(destination);
+
+        path.add(hostUplinks.computeIfAbsent(source, host -> newLink(host, srcEdge, srcEdge.getDownlinkBandwidth())));
+        double latency = srcEdge.getSwitchingDelay();
+        if(srcEdge != dstEdge) {
+            final Switch srcAggregate = getFirstUplinkSwitch(srcEdge);
+            final Switch dstAggregate = getFirstUplinkSwitch(dstEdge);
+            path.add(getSwitchUplink(srcEdge, srcAggregate));
+            latency += srcAggregate.getSwitchingDelay();
+            if(srcAggregate != dstAggregate){
+                final Switch root = getFirstUplinkSwitch(srcAggregate);
+                path.add(getSwitchUplink(srcAggregate, root));
+                path.add(getSwitchDownlink(root, dstAggregate));
+                latency += root.getSwitchingDelay() + dstAggregate.getSwitchingDelay();
+            }
+
+            path.add(getSwitchDownlink(dstAggregate, dstEdge));
+            latency += dstEdge.getSwitchingDelay();
+        }
+
+        path.add(hostDownlinks.computeIfAbsent(destination, host -> newLink(dstEdge, host, dstEdge.getDownlinkBandwidth())));
+        return latency;
+    }
+
+    private EdgeSwitch getEdgeSwitch(final NetworkHost host) {
+        if(host.getEdgeSwitch() == null){
+            throw new IllegalStateException(host + " is not connected to an EdgeSwitch.");
+        }
+
+        return host.getEdgeSwitch();
+    }
+
+    private Switch getFirstUplinkSwitch(final Switch sw) {
+        if(sw.getUplinkSwitches().isEmpty()){
+            throw new IllegalStateException(sw + " has no uplink Switch to route packets to Hosts connected to other Switches.");
+        }
+
+        return sw.getUplinkSwitches().get(0);
+    }
+
+    private NetworkLink getSwitchUplink(final Switch sw, final Switch uplinkSwitch) {
+        return switchUplinks.computeIfAbsent(sw, s -> newLink(s, uplinkSwitch, s.getUplinkBandwidth()));
+    }
+
+    private NetworkLink getSwitchDownlink(final Switch uplinkSwitch, final Switch sw) {
+        return switchDownlinks.computeIfAbsent(sw, s -> newLink(uplinkSwitch, s, uplinkSwitch.getDownlinkBandwidth()));
+    }
+
+    private NetworkLink newLink(final Object from, final Object to, final double bandwidth) {
+        return new NetworkLink(from + " -> " + to, bandwidth);
+    }
+
+    /**
+     * Finishes flows whose data was transferred,
+     * recomputes the rates of the remaining ones
+     * and schedules the next update.
+     */
+    private void updateFlows() {
+        transferData();
+        finishFlows();
+    }
+
+    /**
+     * Updates the data transferred by every active flow since the last update.
+     */
+    private void transferData() {
+        final double timeSpan = getSimulation().clock() - lastUpdateTime;
+        if(timeSpan > 0) {
+            for (final NetworkFlow flow : activeFlows) {
+                flow.transfer(timeSpan);
+            }
+        }
+
+        lastUpdateTime = getSimulation().clock();
+    }
+
+    /**
+     * Removes flows that have transferred all their data,
+     * scheduling the delivery of their packets,
+     * recomputes the rates of the remaining flows (if some has finished)
+     * and schedules the next update.
+     * Flows expected to finish before the {@link org.cloudbus.cloudsim.core.Simulation#getMinTimeBetweenEvents()}
+     * are finished right away.
+     */
+    private void finishFlows() {
+        final double minTime = getSimulation().getMinTimeBetweenEvents();
+        final Map<Double, List<HostPacket>> packetsByLatency = new LinkedHashMap<>();
+        final Iterator<NetworkFlow> it = activeFlows.iterator();
+        while (it.hasNext()) {
+            final NetworkFlow flow = it.next();
+            if(flow.getRemainingMegaBits() > 0 && flow.getRemainingTime() > minTime){
+                continue;
+            }
+
+            it.remove();
+            for (final NetworkLink link : flow.getPath()) {
+                link.removeFlow(flow);
+                if(link.getFlows().isEmpty()){
+                    activeLinks.remove(link);
+                }
+            }
+
+            finishedFlows++;
+            packetsByLatency.computeIfAbsent(flow.getLatency(), latency -> new ArrayList<>()).add(flow.getPacket());
+        }
+
+        if(!packetsByLatency.isEmpty()) {
+            computeMaxMinFairRates(activeLinks, activeFlows);
+            rateComputations++;
+            packetsByLatency.forEach(this::scheduleDelivery);
+        }
+
+        scheduleNextUpdate();
+    }
+
+    private void scheduleDelivery(final double latency, final List<HostPacket> packets) {
+        if(latency > 0) {
+            schedule(this, latency, CloudSimTags.NETWORK_EVENT_HOST, packets);
+            return;
+        }
+
+        deliverPackets(packets);
+    }
+
+    /**
+     * Delivers packets to their destination Hosts and requests the Datacenter to
+     * update the processing of Cloudlets, so that the ones waiting for packets can receive them.
+     *
+     * @param packets the packets to deliver
+     */
+    private void deliverPackets(final List<HostPacket> packets) {
+        for (final HostPacket pkt : packets) {
+            pkt.setReceiveTime(getSimulation().clock());
+            pkt.getDestination().addReceivedNetworkPacket(pkt);
+        }
+
+        schedule(datacenter, getSimulation().getMinTimeBetweenEvents(), CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING);
+    }
+
+    /**
+     * Schedules a {@link CloudSimTags#NETWORK_FLOW_UPDATE} for the time the next flow finishes,
+     * unless there is already an update pending up to that time.
+     */
+    private void scheduleNextUpdate() {
+        final double delay = activeFlows.stream().mapToDouble(NetworkFlow::getRemainingTime).min().orElse(Double.MAX_VALUE);
+        if(delay == Double.MAX_VALUE){
+            return;
+        }
+
+        final double time = getSimulation().clock() + delay;
+        if(pendingUpdateTimes.isEmpty() || pendingUpdateTimes.first() > time) {
+            pendingUpdateTimes.add(time);
+            schedule(this, delay, CloudSimTags.NETWORK_FLOW_UPDATE);
+        }
+    }
+
+    /**
+     * Computes the max-min fair rate of a set of flows,
+     * using the progressive filling algorithm:
+     * the link offering the smallest fair share to its flows (the bottleneck)
+     * fixes the rate of such flows, whose bandwidth is then discounted from
+     * the other links they cross. This repeats until every flow has its rate.
+     *
+     * @param links the links crossed by the flows
+     * @param flows the flows to compute the rate
+     */
+    static void computeMaxMinFairRates(final Collection<NetworkLink> links, final Collection<NetworkFlow> flows) {
+        for (final NetworkFlow flow : flows) {
+            flow.rateAssigned = false;
+            flow.setRate(0);
+        }
+
+        for (final NetworkLink link : links) {
+            link.remainingBandwidth = link.getBandwidth();
+            link.unassignedFlows = link.getFlows().size();
+        }
+
+        int unassignedFlows = flows.size();
+        while (unassignedFlows > 0) {
+            final NetworkLink bottleneck = findBottleneck(links);
+            if(bottleneck == null){
+                return;
+            }
+
+            final double share = fairShare(bottleneck);
+            for (final NetworkFlow flow : bottleneck.getFlows()) {
+                if(flow.rateAssigned){
+                    continue;
+                }
+
+                flow.setRate(share);
+                flow.rateAssigned = true;
+                unassignedFlows--;
+                for (final NetworkLink link : flow.getPath()) {
+                    link.remainingBandwidth -= share;
+                    link.unassignedFlows--;
+                }
+            }
+        }
+    }
+
+    private static NetworkLink findBottleneck(final Collection<NetworkLink> links) {
+        NetworkLink bottleneck = null;
+        double minShare = Double.MAX_VALUE;
+        for (final NetworkLink link : links) {
+            if(link.unassignedFlows > 0 && fairShare(link) < minShare){
+                minShare = fairShare(link);
+                bottleneck = link;
+            }
+        }
+
+        return bottleneck;
+    }
+
+    private static double fairShare(final NetworkLink link) {
+        return Math.max(0, link.remainingBandwidth) / link.unassignedFlows;
+    }
+
+    /**
+     * Gets a <b>read-only</b> list of flows currently transferring data.
+     * @return
+     */
+    public List<NetworkFlow> getActiveFlows() {
+        return Collections.unmodifiableList(activeFlows);
+    }
+
+    /**
+     * Gets the number of flows that have finished transferring data.
+     * @return
+     */
+    public long getFinishedFlows() {
+        return finishedFlows;
+    }
+
+    /**
+     * Gets the number of times the max-min fair rates were computed,
+     * which happens just when flows start or finish.
+     * @return
+     */
+    public long getRateComputations() {
+        return rateComputations;
+    }
+
+    /**
+     * Gets the Datacenter whose network is being simulated.
+     * @return
+     */
+    public NetworkDatacenter getDatacenter() {
+        return datacenter;
+    }
+}
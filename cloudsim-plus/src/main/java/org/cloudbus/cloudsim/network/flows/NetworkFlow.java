@@ -0,0 +1,159 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.network.flows;
+
+import org.cloudbus.cloudsim.network.HostPacket;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The transfer of a {@link HostPacket} through a path of {@link NetworkLink}s
+ * inside a {@link FlowNetwork}.
+ * Instead of being forwarded hop-by-hop, the packet data is transferred
+ * at a rate defined by the most congested link in the path.
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+public final class NetworkFlow {
+    /** @see #getPacket() */
+    private final HostPacket packet;
+
+    /** @see #getPath() */
+    private final List<NetworkLink> path;
+
+    /** @see #getLatency() */
+    private final double latency;
+
+    /** @see #getStartTime() */
+    private final double startTime;
+
+    /** @see #getRemainingMegaBits() */
+    private double remainingMegaBits;
+
+    /** @see #getRate() */
+    private double rate;
+
+    /**
+     * Indicates if the rate was already assigned while computing max-min fair rates.
+     */
+    boolean rateAssigned;
+
+    /**
+     * Creates a network flow.
+     *
+     * @param packet the packet to transfer
+     * @param megaBits the amount of data to transfer (in Megabits)
+     * @param path the links the flow crosses, from the source to the destination Host
+     * @param latency the time added to the transfer time, such as the switching delays (in seconds)
+     * @param startTime the time the flow started
+     */
+    NetworkFlow(
+        final HostPacket packet, final double megaBits,
+        final List<NetworkLink> path, final double latency, final double startTime)
+    {
+        this.packet = packet;
+        this.remainingMegaBits = megaBits;
+        this.path = path;
+        this.latency = latency;
+        this.startTime = startTime;
+    }
+
+    /**
+     * Gets the packet being transferred.
+     * @return
+     */
+    public HostPacket getPacket() {
+        return packet;
+    }
+
+    /**
+     * Gets a <b>read-only</b> list of links the flow crosses,
+     * from the source to the destination Host.
+     * @return
+     */
+    public List<NetworkLink> getPath() {
+        return Collections.unmodifiableList(path);
+    }
+
+    /**
+     * Gets the time added to the transfer time to deliver the packet,
+     * such as the switching delays of the switches in the path (in seconds).
+     * @return
+     */
+    public double getLatency() {
+        return latency;
+    }
+
+    /**
+     * Gets the time the flow started.
+     * @return
+     */
+    public double getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Gets the amount of data still to be transferred (in Megabits).
+     * @return
+     */
+    public double getRemainingMegaBits() {
+        return remainingMegaBits;
+    }
+
+    /**
+     * Gets the current transfer rate (in Megabits/s),
+     * which is the max-min fair share of the bandwidth of the links in the path.
+     * @return
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    void setRate(final double rate) {
+        this.rate = rate;
+    }
+
+    /**
+     * Updates the remaining data, considering the flow transferred data
+     * at the current rate for a given time span.
+     * @param timeSpan the time the flow was transferring data (in seconds)
+     */
+    void transfer(final double timeSpan) {
+        remainingMegaBits = Math.max(0, remainingMegaBits - rate * timeSpan);
+    }
+
+    /**
+     * Gets the time needed to transfer the remaining data at the current rate (in seconds).
+     * @return the remaining transfer time or {@link Double#MAX_VALUE} if the flow has no bandwidth
+     */
+    double getRemainingTime() {
+        return rate > 0 ? remainingMegaBits / rate : Double.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Flow from %s to %s", packet.getSource(), packet.getDestination());
+    }
+}
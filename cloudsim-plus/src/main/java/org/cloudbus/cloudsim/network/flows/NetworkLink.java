@@ -0,0 +1,108 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.network.flows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A unidirectional network link inside a {@link FlowNetwork},
+ * which has its bandwidth shared among the {@link NetworkFlow}s crossing it.
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+public final class NetworkLink {
+    private final String name;
+
+    /** @see #getBandwidth() */
+    private final double bandwidth;
+
+    /** @see #getFlows() */
+    private final List<NetworkFlow> flows;
+
+    /**
+     * The bandwidth not assigned yet to flows crossing the link (in Megabits/s),
+     * used while computing max-min fair rates.
+     */
+    double remainingBandwidth;
+
+    /**
+     * The number of flows crossing the link that don't have their rate assigned yet,
+     * used while computing max-min fair rates.
+     */
+    int unassignedFlows;
+
+    /**
+     * Creates a network link.
+     * @param name a name to identify the link
+     * @param bandwidth the link bandwidth capacity (in Megabits/s)
+     */
+    NetworkLink(final String name, final double bandwidth) {
+        if(bandwidth <= 0){
+            throw new IllegalArgumentException("The bandwidth of link " + name + " must be greater than zero.");
+        }
+
+        this.name = name;
+        this.bandwidth = bandwidth;
+        this.flows = new ArrayList<>();
+    }
+
+    /**
+     * Gets the link bandwidth capacity (in Megabits/s).
+     * @return
+     */
+    public double getBandwidth() {
+        return bandwidth;
+    }
+
+    /**
+     * Gets a <b>read-only</b> list of flows currently crossing the link.
+     * @return
+     */
+    public List<NetworkFlow> getFlows() {
+        return Collections.unmodifiableList(flows);
+    }
+
+    /**
+     * Gets the percentage of the link bandwidth currently used by its flows (in scale from 0 to 1).
+     * @return
+     */
+    public double getUtilization() {
+        return flows.stream().mapToDouble(NetworkFlow::getRate).sum() / bandwidth;
+    }
+
+    void addFlow(final NetworkFlow flow) {
+        flows.add(flow);
+    }
+
+    void removeFlow(final NetworkFlow flow) {
+        flows.remove(flow);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,23 @@
+/**
+ * Provides a flow-level (fluid) network model, which is an alternative
+ * to the packet-level simulation performed by the
+ * {@link org.cloudbus.cloudsim.network.switches.Switch}es
+ * of a {@link org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter}.
+ *
+ * <p>Instead of forwarding every packet hop-by-hop through the switches,
+ * the {@link org.cloudbus.cloudsim.network.flows.FlowNetwork}
+ * represents each packet as a {@link org.cloudbus.cloudsim.network.flows.NetworkFlow}
+ * crossing a path of {@link org.cloudbus.cloudsim.network.flows.NetworkLink}s,
+ * which share their bandwidth among active flows according to max-min fairness.
+ * Rates are just recomputed when flows start or finish.
+ * The model is enabled by calling
+ * {@link org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter#enableFlowNetwork()}
+ * and keeps the existing
+ * {@link org.cloudbus.cloudsim.cloudlets.network.CloudletSendTask} and
+ * {@link org.cloudbus.cloudsim.cloudlets.network.CloudletReceiveTask} API unchanged.</p>
+ *
+ * For more general information, see the package {@link org.cloudbus.cloudsim.network} at the upper level.
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+package org.cloudbus.cloudsim.network.flows;
@@ -10,24 +10,32 @@ package org.cloudbus.cloudsim.network.switches;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.core.CloudSimEntity;
 import org.cloudbus.cloudsim.core.CloudSimTags;
-import org.cloudbus.cloudsim.core.events.PredicateType;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
 import org.cloudbus.cloudsim.hosts.network.NetworkHost;
 import org.cloudbus.cloudsim.network.HostPacket;
 import org.cloudbus.cloudsim.util.Conversion;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * A base class for implementing Network Switch.
  *
+ * <p>Subclasses define where each packet is sent to by overriding
+ * {@link #processPacketUp(HostPacket)}, {@link #processPacketDown(HostPacket)}
+ * and {@link #processHostPacket(HostPacket)}.
+ * The former versions of such methods, receiving a {@link SimEvent}, are final
+ * so that existing overrides fail to compile, instead of silently not being called.</p>
+ *
  * @author Saurabh Kumar Garg
  * @author Manoel Campos da Silva Filho
  */
@@ -87,6 +95,19 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
      */
     private double switchingDelay;
 
+    /**
+     * The time the buffered packets must be forwarded,
+     * which is postponed every time a new packet arrives.
+     */
+    private double forwardTime;
+
+    /**
+     * Indicates if a {@link CloudSimTags#NETWORK_EVENT_SEND} event is pending
+     * in the simulation queue, so that it just needs to be moved
+     * to the {@link #forwardTime} instead of being cancelled and scheduled again.
+     */
+    private boolean forwardScheduled;
+
     public AbstractSwitch(final CloudSim simulation, final NetworkDatacenter dc) {
         super(simulation);
         this.packetToHostMap = new HashMap<>();
@@ -99,7 +120,9 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
 
     @Override
     protected void startEntity() {
-        LOGGER.info("{} is starting...", getName());
+        if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+            LOGGER.info("{} is starting...", getName());
+        }
         schedule(this, 0, CloudSimTags.DATACENTER_LIST_REQUEST);
     }
 
@@ -107,15 +130,15 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
     public void processEvent(final SimEvent evt) {
         switch (evt.getTag()) {
             case CloudSimTags.NETWORK_EVENT_UP:
-                // process the packet from down switch or host
+                // process the packets from down switch or host
                 processPacketUp(evt);
             break;
             case CloudSimTags.NETWORK_EVENT_DOWN:
-                // process the packet from uplink
+                // process the packets from uplink
                 processPacketDown(evt);
             break;
             case CloudSimTags.NETWORK_EVENT_SEND:
-                processPacketForward();
+                processForwardEvent();
             break;
             case CloudSimTags.NETWORK_EVENT_HOST:
                 processHostPacket(evt);
@@ -123,27 +146,118 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
         }
     }
 
+    /**
+     * Processes the packets carried by an event coming from a downlink switch or host,
+     * calling {@link #processPacketUp(HostPacket)} for each one
+     * and scheduling their forwarding.
+     *
+     * <p>Subclasses must override {@link #processPacketUp(HostPacket)} instead
+     * (see {@link AbstractSwitch}).</p>
+     *
+     * @param evt the event carrying a packet or a List of packets
+     */
+    protected final void processPacketUp(final SimEvent evt) {
+        forEachPacket(evt, this::processPacketUp);
+        scheduleForward();
+    }
+
+    /**
+     * Processes the packets carried by an event coming from an uplink switch,
+     * calling {@link #processPacketDown(HostPacket)} for each one
+     * and scheduling their forwarding.
+     *
+     * <p>Subclasses must override {@link #processPacketDown(HostPacket)} instead
+     * (see {@link AbstractSwitch}).</p>
+     *
+     * @param evt the event carrying a packet or a List of packets
+     */
+    protected final void processPacketDown(final SimEvent evt) {
+        forEachPacket(evt, this::processPacketDown);
+        scheduleForward();
+    }
+
+    /**
+     * Processes the packets carried by an event sent to hosts connected to the switch,
+     * calling {@link #processHostPacket(HostPacket)} for each one.
+     * Subclasses must override that method instead (see {@link AbstractSwitch}).
+     *
+     * @param evt the event carrying a packet or a List of packets
+     * @see #processPacketUp(SimEvent)
+     */
+    protected final void processHostPacket(final SimEvent evt) {
+        forEachPacket(evt, this::processHostPacket);
+    }
+
+    /**
+     * Calls a given method for each packet carried by an event.
+     * The event data may be a single {@link HostPacket}
+     * or a List of packets sent together to the same destination.
+     *
+     * @param evt the event carrying packets
+     * @param packetProcessor the method to process each packet
+     */
+    @SuppressWarnings("unchecked")
+    private void forEachPacket(final SimEvent evt, final Consumer<HostPacket> packetProcessor) {
+        if(evt.getData() instanceof List){
+            ((List<HostPacket>) evt.getData()).forEach(packetProcessor);
+            return;
+        }
+
+        packetProcessor.accept((HostPacket) evt.getData());
+    }
+
+    /**
+     * Postpones the forwarding of buffered packets
+     * until the switching delay has passed since the last arrived packet.
+     * Instead of cancelling the pending {@link CloudSimTags#NETWORK_EVENT_SEND} event
+     * (which requires scanning the whole simulation queue),
+     * it just updates the {@link #forwardTime}.
+     * An event is scheduled only when there isn't one already pending.
+     */
+    private void scheduleForward() {
+        forwardTime = getSimulation().clock() + getSwitchingDelay();
+        if(!forwardScheduled) {
+            forwardScheduled = true;
+            schedule(this, getSwitchingDelay(), CloudSimTags.NETWORK_EVENT_SEND);
+        }
+    }
+
+    /**
+     * Forwards buffered packets if the {@link #forwardTime} has come.
+     * Otherwise, new packets arrived after the event was scheduled,
+     * so it's moved to the current forward time.
+     */
+    private void processForwardEvent() {
+        final double delay = forwardTime - getSimulation().clock();
+        if(delay > 0){
+            schedule(this, delay, CloudSimTags.NETWORK_EVENT_SEND);
+            return;
+        }
+
+        forwardScheduled = false;
+        processPacketForward();
+    }
+
     /**
      * Process a packet sent to a host.
      *
-     * @param evt The packet sent.
+     * @param pkt The packet sent.
      */
-    protected void processHostPacket(final SimEvent evt) {
-        final HostPacket pkt = (HostPacket) evt.getData();
+    protected void processHostPacket(final HostPacket pkt) {
         final NetworkHost host = pkt.getDestination();
         host.addReceivedNetworkPacket(pkt);
     }
 
     /**
-     * Sends a packet to Datacenter connected through a downlink port.
+     * Processes a packet coming from an uplink switch, to be sent downward.
+     * The packet is just buffered, since all buffered packets are forwarded
+     * together after the {@link #getSwitchingDelay() switching delay}.
+     * This implementation does nothing, so subclasses must
+     * define where the packet will be sent to.
      *
-     * @param evt Event/packet to process
+     * @param pkt the packet received
      */
-    protected void processPacketDown(final SimEvent evt) {
-        // Packet coming from up level router has to send downward.
-        getSimulation().cancelAll(this, new PredicateType(CloudSimTags.NETWORK_EVENT_SEND));
-        schedule(this, getSwitchingDelay(), CloudSimTags.NETWORK_EVENT_SEND);
-    }
+    protected void processPacketDown(final HostPacket pkt) {/**/}
 
     /**
      * Gets the Host where a VM is placed.
@@ -155,15 +269,15 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
     }
 
     /**
-     * Sends a packet to Datacenter connected through a uplink port.
+     * Processes a packet coming from a downlink switch or host, to be sent upward.
+     * The packet is just buffered, since all buffered packets are forwarded
+     * together after the {@link #getSwitchingDelay() switching delay}.
+     * This implementation does nothing, so subclasses must
+     * define where the packet will be sent to.
      *
-     * @param evt Event/packet to process
+     * @param pkt the packet received
      */
-    protected void processPacketUp(final SimEvent evt) {
-        // Packet coming from down level router has to be sent up.
-        getSimulation().cancelAll(this, new PredicateType(CloudSimTags.NETWORK_EVENT_SEND));
-        schedule(this, switchingDelay, CloudSimTags.NETWORK_EVENT_SEND);
-    }
+    protected void processPacketUp(final HostPacket pkt) {/**/}
 
     /**
      * Sends a packet to hosts connected to the switch.
@@ -188,15 +302,39 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
         }
     }
 
+    /**
+     * Sends a list of packets to a given switch.
+     * Packets arriving at the same time are sent in a single event
+     * carrying a List of them, instead of one event for each packet.
+     *
+     * @param destinationSwitch the switch to send the packets to
+     * @param packetList the list of packets to send
+     * @param bandwidth the bandwidth shared among the packets (in Megabits/s)
+     * @param cloudSimTag the tag of the event to send
+     */
     private void forwardPacketsToSwitch(
         final Switch destinationSwitch, final List<HostPacket> packetList,
         final double bandwidth, final int cloudSimTag)
     {
+        if(packetList.isEmpty()){
+            return;
+        }
+
+        if(packetList.size() == 1){
+            final HostPacket pkt = packetList.get(0);
+            send(destinationSwitch, packetTransferDelay(pkt, bandwidth, 1), cloudSimTag, pkt);
+            packetList.clear();
+            return;
+        }
+
+        //Packets with the same size have the same delay and are sent together (in the order they were added)
+        final Map<Double, List<HostPacket>> packetsByDelay = new LinkedHashMap<>();
         for (final HostPacket pkt : packetList) {
             final double delay = packetTransferDelay(pkt, bandwidth, packetList.size());
-            send(destinationSwitch, delay, cloudSimTag, pkt);
+            packetsByDelay.computeIfAbsent(delay, d -> new ArrayList<>()).add(pkt);
         }
 
+        packetsByDelay.forEach((delay, batch) -> send(destinationSwitch, delay, cloudSimTag, batch));
         packetList.clear();
     }
 
@@ -271,7 +409,9 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
     @Override
     public void shutdownEntity() {
         super.shutdownEntity();
-        LOGGER.info("{} is shutting down...", getName());
+        if(Log.isInfoEnabled(LOGGER, getSimulation())) {
+            LOGGER.info("{} is shutting down...", getName());
+        }
     }
 
     @Override
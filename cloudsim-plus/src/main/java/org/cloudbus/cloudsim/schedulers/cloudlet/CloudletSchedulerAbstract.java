@@ -7,6 +7,7 @@
  */
 package org.cloudbus.cloudsim.schedulers.cloudlet;
 
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet.Status;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
@@ -21,6 +22,7 @@ import org.cloudbus.cloudsim.util.Conversion;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -93,20 +95,72 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     private final Set<Cloudlet> cloudletReturnedList;
 
+    /**
+     * The VM's RAM resource, cached to avoid looking it up
+     * from the VM's resource list at every processing update.
+     * @see #getVmRam()
+     */
+    private ResourceManageable vmRam;
+
+    /**
+     * The VM's BW resource, cached to avoid looking it up
+     * from the VM's resource list at every processing update.
+     * @see #getVmBw()
+     */
+    private ResourceManageable vmBw;
+
+    /**
+     * The amount of MIPS available for each PE, computed just once
+     * at the beginning of {@link #updateCloudletsProcessing(double)}.
+     * This avoids iterating over the entire execution list
+     * for every running Cloudlet during such an update.
+     * A negative value indicates that no update is in progress
+     * and such an amount must be computed on demand.
+     * @see #getAvailableMipsByPe()
+     */
+    private double availableMipsByPeOnUpdate;
+
+    /**
+     * Indicates if the Datacenter of the VM using this scheduler has the
+     * {@link Datacenter#isAnalyticProcessingEnabled() analytic processing} enabled.
+     * It's checked at the beginning of every {@link #updateProcessing(double, List)}.
+     */
+    private boolean analyticProcessing;
+
     /**
      * Creates a new CloudletScheduler object.
      */
     protected CloudletSchedulerAbstract() {
+        this(new ArrayList<>(), new ArrayList<>());
+    }
+
+    /**
+     * Creates a new CloudletScheduler object using given Lists as the
+     * {@link #getCloudletWaitingList() waiting list} and the {@link #getCloudletExecList() execution list}.
+     * Providing the waiting list enables a scheduler to define the order in which waiting Cloudlets are selected to run,
+     * since they are selected by the order the List returns them.
+     * Providing the execution list enables a scheduler to track every change in it,
+     * including the ones made by this class.
+     *
+     * @param cloudletWaitingList an empty List to store the waiting Cloudlets,
+     *                            that must support adding and removing elements
+     * @param cloudletExecList an empty List to store the running Cloudlets,
+     *                         that must support adding and removing elements
+     */
+    protected CloudletSchedulerAbstract(final List<CloudletExecution> cloudletWaitingList, final List<CloudletExecution> cloudletExecList) {
         setPreviousTime(0.0);
         vm = Vm.NULL;
-        cloudletExecList = new ArrayList<>();
+        this.cloudletExecList = requireNonNull(cloudletExecList);
         cloudletPausedList = new ArrayList<>();
         cloudletFinishedList = new ArrayList<>();
         cloudletFailedList = new ArrayList<>();
-        cloudletWaitingList = new ArrayList<>();
+        this.cloudletWaitingList = requireNonNull(cloudletWaitingList);
         cloudletReturnedList = new HashSet<>();
         currentMipsShare = new ArrayList<>();
         taskScheduler = CloudletTaskScheduler.NULL;
+        vmRam = ResourceManageable.NULL;
+        vmBw = ResourceManageable.NULL;
+        availableMipsByPeOnUpdate = -1;
     }
 
     @Override
@@ -173,6 +227,10 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      *       which in fact performs task preemption.
      */
     public double getAvailableMipsByPe(){
+        if(availableMipsByPeOnUpdate >= 0){
+            return availableMipsByPeOnUpdate;
+        }
+
         final long totalPesOfAllExecCloudlets = totalPesOfAllExecCloudlets();
         if(totalPesOfAllExecCloudlets > currentMipsShare.size()) {
             return getTotalMipsShare() / totalPesOfAllExecCloudlets;
@@ -343,7 +401,18 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     protected void cloudletFinish(final CloudletExecution cle) {
         cle.setStatus(Status.SUCCESS);
         cle.finalizeCloudlet();
-        cloudletFinishedList.add(cle);
+        if(isRetainFinishedCloudlets()) {
+            cloudletFinishedList.add(cle);
+        }
+    }
+
+    /**
+     * Checks if finished Cloudlets have to be kept by this scheduler,
+     * according to the {@link DatacenterBroker#isRetainFinishedCloudlets() broker configuration}.
+     * @return
+     */
+    private boolean isRetainFinishedCloudlets() {
+        return getVm().getBroker().isRetainFinishedCloudlets();
     }
 
     @Override
@@ -504,11 +573,13 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
             return Double.MAX_VALUE;
         }
 
+        analyticProcessing = vm.getHost().getDatacenter().isAnalyticProcessingEnabled();
         addCloudletsToFinishedList();
         double nextCloudletFinishTime = updateCloudletsProcessing(currentTime);
-        updateVmResourceAbsoluteUtilization(Ram.class);
-        updateVmResourceAbsoluteUtilization(Bandwidth.class);
         nextCloudletFinishTime = Math.min(nextCloudletFinishTime, moveNextCloudletsFromWaitingToExecList(currentTime));
+        if(analyticProcessing) {
+            nextCloudletFinishTime = Math.min(nextCloudletFinishTime, nextUtilizationChangeDelay(currentTime));
+        }
 
         setPreviousTime(currentTime);
         vm.getSimulation().setLastCloudletProcessingUpdate(currentTime);
@@ -516,10 +587,54 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         return nextCloudletFinishTime;
     }
 
+    /**
+     * Gets the delay until the resource utilization of some running Cloudlet changes,
+     * when the {@link Datacenter#isAnalyticProcessingEnabled() analytic processing} is enabled.
+     * This way, the processing is updated just when the state of the Cloudlets changes.
+     *
+     * <p>If the next utilization change of some Cloudlet cannot be predicted
+     * (see {@link UtilizationModel#getNextUtilizationChangeTime(double)}),
+     * the Datacenter {@link Datacenter#getSchedulingInterval() scheduling interval} is used instead
+     * (if it's set), so that the utilization of such a Cloudlet is sampled periodically, as usual.</p>
+     *
+     * @param currentTime current simulation time
+     * @return the delay (from the current simulation time) of the next utilization change
+     * or {@link Double#MAX_VALUE} if no utilization change is expected
+     */
+    @SuppressWarnings("ForLoopReplaceableByForEach")
+    private double nextUtilizationChangeDelay(final double currentTime) {
+        double nextChangeTime = Double.MAX_VALUE;
+        boolean unpredictableChange = false;
+        for (int i = 0; i < cloudletExecList.size(); i++) {
+            final Cloudlet cloudlet = cloudletExecList.get(i).getCloudlet();
+            final double cpuChangeTime = cloudlet.getUtilizationModelCpu().getNextUtilizationChangeTime(currentTime);
+            final double ramChangeTime = cloudlet.getUtilizationModelRam().getNextUtilizationChangeTime(currentTime);
+            final double bwChangeTime = cloudlet.getUtilizationModelBw().getNextUtilizationChangeTime(currentTime);
+            if(cpuChangeTime < 0 || ramChangeTime < 0 || bwChangeTime < 0) {
+                unpredictableChange = true;
+                continue;
+            }
+
+            final double changeTime = Math.min(cpuChangeTime, Math.min(ramChangeTime, bwChangeTime));
+            if(changeTime > currentTime) {
+                nextChangeTime = Math.min(nextChangeTime, changeTime);
+            }
+        }
+
+        final double delay = nextChangeTime == Double.MAX_VALUE ? Double.MAX_VALUE : nextChangeTime - currentTime;
+        final double schedulingInterval = vm.getHost().getDatacenter().getSchedulingInterval();
+        return unpredictableChange && schedulingInterval > 0 ? Math.min(delay, schedulingInterval) : delay;
+    }
+
     /**
      * Updates the processing of all cloudlets of the Vm using this scheduler
      * that are in the {@link #getCloudletExecList() cloudlet execution list}.
      *
+     * <p>In the same pass that updates the executed length of each Cloudlet,
+     * the RAM and BW demand of all running Cloudlets is accumulated,
+     * so that the VM utilization of such resources is updated at the end
+     * (see {@link #updateVmResourceAbsoluteUtilization(ResourceManageable, long)}).</p>
+     *
      * @param currentTime current simulation time
      * @return the predicted completion time of the earliest finishing cloudlet
      * (which is a relative delay from the current simulation time),
@@ -527,18 +642,33 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     @SuppressWarnings("ForLoopReplaceableByForEach")
     private double updateCloudletsProcessing(final double currentTime) {
+        final ResourceManageable ram = getVmRam();
+        final ResourceManageable bw = getVmBw();
         double nextCloudletFinishTime = Double.MAX_VALUE;
         long usedPes = 0;
-        /* Uses an indexed for to avoid ConcurrentModificationException,
-         * e.g., in cases when Cloudlet is cancelled during simulation execution. */
-        for (int i = 0; i < cloudletExecList.size(); i++) {
-            final CloudletExecution cle = cloudletExecList.get(i);
-            updateCloudletProcessingAndPacketsDispatch(cle, currentTime);
-            nextCloudletFinishTime = Math.min(nextCloudletFinishTime, cloudletEstimatedFinishTime(cle, currentTime));
-            usedPes += cle.getCloudlet().getNumberOfPes();
+        long requestedRam = 0;
+        long requestedBw = 0;
+
+        availableMipsByPeOnUpdate = getAvailableMipsByPe();
+        try {
+            /* Uses an indexed for to avoid ConcurrentModificationException,
+             * e.g., in cases when Cloudlet is cancelled during simulation execution. */
+            for (int i = 0; i < cloudletExecList.size(); i++) {
+                final CloudletExecution cle = cloudletExecList.get(i);
+                final Cloudlet cloudlet = cle.getCloudlet();
+                updateCloudletProcessingAndPacketsDispatch(cle, currentTime);
+                nextCloudletFinishTime = Math.min(nextCloudletFinishTime, cloudletEstimatedFinishTime(cle, currentTime));
+                usedPes += cloudlet.getNumberOfPes();
+                requestedRam = sumCloudletResourceRequest(cloudlet, ram, cloudlet.getUtilizationModelRam(), requestedRam);
+                requestedBw = sumCloudletResourceRequest(cloudlet, bw, cloudlet.getUtilizationModelBw(), requestedBw);
+            }
+        } finally {
+            availableMipsByPeOnUpdate = -1;
         }
 
         ((VmSimple) vm).setFreePesNumber(vm.getNumberOfPes() - usedPes);
+        updateVmResourceAbsoluteUtilization(ram, requestedRam);
+        updateVmResourceAbsoluteUtilization(bw, requestedBw);
 
         return nextCloudletFinishTime;
     }
@@ -576,49 +706,91 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     }
 
     /**
-     * Updates the VM utilization of given resource, based on the current utilization of all
-     * its running Cloudlets, that depends on the Cloudlet's {@link UtilizationModel} for that resource.
+     * Adds the amount of a given VM resource currently requested by a running Cloudlet
+     * (that depends on the Cloudlet's {@link UtilizationModel} for that resource)
+     * to the total amount requested by all running Cloudlets processed so far.
      *
-     * <p>It de-allocates all resources so that the VM's amount of allocated resource will be update
-     * for each running Cloudlet. This way, each Cloudlet requests an amount that is allocated.
+     * <p>Running Cloudlets are allocated resources in the order they appear in the execution list.
      * The request for the next Cloudlet may not be fulfilled due to lack of resources.
      * If a Cloudlet requests more resources than is available, just the available
-     * amount is allocated to it.</p>
+     * amount is allocated to it and a warning is logged.</p>
      *
-     * @param resourceClass the kind of resource to updates its utilization (usually {@link Ram} or {@link Bandwidth}).
-     */
-    private void updateVmResourceAbsoluteUtilization(final Class<? extends ResourceManageable> resourceClass) {
-        final ResourceManageable resource = vm.getResource(resourceClass);
-        resource.deallocateAllResources();
-        for (final CloudletExecution cle : cloudletExecList) {
-            final Cloudlet cloudlet = cle.getCloudlet();
-            final long requested = (long) getCloudletResourceAbsoluteUtilization(cloudlet, resourceClass);
-            if(requested > resource.getAvailableResource()){
-                final String msg =
-                        resource.getAvailableResource() > 0 ?
-                        String.format("just %d was available and allocated to it.", resource.getAvailableResource()):
-                        "no amount is available.";
-                LOGGER.warn(
-                    "{}: {}: {} requested {} MB of {} but {}",
-                    vm.getSimulation().clockStr(), getClass().getSimpleName(), cloudlet, requested, resource.getClass().getSimpleName(), msg);
-            }
-            resource.allocateResource(Math.min(requested, resource.getAvailableResource()));
+     * @param cloudlet the running Cloudlet
+     * @param resource the VM resource requested by the Cloudlet (usually {@link Ram} or {@link Bandwidth})
+     * @param model the Cloudlet's {@link UtilizationModel} for that resource
+     * @param totalRequested the total amount of the resource requested by previously processed Cloudlets
+     * @return the new total amount of the resource requested, including the given Cloudlet's request
+     */
+    private long sumCloudletResourceRequest(
+        final Cloudlet cloudlet,
+        final ResourceManageable resource,
+        final UtilizationModel model,
+        final long totalRequested)
+    {
+        final long requested = (long) getAbsoluteCloudletResourceUtilization(model, resource.getCapacity());
+        final long available = resource.getCapacity() - Math.min(totalRequested, resource.getCapacity());
+        if (requested > available && Log.isWarnEnabled(LOGGER, vm.getSimulation())) {
+            logCloudletResourceAllocationFailure(cloudlet, resource, requested, available);
         }
+
+        return totalRequested + requested;
+    }
+
+    private void logCloudletResourceAllocationFailure(
+        final Cloudlet cloudlet, final ResourceManageable resource,
+        final long requested, final long available)
+    {
+        final String msg =
+                available > 0 ?
+                String.format("just %d was available and allocated to it.", available):
+                "no amount is available.";
+        LOGGER.warn(
+            "{}: {}: {} requested {} MB of {} but {}",
+            vm.getSimulation().clockStr(), getClass().getSimpleName(), cloudlet, requested, resource.getClass().getSimpleName(), msg);
     }
 
     /**
-     * Gets the absolute utilization of a given Cloudlet's resource
+     * Updates the VM utilization of given resource, based on the total amount of it
+     * requested by all running Cloudlets.
+     * Since each Cloudlet is allocated at most the amount available after
+     * the previous ones are served, the total allocated amount is
+     * the total requested, limited to the resource capacity.
+     * If such an amount is the currently allocated one, the resource is not changed.
      *
-     * @param cloudlet the Cloudlet to get the absolute value of RAM utilization
-     * @param resourceClass the kind of resource to get its utilization (usually {@link Ram} or {@link Bandwidth}).
-     * @return the current utilization of the requested Cloudlet's resource in absolute value
+     * @param resource the VM resource to update its utilization (usually {@link Ram} or {@link Bandwidth})
+     * @param totalRequested the total amount of the resource requested by all running Cloudlets
+     * @see #sumCloudletResourceRequest(Cloudlet, ResourceManageable, UtilizationModel, long)
+     */
+    private void updateVmResourceAbsoluteUtilization(final ResourceManageable resource, final long totalRequested) {
+        final long newAllocated = Math.min(totalRequested, resource.getCapacity());
+        if(newAllocated != resource.getAllocatedResource()) {
+            resource.deallocateAllResources();
+            resource.allocateResource(newAllocated);
+        }
+    }
+
+    /**
+     * Gets the VM's {@link Ram} resource.
+     * @return the VM RAM or {@link ResourceManageable#NULL} if the VM resources aren't available yet
      */
-    private double getCloudletResourceAbsoluteUtilization(final Cloudlet cloudlet, Class<? extends ResourceManageable> resourceClass) {
-        final ResourceManageable vmResource = vm.getResource(resourceClass);
-        final UtilizationModel um = cloudlet.getUtilizationModel(resourceClass);
-        return um.getUnit() == Unit.ABSOLUTE ?
-                Math.min(um.getUtilization(), vmResource.getCapacity()) :
-                um.getUtilization() * vmResource.getCapacity();
+    private ResourceManageable getVmRam() {
+        if(vmRam == ResourceManageable.NULL){
+            vmRam = vm.getResource(Ram.class);
+        }
+
+        return vmRam;
+    }
+
+    /**
+     * Gets the VM's {@link Bandwidth} resource.
+     * @return the VM BW or {@link ResourceManageable#NULL} if the VM resources aren't available yet
+     */
+    private ResourceManageable getVmBw() {
+        if(vmBw == ResourceManageable.NULL){
+            vmBw = vm.getResource(Bandwidth.class);
+        }
+
+        return vmBw;
     }
 
     /**
@@ -657,10 +829,33 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
          * to be transferred from the Datacenter storage.
          */
         final double actualProcessingTime = hasCloudletFileTransferTimePassed(cle, currentTime) ? timeSpan(cle, currentTime) : 0;
-        final double cloudletUsedMips = getAllocatedMipsForCloudlet(cle, currentTime);
+        final double cloudletUsedMips = getUsedMipsForTimeSpan(cle, currentTime);
         return cloudletUsedMips * actualProcessingTime * Conversion.MILLION;
     }
 
+    /**
+     * Gets the MIPS a Cloudlet has used since the last time its processing was updated.
+     *
+     * <p>When the {@link Datacenter#isAnalyticProcessingEnabled() analytic processing} is enabled
+     * and the Cloudlet's CPU {@link UtilizationModel} is able to predict when its utilization changes,
+     * the processing is updated right at such changes.
+     * This way, the utilization at the last processing time is the one the Cloudlet had
+     * during the entire time span. Otherwise, the current utilization is used.</p>
+     *
+     * @param cle the Cloudlet to get the used MIPS
+     * @param currentTime current simulation time
+     * @return the MIPS used by the Cloudlet
+     */
+    private double getUsedMipsForTimeSpan(final CloudletExecution cle, final double currentTime) {
+        final UtilizationModel model = cle.getCloudlet().getUtilizationModelCpu();
+        final double lastProcessingTime = cle.getLastProcessingTime();
+        if(!analyticProcessing || model.getNextUtilizationChangeTime(lastProcessingTime) < 0) {
+            return getAllocatedMipsForCloudlet(cle, currentTime);
+        }
+
+        return getAbsoluteCloudletResourceUtilization(model, lastProcessingTime, getAvailableMipsByPe());
+    }
+
     /**
      * Checks if the time to transfer the files required by a Cloudlet to
      * execute has already passed, in order to start executing the Cloudlet in
@@ -698,16 +893,18 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * {@link #getCloudletExecList() execution list}
      */
     private int addCloudletsToFinishedList() {
-        final List<CloudletExecution> finishedCloudlets
-            = cloudletExecList.stream()
-            .filter(cle -> cle.getCloudlet().isFinished())
-            .collect(toList());
-
-        for (final CloudletExecution c : finishedCloudlets) {
-            addCloudletToFinishedList(c);
+        int finishedCloudlets = 0;
+        for (int i = 0; i < cloudletExecList.size(); ) {
+            final CloudletExecution cle = cloudletExecList.get(i);
+            if(cle.getCloudlet().isFinished()) {
+                addCloudletToFinishedList(cle);
+                finishedCloudlets++;
+            } else {
+                i++;
+            }
         }
 
-        return finishedCloudlets.size();
+        return finishedCloudlets;
     }
 
     private void addCloudletToFinishedList(final CloudletExecution cle) {
@@ -853,6 +1050,8 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         }
 
         this.vm = vm;
+        this.vmRam = ResourceManageable.NULL;
+        this.vmBw = ResourceManageable.NULL;
     }
 
     /**
@@ -1011,7 +1210,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
             return Math.min(model.getUtilization(time), maxResourceAllowedToUse);
         }
 
-        return model.getUtilization() * maxResourceAllowedToUse;
+        return model.getUtilization(time) * maxResourceAllowedToUse;
     }
 
     /**
@@ -1025,7 +1224,9 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public void addCloudletToReturnedList(final Cloudlet cloudlet) {
-        this.cloudletReturnedList.add(cloudlet);
+        if(isRetainFinishedCloudlets()) {
+            this.cloudletReturnedList.add(cloudlet);
+        }
     }
 
     @Override
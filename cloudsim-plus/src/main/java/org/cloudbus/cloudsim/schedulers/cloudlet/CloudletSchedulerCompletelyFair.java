@@ -27,13 +27,10 @@ import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.resources.Pe;
-import org.cloudbus.cloudsim.util.MathUtil;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
-
-import static java.util.stream.Collectors.toList;
 
 /**
  * A simplified implementation of the <a href="https://en.wikipedia.org/wiki/Completely_Fair_Scheduler">Completely Fair Scheduler (CFS)</a>
@@ -64,6 +61,13 @@ import static java.util.stream.Collectors.toList;
  *     room for other process to run.
  *     The CFS scheduler uses a dynamic defined timeslice.
  *     </li>
+ *     <li>Uses a Red-Black tree, as in real implementations of CFS, to sort waiting Cloudlets (runqueue list)
+ *     increasingly, based on their virtual runtime (vruntime or VRT)
+ *     (placing the Cloudlets that have run the least at the top of the tree).
+ *     Cloudlets having the same virtual runtime are sorted by priority and id, so that
+ *     they can be stored in the tree as well.
+ *     Selecting the next Cloudlet to run, adding and removing waiting Cloudlets takes O(log n).
+ *     </li>
  * </ul>
  *
  * And it currently <b>DOES NOT</b> implement the following features:
@@ -86,14 +90,6 @@ import static java.util.stream.Collectors.toList;
  *     (application execution is simulated just computing the amount of instructions
  *     that can be run), it doesn't matter which PEs are "running" the application.
  *     </li>
- *	   <li>It doesn't use a Red-Black tree (such as the TreeSet), as in real implementations of CFS,
- *	   to sort waiting Cloudlets (runqueue list) increasingly, based on their virtual runtime (vruntime or VRT)
- *	   (placing the Cloudlets that have run the least at the top of the tree).
- *	   Furthermore, the use of such a data structure added some complexity to the implementation.
- *	   Since different Cloudlets may have the same virtual runtime, this introduced some issues when adding or
- *	   removing elements in a structure such as the TreeSet, that requires
- *	   each value (the virtual runtime in this case) used to sort the Set to be unique.
- *	   </li>
  * </ul>
  * </p>
  *
@@ -134,27 +130,46 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 	private int latency = 3;
 
     /**
-     * A comparator used to increasingly sort Cloudlets into the waiting list
-     * based on their virtual runtime (vruntime or VRT). By this way, the Cloudlets in the beginning
-     * of such a list will be that ones which have run the least and have to be
-     * prioritized when getting Cloudlets from this list to add to the execution
-     * list.
-     *
-     * @param c1 first Cloudlet to compare
-     * @param c2 second Cloudlet to compare
-     * @return a negative value if c1 is lower than c2, zero if they are equals,
-     * a positive value if c1 is greater than c2
+     * The runqueue that is used as the waiting list, keeping Cloudlets
+     * sorted by their virtual runtime.
+     * @see #getCloudletWaitingList()
      */
-    private int waitingCloudletsComparator(final CloudletExecution c1, final CloudletExecution c2){
-        final double vRuntimeDiff = c1.getVirtualRuntime() - c2.getVirtualRuntime();
-        if (vRuntimeDiff != 0) {
-            return MathUtil.doubleToInt(vRuntimeDiff);
-        }
+    private final CompletelyFairRunqueue runqueue;
+
+    /**
+     * The list used as the execution list, which enables tracking
+     * every change made to it.
+     * @see #getCloudletExecList()
+     */
+    private final ExecList execList;
 
-        final long priorityDiff = c1.getCloudlet().getPriority() - c2.getCloudlet().getPriority();
-        final long idDiff = c1.getCloudletId() - c2.getCloudletId();
-        //Since the computed value is long but the comparator return must be int, rounds the value to the closest int
-        return Math.round(priorityDiff == 0 ? idDiff : priorityDiff);
+    /**
+     * The weight sum of all Cloudlets in the execution list,
+     * updated as Cloudlets are added to and removed from such a list.
+     * @see #getWeightSumOfRunningCloudlets()
+     */
+    private double runningCloudletsWeightSum;
+
+    /**
+     * The {@link ExecList#getModCount() modification count} of the execution list
+     * when the {@link #runningCloudletsWeightSum} was last updated.
+     * If it differs from the current count, the list was changed without updating the sum
+     * (such as when a Cloudlet is paused or cancelled), requiring the sum to be recomputed.
+     */
+    private int runningCloudletsWeightSumModCount;
+
+    /**
+     * Creates a CloudletSchedulerCompletelyFair.
+     */
+    public CloudletSchedulerCompletelyFair() {
+        this(new CompletelyFairRunqueue(), new ExecList());
+    }
+
+    private CloudletSchedulerCompletelyFair(final CompletelyFairRunqueue runqueue, final ExecList execList) {
+        super(runqueue, execList);
+        this.runqueue = runqueue;
+        this.execList = execList;
+        this.runningCloudletsWeightSumModCount = -1;
     }
 
     /**
@@ -219,6 +234,11 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      * Gets a <b>read-only</b> list of Cloudlets which are waiting to run, the so called
      * <a href="https://en.wikipedia.org/wiki/Run_queue">run queue</a>.
      *
+     * <p>The runqueue is sorted according to the virtual runtime (vruntime or VRT),
+     * which indicates the amount of time the Cloudlet has run.
+     * This runtime increases as the Cloudlet executes.
+     * This way, the next Cloudlets to run are the first suitable ones in this list.</p>
+     *
      * <p>
      * <b>NOTE:</b> Different from real implementations, this scheduler uses just one run queue
      * for all processor cores (PEs). Since CPU context switch is not concerned,
@@ -234,15 +254,17 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 
     /**
      * {@inheritDoc}
-     * The cloudlet waiting list (runqueue) is sorted according to the virtual runtime (vruntime or VRT),
-     * which indicates the amount of time the Cloudlet has run.
-     * This runtime increases as the Cloudlet executes.
+     * Since a Cloudlet just starts running when there are enough free PEs for it,
+     * the runqueue isn't traversed when all PEs are busy.
      *
      * @return {@inheritDoc}
      */
     @Override
     protected Optional<CloudletExecution> findSuitableWaitingCloudlet() {
-        sortCloudletWaitingList(this::waitingCloudletsComparator);
+        if(getVm().getProcessor().getAvailableResource() == 0) {
+            return Optional.empty();
+        }
+
         return super.findSuitableWaitingCloudlet();
     }
 
@@ -295,12 +317,54 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 	 * Gets the weight sum of all cloudlets in the executing list.
 	 */
 	private double getWeightSumOfRunningCloudlets() {
-		return getCloudletExecList()
-            .stream()
-            .mapToDouble(this::getCloudletWeight)
-            .sum();
+        if(!isWeightSumUpToDate()) {
+            runningCloudletsWeightSum = 0;
+            for (final CloudletExecution cle : execList) {
+                runningCloudletsWeightSum += getCloudletWeight(cle);
+            }
+            runningCloudletsWeightSumModCount = execList.getModCount();
+        }
+
+        return runningCloudletsWeightSum;
 	}
 
+    private boolean isWeightSumUpToDate() {
+        return runningCloudletsWeightSumModCount == execList.getModCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     * It also adds the Cloudlet weight to the weight sum of running Cloudlets.
+     * @param cle {@inheritDoc}
+     */
+    @Override
+    protected void addCloudletToExecList(final CloudletExecution cle) {
+        final boolean weightSumUpToDate = isWeightSumUpToDate();
+        super.addCloudletToExecList(cle);
+        if(weightSumUpToDate) {
+            runningCloudletsWeightSum += getCloudletWeight(cle);
+            runningCloudletsWeightSumModCount = execList.getModCount();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * It also subtracts the Cloudlet weight from the weight sum of running Cloudlets.
+     * @param cle {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected CloudletExecution removeCloudletFromExecList(final CloudletExecution cle) {
+        final boolean weightSumUpToDate = isWeightSumUpToDate();
+        final CloudletExecution removed = super.removeCloudletFromExecList(cle);
+        if(weightSumUpToDate && removed != CloudletExecution.NULL) {
+            runningCloudletsWeightSum = execList.isEmpty() ? 0 : runningCloudletsWeightSum - getCloudletWeight(removed);
+            runningCloudletsWeightSumModCount = execList.getModCount();
+        }
+
+        return removed;
+    }
+
 	/**
 	 * Gets the minimum granularity that is the minimum amount of
 	 * time (in seconds) that is assigned to each
@@ -490,9 +554,14 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
         and next Cloudlets on the beginning of this list are moved
         to the execution list, the virtual runtime of these preempted Cloudlets
         is reset so that they can compete with other waiting Cloudlets to use
-        the processor again.*/
+        the processor again. Since that changes their position into the runqueue,
+        the ones still waiting are reinserted.
+        The ones moved back to the execution list aren't into the runqueue anymore.*/
         for(final CloudletExecution c: preemptedCloudlets) {
             c.setVirtualRuntime(computeCloudletInitialVirtualRuntime(c));
+            if(c.getCloudlet().getStatus() != Cloudlet.Status.INEXEC) {
+                runqueue.reinsert(c);
+            }
         }
 
         return nextCloudletFinishTime;
@@ -509,16 +578,36 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      *
      */
     private List<CloudletExecution> preemptExecCloudletsWithExpiredVRuntimeAndMoveToWaitingList() {
-        final Predicate<CloudletExecution> vrtReachedTimeSlice = cle -> cle.getVirtualRuntime() >= cle.getTimeSlice();
-        final List<CloudletExecution> expiredVrtCloudlets =
-            getCloudletExecList()
-                .stream()
-                .filter(vrtReachedTimeSlice)
-                .collect(toList());
-
-        expiredVrtCloudlets.forEach(cle -> addCloudletToWaitingList(removeCloudletFromExecList(cle)));
+        final List<CloudletExecution> execList = getCloudletExecList();
+        final List<CloudletExecution> expiredVrtCloudlets = new ArrayList<>();
+        for (int i = 0; i < execList.size(); ) {
+            final CloudletExecution cle = execList.get(i);
+            if (cle.getVirtualRuntime() >= cle.getTimeSlice()) {
+                expiredVrtCloudlets.add(cle);
+                addCloudletToWaitingList(removeCloudletFromExecList(cle));
+            } else {
+                i++;
+            }
+        }
+
         return expiredVrtCloudlets;
     }
 
-}
 
+    /**
+     * An execution list that exposes its modification count,
+     * so that the scheduler knows when the list was changed
+     * by the {@link CloudletSchedulerAbstract} without updating the
+     * {@link #runningCloudletsWeightSum}.
+     */
+    private static final class ExecList extends ArrayList<CloudletExecution> {
+        /**
+         * Gets the number of times the list was structurally modified,
+         * that is, the number of times elements were added or removed.
+         * @return
+         */
+        int getModCount() {
+            return modCount;
+        }
+    }
+}
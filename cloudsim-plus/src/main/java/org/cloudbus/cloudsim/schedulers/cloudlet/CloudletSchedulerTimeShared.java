@@ -74,6 +74,25 @@ import java.util.List;
  * @see CloudletSchedulerSpaceShared
  */
 public class CloudletSchedulerTimeShared extends CloudletSchedulerAbstract {
+    /**
+     * Creates a time-shared CloudletScheduler.
+     */
+    public CloudletSchedulerTimeShared() {
+        super();
+    }
+
+    /**
+     * Creates a time-shared CloudletScheduler using given Lists as the waiting and execution lists.
+     *
+     * @param cloudletWaitingList an empty List to store the waiting Cloudlets,
+     *                            that must support adding and removing elements
+     * @param cloudletExecList an empty List to store the running Cloudlets,
+     *                         that must support adding and removing elements
+     * @see CloudletSchedulerAbstract#CloudletSchedulerAbstract(List, List)
+     */
+    protected CloudletSchedulerTimeShared(final List<CloudletExecution> cloudletWaitingList, final List<CloudletExecution> cloudletExecList) {
+        super(cloudletWaitingList, cloudletExecList);
+    }
 
     /**
      * {@inheritDoc}
@@ -0,0 +1,211 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+
+import java.util.*;
+
+/**
+ * The <a href="https://en.wikipedia.org/wiki/Run_queue">run queue</a> of a {@link CloudletSchedulerCompletelyFair},
+ * keeping waiting Cloudlets increasingly sorted by their virtual runtime (vruntime or VRT).
+ * Cloudlets with the same vruntime are sorted by priority, then by id
+ * and finally by the order they were added to the queue.
+ * By this way, the Cloudlets in the beginning of the queue are that ones which have run the least
+ * and have to be prioritized when getting Cloudlets to add to the execution list.
+ *
+ * <p>As in the Linux CFS, the queue is backed by a Red-Black tree (a {@link TreeMap}),
+ * so that adding a Cloudlet, removing it and getting the next one to run takes O(log n).
+ * The sorting key of a Cloudlet is taken when it is added to the queue.
+ * This way, Cloudlets with the same vruntime (or even the same id) can be stored without any issue
+ * and a Cloudlet can be removed even if its attributes have changed after it was added.
+ * If the vruntime of a waiting Cloudlet changes,
+ * it has to be {@link #reinsert(CloudletExecution) reinserted} to be moved to its new position.</p>
+ *
+ * <p>The queue is a {@link List} since it is used as the
+ * {@link CloudletSchedulerAbstract#getCloudletWaitingList() waiting list} of the scheduler.
+ * However, positional operations are not supported, except for {@link #get(int)} that takes O(n).</p>
+ */
+final class CompletelyFairRunqueue extends AbstractList<CloudletExecution> {
+    /**
+     * The timeline sorting the waiting Cloudlets by the key computed when they were added.
+     */
+    private final NavigableMap<Key, CloudletExecution> timeline;
+
+    /**
+     * The key used to add each Cloudlet to the {@link #timeline}.
+     * Since {@link CloudletExecution#equals(Object)} just compares Cloudlet ids,
+     * the map considers object identity, so that different executions
+     * with the same Cloudlet id are kept apart.
+     */
+    private final Map<CloudletExecution, Key> keys;
+
+    /**
+     * The sequence number of the next Cloudlet added to the queue,
+     * used to break ties between Cloudlets with equal sorting attributes.
+     */
+    private long nextSequence;
+
+    CompletelyFairRunqueue() {
+        super();
+        this.timeline = new TreeMap<>();
+        this.keys = new IdentityHashMap<>();
+    }
+
+    @Override
+    public boolean add(final CloudletExecution cle) {
+        final Key key = new Key(cle, nextSequence++);
+        final Key previousKey = keys.put(cle, key);
+        if(previousKey != null) {
+            timeline.remove(previousKey);
+        }
+
+        timeline.put(key, cle);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The Cloudlet is searched by identity in O(log n).
+     * If it isn't found, the first Cloudlet equal to the given object is removed in O(n).
+     * @param obj {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean remove(final Object obj) {
+        final Key key = keys.remove(obj);
+        if(key == null) {
+            return super.remove(obj);
+        }
+
+        timeline.remove(key);
+        return true;
+    }
+
+    /**
+     * Moves a Cloudlet to the position defined by its current attributes,
+     * after its vruntime has changed.
+     * The Cloudlet is searched just by identity, so that a different execution
+     * with the same Cloudlet id is never moved in its place.
+     * @param cle the Cloudlet to reinsert
+     * @return true if the Cloudlet is into the queue; false otherwise
+     */
+    boolean reinsert(final CloudletExecution cle) {
+        if(!keys.containsKey(cle)) {
+            return false;
+        }
+
+        return remove(cle) && add(cle);
+    }
+
+    @Override
+    public boolean contains(final Object obj) {
+        return keys.containsKey(obj) || super.contains(obj);
+    }
+
+    @Override
+    public CloudletExecution get(final int index) {
+        if(index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        final Iterator<CloudletExecution> iterator = iterator();
+        for (int i = 0; i < index; i++) {
+            iterator.next();
+        }
+
+        return iterator.next();
+    }
+
+    @Override
+    public Iterator<CloudletExecution> iterator() {
+        final Iterator<CloudletExecution> iterator = timeline.values().iterator();
+        return new Iterator<CloudletExecution>() {
+            private CloudletExecution last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public CloudletExecution next() {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                keys.remove(last);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return keys.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        timeline.clear();
+        keys.clear();
+    }
+
+    /**
+     * The immutable sorting key of a Cloudlet into the {@link #timeline}.
+     */
+    private static final class Key implements Comparable<Key> {
+        private final double virtualRuntime;
+        private final long priority;
+        private final long cloudletId;
+        private final long sequence;
+
+        private Key(final CloudletExecution cle, final long sequence) {
+            this.virtualRuntime = cle.getVirtualRuntime();
+            this.priority = cle.getCloudlet().getPriority();
+            this.cloudletId = cle.getCloudletId();
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(final Key other) {
+            if (virtualRuntime != other.virtualRuntime) {
+                return virtualRuntime < other.virtualRuntime ? -1 : 1;
+            }
+
+            if (priority != other.priority) {
+                return Long.compare(priority, other.priority);
+            }
+
+            return cloudletId == other.cloudletId ? Long.compare(sequence, other.sequence) : Long.compare(cloudletId, other.cloudletId);
+        }
+    }
+}
@@ -13,11 +13,11 @@ import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.network.VmPacket;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Implements a policy of scheduling performed by a
@@ -48,10 +48,21 @@ public class CloudletTaskSchedulerSimple implements CloudletTaskScheduler {
 
     /**
      * A map of {@link VmPacket}'s received, where each key is the
-     * sender VM and each value is the list of packets sent by that VM
-     * targeting the VM of this scheduler.
+     * sender VM and each value is a map where each key is the receiver Cloudlet
+     * and each value is the queue of packets sent by that VM to that Cloudlet
+     * (inside the VM of this scheduler).
+     * This way, a receive task gets its packets without filtering all packets
+     * received from the sender VM.
+     * Queues are removed as soon as they are drained (as well as the maps of VMs without queues),
+     * so the map just holds packets still waiting to be received.
      */
-    private final Map<Vm, List<VmPacket>> vmPacketsReceivedMap;
+    private final Map<Vm, Map<Cloudlet, List<VmPacket>>> vmPacketsReceivedMap;
+
+    /**
+     * A buffer reused to store the packets delivered to a Cloudlet,
+     * avoiding the creation of a list every time a receive task is checked.
+     */
+    private final List<VmPacket> receivedPacketsBuffer;
 
     /**
      * Creates a CloudletTaskSchedulerSimple object.
@@ -61,6 +72,7 @@ public class CloudletTaskSchedulerSimple implements CloudletTaskScheduler {
         super();
         vmPacketsToSend = new ArrayList<>();
         vmPacketsReceivedMap = new HashMap<>();
+        receivedPacketsBuffer = new ArrayList<>();
     }
 
     @Override
@@ -136,11 +148,13 @@ public class CloudletTaskSchedulerSimple implements CloudletTaskScheduler {
     private void addPacketsToBeSentFromVm(final NetworkCloudlet sourceCloudlet) {
         final Optional<CloudletSendTask> optional = getCloudletCurrentTask(sourceCloudlet);
         optional.ifPresent(task -> {
-            LOGGER.trace(
-                "{}: {}: {} pkts added to be sent from {} in {}",
-                sourceCloudlet.getSimulation().clockStr(), getClass().getSimpleName(),
-                task.getPacketsToSend().size(), sourceCloudlet,
-                sourceCloudlet.getVm());
+            if(Log.isTraceEnabled(LOGGER, sourceCloudlet.getSimulation())) {
+                LOGGER.trace(
+                    "{}: {}: {} pkts added to be sent from {} in {}",
+                    sourceCloudlet.getSimulation().clockStr(), getClass().getSimpleName(),
+                    task.getPacketsToSend().size(), sourceCloudlet,
+                    sourceCloudlet.getVm());
+            }
 
             vmPacketsToSend.addAll(task.getPacketsToSend(sourceCloudlet.getSimulation().clock()));
             scheduleNextTaskIfCurrentIsFinished(sourceCloudlet);
@@ -157,21 +171,20 @@ public class CloudletTaskSchedulerSimple implements CloudletTaskScheduler {
     private void receivePackets(final NetworkCloudlet candidateDestinationCloudlet) {
         final Optional<CloudletReceiveTask> optional = getCloudletCurrentTask(candidateDestinationCloudlet);
         optional.ifPresent(task -> {
-            final List<VmPacket> receivedPkts = getPacketsSentToCloudlet(task);
+            /*Removes the received packets from the queue of packets sent from the source VM,
+            to indicate they were in fact received.*/
+            final List<VmPacket> receivedPkts = pollPacketsSentToCloudlet(task);
             // Assumption: packet will not arrive in the same cycle
             receivedPkts.forEach(task::receivePacket);
-            receivedPkts.forEach(pkt ->
-                LOGGER.trace(
-                    "{}: {}: {} in {} received pkt with {} bytes from {} in {}",
-                    candidateDestinationCloudlet.getSimulation().clockStr(), getClass().getSimpleName(),
-                    pkt.getReceiverCloudlet(), pkt.getDestination(),
-                    pkt.getSize(), pkt.getSenderCloudlet(), pkt.getSource())
-            );
-
-            /*Removes the received packets from the list of sent packets of the VM,
-            to indicate they were in fact received and have to be removed
-            from the list of the sender VM*/
-            getListOfPacketsSentFromVm(task.getSourceVm()).removeAll(receivedPkts);
+            if(Log.isTraceEnabled(LOGGER, candidateDestinationCloudlet.getSimulation())) {
+                receivedPkts.forEach(pkt ->
+                    LOGGER.trace(
+                        "{}: {}: {} in {} received pkt with {} bytes from {} in {}",
+                        candidateDestinationCloudlet.getSimulation().clockStr(), getClass().getSimpleName(),
+                        pkt.getReceiverCloudlet(), pkt.getDestination(),
+                        pkt.getSize(), pkt.getSenderCloudlet(), pkt.getSource())
+                );
+            }
 
             /*
              * @TODO author: manoelcampos The task has to wait the reception
@@ -194,21 +207,46 @@ public class CloudletTaskSchedulerSimple implements CloudletTaskScheduler {
 
     /**
      * Checks if there are packets sent to a given {@link NetworkCloudlet},
-     * to be processed by a {@link CloudletReceiveTask}, and returns them to be
-     * delivered for that Cloudlet.
+     * to be processed by a {@link CloudletReceiveTask}, and removes them from the queue of received packets,
+     * returning them to be delivered for that Cloudlet.
      *
      * @param receiveTask the {@link CloudletReceiveTask} that is waiting for packets
      * @return the list of packets targeting the {@link NetworkCloudlet} or an empty list
      *         if there are no packets received that are targeting such a Cloudlet.
+     *         The list is reused by subsequent calls, so it must not be stored.
      */
-    private List<VmPacket> getPacketsSentToCloudlet(final CloudletReceiveTask receiveTask) {
-        final List<VmPacket> pktsFromExpectedSenderVm = getListOfPacketsSentFromVm(receiveTask.getSourceVm());
-
-        return pktsFromExpectedSenderVm
-                .stream()
-                .filter(pkt -> pkt.getDestination().equals(receiveTask.getCloudlet().getVm()))
-                .filter(pkt -> pkt.getReceiverCloudlet().equals(receiveTask.getCloudlet()))
-                .collect(Collectors.toList());
+    private List<VmPacket> pollPacketsSentToCloudlet(final CloudletReceiveTask receiveTask) {
+        receivedPacketsBuffer.clear();
+        final Vm sourceVm = receiveTask.getSourceVm();
+        final Map<Cloudlet, List<VmPacket>> pktsFromExpectedSenderVm = vmPacketsReceivedMap.get(sourceVm);
+        if(pktsFromExpectedSenderVm == null){
+            return receivedPacketsBuffer;
+        }
+
+        final Cloudlet receiverCloudlet = receiveTask.getCloudlet();
+        final List<VmPacket> queue = pktsFromExpectedSenderVm.get(receiverCloudlet);
+        if(queue == null){
+            return receivedPacketsBuffer;
+        }
+
+        final Vm destinationVm = receiverCloudlet.getVm();
+        for (final VmPacket pkt : queue) {
+            if(pkt.getDestination().equals(destinationVm)){
+                receivedPacketsBuffer.add(pkt);
+            }
+        }
+
+        if(receivedPacketsBuffer.size() < queue.size()) {
+            queue.removeIf(pkt -> pkt.getDestination().equals(destinationVm));
+            return receivedPacketsBuffer;
+        }
+
+        pktsFromExpectedSenderVm.remove(receiverCloudlet);
+        if(pktsFromExpectedSenderVm.isEmpty()){
+            vmPacketsReceivedMap.remove(sourceVm);
+        }
+
+        return receivedPacketsBuffer;
     }
 
     /**
@@ -244,19 +282,50 @@ public class CloudletTaskSchedulerSimple implements CloudletTaskScheduler {
     }
 
     /**
-     * Gets the list of packets received that were sent from a given VM,
-     * targeting the VM of this scheduler.
+     * Gets the queue of packets received that were sent from a given VM,
+     * targeting a given Cloudlet inside the VM of this scheduler.
      *
      * @param sourceVm VM to get the list of packets sent from
-     * @return the list of packets sent from the given VM
+     * @param receiverCloudlet the Cloudlet the packets are sent to
+     * @return the queue of packets sent from the given VM to the given Cloudlet
      */
-    private List<VmPacket> getListOfPacketsSentFromVm(final Vm sourceVm){
-        vmPacketsReceivedMap.putIfAbsent(sourceVm, new ArrayList<>());
-        return vmPacketsReceivedMap.get(sourceVm);
+    private List<VmPacket> getPacketsSentFromVm(final Vm sourceVm, final Cloudlet receiverCloudlet){
+        return vmPacketsReceivedMap
+                   .computeIfAbsent(sourceVm, vm -> new HashMap<>())
+                   .computeIfAbsent(receiverCloudlet, cloudlet -> new ArrayList<>());
     }
 
+    /**
+     * {@inheritDoc}
+     * Packets sent to a Cloudlet that is already finished aren't added,
+     * since they will never be received.
+     *
+     * @param pkt {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public boolean addPacketToListOfPacketsSentFromVm(final VmPacket pkt){
-        return getListOfPacketsSentFromVm(pkt.getSource()).add(pkt);
+        if(pkt.getReceiverCloudlet().isFinished()){
+            return false;
+        }
+
+        return getPacketsSentFromVm(pkt.getSource(), pkt.getReceiverCloudlet()).add(pkt);
+    }
+
+    /**
+     * Gets the number of VMs which have sent packets still waiting to be received.
+     * @return
+     */
+    int getSenderVmsNumber() {
+        return vmPacketsReceivedMap.size();
+    }
+
+    /**
+     * Gets the number of queues holding packets still waiting to be received,
+     * one for each pair of sender VM and receiver Cloudlet.
+     * @return
+     */
+    int getReceivedPacketQueuesNumber() {
+        return vmPacketsReceivedMap.values().stream().mapToInt(Map::size).sum();
     }
 }
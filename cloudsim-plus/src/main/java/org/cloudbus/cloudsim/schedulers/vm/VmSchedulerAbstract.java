@@ -11,6 +11,7 @@ import org.cloudbus.cloudsim.hosts.HostSimple;
 import org.cloudbus.cloudsim.provisioners.PeProvisioner;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -83,9 +84,11 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
     @Override
     public boolean isSuitableForVm(final Vm vm, final List<Double> requestedMips) {
         if(requestedMips.isEmpty()){
-            LOGGER.warn(
-                "{}: {}: It was requested an empty list of PEs for {} in {}",
-                getHost().getSimulation().clockStr(), getClass().getSimpleName(), vm, host);
+            if(Log.isWarnEnabled(LOGGER, getHost().getSimulation())) {
+                LOGGER.warn(
+                    "{}: {}: It was requested an empty list of PEs for {} in {}",
+                    getHost().getSimulation().clockStr(), getClass().getSimpleName(), vm, host);
+            }
             return false;
         }
 
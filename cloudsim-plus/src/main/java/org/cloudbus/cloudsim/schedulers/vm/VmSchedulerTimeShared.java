@@ -8,6 +8,7 @@ package org.cloudbus.cloudsim.schedulers.vm;
 
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -163,6 +164,10 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
      * @param allocatedMipsForVmPe the actually allocated MIPS for the vPE
      */
     private void logMipsUnavailable(final Vm vm, final double requestedMipsForVmPe, final double allocatedMipsForVmPe) {
+        if(!Log.isWarnEnabled(LOGGER, getHost().getSimulation())) {
+            return;
+        }
+
         final String msg = allocatedMipsForVmPe > 0 ?
                 String.format("Only %.0f MIPS were allocated.", allocatedMipsForVmPe)
                 : "No MIPS were allocated.";
@@ -0,0 +1,607 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.util;
+
+import org.cloudbus.cloudsim.core.Simulation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * A compact, columnar recorder for the state history of a Host or VM.
+ * Instead of storing one history entry object per sample,
+ * it keeps the time, allocated MIPS, requested MIPS and a boolean flag
+ * (such as the Host active state or the VM migration state)
+ * into primitive arrays, which are allocated in fixed-size chunks as the history grows.
+ *
+ * <p>The class is an unmodifiable {@link List} view of the recorded entries:
+ * an entry object is just created when it is requested by {@link #get(int)}
+ * or by iterating over the list. To read the data without
+ * creating such objects, use the column methods
+ * {@link #getTime(int)}, {@link #getAllocatedMips(int)},
+ * {@link #getRequestedMips(int)} and {@link #getFlag(int)}.</p>
+ *
+ * <p>By default, all samples are kept in memory.
+ * The amount of data stored can be reduced by:</p>
+ * <ul>
+ *   <li>{@link #setMaxEntries(int) limiting the number of entries},
+ *       which turns the history into a ring buffer that keeps just the newest entries;</li>
+ *   <li>{@link #setMinTimeBetweenEntries(double) downsampling}, which discards
+ *       samples that are too close to the last recorded one;</li>
+ *   <li>{@link #enableSpillToDisk(Path) spilling old entries to a file},
+ *       which keeps the entire history but just the newest chunk in memory.</li>
+ * </ul>
+ *
+ * <p>Entries can just be added by the {@link Recorder} created together with the history,
+ * which is kept by the Host or VM owning it. That way, the history can be read and configured
+ * by anyone, but its entries cannot be changed from outside.</p>
+ *
+ * @param <T> the type of the history entries this list provides
+ * @since CloudSim Plus 5.2.0
+ */
+public final class StateHistory<T> extends AbstractList<T> implements RandomAccess, Closeable {
+    /**
+     * A function that creates a history entry object from the
+     * data of a given position into the history columns.
+     * @param <T> the type of the history entries
+     */
+    @FunctionalInterface
+    public interface EntryFactory<T> {
+        T create(double time, double allocatedMips, double requestedMips, boolean flag);
+    }
+
+    private static final int CHUNK_BITS = 9;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Number of bytes of an entry stored into the spill file: 3 doubles and 1 byte for the flag. */
+    private static final int RECORD_BYTES = 3 * Double.BYTES + 1;
+
+    private final EntryFactory<T> entryFactory;
+
+    /**
+     * The chunks of entries kept in memory.
+     * The first chunk stores the entries starting at the global index {@link #firstChunkIndex}.
+     */
+    private final List<Chunk> chunks;
+
+    /** A chunk discarded from the head of the ring buffer, to be reused as a new tail chunk. */
+    private Chunk spareChunk;
+
+    /** The global index of the first entry of the first chunk in memory. */
+    private long firstChunkIndex;
+
+    /** The global index of the first retained entry. */
+    private long first;
+
+    /** The global index after the last recorded entry. */
+    private long end;
+
+    /** @see #setMaxEntries(int) */
+    private int maxEntries;
+
+    /** @see #setMinTimeBetweenEntries(double) */
+    private double minTimeBetweenEntries;
+
+    /** @see #enableSpillToDisk(Path) */
+    private Path spillFile;
+
+    /**
+     * The channel to read and write the {@link #spillFile},
+     * which is just open while it's being used.
+     * @see #releaseSpillChannel()
+     */
+    private FileChannel spillChannel;
+    private ByteBuffer spillBuffer;
+
+    /**
+     * Creates an empty state history.
+     * @param entryFactory the function used to create an entry object when
+     *                     one is requested from this list
+     * @see #newRecorder(EntryFactory, Supplier)
+     */
+    StateHistory(final EntryFactory<T> entryFactory) {
+        super();
+        this.entryFactory = Objects.requireNonNull(entryFactory);
+        this.chunks = new ArrayList<>();
+    }
+
+    /**
+     * Creates an empty state history, returning the {@link Recorder} that
+     * is the only object able to add entries to it.
+     *
+     * @param entryFactory the function used to create an entry object when
+     *                     one is requested from the history
+     * @param simulation a {@link Supplier} for the simulation the history is related to,
+     *                   used to release the spill file when the simulation finishes
+     * @param <T> the type of the history entries
+     * @return the recorder for the new history
+     */
+    public static <T> Recorder<T> newRecorder(final EntryFactory<T> entryFactory, final Supplier<Simulation> simulation) {
+        return new Recorder<>(new StateHistory<>(entryFactory), simulation);
+    }
+
+    /**
+     * Records a new entry into the history.
+     * If the last recorded entry has the same time as the new one, it is replaced.
+     * If the new entry is closer than the {@link #getMinTimeBetweenEntries() minimum time}
+     * from the last recorded entry, it is discarded.
+     *
+     * @param time the time the data is related to
+     * @param allocatedMips the total allocated MIPS at the given time
+     * @param requestedMips the total requested MIPS at the given time
+     * @param flag a boolean state at the given time
+     *             (if the Host is active or if the VM is in migration)
+     */
+    void record(final double time, final double allocatedMips, final double requestedMips, final boolean flag) {
+        if (end > first) {
+            final Chunk tail = chunkOf(end - 1);
+            final int offset = (int)((end - 1) & CHUNK_MASK);
+            if (tail.time[offset] == time) {
+                tail.set(offset, time, allocatedMips, requestedMips, flag);
+                return;
+            }
+
+            if (time - tail.time[offset] < minTimeBetweenEntries) {
+                return;
+            }
+        }
+
+        final int offset = (int)(end & CHUNK_MASK);
+        if (end == firstChunkIndex + (long)chunks.size() * CHUNK_SIZE) {
+            chunks.add(newChunk());
+        }
+
+        final Chunk tail = chunks.get(chunks.size() - 1);
+        tail.ensureCapacity(offset + 1);
+        tail.set(offset, time, allocatedMips, requestedMips, flag);
+        end++;
+
+        removeEntriesOverLimit();
+        spillIfRequired();
+    }
+
+    private Chunk newChunk() {
+        if (spareChunk != null) {
+            final Chunk chunk = spareChunk;
+            spareChunk = null;
+            return chunk;
+        }
+
+        return new Chunk(end == 0 ? INITIAL_CAPACITY : CHUNK_SIZE);
+    }
+
+    /**
+     * Removes the oldest entries when the {@link #getMaxEntries() maximum number of entries}
+     * is exceeded, releasing the chunks that don't store any retained entry.
+     */
+    private void removeEntriesOverLimit() {
+        if (maxEntries <= 0) {
+            return;
+        }
+
+        if (end - first > maxEntries) {
+            first = end - maxEntries;
+        }
+
+        while (first - firstChunkIndex >= CHUNK_SIZE) {
+            spareChunk = chunks.remove(0);
+            firstChunkIndex += CHUNK_SIZE;
+        }
+    }
+
+    /**
+     * Writes all the full chunks to the spill file (if enabled),
+     * keeping just the tail chunk in memory.
+     */
+    private void spillIfRequired() {
+        if (spillFile == null) {
+            return;
+        }
+
+        while (chunks.size() > 1) {
+            final Chunk chunk = chunks.remove(0);
+            spillBuffer.clear();
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                spillBuffer.putDouble(chunk.time[i])
+                           .putDouble(chunk.allocatedMips[i])
+                           .putDouble(chunk.requestedMips[i])
+                           .put((byte)(chunk.flag[i] ? 1 : 0));
+            }
+
+            spillBuffer.flip();
+            try {
+                long position = firstChunkIndex * RECORD_BYTES;
+                while (spillBuffer.hasRemaining()) {
+                    position += spillChannel().write(spillBuffer, position);
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            firstChunkIndex += CHUNK_SIZE;
+            spareChunk = chunk;
+        }
+    }
+
+    @Override
+    public T get(final int index) {
+        final long globalIndex = toGlobalIndex(index);
+        if (globalIndex < firstChunkIndex) {
+            final ByteBuffer buffer = readSpilledEntry(globalIndex);
+            return entryFactory.create(buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.get() != 0);
+        }
+
+        final Chunk chunk = chunkOf(globalIndex);
+        final int offset = (int)(globalIndex & CHUNK_MASK);
+        return entryFactory.create(chunk.time[offset], chunk.allocatedMips[offset], chunk.requestedMips[offset], chunk.flag[offset]);
+    }
+
+    /**
+     * Gets the time of the entry at a given position.
+     * @param index the position of the entry
+     * @return
+     */
+    public double getTime(final int index) {
+        final long globalIndex = toGlobalIndex(index);
+        return globalIndex < firstChunkIndex ?
+                    readSpilledEntry(globalIndex).getDouble(0) :
+                    chunkOf(globalIndex).time[(int)(globalIndex & CHUNK_MASK)];
+    }
+
+    /**
+     * Gets the allocated MIPS of the entry at a given position.
+     * @param index the position of the entry
+     * @return
+     */
+    public double getAllocatedMips(final int index) {
+        final long globalIndex = toGlobalIndex(index);
+        return globalIndex < firstChunkIndex ?
+                    readSpilledEntry(globalIndex).getDouble(Double.BYTES) :
+                    chunkOf(globalIndex).allocatedMips[(int)(globalIndex & CHUNK_MASK)];
+    }
+
+    /**
+     * Gets the requested MIPS of the entry at a given position.
+     * @param index the position of the entry
+     * @return
+     */
+    public double getRequestedMips(final int index) {
+        final long globalIndex = toGlobalIndex(index);
+        return globalIndex < firstChunkIndex ?
+                    readSpilledEntry(globalIndex).getDouble(2 * Double.BYTES) :
+                    chunkOf(globalIndex).requestedMips[(int)(globalIndex & CHUNK_MASK)];
+    }
+
+    /**
+     * Gets the boolean flag of the entry at a given position
+     * (if the Host is active or if the VM is in migration).
+     * @param index the position of the entry
+     * @return
+     */
+    public boolean getFlag(final int index) {
+        final long globalIndex = toGlobalIndex(index);
+        return globalIndex < firstChunkIndex ?
+                    readSpilledEntry(globalIndex).get(3 * Double.BYTES) != 0 :
+                    chunkOf(globalIndex).flag[(int)(globalIndex & CHUNK_MASK)];
+    }
+
+    private long toGlobalIndex(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        return first + index;
+    }
+
+    private Chunk chunkOf(final long globalIndex) {
+        return chunks.get((int)((globalIndex - firstChunkIndex) >>> CHUNK_BITS));
+    }
+
+    private ByteBuffer readSpilledEntry(final long globalIndex) {
+        final ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        try {
+            long position = globalIndex * RECORD_BYTES;
+            while (buffer.hasRemaining()) {
+                final int read = spillChannel().read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of the state history spill file");
+                }
+                position += read;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Gets the channel to read and write the spill file, opening it if it was released.
+     * @return
+     * @throws IOException when the file cannot be open
+     */
+    private FileChannel spillChannel() throws IOException {
+        if (spillChannel == null) {
+            spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+
+        return spillChannel;
+    }
+
+    /**
+     * Closes the channel of the spill file (if open), keeping the file.
+     * The channel is open again if spilled entries are later read.
+     */
+    void releaseSpillChannel() {
+        if (spillChannel == null) {
+            return;
+        }
+
+        try {
+            spillChannel.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            spillChannel = null;
+        }
+    }
+
+    /**
+     * Disables the {@link #enableSpillToDisk(Path) spill to disk}, closing and deleting the spill file.
+     * The entries stored into such a file are discarded, keeping just the entries in memory.
+     * It does nothing if the spill to disk isn't enabled.
+     *
+     * <p>When the spill to disk is enabled, the spill file is automatically closed when the simulation finishes,
+     * but it's open again if spilled entries are read afterwards.
+     * This method must be called to close it and remove the file when the history isn't required anymore.</p>
+     *
+     * @throws UncheckedIOException when the file cannot be closed or deleted
+     */
+    @Override
+    public void close() {
+        if (spillFile == null) {
+            return;
+        }
+
+        final Path file = spillFile;
+        spillFile = null;
+        spillBuffer = null;
+        first = Math.max(first, firstChunkIndex);
+        try {
+            releaseSpillChannel();
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return (int)(end - first);
+    }
+
+    /**
+     * Gets the maximum number of entries to keep in the history.
+     * @return the maximum number of entries or 0 if there is no limit
+     * @see #setMaxEntries(int)
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Sets the maximum number of entries to keep in the history.
+     * When this number is exceeded, the oldest entries are discarded,
+     * so that the history works as a ring buffer.
+     *
+     * @param maxEntries the maximum number of entries or 0 to keep all entries (the default)
+     * @return this StateHistory
+     * @throws IllegalStateException when the {@link #enableSpillToDisk(Path) spill to disk} is enabled,
+     *                               since there is no need to limit the number of entries in such a case
+     */
+    public StateHistory<T> setMaxEntries(final int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("The maximum number of entries cannot be negative.");
+        }
+
+        if (maxEntries > 0 && isSpillToDiskEnabled()) {
+            throw new IllegalStateException("The number of entries cannot be limited when spill to disk is enabled.");
+        }
+
+        this.maxEntries = maxEntries;
+        removeEntriesOverLimit();
+        return this;
+    }
+
+    /**
+     * Gets the minimum time interval between two recorded entries.
+     * @return the minimum interval or 0 if all samples are recorded
+     * @see #setMinTimeBetweenEntries(double)
+     */
+    public double getMinTimeBetweenEntries() {
+        return minTimeBetweenEntries;
+    }
+
+    /**
+     * Sets the minimum time interval between two recorded entries, enabling the history to be downsampled.
+     * Samples whose time is closer than such an interval from the last recorded entry are discarded.
+     *
+     * @param minTimeBetweenEntries the minimum interval or 0 to record all samples (the default)
+     * @return this StateHistory
+     */
+    public StateHistory<T> setMinTimeBetweenEntries(final double minTimeBetweenEntries) {
+        if (minTimeBetweenEntries < 0) {
+            throw new IllegalArgumentException("The minimum time between entries cannot be negative.");
+        }
+
+        this.minTimeBetweenEntries = minTimeBetweenEntries;
+        return this;
+    }
+
+    /**
+     * Checks if the old entries are written to a file to reduce memory usage.
+     * @return
+     * @see #enableSpillToDisk(Path)
+     */
+    public boolean isSpillToDiskEnabled() {
+        return spillFile != null;
+    }
+
+    /**
+     * Enables writing the old entries to a given file, so that just the newest chunk of entries
+     * is kept in memory. Entries written to the file are read back on demand,
+     * when requested from this list.
+     *
+     * <p>The spill to disk must be enabled before any entry is recorded.
+     * Since each history keeps its spill file open while the simulation is running, this is intended for a few
+     * Hosts or VMs having very long histories, not for every Host in a large Datacenter.
+     * The file is kept after the simulation finishes, so that the entire history can be read,
+     * until the history is {@link #close() closed}.</p>
+     *
+     * @param file the file to store the old entries (which is truncated if it already exists)
+     * @return this StateHistory
+     * @throws IllegalStateException when some entry was already recorded or the
+     *                               {@link #setMaxEntries(int) number of entries is limited}
+     * @throws UncheckedIOException when the file cannot be created
+     */
+    public StateHistory<T> enableSpillToDisk(final Path file) {
+        Objects.requireNonNull(file);
+        if (end > 0 || maxEntries > 0 || isSpillToDiskEnabled()) {
+            throw new IllegalStateException(
+                "Spill to disk must be enabled just once, before recording entries and without limiting the number of entries.");
+        }
+
+        try {
+            spillChannel = FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        spillFile = file;
+        spillBuffer = ByteBuffer.allocate(CHUNK_SIZE * RECORD_BYTES);
+        return this;
+    }
+
+    /**
+     * Adds entries to a {@link StateHistory}.
+     * It's created together with the history by {@link #newRecorder(EntryFactory, Supplier)}
+     * and is intended to be kept by the object owning the history,
+     * which just exposes the history itself.
+     *
+     * @param <T> the type of the history entries
+     */
+    public static final class Recorder<T> {
+        private final StateHistory<T> history;
+        private final Supplier<Simulation> simulation;
+
+        /** Indicates if the spill file will be released when the simulation finishes. */
+        private boolean releaseOnFinishRequested;
+
+        private Recorder(final StateHistory<T> history, final Supplier<Simulation> simulation) {
+            this.history = history;
+            this.simulation = Objects.requireNonNull(simulation);
+        }
+
+        /**
+         * Gets the history this recorder adds entries to.
+         * @return
+         */
+        public StateHistory<T> getHistory() {
+            return history;
+        }
+
+        /**
+         * Records a new entry into the history.
+         * @param time the time the data is related to
+         * @param allocatedMips the total allocated MIPS at the given time
+         * @param requestedMips the total requested MIPS at the given time
+         * @param flag a boolean state at the given time
+         *             (if the Host is active or if the VM is in migration)
+         */
+        public void record(final double time, final double allocatedMips, final double requestedMips, final boolean flag) {
+            history.record(time, allocatedMips, requestedMips, flag);
+            if (!releaseOnFinishRequested && history.isSpillToDiskEnabled()) {
+                releaseOnFinishRequested = true;
+                simulation.get().addOnSimulationFinishListener(info -> history.releaseSpillChannel());
+            }
+        }
+    }
+
+    /**
+     * A chunk of entries stored as columns of primitive arrays.
+     * Only the first chunk of a history starts with a small capacity,
+     * growing up to {@link #CHUNK_SIZE}, so that histories with
+     * just a few entries don't waste memory.
+     */
+    private static final class Chunk {
+        private double[] time;
+        private double[] allocatedMips;
+        private double[] requestedMips;
+        private boolean[] flag;
+
+        Chunk(final int capacity) {
+            time = new double[capacity];
+            allocatedMips = new double[capacity];
+            requestedMips = new double[capacity];
+            flag = new boolean[capacity];
+        }
+
+        void ensureCapacity(final int capacity) {
+            if (capacity <= time.length) {
+                return;
+            }
+
+            final int newCapacity = Math.min(CHUNK_SIZE, Math.max(capacity, time.length * 2));
+            time = Arrays.copyOf(time, newCapacity);
+            allocatedMips = Arrays.copyOf(allocatedMips, newCapacity);
+            requestedMips = Arrays.copyOf(requestedMips, newCapacity);
+            flag = Arrays.copyOf(flag, newCapacity);
+        }
+
+        void set(final int offset, final double time, final double allocatedMips, final double requestedMips, final boolean flag) {
+            this.time[offset] = time;
+            this.allocatedMips[offset] = allocatedMips;
+            this.requestedMips[offset] = requestedMips;
+            this.flag[offset] = flag;
+        }
+    }
+}
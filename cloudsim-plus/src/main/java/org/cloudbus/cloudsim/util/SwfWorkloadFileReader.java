@@ -17,7 +17,10 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Reads resource traces and creates a list of ({@link Cloudlet Cloudlets}) (jobs).
@@ -44,6 +47,7 @@ import java.util.function.Predicate;
  *
  * @see #getInstance(String, int)
  * @see #generateWorkload()
+ * @see #stream()
  *
  * @author Anthony Sulistio
  * @author Marcos Dias de Assuncao
@@ -125,6 +129,38 @@ public final class SwfWorkloadFileReader extends TraceReaderAbstract {
      */
     private Predicate<Cloudlet> predicate;
 
+    /**
+     * @see #setJobFilter(JobFilter)
+     */
+    private JobFilter jobFilter;
+
+    /**
+     * @see #setParallel(boolean)
+     */
+    private boolean parallel;
+
+    /**
+     * A filter that checks, from the raw values of a job read from the workload file,
+     * if a {@link Cloudlet} must be created for such a job.
+     * Since the filter is applied before the Cloudlet is created,
+     * discarded jobs don't cost any object allocation.
+     *
+     * @see #setJobFilter(JobFilter)
+     * @since CloudSim Plus 5.2.0
+     */
+    @FunctionalInterface
+    public interface JobFilter {
+        /**
+         * Checks if a Cloudlet must be created for a job.
+         *
+         * @param submitTime the time the job was submitted (in seconds)
+         * @param numProc the number of processors required by the job
+         * @param runTime the time the job takes to run (in seconds)
+         * @return true if a Cloudlet must be created for the job, false otherwise
+         */
+        boolean test(long submitTime, int numProc, int runTime);
+    }
+
     /**
      * Gets a {@link SwfWorkloadFileReader} instance from a workload file
      * inside the <b>application's resource directory</b>.
@@ -189,27 +225,72 @@ public final class SwfWorkloadFileReader extends TraceReaderAbstract {
         That is, there isn't an actual condition to create a Cloudlet.
         */
         this.predicate = cloudlet -> true;
+        this.jobFilter = (submitTime, numProc, runTime) -> true;
     }
 
     /**
      * Generates a list of jobs ({@link Cloudlet Cloudlets}) to be executed,
      * if it wasn't generated yet.
+     * If {@link #isParallel() parallel} reading is enabled and the file
+     * can be split, the lines are read and the Cloudlets created by multiple threads,
+     * keeping the order they appear in the file.
      *
      * @return a generated Cloudlet list
+     * @see #stream()
      */
     public List<Cloudlet> generateWorkload() {
-        if (cloudlets.isEmpty()) {
-            readFile(this::createCloudletFromTraceLine);
+        if (!cloudlets.isEmpty()) {
+            return cloudlets;
+        }
+
+        if (parallel) {
+            try (Stream<Cloudlet> stream = stream()) {
+                cloudlets.addAll(stream.collect(Collectors.toList()));
+            }
+        } else {
+            readFile(this::addCloudletFromTraceLine);
         }
 
         return cloudlets;
     }
 
+    /**
+     * Gets a lazy {@link Stream} of jobs ({@link Cloudlet Cloudlets}) read from the workload file.
+     * Lines are just read and Cloudlets created as the Stream is consumed,
+     * avoiding to keep the entire workload in memory at once.
+     * That enables a broker to pull Cloudlets as they are needed,
+     * such as by calling {@code broker.submitCloudletStream(reader.stream().iterator(), window)}.
+     *
+     * <p>The Stream must be closed after use to release the file.
+     * It can be consumed just once, since the file is read a single time.
+     * The Cloudlets it provides are not stored into the list returned by {@link #generateWorkload()}.</p>
+     *
+     * @return a Stream of the Cloudlets created from the jobs accepted by the
+     *         {@link #setJobFilter(JobFilter) job filter} and {@link #setPredicate(Predicate) predicate},
+     *         limited to the {@link #getMaxLinesToRead() max number of lines to read}.
+     *         It's a parallel Stream if {@link #isParallel() parallel} reading is enabled and the file can be split.
+     * @see #generateWorkload()
+     * @since CloudSim Plus 5.2.0
+     */
+    public Stream<Cloudlet> stream() {
+        final Stream<Cloudlet> stream =
+            parsedLineStream(parallel)
+                .map(this::createCloudletFromTraceLine)
+                .filter(cloudlet -> cloudlet != Cloudlet.NULL);
+
+        return getMaxLinesToRead() == -1 ? stream : stream.limit(getMaxLinesToRead());
+    }
+
     /**
      * Defines a {@link Predicate} which indicates when a {@link Cloudlet}
      * must be created from a trace line read from the workload file.
      * If a Predicate is not set, a Cloudlet will be created for any line read.
      *
+     * <p>The predicate is only tested after the Cloudlet is created.
+     * To discard jobs without creating Cloudlets for them,
+     * use a {@link #setJobFilter(JobFilter) job filter} instead.
+     * If the workload is read in {@link #isParallel() parallel}, the predicate must be thread-safe.</p>
+     *
      * @param predicate the predicate to define when a Cloudlet must be created from a line read from the workload file
      * @return
      */
@@ -218,21 +299,75 @@ public final class SwfWorkloadFileReader extends TraceReaderAbstract {
         return this;
     }
 
+    /**
+     * Defines a {@link JobFilter} which indicates, from the raw values of a job read
+     * from the workload file, when a {@link Cloudlet} must be created for it.
+     * The filter is tested before the Cloudlet is created and before the
+     * {@link #setPredicate(Predicate) predicate}, so that
+     * no object is created for the jobs it rejects.
+     * If the workload is read in {@link #isParallel() parallel}, the filter must be thread-safe.
+     *
+     * @param jobFilter the filter to define when a Cloudlet must be created for a job read from the workload file
+     * @return
+     * @since CloudSim Plus 5.2.0
+     */
+    public SwfWorkloadFileReader setJobFilter(final JobFilter jobFilter) {
+        this.jobFilter = Objects.requireNonNull(jobFilter);
+        return this;
+    }
+
+    /**
+     * Checks if the workload file is read by multiple threads.
+     * @return
+     * @see #setParallel(boolean)
+     * @since CloudSim Plus 5.2.0
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Enables or disables the reading of the workload file by multiple threads.
+     * That is just possible for uncompressed text files available in the file system,
+     * which can be split into chunks of lines.
+     * For compressed files or files inside the application's resource directory,
+     * the file is read sequentially, even if parallel reading is enabled.
+     *
+     * <p>The order of the created Cloudlets is kept,
+     * but the {@link #setJobFilter(JobFilter) job filter} and
+     * {@link #setPredicate(Predicate) predicate} must be thread-safe.</p>
+     *
+     * @param parallel true to enable parallel reading, false to disable
+     * @return
+     * @since CloudSim Plus 5.2.0
+     */
+    public SwfWorkloadFileReader setParallel(final boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    private boolean addCloudletFromTraceLine(final String[] parsedLineArray) {
+        final Cloudlet cloudlet = createCloudletFromTraceLine(parsedLineArray);
+        return cloudlet != Cloudlet.NULL && cloudlets.add(cloudlet);
+    }
+
     /**
      * Extracts relevant information from a given array of fields, representing
      * a line from the trace reader, and creates a cloudlet using this
      * information.
+     * The fields used by the {@link #setJobFilter(JobFilter) job filter} are parsed first,
+     * so that the remaining ones are just parsed for accepted jobs.
      *
      * @param parsedLineArray an array containing the field values from a parsed trace line
-     * @return true if the parsed line is valid and the Cloudlet was created, false otherwise
+     * @return the created Cloudlet if the parsed line is valid and the job accepted, {@link Cloudlet#NULL} otherwise
      */
-    private boolean createCloudletFromTraceLine(final String[] parsedLineArray) {
+    private Cloudlet createCloudletFromTraceLine(final String[] parsedLineArray) {
         //If all the fields couldn't be read, don't create the Cloudlet.
         if (parsedLineArray.length < FIELD_COUNT) {
-            return false;
+            return Cloudlet.NULL;
         }
 
-        final int id = JOB_NUM_INDEX <= IRRELEVANT ? cloudlets.size() + 1 : Integer.parseInt(parsedLineArray[JOB_NUM_INDEX].trim());
+        final long submitTime = Long.parseLong(parsedLineArray[SUBMIT_TIME_INDEX].trim());
 
         /* according to the SWF manual, runtime of 0 is possible due
          to rounding down. E.g. runtime is 0.4 seconds -> runtime = 0*/
@@ -246,16 +381,15 @@ public final class SwfWorkloadFileReader extends TraceReaderAbstract {
                                );
         final int numProc = Math.max(maxNumProc, 1);
 
+        if(!jobFilter.test(submitTime, numProc, runTime)){
+            return Cloudlet.NULL;
+        }
+
+        final int id = JOB_NUM_INDEX <= IRRELEVANT ? cloudlets.size() + 1 : Integer.parseInt(parsedLineArray[JOB_NUM_INDEX].trim());
         final Cloudlet cloudlet = createCloudlet(id, runTime, numProc);
-        final long submitTime = Long.parseLong(parsedLineArray[SUBMIT_TIME_INDEX].trim());
         cloudlet.setSubmissionDelay(submitTime);
 
-        if(predicate.test(cloudlet)){
-            cloudlets.add(cloudlet);
-            return true;
-        }
-
-        return false;
+        return predicate.test(cloudlet) ? cloudlet : Cloudlet.NULL;
     }
 
     /**
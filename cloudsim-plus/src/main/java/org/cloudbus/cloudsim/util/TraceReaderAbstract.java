@@ -1,11 +1,17 @@
 package org.cloudbus.cloudsim.util;
 
+import org.cloudsimplus.jfr.TraceReadBatchEvent;
+
 import java.io.*;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import static java.util.Objects.requireNonNull;
@@ -208,6 +214,72 @@ public abstract class TraceReaderAbstract implements TraceReader {
         }
     }
 
+    /**
+     * Gets a lazy {@link Stream} of the parsed lines from the file indicated by the {@link #getFilePath()},
+     * in any supported format, ignoring comment lines.
+     * Lines are just read as the Stream is consumed and the file is closed when the Stream is closed.
+     *
+     * <p>A parallel Stream can be requested, but it's just returned for uncompressed text files
+     * available in the file system, since such files can be split
+     * to have their lines read and parsed by different threads.
+     * Otherwise, a sequential Stream is returned.</p>
+     *
+     * @param parallel true to request a parallel Stream, false to get a sequential one
+     * @return a Stream where each element is a parsed line
+     * @throws UncheckedIOException if the there was any error reading the file
+     */
+    protected Stream<String[]> parsedLineStream(final boolean parallel) {
+        return lineStream(parallel)
+                .map(this::parseTraceLine)
+                .filter(parsedTraceLine -> parsedTraceLine.length > 0);
+    }
+
+    private Stream<String> lineStream(final boolean parallel) {
+        try {
+            if (getFilePath().endsWith(".gz")) {
+                return newReader(new GZIPInputStream(getInputStream())).lines().onClose(this::closeInputStream);
+            }
+
+            if (getFilePath().endsWith(".zip")) {
+                final ZipInputStream zipInputStream = new ZipInputStream(getInputStream());
+                return Stream.iterate(nextZipEntry(zipInputStream), Objects::nonNull, entry -> nextZipEntry(zipInputStream))
+                             .flatMap(entry -> newReader(zipInputStream).lines())
+                             .onClose(this::closeInputStream);
+            }
+
+            final Path path = Paths.get(filePath);
+            if (parallel && Files.isRegularFile(path)) {
+                //The file is read again, from a channel which enables splitting its lines
+                closeInputStream();
+                return Files.lines(path).parallel();
+            }
+
+            return newReader(getInputStream()).lines().onClose(this::closeInputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BufferedReader newReader(final InputStream inputStream) {
+        return new BufferedReader(new InputStreamReader(inputStream));
+    }
+
+    private static ZipEntry nextZipEntry(final ZipInputStream zipInputStream) {
+        try {
+            return zipInputStream.getNextEntry();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void closeInputStream() {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Reads traces from an {@link InputStream} linked to a file in any supported format,
      * then creates a Cloudlet for each line read.
@@ -224,13 +296,39 @@ public abstract class TraceReaderAbstract implements TraceReader {
         //The reader is safely closed by the caller
         final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
         lastLineNumber = 0;
+        TraceReadBatchEvent batchEvent = newBatchEvent();
         String line;
         while ((line = readNextLine(reader, lastLineNumber)) != null) {
             final String[] parsedTraceLine = parseTraceLine(line);
             if(parsedTraceLine.length > 0 && processParsedLineFunction.apply(parsedTraceLine)) {
                 lastLineNumber++;
+                if(lastLineNumber - batchEvent.firstLine == TraceReadBatchEvent.BATCH_SIZE) {
+                    commitBatchEvent(batchEvent);
+                    batchEvent = newBatchEvent();
+                }
             }
         }
+
+        commitBatchEvent(batchEvent);
+    }
+
+    /**
+     * Creates a JFR event to record the reading of the next batch of trace lines.
+     * @return
+     */
+    private TraceReadBatchEvent newBatchEvent() {
+        final TraceReadBatchEvent batchEvent = new TraceReadBatchEvent();
+        batchEvent.firstLine = lastLineNumber;
+        batchEvent.begin();
+        return batchEvent;
+    }
+
+    private void commitBatchEvent(final TraceReadBatchEvent batchEvent) {
+        batchEvent.lines = lastLineNumber - batchEvent.firstLine;
+        if (batchEvent.lines > 0 && batchEvent.shouldCommit()) {
+            batchEvent.file = filePath;
+            batchEvent.commit();
+        }
     }
 
     /**
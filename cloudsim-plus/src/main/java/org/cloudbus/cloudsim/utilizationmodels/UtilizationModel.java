@@ -9,6 +9,7 @@ package org.cloudbus.cloudsim.utilizationmodels;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.vms.Vm;
 
 /**
@@ -93,4 +94,26 @@ public interface UtilizationModel {
      */
     double getUtilization();
 
+    /**
+     * Gets the first time after a given one in which the resource utilization
+     * returned by this model will change.
+     * It enables a {@link Datacenter} with {@link Datacenter#enableAnalyticProcessing() analytic processing}
+     * to schedule the update of Cloudlets processing just when the utilization actually changes,
+     * instead of periodically sampling it.
+     *
+     * <p>Models defining a piecewise-constant utilization (such as the {@link UtilizationModelStep})
+     * have to return the time of the next step
+     * (or {@link Double#MAX_VALUE} if the utilization never changes).
+     * Such models also must not have side effects when {@link #getUtilization(double)} is called,
+     * since it may be called for a time before the current simulation time.
+     * The default implementation indicates the next change cannot be predicted.</p>
+     *
+     * @param time the time to get the next utilization change after
+     * @return the time of the next utilization change;
+     *         {@link Double#MAX_VALUE} if the utilization never changes;
+     *         or a negative value if such a time cannot be predicted
+     */
+    default double getNextUtilizationChangeTime(final double time) {
+        return -1;
+    }
 }
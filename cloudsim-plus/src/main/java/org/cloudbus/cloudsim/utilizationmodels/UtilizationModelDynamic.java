@@ -42,6 +42,12 @@ import java.util.function.Function;
  * @since CloudSim Plus 1.0
  */
 public class UtilizationModelDynamic extends UtilizationModelAbstract {
+    /**
+     * The default {@link #utilizationUpdateFunction} that just keeps the current utilization unchanged.
+     */
+    private static final Function<UtilizationModelDynamic, Double> CONSTANT_UTILIZATION_FUNCTION =
+        modelInstance -> modelInstance.currentUtilization;
+
     /**
      * Indicates whether the utilization model is readonly.
      * It's set to true when using the
@@ -148,7 +154,7 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
         this.currentUtilizationTime = 0;
         this.setCurrentUtilization(initialUtilization);
 
-        utilizationUpdateFunction = modelInstance -> modelInstance.currentUtilization;
+        utilizationUpdateFunction = CONSTANT_UTILIZATION_FUNCTION;
     }
 
     /**
@@ -169,7 +175,7 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
          * that will cause an infinite loop, since the {@link #getUtilization(double)} will call
          * the given function to increase the current utilization and return the current value.
          */
-        this.utilizationUpdateFunction = modelInstance -> modelInstance.currentUtilization;
+        this.utilizationUpdateFunction = CONSTANT_UTILIZATION_FUNCTION;
         this.readOnly = true;
     }
 
@@ -228,6 +234,20 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
         return readOnly ? currentUtilization : super.getUtilization();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The next change can just be predicted while no
+     * {@link #setUtilizationUpdateFunction(Function) update function} is set,
+     * meaning the utilization is constant.</p>
+     * @param time {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double getNextUtilizationChangeTime(final double time) {
+        return utilizationUpdateFunction == CONSTANT_UTILIZATION_FUNCTION ? Double.MAX_VALUE : -1;
+    }
+
     /**
      * Gets the time difference from the current simulation time to the
      * last time the resource utilization was updated.
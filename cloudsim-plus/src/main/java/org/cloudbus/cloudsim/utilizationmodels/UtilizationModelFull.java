@@ -36,4 +36,15 @@ public class UtilizationModelFull extends UtilizationModelAbstract {
     public double getUtilization() {
         return super.getUtilization();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param time {@inheritDoc}
+     * @return Always return {@link Double#MAX_VALUE}, since the utilization never changes.
+     */
+    @Override
+    public double getNextUtilizationChangeTime(final double time) {
+        return Double.MAX_VALUE;
+    }
 }
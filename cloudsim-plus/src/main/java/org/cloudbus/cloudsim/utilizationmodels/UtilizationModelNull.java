@@ -27,4 +27,7 @@ final class UtilizationModelNull implements UtilizationModel {
     @Override public double getUtilization() {
         return 0;
     }
+    @Override public double getNextUtilizationChangeTime(final double time) {
+        return Double.MAX_VALUE;
+    }
 }
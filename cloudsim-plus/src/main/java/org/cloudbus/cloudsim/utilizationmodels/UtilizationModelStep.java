@@ -0,0 +1,112 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.utilizationmodels;
+
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A {@link UtilizationModel} defining a piecewise-constant utilization:
+ * the utilization stays the same until the simulation time reaches the next step,
+ * when it changes to the value defined for that step.
+ *
+ * <p>Since the time of the next utilization change is known in advance,
+ * a {@link Datacenter} with {@link Datacenter#enableAnalyticProcessing() analytic processing}
+ * updates the processing of Cloudlets using this model just when the utilization changes,
+ * computing the exact progress of the Cloudlets between steps.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+public class UtilizationModelStep extends UtilizationModelAbstract {
+    /**
+     * A map where each key is the time a step starts
+     * and the value is the utilization from such a time on.
+     */
+    private final NavigableMap<Double, Double> steps;
+
+    /**
+     * Creates a UtilizationModelStep with the utilization defined in percentage.
+     *
+     * @param initialUtilization the utilization (in scale from [0 to 1])
+     *                           from time 0 up to the first step.
+     */
+    public UtilizationModelStep(final double initialUtilization) {
+        this(Unit.PERCENTAGE, initialUtilization);
+    }
+
+    /**
+     * Creates a UtilizationModelStep with the utilization defined in a given {@link Unit}.
+     *
+     * @param unit the {@link Unit} that determines how the utilization values will be defined
+     * @param initialUtilization the utilization from time 0 up to the first step
+     *                           (according to the given {@link Unit}).
+     */
+    public UtilizationModelStep(final Unit unit, final double initialUtilization) {
+        super(unit);
+        this.steps = new TreeMap<>();
+        addStep(0, initialUtilization);
+    }
+
+    /**
+     * Adds a step which changes the utilization at a given time.
+     * If there is already a step at such a time, it's replaced.
+     *
+     * @param time the time the utilization changes
+     * @param utilization the utilization from the given time on, up to the next step
+     *                    (according to the model {@link #getUnit() Unit})
+     * @return
+     */
+    public UtilizationModelStep addStep(final double time, final double utilization) {
+        validateUtilizationField("time", time);
+        validateUtilizationField("utilization", utilization);
+        if(getUnit() == Unit.PERCENTAGE && utilization > 1) {
+            throw new IllegalArgumentException("utilization cannot be greater than 1 (100%) when the Unit is PERCENTAGE");
+        }
+
+        steps.put(time, utilization);
+        return this;
+    }
+
+    @Override
+    public double getUtilization(final double time) {
+        final Map.Entry<Double, Double> step = steps.floorEntry(time);
+        return step == null ? steps.firstEntry().getValue() : step.getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param time {@inheritDoc}
+     * @return the time of the first step after the given time
+     *         or {@link Double#MAX_VALUE} if there is no step after it.
+     */
+    @Override
+    public double getNextUtilizationChangeTime(final double time) {
+        final Double nextStepTime = steps.higherKey(time);
+        return nextStepTime == null ? Double.MAX_VALUE : nextStepTime;
+    }
+}
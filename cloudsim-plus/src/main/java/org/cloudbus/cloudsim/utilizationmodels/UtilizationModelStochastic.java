@@ -12,9 +12,15 @@ import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
 import org.cloudbus.cloudsim.distributions.UniformDistr;
 
 import java.io.*;
-import java.util.HashMap;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 /**
  * Implements a model, according to which a Cloudlet generates
@@ -25,6 +31,30 @@ import java.util.Objects;
  * @since CloudSim Toolkit 2.0
  */
 public class UtilizationModelStochastic extends UtilizationModelAbstract {
+    /**
+     * Identifies files written by {@link #saveHistory(String)}
+     * (the ASCII chars "CSUH").
+     */
+    private static final int HISTORY_FILE_MAGIC = 0x43535548;
+
+    /** Version of the binary format written by {@link #saveHistory(String)}. */
+    private static final int HISTORY_FILE_VERSION = 1;
+
+    /**
+     * Magic number starting files written by Java serialization,
+     * used by previous versions of {@link #saveHistory(String)}.
+     */
+    private static final short SERIALIZED_HISTORY_MAGIC = (short)0xACED;
+
+    /** Size in bytes of the header (magic, version and number of entries) of history files. */
+    private static final int HISTORY_HEADER_BYTES = 3 * Integer.BYTES;
+
+    /** Size in bytes of each (time, utilization) entry in history files. */
+    private static final int HISTORY_ENTRY_BYTES = 2 * Double.BYTES;
+
+    private static final int HISTORY_IO_BUFFER_BYTES = 64 * 1024;
+
+    private static final int INITIAL_HISTORY_CAPACITY = 16;
 
     /**
      * The Random Number Generator (RNG).
@@ -32,10 +62,22 @@ public class UtilizationModelStochastic extends UtilizationModelAbstract {
     private ContinuousDistribution randomGenerator;
 
     /**
-     * The utilization history map, where each key is a time and
-     * each value is the resource utilization in that time.
+     * The times in the utilization history, sorted in ascending order.
+     * Each position {@code i} has its utilization stored at {@link #historyValues}{@code [i]}.
+     * Primitive arrays are used instead of a Map to avoid boxing every sample
+     * and to enable binary search by time.
+     */
+    private double[] historyTimes;
+
+    /**
+     * The resource utilization for each time in {@link #historyTimes}.
+     */
+    private double[] historyValues;
+
+    /**
+     * Number of entries actually used in {@link #historyTimes} and {@link #historyValues}.
      */
-    private Map<Double, Double> historyMap;
+    private int historySize;
 
     /**
      * The previous time the utilization was requested.
@@ -152,7 +194,8 @@ public class UtilizationModelStochastic extends UtilizationModelAbstract {
         this.previousUtilization = -1;
         this.maxPreviousTime = -1;
         this.historyEnabled = true;
-        this.historyMap = new HashMap<>();
+        this.historyTimes = new double[INITIAL_HISTORY_CAPACITY];
+        this.historyValues = new double[INITIAL_HISTORY_CAPACITY];
         setRandomGenerator(prng);
     }
 
@@ -186,66 +229,237 @@ public class UtilizationModelStochastic extends UtilizationModelAbstract {
         return utilization;
     }
 
-    private Double getOrGenerateUtilization(final double time) {
-        if(time > this.maxPreviousTime || alwaysGenerateNewRandomUtilization){
+    private double getOrGenerateUtilization(final double time) {
+        if(time > this.maxPreviousTime || alwaysGenerateNewRandomUtilization || !historyEnabled){
             return generateUtilization(time);
         }
 
-        final Double utilization = historyEnabled ? historyMap.get(time) : null;
-        return utilization == null ? generateUtilization(time) : utilization;
+        final int index = historyIndexOf(time);
+        return index < 0 ? generateUtilization(time) : historyValues[index];
     }
 
     private double generateUtilization(final double time) {
         final double utilization = Math.abs(randomGenerator.sample());
         if(historyEnabled) {
-            historyMap.put(time, utilization);
+            addHistory(time, utilization);
         }
 
         return utilization;
     }
 
     /**
-     * Gets the utilization percentage for a given time from the internal {@link #historyMap}.
+     * Gets the index of a given time inside the {@link #historyTimes}.
+     *
+     * @param time the time to search for
+     * @return the index of the time, if it's in the history;
+     *         otherwise a negative value, as returned by {@link Arrays#binarySearch(double[], int, int, double)}
+     */
+    private int historyIndexOf(final double time) {
+        //Utilization is usually requested for the latest time, so check it before searching
+        final int last = historySize - 1;
+        if(last >= 0 && historyTimes[last] == time){
+            return last;
+        }
+
+        return Arrays.binarySearch(historyTimes, 0, historySize, time);
+    }
+
+    /**
+     * Stores the utilization for a given time, keeping the {@link #historyTimes} sorted.
+     * Since times usually come in ascending order, this usually is just an append.
+     *
+     * @param time the time to add the utilization for
+     * @param utilization the utilization to store
+     */
+    private void addHistory(final double time, final double utilization) {
+        if(historySize > 0 && time <= historyTimes[historySize - 1]) {
+            final int index = historyIndexOf(time);
+            if (index >= 0) {
+                historyValues[index] = utilization;
+                return;
+            }
+
+            insertHistory(-index - 1, time, utilization);
+            return;
+        }
+
+        insertHistory(historySize, time, utilization);
+    }
+
+    private void insertHistory(final int index, final double time, final double utilization) {
+        if(historySize == historyTimes.length){
+            final int newCapacity = Math.max(INITIAL_HISTORY_CAPACITY, historySize + (historySize >> 1));
+            historyTimes = Arrays.copyOf(historyTimes, newCapacity);
+            historyValues = Arrays.copyOf(historyValues, newCapacity);
+        }
+
+        final int moved = historySize - index;
+        if(moved > 0) {
+            System.arraycopy(historyTimes, index, historyTimes, index + 1, moved);
+            System.arraycopy(historyValues, index, historyValues, index + 1, moved);
+        }
+
+        historyTimes[index] = time;
+        historyValues[index] = utilization;
+        historySize++;
+    }
+
+    /**
+     * Gets the utilization percentage for a given time from the internal utilization history.
      *
      * @param time the time to get the utilization history for
      * @return the stored utilization percentage or <b>null</b> if it has never been generated
      * an utilization value for the given time
      */
     protected Double getUtilizationHistory(final double time) {
-        return historyMap.get(time);
+        final int index = historyIndexOf(time);
+        return index < 0 ? null : historyValues[index];
+    }
+
+    /**
+     * Gets the number of entries in the utilization history.
+     * @return the number of times an utilization was stored for
+     */
+    public int getHistorySize() {
+        return historySize;
     }
 
     /**
      * Save the utilization history to a file.
+     * The history is written in a compact binary format,
+     * containing a header and then each (time, utilization) pair
+     * as two 8-byte doubles, sorted by time.
      *
      * @param filename the filename
      * @throws UncheckedIOException when the file cannot be accessed
+     * @see #loadHistory(String)
      */
     public void saveHistory(final String filename) {
-        try (final ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filename))) {
-            oos.writeObject(historyMap);
+        final StandardOpenOption[] options =
+            {StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING};
+        try (final FileChannel channel = FileChannel.open(Paths.get(filename), options)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(HISTORY_IO_BUFFER_BYTES);
+            buffer.putInt(HISTORY_FILE_MAGIC).putInt(HISTORY_FILE_VERSION).putInt(historySize);
+            for (int i = 0; i < historySize; i++) {
+                if(buffer.remaining() < HISTORY_ENTRY_BYTES){
+                    writeBuffer(channel, buffer);
+                }
+
+                buffer.putDouble(historyTimes[i]).putDouble(historyValues[i]);
+            }
+
+            writeBuffer(channel, buffer);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    private static void writeBuffer(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+
     /**
-     * Load an utilization history from a file.
+     * Load an utilization history from a file, replacing the current history.
+     * After loading, requesting the utilization for any time
+     * up to the last one in the file returns the stored value,
+     * enabling the replay of a previously recorded utilization.
+     *
+     * <p>Files written by {@link #saveHistory(String)} in previous versions,
+     * which used Java serialization, are also supported.</p>
      *
      * @param filename the filename
-     * @throws UncheckedIOException when the file cannot be accessed
+     * @throws UncheckedIOException when the file cannot be accessed or has an invalid format
+     * @see #saveHistory(String)
      */
-    @SuppressWarnings("unchecked")
     public void loadHistory(final String filename) {
-        try (final ObjectInputStream ois = new ObjectInputStream(new FileInputStream(filename))) {
-            historyMap = (Map<Double, Double>) ois.readObject();
+        try (final FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(HISTORY_IO_BUFFER_BYTES).flip();
+            fillBuffer(channel, buffer, Short.BYTES);
+            if(buffer.getShort(0) == SERIALIZED_HISTORY_MAGIC){
+                channel.position(0);
+                loadSerializedHistory(channel);
+                return;
+            }
+
+            fillBuffer(channel, buffer, HISTORY_HEADER_BYTES);
+            final int magic = buffer.getInt();
+            final int version = buffer.getInt();
+            final int size = buffer.getInt();
+            if(magic != HISTORY_FILE_MAGIC || version != HISTORY_FILE_VERSION || size < 0){
+                throw new IOException(filename + " is not a valid utilization history file.");
+            }
+
+            final double[] times = new double[Math.max(size, INITIAL_HISTORY_CAPACITY)];
+            final double[] values = new double[times.length];
+            for (int i = 0; i < size; i++) {
+                fillBuffer(channel, buffer, HISTORY_ENTRY_BYTES);
+                times[i] = buffer.getDouble();
+                values[i] = buffer.getDouble();
+            }
+
+            setHistory(times, values, size);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads data from a channel until the buffer has a minimum number of bytes to be consumed.
+     * The buffer is always kept ready to be read.
+     *
+     * @param channel the channel to read from
+     * @param buffer the buffer to store data into
+     * @param minBytes the minimum number of bytes the buffer must have to be read
+     * @throws EOFException when the channel ends before the required bytes are read
+     */
+    private static void fillBuffer(final FileChannel channel, final ByteBuffer buffer, final int minBytes) throws IOException {
+        if(buffer.remaining() >= minBytes){
+            return;
+        }
+
+        buffer.compact();
+        while (buffer.position() < minBytes) {
+            if(channel.read(buffer) < 0){
+                throw new EOFException("Unexpected end of utilization history file.");
+            }
+        }
+
+        buffer.flip();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadSerializedHistory(final FileChannel channel) throws IOException {
+        final InputStream input = new BufferedInputStream(Channels.newInputStream(channel), HISTORY_IO_BUFFER_BYTES);
+        try (final ObjectInputStream ois = new ObjectInputStream(input)) {
+            final Map<Double, Double> map = new TreeMap<>((Map<Double, Double>) ois.readObject());
+            final double[] times = new double[Math.max(map.size(), INITIAL_HISTORY_CAPACITY)];
+            final double[] values = new double[times.length];
+            int i = 0;
+            for (final Map.Entry<Double, Double> entry : map.entrySet()) {
+                times[i] = entry.getKey();
+                values[i++] = entry.getValue();
+            }
+
+            setHistory(times, values, i);
         } catch (ClassNotFoundException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private void setHistory(final double[] times, final double[] values, final int size) {
+        this.historyTimes = times;
+        this.historyValues = values;
+        this.historySize = size;
+        this.previousTime = -1;
+        this.previousUtilization = -1;
+        this.maxPreviousTime = size == 0 ? -1 : times[size - 1];
+    }
+
     /**
      * Gets the random number generator.
      *
@@ -16,6 +16,7 @@ import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.*;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.util.StateHistory;
 import org.cloudsimplus.autoscaling.HorizontalVmScaling;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 import org.cloudsimplus.autoscaling.VmScaling;
@@ -54,7 +55,7 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
     private final UtilizationHistory utilizationHistory;
 
     /** @see #getStateHistory() */
-    private final List<VmStateHistoryEntry> stateHistory;
+    private final StateHistory.Recorder<VmStateHistoryEntry> stateHistory;
 
     private HorizontalVmScaling horizontalScaling;
     private boolean failed;
@@ -97,10 +98,14 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
     /** @see #getSubmissionDelay() */
     private double submissionDelay;
 
-    private final Set<EventListener<VmHostEventInfo>> onHostAllocationListeners;
-    private final Set<EventListener<VmHostEventInfo>> onHostDeallocationListeners;
-    private final Set<EventListener<VmHostEventInfo>> onUpdateProcessingListeners;
-    private final Set<EventListener<VmDatacenterEventInfo>> onCreationFailureListeners;
+    /*
+     * Listener sets are just created when the first listener is added,
+     * since most VMs in large simulations don't have any.
+     */
+    private Set<EventListener<VmHostEventInfo>> onHostAllocationListeners;
+    private Set<EventListener<VmHostEventInfo>> onHostDeallocationListeners;
+    private Set<EventListener<VmHostEventInfo>> onUpdateProcessingListeners;
+    private Set<EventListener<VmDatacenterEventInfo>> onCreationFailureListeners;
 
     private VerticalVmScaling ramVerticalScaling;
     private VerticalVmScaling bwVerticalScaling;
@@ -227,12 +232,12 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
 
         setSubmissionDelay(0);
         setVmm("Xen");
-        stateHistory = new LinkedList<>();
+        stateHistory = StateHistory.newRecorder(VmStateHistoryEntry::new, this::getSimulation);
 
-        this.onHostAllocationListeners = new HashSet<>();
-        this.onHostDeallocationListeners = new HashSet<>();
-        this.onCreationFailureListeners = new HashSet<>();
-        this.onUpdateProcessingListeners = new HashSet<>();
+        this.onHostAllocationListeners = Collections.emptySet();
+        this.onHostDeallocationListeners = Collections.emptySet();
+        this.onCreationFailureListeners = Collections.emptySet();
+        this.onUpdateProcessingListeners = Collections.emptySet();
         this.setHorizontalScaling(HorizontalVmScaling.NULL);
         this.setRamVerticalScaling(VerticalVmScaling.NULL);
         this.setBwVerticalScaling(VerticalVmScaling.NULL);
@@ -656,27 +661,23 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
         this.created = created;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The history is stored in a compact columnar format and its entries
+     * are just created when accessed. The returned {@link StateHistory}
+     * allows reading the recorded data without creating entry objects,
+     * besides limiting, downsampling or spilling the history to disk.</p>
+     *
+     * @return {@inheritDoc}
+     */
     @Override
-    public List<VmStateHistoryEntry> getStateHistory() {
-        /*
-         * @TODO Instead of using a list, this attribute would be a map, where the
-         *       key can be the history time and the value the history itself. This
-         *       way, if one wants to get the history for a given time, he/she doesn't
-         *       have to iterate over the entire list to find the desired entry.
-         */
-        return Collections.unmodifiableList(stateHistory);
+    public StateHistory<VmStateHistoryEntry> getStateHistory() {
+        return stateHistory.getHistory();
     }
 
     @Override
     public void addStateHistoryEntry(final VmStateHistoryEntry entry) {
-        if (!stateHistory.isEmpty()) {
-            final VmStateHistoryEntry previousState = stateHistory.get(stateHistory.size() - 1);
-            if (previousState.getTime() == entry.getTime()) {
-                stateHistory.set(stateHistory.size() - 1, entry);
-                return;
-            }
-        }
-        stateHistory.add(entry);
+        stateHistory.record(entry.getTime(), entry.getAllocatedMips(), entry.getRequestedMips(), entry.isInMigration());
     }
 
     @Override
@@ -700,7 +701,12 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
 
     @Override
     public Vm addOnHostAllocationListener(final EventListener<VmHostEventInfo> listener) {
-        this.onHostAllocationListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(onHostAllocationListeners == Collections.EMPTY_SET){
+            onHostAllocationListeners = new HashSet<>();
+        }
+
+        this.onHostAllocationListeners.add(listener);
         return this;
     }
 
@@ -710,7 +716,12 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
             return this;
         }
 
-        this.onHostDeallocationListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(onHostDeallocationListeners == Collections.EMPTY_SET){
+            onHostDeallocationListeners = new HashSet<>();
+        }
+
+        this.onHostDeallocationListeners.add(listener);
         return this;
     }
 
@@ -720,7 +731,12 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
             return this;
         }
 
-        this.onCreationFailureListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(onCreationFailureListeners == Collections.EMPTY_SET){
+            onCreationFailureListeners = new HashSet<>();
+        }
+
+        this.onCreationFailureListeners.add(listener);
         return this;
     }
 
@@ -730,7 +746,12 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
             return this;
         }
 
-        this.onUpdateProcessingListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(onUpdateProcessingListeners == Collections.EMPTY_SET){
+            onUpdateProcessingListeners = new HashSet<>();
+        }
+
+        this.onUpdateProcessingListeners.add(listener);
         return this;
     }
 
@@ -26,6 +26,7 @@ package org.cloudsimplus.autoscaling;
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.VmHostEventInfo;
+import org.cloudsimplus.util.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -106,9 +107,11 @@ public class HorizontalVmScalingSimple extends VmScalingAbstract implements Hori
 
         final double vmCpuUsagePercent = getVm().getCpuPercentUtilization() * 100;
         final Vm newVm = getVmSupplier().get();
-        LOGGER.info(
-            "{}: {}{}: Requesting creation of {} to receive new Cloudlets in order to balance load of {}. {} CPU usage is {}%",
-            timeStr, getClass().getSimpleName(), getVm(), newVm, getVm(), getVm().getId(), vmCpuUsagePercent);
+        if(Log.isInfoEnabled(LOGGER, getVm().getSimulation())) {
+            LOGGER.info(
+                "{}: {}{}: Requesting creation of {} to receive new Cloudlets in order to balance load of {}. {} CPU usage is {}%",
+                timeStr, getClass().getSimpleName(), getVm(), newVm, getVm(), getVm().getId(), vmCpuUsagePercent);
+        }
         getVm().getBroker().submitVm(newVm);
 
         cloudletCreationRequests = getVm().getBroker().getCloudletCreatedList().size();
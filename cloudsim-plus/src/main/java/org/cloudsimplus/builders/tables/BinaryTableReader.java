@@ -0,0 +1,181 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.cloudsimplus.builders.tables.BinaryTableWriter.*;
+
+/**
+ * Reads tables written by a {@link BinaryTableWriter}, block by block,
+ * so that large tables can be processed using constant memory.
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+public class BinaryTableReader implements Closeable {
+    private final DataInputStream input;
+    private final List<String> titles;
+    private final List<String> subTitles;
+    private byte[] types;
+
+    /**
+     * Opens a table file and reads its header.
+     * @param file the path of the file to read
+     * @throws UncheckedIOException when the file cannot be read or is not a valid table file
+     */
+    public BinaryTableReader(final Path file) {
+        this(newFileStream(file));
+    }
+
+    /**
+     * Reads the header of a table from a given {@link InputStream}.
+     * The stream is buffered internally.
+     * @param input the stream to read the table from
+     * @throws UncheckedIOException when the stream cannot be read or doesn't contain a valid table
+     */
+    public BinaryTableReader(final InputStream input) {
+        this.input = new DataInputStream(new BufferedInputStream(input, 1 << 16));
+        this.titles = new ArrayList<>();
+        this.subTitles = new ArrayList<>();
+        try {
+            readHeader();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream newFileStream(final Path file) {
+        try {
+            return Files.newInputStream(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void readHeader() throws IOException {
+        final int magic;
+        try {
+            magic = input.readInt();
+        } catch (EOFException e) {
+            //An empty table (without any row)
+            types = new byte[0];
+            return;
+        }
+
+        if (magic != MAGIC || input.readShort() != VERSION) {
+            throw new IOException("The input doesn't contain a table written by " + BinaryTableWriter.class.getSimpleName());
+        }
+
+        types = new byte[input.readInt()];
+        for (int i = 0; i < types.length; i++) {
+            titles.add(input.readUTF());
+            subTitles.add(input.readUTF());
+            types[i] = input.readByte();
+        }
+    }
+
+    /**
+     * Gets the titles of the table columns.
+     * @return an unmodifiable list of column titles
+     */
+    public List<String> getColumnTitles() {
+        return Collections.unmodifiableList(titles);
+    }
+
+    /**
+     * Gets the sub-titles of the table columns.
+     * @return an unmodifiable list of column sub-titles
+     */
+    public List<String> getColumnSubTitles() {
+        return Collections.unmodifiableList(subTitles);
+    }
+
+    /**
+     * Reads all remaining rows of the table, giving each one to a {@link Consumer}.
+     * Integral columns are read as {@link Long}, floating-point columns
+     * as {@link Double} and the other ones as {@link String}.
+     *
+     * @param consumer the {@link Consumer} that will receive the values of each row.
+     *                 The same array is used for all rows, so it must not be kept by the consumer.
+     * @return the number of rows read
+     * @throws UncheckedIOException when the table cannot be read
+     */
+    public long forEachRow(final Consumer<Object[]> consumer) {
+        final Object[][] block = new Object[types.length][];
+        final Object[] row = new Object[types.length];
+        long total = 0;
+        try {
+            if (types.length == 0) {
+                return 0;
+            }
+
+            for (int rows = input.readInt(); rows > 0; rows = input.readInt()) {
+                for (int col = 0; col < types.length; col++) {
+                    block[col] = readColumn(types[col], rows);
+                }
+
+                for (int i = 0; i < rows; i++) {
+                    for (int col = 0; col < types.length; col++) {
+                        row[col] = block[col][i];
+                    }
+                    consumer.accept(row);
+                }
+
+                total += rows;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return total;
+    }
+
+    private Object[] readColumn(final byte type, final int rows) throws IOException {
+        final Object[] values = new Object[rows];
+        for (int i = 0; i < rows; i++) {
+            switch (type) {
+                case LONG: values[i] = input.readLong(); break;
+                case DOUBLE: values[i] = input.readDouble(); break;
+                default: values[i] = input.readUTF();
+            }
+        }
+
+        return values;
+    }
+
+    @Override
+    public void close() {
+        try {
+            input.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
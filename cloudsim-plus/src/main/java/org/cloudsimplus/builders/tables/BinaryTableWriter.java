@@ -0,0 +1,203 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A {@link TableWriter} that writes rows into a compact binary columnar format,
+ * as soon as they are generated.
+ * Rows are grouped into blocks of up to {@link #BLOCK_SIZE} rows and,
+ * inside each block, the values of each column are stored contiguously
+ * as primitive values, without any text formatting.
+ * Files written by this class can be read by a {@link BinaryTableReader}.
+ *
+ * <p>The type of each column is defined by the value of that column in the first row:
+ * integral values ({@link Integer}, {@link Long}, {@link Short} and {@link Byte}) are stored as longs,
+ * floating-point values ({@link Double} and {@link Float}) as doubles and any other value as a String.
+ * Column formats are ignored.</p>
+ *
+ * <p>The file layout (using the primitive encoding of {@link DataOutputStream}) is:
+ * <pre>
+ * int magic number, short version, int number of columns
+ * for each column: UTF title, UTF subtitle, byte type
+ * for each block: int number of rows (n), followed by the n values of each column
+ * int 0 (end of table)
+ * </pre>
+ * If no row is written, the file is empty.
+ * </p>
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+public class BinaryTableWriter extends TableWriterAbstract {
+    /** The maximum number of rows written in a single block. */
+    public static final int BLOCK_SIZE = 4096;
+
+    static final int MAGIC = 0x43535054;
+    static final short VERSION = 1;
+    static final byte LONG = 0;
+    static final byte DOUBLE = 1;
+    static final byte STRING = 2;
+
+    private final DataOutputStream output;
+    private byte[] types;
+    private long[][] longValues;
+    private double[][] doubleValues;
+    private String[][] stringValues;
+    private int rowsInBlock;
+    private boolean columnsDescribed;
+
+    /**
+     * Creates a binary writer for a given file, which is created or truncated.
+     * @param file the path of the file to write
+     * @throws UncheckedIOException when the file cannot be created
+     */
+    public BinaryTableWriter(final Path file) {
+        this(newFileStream(file));
+    }
+
+    /**
+     * Creates a binary writer for a given {@link OutputStream}.
+     * The stream is buffered internally.
+     * @param output the stream to write the table to
+     */
+    public BinaryTableWriter(final OutputStream output) {
+        this.output = new DataOutputStream(new BufferedOutputStream(output, 1 << 16));
+    }
+
+    private static OutputStream newFileStream(final Path file) {
+        try {
+            return Files.newOutputStream(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since column types are defined by the values of the first row,
+     * the header is effectively written just with that row.
+     */
+    @Override
+    protected void writeHeader(final List<TableColumn> columns) {
+        types = new byte[columns.size()];
+        longValues = new long[columns.size()][];
+        doubleValues = new double[columns.size()][];
+        stringValues = new String[columns.size()][];
+    }
+
+    /**
+     * Defines the types of the columns from the values of the first row,
+     * then writes the table header.
+     */
+    private void writeColumnDescriptors(final List<TableColumn> columns, final Object[] values) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        output.writeInt(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            final Object value = values[i];
+            if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+                types[i] = LONG;
+                longValues[i] = new long[BLOCK_SIZE];
+            } else if (value instanceof Double || value instanceof Float) {
+                types[i] = DOUBLE;
+                doubleValues[i] = new double[BLOCK_SIZE];
+            } else {
+                types[i] = STRING;
+                stringValues[i] = new String[BLOCK_SIZE];
+            }
+
+            output.writeUTF(columns.get(i).getTitle());
+            output.writeUTF(columns.get(i).getSubTitle());
+            output.writeByte(types[i]);
+        }
+    }
+
+    @Override
+    protected void writeRowInternal(final List<TableColumn> columns, final Object[] values) throws IOException {
+        if (!columnsDescribed) {
+            writeColumnDescriptors(columns, values);
+            columnsDescribed = true;
+        }
+
+        for (int i = 0; i < types.length; i++) {
+            final Object value = values[i];
+            switch (types[i]) {
+                case LONG:
+                    longValues[i][rowsInBlock] = toNumber(columns.get(i), value).longValue();
+                break;
+                case DOUBLE:
+                    doubleValues[i][rowsInBlock] = toNumber(columns.get(i), value).doubleValue();
+                break;
+                default:
+                    stringValues[i][rowsInBlock] = String.valueOf(value);
+            }
+        }
+
+        if (++rowsInBlock == BLOCK_SIZE) {
+            flushBlock();
+        }
+    }
+
+    private static Number toNumber(final TableColumn column, final Object value) {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+
+        throw new IllegalArgumentException(
+            "Column '" + column.getTitle() + "' was defined as numeric from its first value, but received: " + value);
+    }
+
+    private void flushBlock() throws IOException {
+        if (rowsInBlock == 0) {
+            return;
+        }
+
+        output.writeInt(rowsInBlock);
+        for (int i = 0; i < types.length; i++) {
+            for (int row = 0; row < rowsInBlock; row++) {
+                switch (types[i]) {
+                    case LONG: output.writeLong(longValues[i][row]); break;
+                    case DOUBLE: output.writeDouble(doubleValues[i][row]); break;
+                    default: output.writeUTF(stringValues[i][row]);
+                }
+            }
+        }
+
+        rowsInBlock = 0;
+    }
+
+    @Override
+    protected void closeInternal() throws IOException {
+        if (columnsDescribed) {
+            flushBlock();
+            output.writeInt(0);
+        }
+
+        output.close();
+    }
+}
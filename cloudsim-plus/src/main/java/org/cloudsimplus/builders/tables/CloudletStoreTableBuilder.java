@@ -0,0 +1,126 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletStore;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builds a table for printing simulation results from a {@link CloudletStore},
+ * with the same columns as the {@link CloudletsTableBuilder}.
+ * Data is read directly from the store columns,
+ * without creating any Cloudlet object.
+ * Each row of the table is identified by the position of a Cloudlet into the store.
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+public class CloudletStoreTableBuilder extends TableBuilderAbstract<Integer> {
+    private static final String TIME_FORMAT = "%.0f";
+    private static final String SECONDS = "Seconds";
+    private static final String CPU_CORES = "CPU cores";
+
+    /**
+     * The store to get data from.
+     * The column data functions are created by the super class constructor,
+     * before the store is assigned, but they just read it when the table is built.
+     */
+    private final CloudletStore store;
+
+    /**
+     * Instantiates a builder to print the Cloudlets in a store using the a
+     * default {@link TextTable}.
+     * To use a different {@link Table}, check the alternative constructors.
+     *
+     * @param store the store containing the Cloudlets to print
+     */
+    public CloudletStoreTableBuilder(final CloudletStore store) {
+        this(store, new TextTable());
+    }
+
+    /**
+     * Instantiates a builder to print the Cloudlets in a store using the a
+     * given {@link Table}.
+     *
+     * @param store the store containing the Cloudlets to print
+     * @param table the {@link Table} used to build the table with the Cloudlets data
+     */
+    public CloudletStoreTableBuilder(final CloudletStore store, final Table table) {
+        super(positions(store), table);
+        this.store = store;
+    }
+
+    /**
+     * Creates a list with the position of each Cloudlet into a store.
+     * @param store the store to get the Cloudlet positions
+     * @return
+     */
+    private static List<Integer> positions(final CloudletStore store) {
+        requireNonNull(store);
+        return new AbstractList<Integer>() {
+            @Override public Integer get(final int index) { return index; }
+            @Override public int size() { return store.size(); }
+        };
+    }
+
+    @Override
+    protected void createTableColumns() {
+        final String ID = "ID";
+        addColumnDataFunction(getTable().addColumn("Cloudlet", ID), i -> store.getCloudletId(i));
+        addColumnDataFunction(getTable().addColumn("Status "), i -> store.getStatus(i).name());
+        addColumnDataFunction(getTable().addColumn("DC", ID), i -> store.getDatacenterId(i));
+        addColumnDataFunction(getTable().addColumn("Host", ID), i -> store.getHostId(i));
+        addColumnDataFunction(getTable().addColumn("Host PEs ", CPU_CORES), i -> store.getHostWorkingPesNumber(i));
+        addColumnDataFunction(getTable().addColumn("VM", ID), i -> store.getVmId(i));
+        addColumnDataFunction(getTable().addColumn("VM PEs   ", CPU_CORES), i -> store.getVmNumberOfPes(i));
+        addColumnDataFunction(getTable().addColumn("CloudletLen", "MI"), i -> store.getLength(i));
+        addColumnDataFunction(getTable().addColumn("CloudletPEs", CPU_CORES), i -> store.getNumberOfPes(i));
+
+        TableColumn col = getTable().addColumn("StartTime", SECONDS).setFormat(TIME_FORMAT);
+        addColumnDataFunction(col, i -> store.getExecStartTime(i));
+
+        col = getTable().addColumn("FinishTime", SECONDS).setFormat(TIME_FORMAT);
+        addColumnDataFunction(col, i -> roundTime(i, store.getFinishTime(i)));
+
+        col = getTable().addColumn("ExecTime", SECONDS).setFormat(TIME_FORMAT);
+        addColumnDataFunction(col, i -> roundTime(i, store.getActualCpuTime(i)));
+    }
+
+    /**
+     * Rounds a given time so that decimal places are ignored,
+     * in the same way as the {@link CloudletsTableBuilder}.
+     *
+     * @param index the position of the Cloudlet being printed
+     * @param time the time to round
+     * @return
+     */
+    private double roundTime(final int index, final double time) {
+        final double startTime = store.getExecStartTime(index);
+        final double fraction = startTime - (int) startTime;
+        return Math.round(time - fraction);
+    }
+}
@@ -23,9 +23,16 @@
  */
 package org.cloudsimplus.builders.tables;
 
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.core.Identifiable;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudsimplus.listeners.EventInfo;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -37,6 +44,9 @@ import java.util.List;
  * giving a list of Cloudlets to be printed, and then
  * calling the {@link #build()} method.</p>
  *
+ * <p>For huge simulations, rows can be instead written to a {@link TableWriter}
+ * as soon as each Cloudlet finishes, by calling {@link #writeOnFinish(DatacenterBroker, TableWriter)}.</p>
+ *
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
@@ -45,6 +55,15 @@ public class CloudletsTableBuilder extends TableBuilderAbstract<Cloudlet> {
     private static final String SECONDS = "Seconds";
     private static final String CPU_CORES = "CPU cores";
 
+    /**
+     * Instantiates a builder without any Cloudlet, to be used to
+     * {@link #writeOnFinish(DatacenterBroker, TableWriter) write} the data of Cloudlets
+     * as they finish.
+     */
+    public CloudletsTableBuilder() {
+        this(Collections.emptyList());
+    }
+
     /**
      * Instantiates a builder to print the list of Cloudlets using the a
      * default {@link TextTable}.
@@ -90,6 +109,99 @@ public class CloudletsTableBuilder extends TableBuilderAbstract<Cloudlet> {
         addColumnDataFunction(col, cl -> roundTime(cl, cl.getActualCpuTime()));
     }
 
+    /**
+     * Writes a row to a given {@link TableWriter} every time a Cloudlet finishes and returns
+     * to a given broker, instead of requiring all finished Cloudlets to be kept
+     * in memory to build a table after the simulation ends.
+     * It can be combined with {@link DatacenterBroker#setRetainFinishedCloudlets(boolean)}
+     * to export the results of millions of Cloudlets using constant memory.
+     *
+     * <p>Cloudlets which aren't finalized yet when the simulation finishes
+     * are written at that time, with their final data.
+     * The writer must be closed after the simulation finishes.</p>
+     *
+     * @param broker the broker to get the finished Cloudlets from
+     * @param writer the {@link TableWriter} to write the rows to
+     * @return
+     */
+    public CloudletsTableBuilder writeOnFinish(final DatacenterBroker broker, final TableWriter writer) {
+        final OnFinishWriter onFinishWriter = new OnFinishWriter(broker, writer);
+        broker.getSimulation().addOnEventProcessingListener(onFinishWriter::onEventProcessing);
+        broker.getSimulation().addOnSimulationFinishListener(onFinishWriter::onSimulationFinish);
+        return this;
+    }
+
+    /**
+     * Writes the Cloudlets returned to a broker as soon as they are finalized
+     * by their {@link org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler}.
+     * A Cloudlet is returned to the broker as soon as it finishes,
+     * but its status and finish time are just set at the next processing update.
+     * @see #writeOnFinish(DatacenterBroker, TableWriter)
+     */
+    private final class OnFinishWriter {
+        private final DatacenterBroker broker;
+        private final TableWriter writer;
+
+        /** The Cloudlets returned to the broker and not written yet. */
+        private final List<Cloudlet> returnedCloudlets;
+
+        /**
+         * The time of the last event sent to a Datacenter after the returned Cloudlets were checked,
+         * or a negative value if there is no such an event.
+         * Since Cloudlets are just finalized while a Datacenter updates their processing,
+         * the returned Cloudlets are just checked again after such events are processed.
+         */
+        private double lastDatacenterEventTime;
+
+        private OnFinishWriter(final DatacenterBroker broker, final TableWriter writer) {
+            this.broker = broker;
+            this.writer = writer;
+            this.returnedCloudlets = new ArrayList<>();
+            this.lastDatacenterEventTime = -1;
+        }
+
+        private void onEventProcessing(final SimEvent evt) {
+            if(evt.getTag() == CloudSimTags.CLOUDLET_RETURN && evt.getDestination() == broker){
+                returnedCloudlets.add((Cloudlet) evt.getData());
+            }
+
+            /* Events are processed by the entities after all the ones at the same time are dispatched.
+             * This way, an event sent to a Datacenter is surely processed when a later event is dispatched. */
+            if(lastDatacenterEventTime >= 0 && evt.getTime() > lastDatacenterEventTime){
+                lastDatacenterEventTime = -1;
+                writeFinalizedCloudlets();
+            }
+
+            if(evt.getDestination() instanceof Datacenter){
+                lastDatacenterEventTime = evt.getTime();
+            }
+        }
+
+        private void writeFinalizedCloudlets() {
+            if(returnedCloudlets.isEmpty()){
+                return;
+            }
+
+            returnedCloudlets.removeIf(cloudlet -> {
+                if(cloudlet.getStatus() == Cloudlet.Status.INEXEC){
+                    return false;
+                }
+
+                write(writer, cloudlet);
+                return true;
+            });
+        }
+
+        /**
+         * Writes the Cloudlets which were not finalized up to the last processed event,
+         * exactly as they are at the end of the simulation.
+         */
+        private void onSimulationFinish(final EventInfo info) {
+            returnedCloudlets.forEach(cloudlet -> write(writer, cloudlet));
+            returnedCloudlets.clear();
+        }
+    }
+
     /**
      * Rounds a given time so that decimal places are ignored.
      * Sometimes a Cloudlet start at time 0.1 and finish at time 10.1.
@@ -0,0 +1,255 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link TableWriter} that writes rows in the Comma Separated Text (CSV) format
+ * as soon as they are generated.
+ * It's the streaming counterpart of the {@link CsvTable}:
+ * it uses the same column separator and header layout,
+ * but doesn't keep any row in memory.
+ *
+ * <p>Column values are formatted according to the column {@link TableColumn#getFormat() format}.
+ * The most common formats ({@code %.Nf} for floating-point values and {@code %d} for integers)
+ * are applied directly over a reused buffer, avoiding one {@link String#format(String, Object...)} call
+ * for each cell, which would dominate the time to export large tables.
+ * Other formats fall back to {@link String#format(Locale, String, Object...)}.
+ * To enable the output to be parsed back, numbers are always written using
+ * a dot as decimal separator, regardless of the default locale.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+public class CsvTableWriter extends TableWriterAbstract {
+    private static final Pattern FIXED_POINT_FORMAT = Pattern.compile("%\\.(\\d)f");
+    private static final String INTEGER_FORMAT = "%d";
+
+    /** Value for {@link #decimals} indicating a column without format. */
+    private static final int NO_FORMAT = -1;
+
+    /** Value for {@link #decimals} indicating a column with the {@link #INTEGER_FORMAT}. */
+    private static final int INTEGER = -2;
+
+    /** Value for {@link #decimals} indicating a column whose format must be applied by {@link String#format(String, Object...)}. */
+    private static final int OTHER_FORMAT = -3;
+
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
+
+    /** The largest scaled value that can be exactly rounded to a long by the fast formatting path. */
+    private static final double MAX_FAST_SCALED_VALUE = 1e15;
+
+    private final Writer writer;
+    private final StringBuilder line;
+    private String columnSeparator;
+
+    /**
+     * The number of decimal places for each column with a {@code %.Nf} format
+     * or one of the {@code NO_FORMAT}, {@code INTEGER} and {@code OTHER_FORMAT} constants,
+     * parsed from the column formats when the header is written.
+     */
+    private int[] decimals;
+
+    /**
+     * Creates a CSV writer for a given file, which is created or truncated.
+     * @param file the path of the CSV file to write
+     * @throws UncheckedIOException when the file cannot be created
+     */
+    public CsvTableWriter(final Path file) {
+        this(newFileWriter(file));
+    }
+
+    /**
+     * Creates a CSV writer for a given {@link Writer}.
+     * If the writer is not a {@link BufferedWriter}, it's wrapped into one.
+     * @param writer the writer to write the CSV data to
+     */
+    public CsvTableWriter(final Writer writer) {
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+        this.line = new StringBuilder(256);
+        this.columnSeparator = ";";
+    }
+
+    private static Writer newFileWriter(final Path file) {
+        try {
+            return Files.newBufferedWriter(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the string used to separate one column from another.
+     * @return the column separator
+     */
+    public String getColumnSeparator() {
+        return columnSeparator;
+    }
+
+    /**
+     * Sets the string used to separate one column from another.
+     * It must be called before the first row is written.
+     * @param columnSeparator the column separator to set
+     * @return this writer
+     */
+    public CsvTableWriter setColumnSeparator(final String columnSeparator) {
+        if(isHeaderWritten()){
+            throw new IllegalStateException("The column separator cannot be changed after rows are written.");
+        }
+
+        this.columnSeparator = columnSeparator;
+        return this;
+    }
+
+    @Override
+    protected void writeHeader(final List<TableColumn> columns) throws IOException {
+        decimals = new int[columns.size()];
+        for (int i = 0; i < decimals.length; i++) {
+            decimals[i] = parseFormat(columns.get(i).getFormat());
+        }
+
+        line.setLength(0);
+        for (int i = 0; i < columns.size(); i++) {
+            appendSeparator(i);
+            line.append(columns.get(i).getTitle());
+        }
+        writeLine();
+
+        if (columns.stream().anyMatch(col -> StringUtils.isNotBlank(col.getSubTitle()))) {
+            for (int i = 0; i < columns.size(); i++) {
+                appendSeparator(i);
+                line.append(columns.get(i).getSubTitle());
+            }
+            writeLine();
+        }
+    }
+
+    private static int parseFormat(final String format) {
+        if (StringUtils.isBlank(format)) {
+            return NO_FORMAT;
+        }
+
+        if (INTEGER_FORMAT.equals(format)) {
+            return INTEGER;
+        }
+
+        final Matcher matcher = FIXED_POINT_FORMAT.matcher(format);
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : OTHER_FORMAT;
+    }
+
+    @Override
+    protected void writeRowInternal(final List<TableColumn> columns, final Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            appendSeparator(i);
+            appendValue(columns.get(i), decimals[i], values[i]);
+        }
+
+        writeLine();
+    }
+
+    private void appendSeparator(final int columnIndex) {
+        if (columnIndex > 0) {
+            line.append(columnSeparator);
+        }
+    }
+
+    private void writeLine() throws IOException {
+        line.append(System.lineSeparator());
+        writer.append(line);
+        line.setLength(0);
+    }
+
+    private void appendValue(final TableColumn column, final int decimals, final Object value) {
+        if (decimals == NO_FORMAT) {
+            line.append(value);
+        } else if (decimals == INTEGER && (value instanceof Integer || value instanceof Long)) {
+            line.append(((Number) value).longValue());
+        } else if (decimals >= 0 && (value instanceof Double || value instanceof Float)) {
+            appendFixedPoint(line, ((Number) value).doubleValue(), decimals);
+        } else {
+            line.append(String.format(Locale.ROOT, column.getFormat(), value));
+        }
+    }
+
+    /**
+     * Appends a double value with a given number of decimal places to a {@link StringBuilder},
+     * producing the same result as {@code String.format(Locale.ROOT, "%.Nf", value)}.
+     *
+     * <p>The value is scaled and rounded using primitive arithmetic.
+     * Only when the scaled value is too large or too close to a tie
+     * (where the binary representation of the value could round it to the wrong side)
+     * the rounding is performed by a {@link BigDecimal}.</p>
+     *
+     * @param builder the builder to append the value to
+     * @param value the value to append
+     * @param decimals the number of decimal places, between 0 and 9
+     */
+    static void appendFixedPoint(final StringBuilder builder, final double value, final int decimals) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            builder.append(String.format(Locale.ROOT, "%." + decimals + "f", value));
+            return;
+        }
+
+        if (value < 0 || value == 0 && 1 / value < 0) {
+            builder.append('-');
+        }
+
+        final double absolute = Math.abs(value);
+        final double scaled = absolute * POWERS_OF_TEN[decimals];
+        final double floor = Math.floor(scaled);
+        final double fraction = scaled - floor;
+        if (scaled >= MAX_FAST_SCALED_VALUE || Math.abs(fraction - 0.5) <= Math.max(1e-7, 8 * Math.ulp(scaled))) {
+            builder.append(BigDecimal.valueOf(absolute).setScale(decimals, RoundingMode.HALF_UP).toPlainString());
+            return;
+        }
+
+        final long rounded = (long) floor + (fraction > 0.5 ? 1 : 0);
+        builder.append(rounded / POWERS_OF_TEN[decimals]);
+        if (decimals == 0) {
+            return;
+        }
+
+        builder.append('.');
+        final String fractionDigits = Long.toString(rounded % POWERS_OF_TEN[decimals]);
+        for (int i = fractionDigits.length(); i < decimals; i++) {
+            builder.append('0');
+        }
+        builder.append(fractionDigits);
+    }
+
+    @Override
+    protected void closeInternal() throws IOException {
+        writer.close();
+    }
+}
@@ -36,6 +36,10 @@ import org.cloudbus.cloudsim.hosts.HostStateHistoryEntry;
  * giving a Host to print its history, and then
  * calling the {@link #build()} method.</p>
  *
+ * <p>Since the Host history is a lazy view over a columnar storage,
+ * each entry is just created when its row is being added to the table,
+ * instead of the entire history being materialized into a list of entries.</p>
+ *
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 2.3.2
  */
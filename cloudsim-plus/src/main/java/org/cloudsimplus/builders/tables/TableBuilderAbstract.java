@@ -51,6 +51,9 @@ public abstract class TableBuilderAbstract<T> {
 
     private Table table;
 
+    /** The array reused to store the values of each row given to a {@link TableWriter}. */
+    private Object[] rowValues;
+
     /**
      * Instantiates a builder to print the list of objects T using the a
      * default {@link TextTable}.
@@ -188,6 +191,43 @@ public abstract class TableBuilderAbstract<T> {
         getTable().print();
     }
 
+    /**
+     * Writes the data from the list of objects to a {@link TableWriter},
+     * one row at a time, instead of adding all rows to the {@link #getTable() table}
+     * (as {@link #build()} does).
+     * The writer is not closed by this method.
+     *
+     * @param writer the {@link TableWriter} to write the rows to
+     * @return
+     */
+    public TableBuilderAbstract<T> write(final TableWriter writer){
+        list.forEach(object -> write(writer, object));
+        return this;
+    }
+
+    /**
+     * Writes the data from a single object as a new row into a {@link TableWriter}.
+     * That enables writing rows as soon as the object data is available
+     * (for instance, when a Cloudlet finishes), without keeping them in memory.
+     *
+     * @param writer the {@link TableWriter} to write the row to
+     * @param object The object T to get to data to write in the row
+     * @return
+     */
+    public TableBuilderAbstract<T> write(final TableWriter writer, final T object){
+        final List<TableColumn> columns = getTable().getColumns();
+        if(rowValues == null || rowValues.length != columns.size()){
+            rowValues = new Object[columns.size()];
+        }
+
+        for (int i = 0; i < rowValues.length; i++) {
+            rowValues[i] = columnsDataFunctions.get(columns.get(i)).apply(object);
+        }
+
+        writer.writeRow(columns, rowValues);
+        return this;
+    }
+
     /**
      * Add data to a row of the table being generated.
      * @param object The object T to get to data to show in the row of the table
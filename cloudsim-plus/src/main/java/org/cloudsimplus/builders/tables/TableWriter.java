@@ -0,0 +1,64 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * An interface for classes that write table rows to some output as soon as
+ * they are generated, instead of keeping all rows in memory until
+ * the {@link Table#print()} method is called (as the {@link Table} implementations do).
+ * That enables exporting the results of huge simulations,
+ * such as millions of finished Cloudlets, using constant memory.
+ *
+ * <p>Rows are usually given by a {@link TableBuilderAbstract}, using its
+ * {@link TableBuilderAbstract#write(TableWriter) write} methods.
+ * The writer must be closed after all rows are written,
+ * so that buffered data is flushed to the output.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ * @see CsvTableWriter
+ * @see BinaryTableWriter
+ */
+public interface TableWriter extends Closeable {
+    /**
+     * Writes a row to the output.
+     * The header of the table is written before the first row.
+     *
+     * @param columns the columns of the table, used to write the header and
+     *                to format the row values
+     * @param values the values of the row, one for each column.
+     *               The array may be reused by the caller after the method returns.
+     * @throws java.io.UncheckedIOException when the row cannot be written
+     */
+    void writeRow(List<TableColumn> columns, Object[] values);
+
+    /**
+     * Flushes buffered rows and closes the output.
+     * @throws java.io.UncheckedIOException when the output cannot be closed
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,90 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * A base class for {@link TableWriter} implementations,
+ * which writes the table header just before the first row.
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+public abstract class TableWriterAbstract implements TableWriter {
+    private boolean headerWritten;
+
+    @Override
+    public final void writeRow(final List<TableColumn> columns, final Object[] values) {
+        try {
+            if (!headerWritten) {
+                writeHeader(columns);
+                headerWritten = true;
+            }
+
+            writeRowInternal(columns, values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public final void close() {
+        try {
+            closeInternal();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks if the table header was already written.
+     * @return true if the header was written, false otherwise
+     */
+    protected boolean isHeaderWritten() {
+        return headerWritten;
+    }
+
+    /**
+     * Writes the header of the table.
+     * @param columns the columns of the table
+     * @throws IOException when the header cannot be written
+     */
+    protected abstract void writeHeader(List<TableColumn> columns) throws IOException;
+
+    /**
+     * Writes a row of the table.
+     * @param columns the columns of the table
+     * @param values the values of the row, one for each column
+     * @throws IOException when the row cannot be written
+     */
+    protected abstract void writeRowInternal(List<TableColumn> columns, Object[] values) throws IOException;
+
+    /**
+     * Flushes buffered data and closes the output.
+     * @throws IOException when the output cannot be closed
+     */
+    protected abstract void closeInternal() throws IOException;
+}
@@ -49,6 +49,20 @@ public class CloudletToVmMappingSimulatedAnnealing
     /** @see #getCloudletList() */
     private List<Cloudlet> cloudletList;
 
+    /**
+     * The last neighbor solution created by {@link #createNeighbor(CloudletToVmMappingSolution)}
+     * and the solution it was created from.
+     * They are reused to create the next neighbor, instead of cloning the source solution every time.
+     */
+    private CloudletToVmMappingSolution lastNeighbor;
+    private CloudletToVmMappingSolution lastNeighborSource;
+
+    /**
+     * Indicates if the {@link #lastNeighborSource} was created by this heuristic
+     * as a neighbor solution and thus can be reused.
+     */
+    private boolean lastNeighborSourceReusable;
+
     /**
      * Creates a new Simulated Annealing Heuristic for solving Cloudlets to Vm's mapping.
      *
@@ -114,11 +128,85 @@ public class CloudletToVmMappingSimulatedAnnealing
         return vmList.get(idx);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Neighbor solutions are reused between calls in order to avoid
+     * cloning the entire source solution for every neighbor.
+     * If the source is the same one used to create the last neighbor
+     * (the last neighbor was rejected), the last neighbor is restored by undoing its swap.
+     * If the source is the last neighbor itself (the last neighbor was accepted),
+     * the solution it was created from is updated by replaying the swap.
+     * Both cases take constant time.
+     * Therefore, the returned solution must be used just until the next call.</p>
+     *
+     * @param source {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public CloudletToVmMappingSolution createNeighbor(final CloudletToVmMappingSolution source) {
-        final CloudletToVmMappingSolution clone = new CloudletToVmMappingSolution(source);
-        clone.swapVmsOfTwoRandomSelectedMapEntries();
-        return clone;
+        final CloudletToVmMappingSolution neighbor;
+        final boolean sourceReusable;
+        if(lastNeighbor != null && source == lastNeighborSource) {
+            lastNeighbor.replaySwap(lastNeighbor);
+            neighbor = lastNeighbor;
+            sourceReusable = lastNeighborSourceReusable;
+        } else if(lastNeighbor != null && source == lastNeighbor && lastNeighborSourceReusable) {
+            lastNeighborSource.replaySwap(lastNeighbor);
+            neighbor = lastNeighborSource;
+            sourceReusable = true;
+        } else {
+            neighbor = new CloudletToVmMappingSolution(source);
+            sourceReusable = source == lastNeighbor;
+        }
+
+        neighbor.swapVmsOfTwoRandomSelectedMapEntries();
+        lastNeighbor = neighbor;
+        lastNeighborSource = source;
+        lastNeighborSourceReusable = sourceReusable;
+        return neighbor;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The solutions reused to create neighbors are released before and after the search,
+     * so that the returned solution isn't changed by any later search.</p>
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public CloudletToVmMappingSolution solve() {
+        releaseNeighbors();
+        try {
+            return super.solve();
+        } finally {
+            releaseNeighbors();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The new instance maps the same {@link #getCloudletList() Cloudlets}
+     * to the same {@link #getVmList() VMs}, starting from its own random solution.</p>
+     *
+     * @param random {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected CloudletToVmMappingSimulatedAnnealing newChain(final ContinuousDistribution random) {
+        final CloudletToVmMappingSimulatedAnnealing chain =
+            new CloudletToVmMappingSimulatedAnnealing(getCurrentTemperature(), random);
+        chain.setVmList(vmList);
+        chain.setCloudletList(cloudletList);
+        return chain;
+    }
+
+    private void releaseNeighbors() {
+        lastNeighbor = null;
+        lastNeighborSource = null;
+        lastNeighborSourceReusable = false;
     }
 
 }
@@ -33,6 +33,16 @@ import java.util.stream.Collectors;
  * A possible solution for mapping a set of Cloudlets to a set of Vm's.
  * It represents a solution generated using a {@link Heuristic} implementation.
  *
+ * <p>The mapping is stored as an array where each position
+ * is the index of a Cloudlet and its value is the index of the VM the Cloudlet is bound to.
+ * The number of PEs required by the Cloudlets of each VM is kept
+ * along the mapping, so that the {@link #getCost() cost} is updated
+ * by the difference introduced by each change
+ * instead of being computed again from scratch.
+ * This way, {@link #swapVmsOfTwoRandomSelectedMapEntries() swapping the VMs of two Cloudlets}
+ * to create a neighbor solution takes constant time,
+ * regardless of the number of Cloudlets and VMs.</p>
+ *
  * @author Manoel Campos da Silva Filho
  * @see Heuristic
  * @since CloudSim Plus 1.0
@@ -46,27 +56,88 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      */
     public static final double MIN_DIFF = 0.0001;
 
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The Cloudlets in this solution, where the position of each
+     * Cloudlet is the index used in the other Cloudlet arrays.
+     */
+    private List<Cloudlet> cloudlets;
+
+    /**
+     * A map where the key is a Cloudlet and the value is its position
+     * inside the {@link #cloudlets} List.
+     */
+    private Map<Cloudlet, Integer> cloudletIndexes;
+
     /**
-     * @see #getResult()
+     * The VMs in this solution, where the position of each
+     * VM is the index used in the other VM arrays.
      */
-    private final Map<Cloudlet, Vm> cloudletVmMap;
+    private List<Vm> vms;
 
     /**
-     * Indicates if the {@link #getCost() ()} has to be recomputed
-     * due to changes in {@link #cloudletVmMap}.
-     * When it is computed, its value is stored to be used
-     * in subsequent calls, until the map is changed again, in order to
-     * improve performance.
+     * A map where the key is a VM and the value is its position
+     * inside the {@link #vms} List.
      */
-    private boolean recomputeCost = true;
+    private Map<Vm, Integer> vmIndexes;
 
     /**
-     * The last computed cost value, since the
-     * last time the {@link #cloudletVmMap} was changed.
+     * Indicates if the {@link #cloudlets}, {@link #vms} and their indexes
+     * are shared with other solutions (due to cloning) and must be copied
+     * before a new Cloudlet or VM is added.
+     * Since neighbor solutions usually just change the VM of existing Cloudlets,
+     * such structures are copied only when really required.
+     */
+    private boolean sharedIndexes;
+
+    /**
+     * The index of the VM each Cloudlet is bound to,
+     * where the position is the index of the Cloudlet.
+     */
+    private int[] cloudletVms;
+
+    /**
+     * The number of PEs of each Cloudlet,
+     * where the position is the index of the Cloudlet.
+     */
+    private long[] cloudletPes;
+
+    /**
+     * The number of PEs of each VM,
+     * where the position is the index of the VM.
+     */
+    private long[] vmPes;
+
+    /**
+     * The total number of PEs required by all Cloudlets bound to each VM,
+     * where the position is the index of the VM.
+     */
+    private long[] vmLoads;
+
+    /**
+     * The number of Cloudlets bound to each VM,
+     * where the position is the index of the VM.
+     */
+    private int[] vmCloudlets;
+
+    /**
+     * The cost of the entire mapping, which is updated
+     * every time a Cloudlet is bound to a different VM.
      * @see #getCost()
-     * @see #recomputeCost
      */
-    private double lastCost;
+    private long cost;
+
+    /**
+     * The indexes of the two Cloudlets which had their VMs swapped
+     * the last time {@link #swapVmsOfTwoRandomSelectedMapEntries()} was called.
+     * @see #replaySwap(CloudletToVmMappingSolution)
+     */
+    private int lastSwappedCloudlet1;
+    private int lastSwappedCloudlet2;
+
+    /** @see #getResult() */
+    private final Map<Cloudlet, Vm> result;
 
     private final Heuristic heuristic;
 
@@ -78,68 +149,176 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      * being created.
      */
     public CloudletToVmMappingSolution(final Heuristic heuristic){
-        this(heuristic, new HashMap<>());
-    }
-
-    private CloudletToVmMappingSolution(final Heuristic heuristic, final Map<Cloudlet, Vm> cloudletVmMap){
         this.heuristic = heuristic;
-        this.cloudletVmMap = cloudletVmMap;
+        this.result = new ResultMap();
+        this.cloudlets = new ArrayList<>();
+        this.cloudletIndexes = new HashMap<>();
+        this.vms = new ArrayList<>();
+        this.vmIndexes = new HashMap<>();
+        this.cloudletVms = new int[INITIAL_CAPACITY];
+        this.cloudletPes = new long[INITIAL_CAPACITY];
+        this.vmPes = new long[INITIAL_CAPACITY];
+        this.vmLoads = new long[INITIAL_CAPACITY];
+        this.vmCloudlets = new int[INITIAL_CAPACITY];
     }
 
     /**
      * Clones a given solution.
+     * The Cloudlets and VMs are shared between the two solutions
+     * until one of them has a new Cloudlet or VM added,
+     * therefore cloning just copies the arrays storing the mapping.
      *
      * @param solution the solution to be cloned
      */
     public CloudletToVmMappingSolution(final CloudletToVmMappingSolution solution){
-        this(solution.heuristic, new HashMap<>(solution.cloudletVmMap));
-        this.recomputeCost = solution.recomputeCost;
-        this.lastCost = solution.lastCost;
-        this.cloudletVmMap.putAll(solution.cloudletVmMap);
+        this.heuristic = solution.heuristic;
+        this.result = new ResultMap();
+        this.cloudlets = solution.cloudlets;
+        this.cloudletIndexes = solution.cloudletIndexes;
+        this.vms = solution.vms;
+        this.vmIndexes = solution.vmIndexes;
+        this.sharedIndexes = true;
+        solution.sharedIndexes = true;
+
+        this.cloudletVms = Arrays.copyOf(solution.cloudletVms, solution.cloudletVms.length);
+        this.cloudletPes = Arrays.copyOf(solution.cloudletPes, solution.cloudletPes.length);
+        this.vmPes = Arrays.copyOf(solution.vmPes, solution.vmPes.length);
+        this.vmLoads = Arrays.copyOf(solution.vmLoads, solution.vmLoads.length);
+        this.vmCloudlets = Arrays.copyOf(solution.vmCloudlets, solution.vmCloudlets.length);
+        this.cost = solution.cost;
+        this.lastSwappedCloudlet1 = solution.lastSwappedCloudlet1;
+        this.lastSwappedCloudlet2 = solution.lastSwappedCloudlet2;
     }
 
     /**
      * Binds a cloudlet to be executed by a given Vm.
+     * If the Cloudlet is already bound to another VM, it's moved to the given one.
      *
      * @param cloudlet the cloudlet to be added to a Vm
      * @param vm the Vm to assign a cloudlet to
      */
     public void bindCloudletToVm(final Cloudlet cloudlet, final Vm vm){
-        cloudletVmMap.put(cloudlet, vm);
-        recomputeCost = true;
+        final int vmIdx = getOrAddVmIndex(vm);
+        final Integer cloudletIdx = cloudletIndexes.get(cloudlet);
+        if(cloudletIdx == null) {
+            addCloudlet(cloudlet, vmIdx);
+            return;
+        }
+
+        final int previousVmIdx = cloudletVms[cloudletIdx];
+        if(previousVmIdx == vmIdx){
+            return;
+        }
+
+        updateVmLoad(previousVmIdx, -cloudletPes[cloudletIdx], -1);
+        updateVmLoad(vmIdx, cloudletPes[cloudletIdx], 1);
+        cloudletVms[cloudletIdx] = vmIdx;
     }
 
-    @Override
-    public Heuristic<HeuristicSolution<Map<Cloudlet, Vm>>> getHeuristic() {
-        return heuristic;
+    private void addCloudlet(final Cloudlet cloudlet, final int vmIdx) {
+        unshareIndexes();
+        final int cloudletIdx = cloudlets.size();
+        if(cloudletIdx == cloudletVms.length){
+            final int capacity = cloudletIdx * 2;
+            cloudletVms = Arrays.copyOf(cloudletVms, capacity);
+            cloudletPes = Arrays.copyOf(cloudletPes, capacity);
+        }
+
+        cloudlets.add(cloudlet);
+        cloudletIndexes.put(cloudlet, cloudletIdx);
+        cloudletPes[cloudletIdx] = cloudlet.getNumberOfPes();
+        cloudletVms[cloudletIdx] = vmIdx;
+        updateVmLoad(vmIdx, cloudletPes[cloudletIdx], 1);
     }
 
-    private void recomputeCostIfRequested() {
-        if(!this.recomputeCost) {
+    private int getOrAddVmIndex(final Vm vm) {
+        final Integer existingIdx = vmIndexes.get(vm);
+        if(existingIdx != null){
+            return existingIdx;
+        }
+
+        unshareIndexes();
+        final int vmIdx = vms.size();
+        if(vmIdx == vmPes.length){
+            final int capacity = vmIdx * 2;
+            vmPes = Arrays.copyOf(vmPes, capacity);
+            vmLoads = Arrays.copyOf(vmLoads, capacity);
+            vmCloudlets = Arrays.copyOf(vmCloudlets, capacity);
+        }
+
+        vms.add(vm);
+        vmIndexes.put(vm, vmIdx);
+        vmPes[vmIdx] = vm.getNumberOfPes();
+        return vmIdx;
+    }
+
+    /**
+     * Copies the {@link #cloudlets}, {@link #vms} and their indexes
+     * if they are shared with another solution,
+     * so that a new Cloudlet or VM can be added without changing the other solution.
+     */
+    private void unshareIndexes() {
+        if(!sharedIndexes){
             return;
         }
 
-        this.lastCost = computeCostOfAllVms();
-        this.recomputeCost = false;
+        cloudlets = new ArrayList<>(cloudlets);
+        cloudletIndexes = new HashMap<>(cloudletIndexes);
+        vms = new ArrayList<>(vms);
+        vmIndexes = new HashMap<>(vmIndexes);
+        sharedIndexes = false;
+    }
+
+    /**
+     * Changes the number of PEs required by the Cloudlets of a VM,
+     * updating the {@link #cost} by the difference in the VM cost.
+     *
+     * @param vmIdx the index of the VM to update
+     * @param pesDelta the number of PEs to add to (positive) or remove from (negative) the VM
+     * @param cloudletsDelta the number of Cloudlets to add to (positive) or remove from (negative) the VM
+     */
+    private void updateVmLoad(final int vmIdx, final long pesDelta, final int cloudletsDelta) {
+        cost -= getVmCost(vmIdx);
+        vmLoads[vmIdx] += pesDelta;
+        vmCloudlets[vmIdx] += cloudletsDelta;
+        cost += getVmCost(vmIdx);
+    }
+
+    /**
+     * Gets the cost of a VM, considering the Cloudlets bound to it.
+     * VMs with no Cloudlet don't add any cost to the solution.
+     *
+     * @param vmIdx the index of the VM to get the cost
+     * @return the VM cost
+     */
+    private long getVmCost(final int vmIdx) {
+        return vmCloudlets[vmIdx] == 0 ? 0 : Math.abs(vmPes[vmIdx] - vmLoads[vmIdx]);
     }
 
-    private double computeCostOfAllVms() {
-        return groupCloudletsByVm()
-                .entrySet()
-                .stream()
-                .mapToDouble(this::getVmCost)
-                .sum();
+    @Override
+    public Heuristic<HeuristicSolution<Map<Cloudlet, Vm>>> getHeuristic() {
+        return heuristic;
     }
 
     /**
-     * Gets a Map of Cloudlets grouped by their VMs,
-     * where each key is a VM and the value is a List of Map Entries
-     * containing the Cloudlets running in that VM.
-     * @return
+     * Recomputes the cost of all VMs from scratch,
+     * getting the number of PEs from the actual Cloudlets and VMs.
      */
-    private Map<Vm, List<Map.Entry<Cloudlet, Vm>>> groupCloudletsByVm() {
-        return cloudletVmMap.entrySet().stream()
-            .collect(Collectors.groupingBy(Map.Entry::getValue));
+    private void computeCostOfAllVms() {
+        Arrays.fill(vmLoads, 0, vms.size(), 0);
+        for (int i = 0; i < vms.size(); i++) {
+            vmPes[i] = vms.get(i).getNumberOfPes();
+        }
+
+        for (int i = 0; i < cloudlets.size(); i++) {
+            cloudletPes[i] = cloudlets.get(i).getNumberOfPes();
+            vmLoads[cloudletVms[i]] += cloudletPes[i];
+        }
+
+        cost = 0;
+        for (int i = 0; i < vms.size(); i++) {
+            cost += getVmCost(i);
+        }
     }
 
     /**
@@ -151,19 +330,22 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      */
     @Override
     public double getCost() {
-        recomputeCostIfRequested();
-        return this.lastCost;
+        return cost;
     }
 
     /**
      * It computes the costs of the entire mapping between Vm's and cloudlets.
      *
-     * @param forceRecompute indicate if the cost has to be recomputed anyway
+     * @param forceRecompute indicate if the cost has to be recomputed anyway,
+     *                       considering the current number of PEs of every Cloudlet and VM
      * @return the cost of the entire mapping between Vm's and cloudlets
      * @see #getCost()
      */
     public double getCost(final boolean forceRecompute) {
-        recomputeCost |= forceRecompute;
+        if(forceRecompute) {
+            computeCostOfAllVms();
+        }
+
         return getCost();
     }
 
@@ -238,21 +420,21 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
     /**
      *
      * @return the actual solution, providing the mapping between Cloudlets
-     * and Vm's.
+     * and Vm's. The returned Map is a read-only view backed by this solution.
      */
     @Override
     public Map<Cloudlet, Vm> getResult() {
-        return Collections.unmodifiableMap(cloudletVmMap);
+        return result;
     }
 
     /**
-     * Swap the Vm's of 2 randomly selected cloudlets
-     * in the {@link #cloudletVmMap} in order to
-     * provide a neighbor solution.
+     * Swap the Vm's of 2 given cloudlets
+     * in order to provide a neighbor solution.
      *
      * The method change the given Map entries, moving the
      * cloudlet of the first entry to the Vm of the second entry
-     * and vice-versa.
+     * and vice-versa. Cloudlets from the entries which belong
+     * to this solution are also moved to their new VMs.
      *
      * @param entries a List of 2 entries containing Cloudlets to swap their VMs.
      * If the entries don't have 2 elements, the method will
@@ -269,89 +451,162 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
         entries.get(0).setValue(vm1);
         entries.get(1).setValue(vm0);
 
+        for (final Map.Entry<Cloudlet, Vm> entry : entries) {
+            if(cloudletIndexes.containsKey(entry.getKey())) {
+                bindCloudletToVm(entry.getKey(), entry.getValue());
+            }
+        }
+
         return true;
     }
 
     /**
      * Swap the Vm's of 2 randomly selected cloudlets
-     * in the {@link #cloudletVmMap} in order to
-     * provide a neighbor solution.
-     *
-     * The method change the given Map entries, moving the
-     * cloudlet of the first entry to the Vm of the second entry
-     * and vice-versa.
+     * in order to provide a neighbor solution,
+     * updating the solution cost in constant time.
      *
      * @see #swapVmsOfTwoMapEntries(List)
+     * @see #replaySwap(CloudletToVmMappingSolution)
      * @return true if the Cloudlet's VMs where swapped, false otherwise
      */
     boolean swapVmsOfTwoRandomSelectedMapEntries() {
-        return swapVmsOfTwoMapEntries(getRandomMapEntries());
+        final int size = cloudlets.size();
+        if(size < 2){
+            return false;
+        }
+
+        lastSwappedCloudlet1 = heuristic.getRandomValue(size);
+        lastSwappedCloudlet2 = heuristic.getRandomValue(size);
+        return swapVmsOfTwoCloudlets(lastSwappedCloudlet1, lastSwappedCloudlet2);
     }
 
     /**
-     * Try to get 2 randomly selected entries from the {@link #cloudletVmMap}.
+     * Swaps the VMs of the same two Cloudlets which had their VMs swapped
+     * the last time a given solution called {@link #swapVmsOfTwoRandomSelectedMapEntries()}.
      *
-     * @return a List with 2 entries from the {@link #cloudletVmMap} if the map size is at least 2;
-     *         an unitary List if the map has only 1 entry;
-     *         or an empty List if there is no entry in the map.
+     * <p>Since swapping the VMs of two Cloudlets twice restores the original mapping,
+     * replaying the last swap of this same solution undoes it.
+     * Replaying the last swap of a neighbor solution created from this one
+     * makes this solution equal to that neighbor.
+     * Both operations take constant time, enabling solutions
+     * to be reused instead of cloned for every neighbor.</p>
+     *
+     * @param source the solution to replay the last swap from,
+     *               which must have the same Cloudlets as this one
+     */
+    void replaySwap(final CloudletToVmMappingSolution source) {
+        swapVmsOfTwoCloudlets(source.lastSwappedCloudlet1, source.lastSwappedCloudlet2);
+        lastSwappedCloudlet1 = source.lastSwappedCloudlet1;
+        lastSwappedCloudlet2 = source.lastSwappedCloudlet2;
+    }
+
+    private boolean swapVmsOfTwoCloudlets(final int cloudletIdx1, final int cloudletIdx2) {
+        if(cloudletIdx1 == cloudletIdx2) {
+            return false;
+        }
+
+        final int vmIdx1 = cloudletVms[cloudletIdx1];
+        final int vmIdx2 = cloudletVms[cloudletIdx2];
+        if(vmIdx1 != vmIdx2) {
+            final long pesDelta = cloudletPes[cloudletIdx2] - cloudletPes[cloudletIdx1];
+            updateVmLoad(vmIdx1, pesDelta, 0);
+            updateVmLoad(vmIdx2, -pesDelta, 0);
+            cloudletVms[cloudletIdx1] = vmIdx2;
+            cloudletVms[cloudletIdx2] = vmIdx1;
+        }
+
+        return true;
+    }
+
+    /**
+     * Try to get 2 randomly selected entries from the {@link #getResult() mapping}.
+     *
+     * @return a List with 2 entries from the mapping if it has at least 2 Cloudlets;
+     *         an unitary List if the mapping has only 1 entry
+     *         (or if the same entry was randomly selected twice);
+     *         or an empty List if there is no entry in the mapping.
+     *         Changing the VM of such entries doesn't change this solution,
+     *         unless they are given to {@link #swapVmsOfTwoMapEntries(List)}.
      *
      * @see #swapVmsOfTwoMapEntries(List)
      */
     protected List<Map.Entry<Cloudlet, Vm>> getRandomMapEntries() {
-        if(cloudletVmMap.isEmpty()) {
+        final int size = cloudlets.size();
+        if(size == 0) {
             return new ArrayList<>();
         }
 
-        if(cloudletVmMap.size() == 1) {
-            return createListWithFirstMapEntry();
+        if(size == 1) {
+            return new ArrayList<>(Collections.singletonList(createEntry(0)));
+        }
+
+        final int firstIdx = heuristic.getRandomValue(size);
+        final int secondIdx = heuristic.getRandomValue(size);
+        final List<Map.Entry<Cloudlet, Vm>> selected = new ArrayList<>(2);
+        selected.add(createEntry(firstIdx));
+        if(secondIdx != firstIdx) {
+            selected.add(createEntry(secondIdx));
         }
 
-        return createListWithTwoRandomEntries();
+        return selected;
     }
 
-    /**
-     * Creates a List using only the first entry in the {@link #cloudletVmMap}.
-     * @return a single-entry List with either the first {@link #cloudletVmMap} entry,
-     *         or an empty List in case no entry is found.
-     */
-    private List<Map.Entry<Cloudlet, Vm>> createListWithFirstMapEntry() {
-        return cloudletVmMap.entrySet()
-            .stream()
-            .limit(1)
-            .collect(Collectors.toList());
+    private Map.Entry<Cloudlet, Vm> createEntry(final int cloudletIdx) {
+        return new AbstractMap.SimpleEntry<>(cloudlets.get(cloudletIdx), vms.get(cloudletVms[cloudletIdx]));
     }
 
     /**
-     * Creates a List with 2 randomly selected entries from the {@link #cloudletVmMap}.
-     * The way the method is called is ensured there is at least to entries
-     * in the {@link #cloudletVmMap}.
-     *
-     * @return a List with the 2 randomly selected entries
+     * A read-only {@link Map} view of the mapping between Cloudlets and VMs,
+     * backed by the arrays of the enclosing solution.
      */
-    private List<Map.Entry<Cloudlet, Vm>> createListWithTwoRandomEntries() {
-        final int size = cloudletVmMap.entrySet().size();
+    private final class ResultMap extends AbstractMap<Cloudlet, Vm> {
+        @Override
+        public int size() {
+            return cloudlets.size();
+        }
 
-        final int firstIdx = heuristic.getRandomValue(size);
-        final int secondIdx = heuristic.getRandomValue(size);
+        @Override
+        public boolean containsKey(final Object key) {
+            return cloudletIndexes.containsKey(key);
+        }
 
-        final List<Map.Entry<Cloudlet, Vm>> selected = new ArrayList<>(2);
-        final Iterator<Map.Entry<Cloudlet, Vm>> it = cloudletVmMap.entrySet().iterator();
-
-        /*
-        Loop over the entries until those ones defined by the first and second index
-        are found and added to the List.
-        Since Map doesn't have an index, we can't access the ith entry directly.
-        This loop ensures we iterate the least number of times
-        until finding the required entries, without creating
-        a List with all entries in order to get just two of them.
-        */
-        for(int i = 0; selected.size() < 2 && it.hasNext(); i++){
-            final Map.Entry<Cloudlet, Vm> solution = it.next();
-            if(i == firstIdx || i == secondIdx){
-                selected.add(solution);
-            }
+        @Override
+        public Vm get(final Object key) {
+            final Integer cloudletIdx = cloudletIndexes.get(key);
+            return cloudletIdx == null ? null : vms.get(cloudletVms[cloudletIdx]);
         }
 
-        return selected;
+        @Override
+        public Set<Entry<Cloudlet, Vm>> entrySet() {
+            return new AbstractSet<Entry<Cloudlet, Vm>>() {
+                @Override
+                public int size() {
+                    return cloudlets.size();
+                }
+
+                @Override
+                public Iterator<Entry<Cloudlet, Vm>> iterator() {
+                    return new Iterator<Entry<Cloudlet, Vm>>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < cloudlets.size();
+                        }
+
+                        @Override
+                        public Entry<Cloudlet, Vm> next() {
+                            if(!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+
+                            final int cloudletIdx = next++;
+                            return new SimpleImmutableEntry<>(
+                                cloudlets.get(cloudletIdx), vms.get(cloudletVms[cloudletIdx]));
+                        }
+                    };
+                }
+            };
+        }
     }
 }
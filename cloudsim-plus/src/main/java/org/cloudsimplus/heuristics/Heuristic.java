@@ -142,12 +142,19 @@ public interface Heuristic<S extends HeuristicSolution<?>> {
 	 *
 	 * @return the final solution
 	 * @see #getBestSolutionSoFar()
-     *
-	 * @TODO Try to parallelize the solution finding in order
-     *       to reduce search time using Parallel Streams.
+	 * @see #getParallelSearches()
 	 */
 	S solve();
 
+	/**
+	 * Gets the number of independent searches executed in parallel
+	 * when {@link #solve()} is called, returning the best solution among them.
+	 * @return the number of parallel searches (1 means the search is sequential)
+	 */
+	default int getParallelSearches() {
+	    return 1;
+	}
+
 	/**
 	 *
 	 * @return the time taken to finish the solution search (in seconds).
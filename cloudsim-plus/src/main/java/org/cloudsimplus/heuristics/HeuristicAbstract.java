@@ -128,13 +128,27 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
 	public S solve() {
 		final long startTime = System.currentTimeMillis();
 		setBestSolutionSoFar(getInitialSolution());
-		while (!isToStopSearch()) {
+		search(Long.MAX_VALUE);
+		setSolveTime((System.currentTimeMillis() - startTime)/1000.0);
+
+		return getBestSolutionSoFar();
+	}
+
+	/**
+	 * Runs iterations of the solution search, starting from the {@link #getBestSolutionSoFar() current solution},
+	 * until the search can be stopped or a given number of iterations is reached.
+	 *
+	 * @param maxIterations the maximum number of iterations to run
+	 * @return true if the solution search can be stopped, false otherwise
+	 * @see #isToStopSearch()
+	 */
+	protected final boolean search(final long maxIterations) {
+		for (long i = 0; i < maxIterations && !isToStopSearch(); i++) {
             searchSolutionInNeighborhood();
             updateSystemState();
 		}
-		setSolveTime((System.currentTimeMillis() - startTime)/1000.0);
 
-		return getBestSolutionSoFar();
+		return isToStopSearch();
 	}
 
     private void searchSolutionInNeighborhood() {
@@ -151,6 +165,18 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
 	    return bestSolutionSoFar;
 	}
 
+	/**
+	 * Gets the solution the search is currently in.
+	 * Since a neighbor solution replaces it whenever it's accepted,
+	 * even if it has a higher cost, that is the {@link #getBestSolutionSoFar()}
+	 * while the search is running.
+	 *
+	 * @return the current solution
+	 */
+	protected final S getCurrentSolution() {
+	    return bestSolutionSoFar;
+	}
+
 	@Override
 	public S getNeighborSolution() {
 	    return neighborSolution;
@@ -24,6 +24,11 @@
 package org.cloudsimplus.heuristics;
 
 import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * A base class for implementation of
@@ -53,6 +58,16 @@ import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
  * </ol>
  * </p>
  *
+ * <p>The search can be executed by multiple independent chains in parallel
+ * (see {@link #setParallelSearches(int)}), each one starting from its own random solution
+ * and using its own PRNG, seeded from the {@link #getRandom() PRNG of this heuristic}.
+ * The chains can also perform <a href="https://en.wikipedia.org/wiki/Parallel_tempering">Parallel Tempering</a>
+ * (see {@link #setParallelTempering(boolean)}),
+ * where each chain starts at a different temperature and chains periodically
+ * exchange their temperatures, allowing good solutions found at high temperatures
+ * to be refined at low ones.
+ * The best solution among all chains is returned.</p>
+ *
  * @param <S> the class of solutions the heuristic will deal with, starting with a random solution
  *           and execute the solution search in order to achieve a satisfying solution (defined by a stop criteria)
  * @author Manoel Campos da Silva Filho
@@ -77,6 +92,21 @@ public abstract class SimulatedAnnealing<S extends HeuristicSolution<?>> extends
      */
     private double coolingRate;
 
+    /**
+     * @see #getParallelSearches()
+     */
+    private int parallelSearches;
+
+    /**
+     * @see #isParallelTempering()
+     */
+    private boolean parallelTempering;
+
+    /**
+     * @see #getTemperatureExchangeInterval()
+     */
+    private int temperatureExchangeInterval;
+
 	/**
      * Instantiates a simulated annealing heuristic.
      *
@@ -85,8 +115,143 @@ public abstract class SimulatedAnnealing<S extends HeuristicSolution<?>> extends
      */
     SimulatedAnnealing(final ContinuousDistribution random, final Class<S> solutionClass){
         super(random, solutionClass);
+        this.parallelSearches = 1;
+        this.temperatureExchangeInterval = 100;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If more than one {@link #getParallelSearches() parallel search} is defined,
+     * each search is executed by a chain {@link #newChain(ContinuousDistribution) created}
+     * from this heuristic, using parallel streams.
+     * The current state of this heuristic is kept unchanged, except the best solution so far.</p>
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public S solve() {
+        if(parallelSearches <= 1){
+            return super.solve();
+        }
+
+        final long startTime = System.currentTimeMillis();
+        final List<SimulatedAnnealing<S>> chains = createChains();
+        if(parallelTempering) {
+            solveWithParallelTempering(chains);
+        } else {
+            chains.parallelStream().forEach(chain -> chain.search(Long.MAX_VALUE));
+        }
+
+        /*Gets the solution with the lowest cost from the first chains,
+        so that the result is the same regardless the order chains finish.*/
+        S bestSolution = chains.get(0).getBestSolutionSoFar();
+        for (final SimulatedAnnealing<S> chain : chains) {
+            if(chain.getBestSolutionSoFar().getCost() < bestSolution.getCost()){
+                bestSolution = chain.getBestSolutionSoFar();
+            }
+        }
+
+        setBestSolutionSoFar(bestSolution);
+        setNeighborSolution(bestSolution);
+        setSolveTime((System.currentTimeMillis() - startTime)/1000.0);
+        return bestSolution;
+    }
+
+    /**
+     * Creates the chains to execute the {@link #getParallelSearches() parallel searches},
+     * each one starting from its own initial solution.
+     * The PRNG of each chain is seeded from the seed of this heuristic's PRNG,
+     * so that searches are reproducible.
+     *
+     * <p>If {@link #isParallelTempering() parallel tempering} is enabled,
+     * the initial temperature of the chains are geometrically spaced,
+     * from the {@link #getCurrentTemperature() current temperature}
+     * down to (but not reaching) the {@link #getColdTemperature() cold temperature}.
+     * Otherwise, all chains start at the current temperature.</p>
+     *
+     * @return the list of created chains
+     */
+    private List<SimulatedAnnealing<S>> createChains() {
+        final List<SimulatedAnnealing<S>> chains = new ArrayList<>(parallelSearches);
+        final double ratio = coldTemperature / currentTemperature;
+        for (int i = 0; i < parallelSearches; i++) {
+            final SimulatedAnnealing<S> chain = newChain(new UniformDistr(getRandom().getSeed() + i));
+            chain.setCoolingRate(coolingRate);
+            chain.setColdTemperature(coldTemperature);
+            chain.setNeighborhoodSearchesByIteration(getNeighborhoodSearchesByIteration());
+            chain.setCurrentTemperature(
+                parallelTempering && ratio > 0 ?
+                    currentTemperature * Math.pow(ratio, i / (double) parallelSearches) :
+                    currentTemperature);
+            chain.setBestSolutionSoFar(chain.getInitialSolution());
+            chains.add(chain);
+        }
+
+        return chains;
+    }
+
+    /**
+     * Executes the given chains in rounds of {@link #getTemperatureExchangeInterval()} iterations,
+     * until all of them can be stopped.
+     * After each round, chains having adjacent temperatures try to exchange
+     * their temperatures, according to the Metropolis criterion.
+     * The decisions are made by the {@link #getRandom() PRNG of this heuristic}
+     * after all chains finish the round, so that searches are reproducible.
+     *
+     * @param chains the chains to execute
+     */
+    private void solveWithParallelTempering(final List<SimulatedAnnealing<S>> chains) {
+        final List<SimulatedAnnealing<S>> sortedChains = new ArrayList<>(chains);
+        boolean stopped = false;
+        while(!stopped) {
+            stopped = chains.parallelStream()
+                            .map(chain -> chain.search(temperatureExchangeInterval))
+                            .reduce(true, Boolean::logicalAnd);
+
+            sortedChains.sort(Comparator.comparingDouble(SimulatedAnnealing::getCurrentTemperature));
+            for (int i = 0; i < sortedChains.size() - 1; i++) {
+                tryToExchangeTemperatures(sortedChains.get(i), sortedChains.get(i + 1));
+            }
+        }
+    }
+
+    /**
+     * Tries to exchange the temperatures of two chains,
+     * according to the cost of the {@link #getCurrentSolution() current solution} of each one,
+     * always accepting the exchange when the colder chain
+     * gets the solution with lower cost.
+     *
+     * @param colder the chain with the lower temperature
+     * @param hotter the chain with the higher temperature
+     */
+    private void tryToExchangeTemperatures(final SimulatedAnnealing<S> colder, final SimulatedAnnealing<S> hotter) {
+        final double coldTemp = colder.getCurrentTemperature();
+        final double hotTemp = hotter.getCurrentTemperature();
+        if(coldTemp <= 0 || coldTemp == hotTemp){
+            return;
+        }
+
+        final double delta =
+            (1/coldTemp - 1/hotTemp) * (colder.getCurrentSolution().getCost() - hotter.getCurrentSolution().getCost());
+        if(delta >= 0 || Math.exp(delta) > getRandom().sample()){
+            colder.setCurrentTemperature(hotTemp);
+            hotter.setCurrentTemperature(coldTemp);
+        }
+    }
+
+    /**
+     * Creates a new heuristic instance to execute one of the {@link #getParallelSearches() parallel searches},
+     * which must be configured to solve the same problem as this one,
+     * but starting from its own initial solution generated by the given PRNG.
+     * The temperatures, cooling rate and number of neighborhood searches
+     * are set after the method returns.
+     *
+     * @param random the PRNG to be used by the new instance
+     * @return the new heuristic instance
+     */
+    protected abstract SimulatedAnnealing<S> newChain(ContinuousDistribution random);
+
 	/**
      * {@inheritDoc}
      * <p>It is used the Boltzmann distribution to define the probability
@@ -169,6 +334,80 @@ public abstract class SimulatedAnnealing<S extends HeuristicSolution<?>> extends
         this.coolingRate = coolingRate;
     }
 
+    /**
+     * {@inheritDoc}
+     * Each search is executed by an independent Simulated Annealing chain.
+     *
+     * @return {@inheritDoc}
+     * @see #isParallelTempering()
+     */
+    @Override
+    public int getParallelSearches() {
+        return parallelSearches;
+    }
+
+    /**
+     * Sets the number of independent Simulated Annealing chains to be executed in parallel
+     * when {@link #solve()} is called.
+     * Since each chain starts from a different random solution,
+     * more chains usually provide a better solution in the same wall-clock time,
+     * if there are enough CPU cores.
+     *
+     * @param parallelSearches the number of parallel chains to set (1 means the search is sequential)
+     */
+    public void setParallelSearches(final int parallelSearches) {
+        if(parallelSearches < 1){
+            throw new IllegalArgumentException("The number of parallel searches must be greater than zero.");
+        }
+
+        this.parallelSearches = parallelSearches;
+    }
+
+    /**
+     * Checks if the {@link #getParallelSearches() parallel chains} perform
+     * <a href="https://en.wikipedia.org/wiki/Parallel_tempering">Parallel Tempering</a>,
+     * starting at different temperatures and exchanging them
+     * every {@link #getTemperatureExchangeInterval()} iterations.
+     * @return true if parallel tempering is enabled, false if chains are fully independent
+     */
+    public boolean isParallelTempering() {
+        return parallelTempering;
+    }
+
+    /**
+     * Enables or disables
+     * <a href="https://en.wikipedia.org/wiki/Parallel_tempering">Parallel Tempering</a>
+     * for the {@link #getParallelSearches() parallel chains}.
+     * @param parallelTempering true to enable parallel tempering, false to execute fully independent chains
+     * @see #isParallelTempering()
+     */
+    public void setParallelTempering(final boolean parallelTempering) {
+        this.parallelTempering = parallelTempering;
+    }
+
+    /**
+     * Gets the number of iterations each chain executes before trying to exchange
+     * its temperature with other chains, when {@link #isParallelTempering() parallel tempering} is enabled.
+     * @return the number of iterations between temperature exchanges
+     */
+    public int getTemperatureExchangeInterval() {
+        return temperatureExchangeInterval;
+    }
+
+    /**
+     * Sets the number of iterations each chain executes before trying to exchange
+     * its temperature with other chains, when {@link #isParallelTempering() parallel tempering} is enabled.
+     * Lower values increase the synchronization between chains.
+     * @param temperatureExchangeInterval the number of iterations between temperature exchanges
+     */
+    public void setTemperatureExchangeInterval(final int temperatureExchangeInterval) {
+        if(temperatureExchangeInterval < 1){
+            throw new IllegalArgumentException("The temperature exchange interval must be greater than zero.");
+        }
+
+        this.temperatureExchangeInterval = temperatureExchangeInterval;
+    }
+
     /**
      *
      * @return the temperature that defines the system is cold enough
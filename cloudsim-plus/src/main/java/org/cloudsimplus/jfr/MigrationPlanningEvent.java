@@ -0,0 +1,52 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A JFR event recording a round of VM migration planning, where a VM allocation policy
+ * looks for overloaded and underloaded Hosts and selects VMs to migrate.
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+@Name("org.cloudsimplus.MigrationPlanning")
+@Label("VM Migration Planning")
+@Category({"CloudSim Plus", "Allocation"})
+@Description("A round of VM migration planning")
+public final class MigrationPlanningEvent extends Event {
+    @Label("Policy")
+    @Description("The class of the VM allocation policy")
+    public String policy;
+
+    @Label("Overloaded Hosts")
+    public int overloadedHosts;
+
+    @Label("Planned Migrations")
+    public int migrations;
+
+    @Label("Simulation Time")
+    @Description("The simulation time the planning happened (in seconds)")
+    public double simulationTime;
+}
@@ -0,0 +1,55 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A JFR event recording the processing of a simulation event by its destination entity.
+ * Since a simulation may process millions of events, by default only events
+ * taking at least 1 millisecond are recorded. The threshold can be changed
+ * in the JFR settings (such as {@code threshold=0 ms} to record every event).
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+@Name("org.cloudsimplus.SimEventDispatch")
+@Label("Simulation Event Dispatch")
+@Category({"CloudSim Plus", "Simulation"})
+@Description("Processing of a simulation event by its destination entity")
+@Threshold("1 ms")
+public final class SimEventDispatchEvent extends Event {
+    @Label("Tag")
+    @Description("The tag that identifies the kind of the event (see CloudSimTags)")
+    public int tag;
+
+    @Label("Source")
+    public String source;
+
+    @Label("Destination")
+    public String destination;
+
+    @Label("Simulation Time")
+    @Description("The simulation time the event was processed (in seconds)")
+    public double simulationTime;
+}
@@ -0,0 +1,51 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A JFR event recording the reading of a batch of lines from a trace file.
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+@Name("org.cloudsimplus.TraceReadBatch")
+@Label("Trace Read Batch")
+@Category({"CloudSim Plus", "Traces"})
+@Description("Reading of a batch of lines from a trace file")
+public final class TraceReadBatchEvent extends Event {
+    /** The maximum number of lines read in a single batch. */
+    public static final int BATCH_SIZE = 10_000;
+
+    @Label("File")
+    public String file;
+
+    @Label("First Line")
+    @Description("The number of the first line in the batch (starting from 0)")
+    public int firstLine;
+
+    @Label("Lines")
+    @Description("The number of processed lines in the batch")
+    public int lines;
+}
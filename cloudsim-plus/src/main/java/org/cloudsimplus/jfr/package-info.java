@@ -0,0 +1,17 @@
+/**
+ * Provides custom <a href="https://docs.oracle.com/en/java/javase/11/docs/api/jdk.jfr/jdk/jfr/package-summary.html">JDK Flight Recorder</a>
+ * (JFR) event types emitted by simulation internals,
+ * such as event dispatching, Datacenter processing updates, VM placement,
+ * VM migration planning and trace file reading.
+ *
+ * <p>Each event records both the wall-clock duration (provided by JFR)
+ * and the simulation time it happened,
+ * enabling the correlation between simulated and wall-clock time
+ * in standard tools such as JDK Mission Control.
+ * The events are emitted only while a recording that enables them is running
+ * (e.g. by starting the JVM with {@code -XX:StartFlightRecording}).
+ * Otherwise, the JIT compiler removes them entirely.</p>
+ *
+ * @since CloudSim Plus 5.2.0
+ */
+package org.cloudsimplus.jfr;
@@ -28,6 +28,7 @@ import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimulationProfiler;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
 import org.cloudbus.cloudsim.hosts.Host;
@@ -440,6 +441,19 @@ public abstract class Experiment implements Runnable {
         return simulation;
     }
 
+    /**
+     * Enables the {@link SimulationProfiler} for the simulation of this experiment,
+     * so that a report showing where the simulation time goes is logged when the experiment finishes.
+     * The profiler can be got by {@link CloudSim#getProfiler()} after the experiment finishes,
+     * for instance, inside the {@link #setAfterExperimentFinish(Consumer)} Consumer.
+     *
+     * @return
+     */
+    public Experiment enableProfiler() {
+        simulation.enableProfiler();
+        return this;
+    }
+
     /**
      * Gets the number of brokers to create.
      * @return
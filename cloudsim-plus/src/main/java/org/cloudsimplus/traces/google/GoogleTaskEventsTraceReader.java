@@ -35,6 +35,7 @@ import org.cloudbus.cloudsim.util.TimeUtil;
 import org.cloudbus.cloudsim.util.TraceReaderAbstract;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
 import org.cloudsimplus.listeners.EventInfo;
+import org.cloudsimplus.util.Log;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -564,7 +565,9 @@ public final class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract
             /* We don't need to check if some Cloudlet attribute was changed because
              * if this Runnable is executed is because something was.
              * An event to execute such Runnable is just sent in such a condition.*/
-            broker.LOGGER.trace("{}: {}: {} attributes updated: {}", getSimulation().clockStr(), broker.getName(), cloudlet, builder);
+            if(Log.isTraceEnabled(DatacenterBroker.LOGGER, getSimulation())) {
+                DatacenterBroker.LOGGER.trace("{}: {}: {} attributes updated: {}", getSimulation().clockStr(), broker.getName(), cloudlet, builder);
+            }
         };
 
         /* The Runnable is the data of the event that is sent to the broker.
@@ -35,6 +35,7 @@ import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
 import org.cloudsimplus.listeners.EventInfo;
+import org.cloudsimplus.util.Log;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -431,7 +432,9 @@ public final class GoogleTaskUsageTraceReader extends GoogleTraceReaderAbstract<
              * if this Runnable is executed is because something was.
              * An event to execute such Runnable is just sent in such a condition.*/
             final DatacenterBroker broker = cloudlet.getBroker();
-            broker.LOGGER.trace("{}: {}: {} resource usage changed: {}", simulation.clockStr(), broker.getName(), cloudlet, builder);
+            if(Log.isTraceEnabled(DatacenterBroker.LOGGER, simulation)) {
+                DatacenterBroker.LOGGER.trace("{}: {}: {} resource usage changed: {}", simulation.clockStr(), broker.getName(), cloudlet, builder);
+            }
             cloudlet.getVm().getHost().updateProcessing(simulation.clock());
         };
 
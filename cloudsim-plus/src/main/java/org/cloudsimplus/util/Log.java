@@ -24,6 +24,7 @@
 package org.cloudsimplus.util;
 
 import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.core.Simulation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,10 +32,32 @@ import org.slf4j.LoggerFactory;
  * An utility class to enable changing logging
  * configuration such as the logging level.
  *
+ * <p>It also provides guard methods such as {@link #isInfoEnabled(Logger, Simulation)}
+ * that must wrap log statements whose arguments are expensive to build
+ * (such as {@link Simulation#clockStr()} or {@link String#format(String, Object...)}),
+ * so that no work is performed when the message isn't going to be logged.
+ * Those guards take into account the logger level,
+ * the {@link Simulation#isSilent() silent mode} of the given simulation
+ * and the global {@link #SILENT} flag.</p>
+ *
  * @since CloudSim Plus 3.0.0
  * @author Manoel Campos da Silva Filho
  */
 public final class Log {
+    /**
+     * The name of the system property that, when set to true,
+     * disables all guarded log statements for every simulation in the JVM
+     * (for instance, using {@code -Dcloudsimplus.log.silent=true}).
+     */
+    public static final String SILENT_PROPERTY = "cloudsimplus.log.silent";
+
+    /**
+     * Indicates if all guarded log statements are disabled
+     * for every simulation, according to the {@link #SILENT_PROPERTY} system property.
+     * Since it's a constant, the JIT compiler completely removes
+     * the guarded statements when it's true.
+     */
+    public static final boolean SILENT = Boolean.getBoolean(SILENT_PROPERTY);
 
     /**
      * A private constructor to avoid class instantiation.
@@ -67,4 +90,52 @@ public final class Log {
         final Logger root = LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
         setLevel(root, level);
     }
+
+    /**
+     * Checks if INFO messages from a given logger should be logged
+     * for a given simulation.
+     * @param logger the logger to check
+     * @param simulation the simulation the message refers to
+     * @return true if the message should be logged, false otherwise
+     * @see Simulation#isSilent()
+     */
+    public static boolean isInfoEnabled(final Logger logger, final Simulation simulation) {
+        return !SILENT && !simulation.isSilent() && logger.isInfoEnabled();
+    }
+
+    /**
+     * Checks if WARN messages from a given logger should be logged
+     * for a given simulation.
+     * @param logger the logger to check
+     * @param simulation the simulation the message refers to
+     * @return true if the message should be logged, false otherwise
+     * @see Simulation#isSilent()
+     */
+    public static boolean isWarnEnabled(final Logger logger, final Simulation simulation) {
+        return !SILENT && !simulation.isSilent() && logger.isWarnEnabled();
+    }
+
+    /**
+     * Checks if DEBUG messages from a given logger should be logged
+     * for a given simulation.
+     * @param logger the logger to check
+     * @param simulation the simulation the message refers to
+     * @return true if the message should be logged, false otherwise
+     * @see Simulation#isSilent()
+     */
+    public static boolean isDebugEnabled(final Logger logger, final Simulation simulation) {
+        return !SILENT && !simulation.isSilent() && logger.isDebugEnabled();
+    }
+
+    /**
+     * Checks if TRACE messages from a given logger should be logged
+     * for a given simulation.
+     * @param logger the logger to check
+     * @param simulation the simulation the message refers to
+     * @return true if the message should be logged, false otherwise
+     * @see Simulation#isSilent()
+     */
+    public static boolean isTraceEnabled(final Logger logger, final Simulation simulation) {
+        return !SILENT && !simulation.isSilent() && logger.isTraceEnabled();
+    }
 }
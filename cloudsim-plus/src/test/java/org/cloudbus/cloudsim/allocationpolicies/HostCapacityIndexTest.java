@@ -0,0 +1,129 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.allocationpolicies;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimpleTest;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmTestUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks if {@link VmAllocationPolicy} implementations select
+ * the same Hosts for VMs when the {@link HostCapacityIndex} is enabled.
+ */
+public class HostCapacityIndexTest {
+    private static final long SEED = 1;
+    private static final int HOSTS = 60;
+    private static final int VMS = 600;
+    private static final int MAX_HOST_PES = 16;
+    private static final int MAX_VM_PES = 8;
+    private static final double MIPS = 1000;
+    private static final long HOST_STORAGE = 1_000_000;
+    private static final long HOST_BW = 100_000;
+    private static final long VM_RAM = 512;
+    private static final long VM_BW = 1000;
+    private static final long VM_STORAGE = 1000;
+
+    @Test
+    public void bestFit_WhenHostIndexEnabled_SelectsSameHostsAsWithoutIndex() {
+        assertSameHostsSelected(VmAllocationPolicyBestFit::new);
+    }
+
+    @Test
+    public void worstFit_WhenHostIndexEnabled_SelectsSameHostsAsWithoutIndex() {
+        assertSameHostsSelected(VmAllocationPolicyWorstFit::new);
+    }
+
+    @Test
+    public void simple_WhenHostIndexEnabled_SelectsSameHostsAsWithoutIndex() {
+        assertSameHostsSelected(VmAllocationPolicySimple::new);
+    }
+
+    @Test
+    public void firstFit_WhenHostIndexEnabled_SelectsSameHostsAsWithoutIndex() {
+        assertSameHostsSelected(VmAllocationPolicyFirstFit::new);
+    }
+
+    @Test
+    public void disableHostIndex() {
+        final VmAllocationPolicy policy = new VmAllocationPolicyBestFit();
+        assertFalse(policy.isHostIndexEnabled());
+        assertTrue(policy.enableHostIndex().isHostIndexEnabled());
+        assertFalse(policy.disableHostIndex().isHostIndexEnabled());
+    }
+
+    private void assertSameHostsSelected(final Supplier<VmAllocationPolicy> policySupplier) {
+        final List<Long> expected = placeVms(policySupplier.get());
+        final List<Long> actual = placeVms(policySupplier.get().enableHostIndex());
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Places VMs requiring a random number of PEs into Hosts having
+     * random capacities and activation status, randomly destroying some VMs along the way.
+     *
+     * @param policy the policy to place VMs
+     * @return the id of the Host selected for each VM, or -1 if no Host was selected
+     */
+    private List<Long> placeVms(final VmAllocationPolicy policy) {
+        final CloudSim simulation = new CloudSim();
+        final Random random = new Random(SEED);
+        final List<Host> hostList = new ArrayList<>(HOSTS);
+        for (int id = 0; id < HOSTS; id++) {
+            final long ram = random.nextBoolean() ? VM_RAM * 4 : VM_RAM * MAX_HOST_PES;
+            final Host host = HostSimpleTest.createHostSimple(id, 1 + random.nextInt(MAX_HOST_PES), MIPS, ram, HOST_BW, HOST_STORAGE);
+            hostList.add(host.setActive(random.nextInt(4) > 0));
+        }
+
+        new DatacenterSimple(simulation, hostList, policy);
+
+        final List<Vm> createdVms = new ArrayList<>();
+        final List<Long> selectedHosts = new ArrayList<>(VMS);
+        for (int id = 0; id < VMS; id++) {
+            final Vm vm = VmTestUtil.createVm(id, MIPS, 1 + random.nextInt(MAX_VM_PES), VM_RAM, VM_BW, VM_STORAGE, simulation);
+            if (policy.allocateHostForVm(vm)) {
+                createdVms.add(vm);
+                selectedHosts.add(vm.getHost().getId());
+            } else {
+                selectedHosts.add(-1L);
+            }
+
+            if (!createdVms.isEmpty() && random.nextInt(3) == 0) {
+                policy.deallocateHostForVm(createdVms.remove(random.nextInt(createdVms.size())));
+            }
+        }
+
+        return selectedHosts;
+    }
+}
@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -41,6 +42,19 @@ public class VmAllocationPolicySimpleTest {
      * @return
      */
     private VmAllocationPolicySimple createVmAllocationPolicy(int... freePesByHost) {
+        return createVmAllocationPolicy(new VmAllocationPolicySimple(), freePesByHost);
+    }
+
+    /**
+     * Sets up a given VmAllocationPolicy.
+     *
+     * @param policy the VmAllocationPolicy to set up
+     * @param freePesByHost an array containing the number of free PEs for each host of the
+     *                      allocation policy, that will be assigned to the freePesList.
+     *                      This array will define the number of Hosts and its PEs.
+     * @return the given policy
+     */
+    private <T extends VmAllocationPolicySimple> T createVmAllocationPolicy(final T policy, int... freePesByHost) {
         final Map<Host, Long> hostFreePesMap = new HashMap<>(freePesByHost.length);
         final List<Host> hosts = new ArrayList<>(freePesByHost.length);
         for(int i = 1; i <= freePesByHost.length; i++) {
@@ -50,8 +64,6 @@ public class VmAllocationPolicySimpleTest {
             hosts.add(host);
         }
 
-        final VmAllocationPolicySimple policy = new VmAllocationPolicySimple();
-
         final Datacenter datacenter = EasyMock.createMock(Datacenter.class);
         EasyMock.expect(datacenter.getHostList()).andReturn(hosts).anyTimes();
         EasyMock.replay(datacenter);
@@ -87,4 +99,63 @@ public class VmAllocationPolicySimpleTest {
         final Vm vm = VmTestUtil.createVm(0, 1000, 10);
         assertFalse(policy.allocateHostForVm(vm));
     }
+
+    @Test
+    public void allocateHostForVm_WhenVmListIsGiven_ReturnsVmsWithoutSuitableHost() {
+        final Vm vm0 = VmTestUtil.createVm(0, 1000, 10);
+        final Vm vm1 = VmTestUtil.createVm(1, 1000, 2);
+        final Vm vm2 = VmTestUtil.createVm(2, 1000, 10);
+        final Vm vm3 = VmTestUtil.createVm(3, 1000, 4);
+
+        final List<Vm> failedVms = policy.allocateHostForVm(List.of(vm0, vm1, vm2, vm3));
+        assertEquals(List.of(vm0, vm2), failedVms);
+        assertEquals(policy.getDatacenter().getHostList().get(2), vm1.getHost());
+        assertTrue(vm3.isCreated());
+    }
+
+    @Test
+    public void isPlacementFailureRepeatable_WhenDefaultPolicy_ReturnsTrue() {
+        assertTrue(policy.isPlacementFailureRepeatable());
+    }
+
+    @Test
+    public void isPlacementFailureRepeatable_WhenCustomFindHostFunctionIsSet_ReturnsFalse() {
+        policy.setFindHostForVmFunction((allocationPolicy, vm) -> Optional.empty());
+        assertFalse(policy.isPlacementFailureRepeatable());
+    }
+
+    @Test
+    public void isPlacementFailureRepeatable_WhenSubclassKeepsHostSelection_ReturnsTrue() {
+        final VmAllocationPolicySimple subclassPolicy = new VmAllocationPolicySimple() {
+            @Override
+            public String toString() {
+                return "trivial subclass";
+            }
+        };
+        assertTrue(subclassPolicy.isPlacementFailureRepeatable());
+    }
+
+    @Test
+    public void allocateHostForVm_WhenVmListIsGivenToStatefulSubclass_TriesEveryVm() {
+        final VmAllocationPolicySimple statefulPolicy = createVmAllocationPolicy(new VmAllocationPolicySimple() {
+            private boolean firstSearch = true;
+
+            @Override
+            protected Optional<Host> defaultFindHostForVm(final Vm vm) {
+                if(firstSearch) {
+                    firstSearch = false;
+                    return Optional.empty();
+                }
+
+                return super.defaultFindHostForVm(vm);
+            }
+        }, 4, 2, 6, 5);
+        assertFalse(statefulPolicy.isPlacementFailureRepeatable());
+
+        final Vm vm0 = VmTestUtil.createVm(0, 1000, 2);
+        final Vm vm1 = VmTestUtil.createVm(1, 1000, 2);
+        final List<Vm> failedVms = statefulPolicy.allocateHostForVm(List.of(vm0, vm1));
+        assertEquals(List.of(vm0), failedVms);
+        assertTrue(vm1.isCreated());
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.distributions.PoissonDistr;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class CloudletArrivalStreamTest {
+    private static final double WINDOW = 10;
+
+    @Test
+    public void testNextWindowGetsJustArrivingCloudlets() {
+        final List<Cloudlet> cloudlets = createCloudlets(0, 5, 9.9, 10, 35);
+        final CloudletArrivalStream stream = new CloudletArrivalStream(cloudlets.iterator(), WINDOW, 0);
+
+        final List<Cloudlet> window = stream.nextWindow(0);
+        assertEquals(cloudlets.subList(0, 3), window);
+        assertEquals(5, window.get(1).getSubmissionDelay());
+        assertTrue(stream.hasNext());
+        assertEquals(WINDOW, stream.nextWindowDelay(0));
+
+        assertEquals(cloudlets.subList(3, 4), stream.nextWindow(10));
+        assertEquals(0, cloudlets.get(3).getSubmissionDelay());
+
+        //The window between 20 and 30 is skipped, since no Cloudlet arrives there
+        assertEquals(20, stream.nextWindowDelay(10));
+        assertEquals(cloudlets.subList(4, 5), stream.nextWindow(30));
+        assertEquals(5, cloudlets.get(4).getSubmissionDelay());
+        assertFalse(stream.hasNext());
+    }
+
+    @Test
+    public void testInvalidWindow() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new CloudletArrivalStream(Collections.<Cloudlet>emptyIterator(), 0, 0));
+    }
+
+    @Test
+    public void testSubmitCloudletStreamRunsAllCloudletsAfterTheirArrival() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBroker broker = createScenario(simulation);
+        final List<Cloudlet> cloudlets = createCloudlets(0, 5, 12, 31, 47);
+        broker.submitCloudletStream(cloudlets.iterator(), WINDOW);
+        simulation.start();
+
+        assertEquals(cloudlets.size(), broker.getCloudletFinishedList().size());
+        final double[] arrivals = {0, 5, 12, 31, 47};
+        for (int i = 0; i < arrivals.length; i++) {
+            assertTrue(cloudlets.get(i).getExecStartTime() >= arrivals[i]);
+        }
+    }
+
+    @Test
+    public void testSubmitCloudletArrivalsKeepsJustCurrentWindowWaiting() {
+        final int cloudletsNumber = 200;
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBroker broker = createScenario(simulation);
+        broker.setRetainFinishedCloudlets(false);
+
+        final List<Cloudlet> created = new ArrayList<>();
+        broker.submitCloudletArrivals(new PoissonDistr(0.5, 1), () -> {
+            if (created.size() == cloudletsNumber) {
+                return Cloudlet.NULL;
+            }
+
+            final Cloudlet cloudlet = new CloudletSimple(1000, 1);
+            created.add(cloudlet);
+            return cloudlet;
+        }, WINDOW);
+
+        final int[] maxSubmitted = {0};
+        simulation.addOnClockTickListener(info ->
+            maxSubmitted[0] = Math.max(maxSubmitted[0], broker.getCloudletSubmittedList().size()));
+        simulation.start();
+
+        assertEquals(cloudletsNumber, created.size());
+        assertTrue(created.stream().allMatch(Cloudlet::isFinished));
+        assertTrue(maxSubmitted[0] < cloudletsNumber / 2);
+    }
+
+    private static List<Cloudlet> createCloudlets(final double... arrivalTimes) {
+        final List<Cloudlet> list = new ArrayList<>(arrivalTimes.length);
+        for (final double arrivalTime : arrivalTimes) {
+            final Cloudlet cloudlet = new CloudletSimple(1000, 1);
+            cloudlet.setSubmissionDelay(arrivalTime);
+            list.add(cloudlet);
+        }
+
+        return list;
+    }
+
+    private static DatacenterBroker createScenario(final CloudSim simulation) {
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        final Host host = new HostSimple(10000, 10000, 100000, peList);
+        new DatacenterSimple(simulation, Collections.singletonList(host));
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 2).setRam(512).setBw(1000).setSize(1000));
+        return broker;
+    }
+}
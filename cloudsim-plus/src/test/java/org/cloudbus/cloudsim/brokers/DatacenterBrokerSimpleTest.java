@@ -0,0 +1,81 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class DatacenterBrokerSimpleTest {
+    @Test
+    public void testCloudletsWaitingForVmWhoseCreationFailedAreMappedAgain() {
+        final CloudSim simulation = new CloudSim();
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        final Host host = new HostSimple(10000, 10000, 100000, peList);
+        new DatacenterSimple(simulation, Collections.singletonList(host));
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        final Vm vm = new VmSimple(1000, 2).setRam(512).setBw(1000).setSize(1000);
+        //A VM requiring more PEs than the Host has, which will fail to be created after its delay
+        final Vm failedVm = new VmSimple(1000, 8).setRam(512).setBw(1000).setSize(1000);
+        failedVm.setSubmissionDelay(5);
+        final boolean[] creationFailed = {false};
+        failedVm.addOnCreationFailureListener(info -> creationFailed[0] = true);
+        broker.submitVmList(Arrays.asList(vm, failedVm));
+
+        broker.setVmMapper(cloudlet -> creationFailed[0] ? vm : failedVm);
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            cloudlets.add(new CloudletSimple(1000, 1));
+        }
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+
+        assertTrue(creationFailed[0]);
+        assertTrue(cloudlets.stream().allMatch(Cloudlet::isFinished));
+        assertTrue(cloudlets.stream().allMatch(cloudlet -> cloudlet.getVm() == vm));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks if the {@link VmFreePesIndex} selects the same VMs
+ * as a sequential search over the created VM list.
+ */
+public class VmFreePesIndexTest {
+    private static final long SEED = 1;
+    private static final int VMS = 200;
+    private static final int MAX_VM_PES = 8;
+    private static final int REQUESTS = 2000;
+
+    @Test
+    public void findBestFit_SelectsSameVmsAsSequentialSearch() {
+        final Random random = new Random(SEED);
+        final List<VmSimple> vms = createVms(random);
+        final VmFreePesIndex index = createIndex(vms);
+
+        for (int i = 0; i < REQUESTS; i++) {
+            final long pes = 1 + random.nextInt(MAX_VM_PES);
+            final Vm expected = sequentialBestFit(vms, pes);
+            assertSame(expected, index.findBestFit(pes));
+            changeFreePes(random, index, expected, pes);
+        }
+    }
+
+    @Test
+    public void findFirstFit_SelectsSameVmsAsSequentialSearch() {
+        final Random random = new Random(SEED);
+        final List<VmSimple> vms = createVms(random);
+        final VmFreePesIndex index = createIndex(vms);
+
+        int lastPos = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            final long pes = 1 + random.nextInt(MAX_VM_PES);
+            final int expected = sequentialFirstFit(vms, pes, lastPos);
+            assertEquals(expected, index.findFirstFit(pes, lastPos));
+            if (expected >= 0) {
+                lastPos = expected;
+                changeFreePes(random, index, vms.get(expected), pes);
+            }
+        }
+    }
+
+    @Test
+    public void findFirstFit_WhenEmpty_ReturnsNotFound() {
+        final VmFreePesIndex index = new VmFreePesIndex();
+        assertEquals(-1, index.findFirstFit(1, 0));
+        assertSame(Vm.NULL, index.findBestFit(1));
+    }
+
+    private static List<VmSimple> createVms(final Random random) {
+        final List<VmSimple> vms = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vms.add(new VmSimple(1000, 1 + random.nextInt(MAX_VM_PES)));
+        }
+
+        return vms;
+    }
+
+    private static VmFreePesIndex createIndex(final List<VmSimple> vms) {
+        final VmFreePesIndex index = new VmFreePesIndex();
+        vms.forEach(index::add);
+        assertEquals(vms.size(), index.size());
+        return index;
+    }
+
+    /**
+     * Simulates a Cloudlet being mapped to the given VM
+     * and randomly another Cloudlet finishing in some VM.
+     */
+    private static void changeFreePes(final Random random, final VmFreePesIndex index, final Vm vm, final long pes) {
+        if (vm != Vm.NULL) {
+            ((VmSimple) vm).removeExpectedFreePesNumber(pes);
+            index.update(vm);
+        }
+
+        final VmSimple other = (VmSimple) index.get(random.nextInt(index.size()));
+        if (other.getExpectedFreePesNumber() < other.getNumberOfPes()) {
+            other.addExpectedFreePesNumber(1);
+            index.update(other);
+        }
+    }
+
+    private static Vm sequentialBestFit(final List<VmSimple> vms, final long pes) {
+        Vm selected = Vm.NULL;
+        for (final Vm vm : vms) {
+            if (vm.getExpectedFreePesNumber() >= pes &&
+                (selected == Vm.NULL || vm.getExpectedFreePesNumber() < selected.getExpectedFreePesNumber()))
+            {
+                selected = vm;
+            }
+        }
+
+        return selected;
+    }
+
+    private static int sequentialFirstFit(final List<VmSimple> vms, final long pes, final int lastPos) {
+        for (int i = 0; i < vms.size(); i++) {
+            final int pos = (lastPos + i) % vms.size();
+            if (vms.get(pos).getExpectedFreePesNumber() >= pes) {
+                return pos;
+            }
+        }
+
+        return -1;
+    }
+}
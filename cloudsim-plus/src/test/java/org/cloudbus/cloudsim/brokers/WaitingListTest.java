@@ -0,0 +1,84 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the order and the read-only view of a {@link WaitingList}.
+ */
+public class WaitingListTest {
+    @Test
+    public void testAddKeepsInsertionOrder() {
+        final WaitingList<String> waiting = new WaitingList<>();
+        assertTrue(waiting.isEmpty());
+        waiting.add("c");
+        waiting.add("a");
+        waiting.add("b");
+        assertEquals(Arrays.asList("c", "a", "b"), new ArrayList<>(waiting.asList()));
+        assertEquals(3, waiting.size());
+    }
+
+    @Test
+    public void testAddAlreadyWaitingEntityKeepsSequence() {
+        final WaitingList<String> waiting = new WaitingList<>();
+        final String entity = "a";
+        final long sequence = waiting.add(entity);
+        waiting.add("b");
+        assertEquals(sequence, waiting.add(entity));
+        assertEquals(2, waiting.size());
+    }
+
+    @Test
+    public void testRemoveUpdatesView() {
+        final WaitingList<String> waiting = new WaitingList<>();
+        final List<String> view = waiting.asList();
+        final String a = "a", b = "b", c = "c";
+        waiting.add(a);
+        waiting.add(b);
+        waiting.add(c);
+        assertEquals(b, view.get(1));
+
+        assertTrue(waiting.remove(b));
+        assertFalse(waiting.remove(b));
+        assertEquals(c, view.get(1));
+        assertEquals(-1, waiting.sequenceOf(b));
+        assertFalse(view.contains(b));
+        assertEquals(2, view.size());
+    }
+
+    @Test
+    public void testViewIsReadOnly() {
+        final WaitingList<String> waiting = new WaitingList<>();
+        waiting.add("a");
+        assertThrows(UnsupportedOperationException.class, () -> waiting.asList().add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> waiting.asList().clear());
+    }
+}
@@ -73,6 +73,15 @@ public class CloudletSimpleFilesTest {
         assertNotNull(cloudlet.getRequiredFiles());
     }
 
+    @Test
+    public void testGetRequiredFilesReturnsMutableListWhenNoFileWasAdded() {
+        assertFalse(cloudlet.requiresFiles());
+
+        cloudlet.getRequiredFiles().add(FILE1);
+        assertTrue(cloudlet.requiresFiles());
+        assertEquals(List.of(FILE1), cloudlet.getRequiredFiles());
+    }
+
     @Test
     public void testRequiredFiles2() {
         final CloudletSimple cloudlet = CloudletTestUtil.createCloudlet();
@@ -0,0 +1,211 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.cloudlets;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class CloudletStoreTest {
+    private static final int MIPS = 1000;
+    private static final int HOST_PES = 4;
+    private static final int CLOUDLETS = 200;
+    private static final int MAX_CLOUDLETS_IN_EXECUTION = 10;
+    private static final long CLOUDLET_LENGTH = 5000;
+
+    @Test
+    public void testSubmitExecutesAllCloudlets() {
+        final CloudSim simulation = new CloudSim();
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(MIPS));
+        }
+
+        final Host host = new HostSimple(10000, 10000, 10000, peList);
+        new DatacenterSimple(simulation, Collections.singletonList(host));
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final Vm vm0 = new VmSimple(MIPS, 2).setRam(100).setBw(100).setSize(100);
+        final Vm vm1 = new VmSimple(MIPS, 2).setRam(100).setBw(100).setSize(100);
+        broker.submitVmList(Arrays.asList(vm0, vm1));
+
+        final CloudletStore store = new CloudletStore(16);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            assertEquals(i, store.add(CLOUDLET_LENGTH, 1));
+        }
+
+        store.submit(broker, MAX_CLOUDLETS_IN_EXECUTION);
+        assertFalse(broker.isRetainFinishedCloudlets());
+        simulation.start();
+
+        assertEquals(CLOUDLETS, store.size());
+        assertEquals(CLOUDLETS, store.getFinishedCloudletsNumber());
+        assertTrue(broker.getCloudletFinishedList().isEmpty());
+        assertTrue(broker.getCloudletSubmittedList().size() <= CLOUDLETS / 2);
+
+        final double minExecTime = CLOUDLET_LENGTH / (double) MIPS;
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final int index = i;
+            assertAll(
+                () -> assertEquals(Cloudlet.Status.SUCCESS, store.getStatus(index)),
+                () -> assertEquals(host.getId(), store.getHostId(index)),
+                () -> assertTrue(store.getVmId(index) == vm0.getId() || store.getVmId(index) == vm1.getId()),
+                () -> assertEquals(2, store.getVmNumberOfPes(index)),
+                () -> assertTrue(store.getActualCpuTime(index) >= minExecTime - 1),
+                () -> assertEquals(store.getFinishTime(index) - store.getExecStartTime(index), store.getActualCpuTime(index))
+            );
+        }
+    }
+
+    /**
+     * Fails and cancels half of the Cloudlets as soon as they start executing,
+     * checking that they release room for the remaining ones to be submitted.
+     */
+    @Test
+    public void testFailedAndCanceledCloudletsReleaseRoomForNextOnes() {
+        final CloudSim simulation = new CloudSim();
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(MIPS));
+        }
+
+        final Host host = new HostSimple(10000, 10000, 10000, peList);
+        final Datacenter datacenter = new DatacenterSimple(simulation, Collections.singletonList(host));
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final Vm vm = new VmSimple(MIPS, HOST_PES).setRam(100).setBw(100).setSize(100);
+        broker.submitVmList(Collections.singletonList(vm));
+
+        final CloudletStore store = new CloudletStore(16);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            store.add(CLOUDLET_LENGTH, 1);
+        }
+
+        final Set<Long> stoppedCloudlets = new HashSet<>();
+        simulation.addOnEventProcessingListener(evt -> {
+            for (final CloudletExecution cle : vm.getCloudletScheduler().getCloudletExecList()) {
+                final Cloudlet cloudlet = cle.getCloudlet();
+                if (cloudlet.getId() % 4 == 0 && stoppedCloudlets.add(cloudlet.getId())) {
+                    simulation.sendNow(broker, broker, CloudSimTags.CLOUDLET_FAIL, cloudlet);
+                } else if (cloudlet.getId() % 4 == 2 && stoppedCloudlets.add(cloudlet.getId())) {
+                    simulation.sendNow(broker, datacenter, CloudSimTags.CLOUDLET_CANCEL, cloudlet);
+                }
+            }
+        });
+
+        store.submit(broker, MAX_CLOUDLETS_IN_EXECUTION);
+        simulation.start();
+
+        assertEquals(CLOUDLETS / 2, store.getFinishedCloudletsNumber());
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet.Status expected =
+                i % 4 == 0 ? Cloudlet.Status.FAILED :
+                i % 4 == 2 ? Cloudlet.Status.CANCELED : Cloudlet.Status.SUCCESS;
+            assertEquals(expected, store.getStatus(i), "Cloudlet " + i);
+            assertEquals(vm.getId(), store.getVmId(i));
+        }
+    }
+
+    @Test
+    public void testStoredCloudletIdsDontCollideWithOtherCloudletsOfTheBroker() {
+        final CloudSim simulation = new CloudSim();
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(MIPS));
+        }
+
+        final Host host = new HostSimple(10000, 10000, 10000, peList);
+        new DatacenterSimple(simulation, Collections.singletonList(host));
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final Vm vm = new VmSimple(MIPS, HOST_PES).setRam(100).setBw(100).setSize(100);
+        broker.submitVmList(Collections.singletonList(vm));
+
+        final List<Cloudlet> otherCloudlets = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            otherCloudlets.add(new CloudletSimple(CLOUDLET_LENGTH, 1));
+        }
+        broker.submitCloudletList(otherCloudlets);
+
+        final CloudletStore store = new CloudletStore(16);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            store.add(CLOUDLET_LENGTH, 1);
+        }
+        assertEquals(Cloudlet.NOT_ASSIGNED, store.getCloudletId(0));
+
+        store.submit(broker, MAX_CLOUDLETS_IN_EXECUTION);
+        simulation.start();
+
+        final Set<Long> ids = new HashSet<>();
+        otherCloudlets.forEach(cloudlet -> ids.add(cloudlet.getId()));
+        for (int i = 0; i < CLOUDLETS; i++) {
+            assertTrue(ids.add(store.getCloudletId(i)), "Duplicated id for Cloudlet " + i);
+        }
+
+        assertEquals(CLOUDLETS, store.getFinishedCloudletsNumber());
+        otherCloudlets.forEach(cloudlet -> assertTrue(cloudlet.isFinished()));
+    }
+
+    @Test
+    public void testAddAfterSubmitThrowsException() {
+        final CloudSim simulation = new CloudSim();
+        final CloudletStore store = new CloudletStore();
+        store.add(CLOUDLET_LENGTH, 1);
+        store.submit(new DatacenterBrokerSimple(simulation));
+        assertThrows(IllegalStateException.class, () -> store.add(CLOUDLET_LENGTH, 1));
+    }
+
+    @Test
+    public void testNotFinishedCloudletHasNoResults() {
+        final CloudletStore store = new CloudletStore();
+        store.add(CLOUDLET_LENGTH, 2);
+        assertAll(
+            () -> assertEquals(CLOUDLET_LENGTH, store.getLength(0)),
+            () -> assertEquals(2, store.getNumberOfPes(0)),
+            () -> assertEquals(Cloudlet.Status.INSTANTIATED, store.getStatus(0)),
+            () -> assertEquals(Cloudlet.NOT_ASSIGNED, store.getFinishTime(0)),
+            () -> assertEquals(Cloudlet.NOT_ASSIGNED, store.getActualCpuTime(0)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> store.getLength(1))
+        );
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelStochastic;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class CloudSimForkTest {
+    private static final int MIPS = 1000;
+    private static final int HOSTS = 2;
+    private static final int HOST_PES = 4;
+    private static final int VMS = 4;
+    private static final int CLOUDLETS = 16;
+    private static final double FORK_TIME = 20;
+
+    @Test
+    public void testForkContinuesExactlyLikeTheOriginalSimulation() {
+        final CloudSim simulation = createSimulation();
+        simulation.startSync();
+        runUntil(simulation, FORK_TIME);
+        final String originalStateAtFork = cloudletsState(simulation);
+
+        final CloudSim fork = simulation.fork();
+        assertNotSame(simulation, fork);
+        assertEquals(simulation.clock(), fork.clock());
+        assertEquals(originalStateAtFork, cloudletsState(fork));
+        assertNotSame(getBroker(simulation), getBroker(fork));
+        assertSame(fork, getBroker(fork).getSimulation());
+
+        runUntil(fork, Double.MAX_VALUE);
+        assertEquals(originalStateAtFork, cloudletsState(simulation), "Running the fork must not change the original simulation");
+
+        runUntil(simulation, Double.MAX_VALUE);
+        assertEquals(CLOUDLETS, getBroker(simulation).getCloudletFinishedList().size());
+        assertEquals(cloudletsState(simulation), cloudletsState(fork));
+    }
+
+    @Test
+    public void testForkedSimulationCanBeChangedIndependently() {
+        final CloudSim simulation = createSimulation();
+        simulation.startSync();
+        runUntil(simulation, FORK_TIME);
+
+        final CloudSim fork = simulation.fork();
+        final Cloudlet extraCloudlet = new CloudletSimple(10000, 1).setUtilizationModel(new UtilizationModelFull());
+        getBroker(fork).submitCloudlet(extraCloudlet);
+        runUntil(fork, Double.MAX_VALUE);
+        runUntil(simulation, Double.MAX_VALUE);
+
+        assertEquals(CLOUDLETS + 1, getBroker(fork).getCloudletFinishedList().size());
+        assertEquals(CLOUDLETS, getBroker(simulation).getCloudletFinishedList().size());
+        assertTrue(extraCloudlet.isFinished());
+    }
+
+    @Test
+    public void testForkInsidePauseListenerCanBeStarted() {
+        final CloudSim simulation = createSimulation();
+        final List<CloudSim> forks = new ArrayList<>();
+        simulation.pause(FORK_TIME);
+        simulation.addOnSimulationPauseListener(info -> {
+            forks.add(simulation.fork());
+            simulation.resume();
+        });
+        simulation.start();
+
+        assertEquals(1, forks.size());
+        final CloudSim fork = forks.get(0);
+        assertFalse(fork.isPaused());
+        fork.start();
+        assertFalse(fork.isRunning());
+        assertEquals(cloudletsState(simulation), cloudletsState(fork));
+    }
+
+    @Test
+    public void testForkFailsInsteadOfSharingNonSerializableJdkObjects() {
+        final CloudSim simulation = createSimulation();
+        final Thread thread = new Thread(() -> {});
+        simulation.addOnClockTickListener(info -> thread.setName(String.valueOf(info.getTime())));
+        assertThrows(UnsupportedOperationException.class, simulation::fork);
+    }
+
+    @Test
+    public void testForkFailsInsteadOfDetachingViewsFromTheirBackingCollections() {
+        final CloudSim simulation = createSimulation();
+        final Map<Double, Double> map = new HashMap<>();
+        final Set<Double> keys = map.keySet();
+        simulation.addOnClockTickListener(info -> map.put(info.getTime(), (double) keys.size()));
+        assertThrows(UnsupportedOperationException.class, simulation::fork);
+    }
+
+    private static void runUntil(final CloudSim simulation, final double time) {
+        while (simulation.isRunning() && simulation.clock() < time) {
+            simulation.runFor(1);
+        }
+    }
+
+    private static CloudSim createSimulation() {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hostList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final List<Pe> peList = new ArrayList<>(HOST_PES);
+            for (int j = 0; j < HOST_PES; j++) {
+                peList.add(new PeSimple(MIPS));
+            }
+
+            hostList.add(new HostSimple(10000, 10000, 100000, peList));
+        }
+
+        new DatacenterSimple(simulation, hostList).setSchedulingInterval(1);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        final List<Vm> vmList = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vmList.add(new VmSimple(MIPS, 2).setRam(512).setBw(1000).setSize(1000)
+                                            .setCloudletScheduler(new CloudletSchedulerTimeShared()));
+        }
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(10000 + i * 5000L, 1)
+                .setUtilizationModelCpu(new UtilizationModelStochastic(i))
+                .setUtilizationModelRam(new UtilizationModelFull())
+                .setUtilizationModelBw(new UtilizationModelFull());
+            cloudletList.add(cloudlet);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        return simulation;
+    }
+
+    private static DatacenterBroker getBroker(final CloudSim simulation) {
+        return (DatacenterBroker) simulation.getEntityList().stream()
+                                            .filter(entity -> entity instanceof DatacenterBroker)
+                                            .findFirst().orElseThrow(IllegalStateException::new);
+    }
+
+    private static String cloudletsState(final CloudSim simulation) {
+        return getBroker(simulation).getCloudletSubmittedList().stream()
+                   .map(c -> String.format("%d %s vm%d %.4f %.4f %d",
+                       c.getId(), c.getStatus(), c.getVm().getId(), c.getExecStartTime(), c.getFinishTime(), c.getFinishedLengthSoFar()))
+                   .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class SimulationProfilerTest {
+    private static final int CLOUDLETS = 10;
+
+    @Test
+    public void testProfilerIsDisabledByDefault() {
+        assertFalse(new CloudSim().getProfiler().isPresent());
+    }
+
+    @Test
+    public void testProfilerCountsEventsByTagAndEntity() {
+        final CloudSim simulation = new CloudSim();
+        final SimulationProfiler profiler = simulation.enableProfiler().setQueueSamplingInterval(1);
+        assertSame(profiler, simulation.enableProfiler());
+        createScenario(simulation);
+        simulation.start();
+
+        assertEquals(CLOUDLETS, profiler.getEventsNumber(CloudSimTags.CLOUDLET_RETURN));
+        //All Cloudlets are sent to the Datacenter at once
+        assertEquals(1, profiler.getEventsNumber(CloudSimTags.CLOUDLET_SUBMIT_BULK));
+        assertEquals(0, profiler.getEventsNumber(CloudSimTags.CLOUDLET_SUBMIT));
+        assertEquals(0, profiler.getEventsNumber(CloudSimTags.VM_MIGRATE));
+
+        final long entityEvents =
+            profiler.getEventsNumber(DatacenterSimple.class) + profiler.getEventsNumber(DatacenterBrokerSimple.class) +
+            profiler.getEventsNumber(CloudInformationService.class);
+        assertEquals(profiler.getEventsNumber(), entityEvents);
+        assertTrue(profiler.getProcessingNanos() >= profiler.getProcessingNanos(DatacenterSimple.class));
+
+        assertTrue(profiler.getMaxFutureQueueSize() > 0);
+        assertTrue(profiler.getFutureQueueSamplesNumber() > 0);
+        assertTrue(profiler.getDeferredQueueLookups() > 0);
+        assertTrue(profiler.getDeferredQueueHitRate() > 0 && profiler.getDeferredQueueHitRate() <= 1);
+        assertTrue(profiler.getWallClockSeconds() >= 0);
+        assertTrue(profiler.getReport().contains("CLOUDLET_RETURN"));
+    }
+
+    private static void createScenario(final CloudSim simulation) {
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        final Host host = new HostSimple(10000, 10000, 100000, peList);
+        new DatacenterSimple(simulation, Collections.singletonList(host));
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 2).setRam(512).setBw(1000).setSize(1000));
+
+        final List<Cloudlet> cloudletList = new ArrayList<>();
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudletList.add(new CloudletSimple(1000 * (i + 1), 1));
+        }
+
+        broker.submitCloudletList(cloudletList);
+    }
+}
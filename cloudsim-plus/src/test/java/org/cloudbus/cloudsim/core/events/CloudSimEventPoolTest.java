@@ -0,0 +1,182 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class CloudSimEventPoolTest {
+    private static final int HOSTS = 2;
+    private static final int HOST_PES = 4;
+    private static final int VMS = 4;
+    private static final int CLOUDLETS = 20;
+    private static final int TAG = 999_999;
+
+    @Test
+    public void testPooledSimulationHasSameResultsAsNonPooledOne() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBroker broker = createScenario(simulation);
+        simulation.start();
+
+        final CloudSim pooledSimulation = new CloudSim();
+        final CloudSimEventPool pool = pooledSimulation.enableEventPooling();
+        final DatacenterBroker pooledBroker = createScenario(pooledSimulation);
+        pooledSimulation.start();
+
+        assertEquals(cloudletsState(broker), cloudletsState(pooledBroker));
+        assertEquals(simulation.clock(), pooledSimulation.clock());
+        assertTrue(pool.getReusedEvents() > 0);
+    }
+
+    @Test
+    public void testRetainedEventIsNotRecycled() {
+        final CloudSim simulation = new CloudSim();
+        simulation.enableEventPooling();
+        final DatacenterBroker broker = createScenario(simulation);
+        final List<SimEvent> returnEvents = new ArrayList<>();
+        simulation.addOnEventProcessingListener(evt -> {
+            if(evt.getTag() == CloudSimTags.CLOUDLET_RETURN) {
+                returnEvents.add(evt.retain());
+            }
+        });
+        simulation.start();
+
+        assertEquals(CLOUDLETS, returnEvents.size());
+        for (final SimEvent evt : returnEvents) {
+            assertEquals(CloudSimTags.CLOUDLET_RETURN, evt.getTag());
+            assertSame(broker, evt.getDestination());
+            assertTrue(evt.getData() instanceof Cloudlet);
+        }
+    }
+
+    @Test
+    public void testOnlyDeliveredPooledEventsAreRecycled() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final CloudSimEventPool pool = new CloudSimEventPool();
+
+        final CloudSimEvent userEvent = new CloudSimEvent(0, broker, TAG);
+        pool.delivered(userEvent);
+        assertFalse(pool.release(userEvent));
+
+        final CloudSimEvent evt = pool.acquire(1, broker, broker, TAG, "data");
+        assertFalse(pool.release(evt), "An event not delivered yet must not be recycled");
+
+        pool.delivered(evt);
+        assertTrue(pool.release(evt));
+        assertEquals(1, pool.getFreeEvents());
+        assertNull(evt.getData());
+
+        final CloudSimEvent reused = pool.acquire(2, broker, broker, TAG, "other");
+        assertSame(evt, reused);
+        assertEquals(2, reused.getTime());
+        assertEquals("other", reused.getData());
+        assertEquals(1, pool.getCreatedEvents());
+        assertEquals(1, pool.getReusedEvents());
+    }
+
+    @Test
+    public void testForwardedEventIsNotRecycled() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final CloudSimEventPool pool = new CloudSimEventPool();
+
+        final CloudSimEvent evt = pool.acquire(0, broker, broker, TAG, null);
+        pool.sending(evt);
+        assertFalse(evt.isRetained());
+
+        pool.delivered(evt);
+        pool.sending(evt);
+        assertTrue(evt.isRetained());
+        assertFalse(pool.release(evt));
+    }
+
+    @Test
+    public void testCopyKeepsEventTime() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final CloudSimEvent evt = new CloudSimEvent(5, broker, TAG, "data");
+        final CloudSimEvent copy = new CloudSimEvent(evt);
+        assertEquals(evt.getTime(), copy.getTime());
+        assertEquals(evt.getTag(), copy.getTag());
+        assertSame(evt.getData(), copy.getData());
+    }
+
+    private static DatacenterBroker createScenario(final CloudSim simulation) {
+        final List<Host> hostList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final List<Pe> peList = new ArrayList<>(HOST_PES);
+            for (int j = 0; j < HOST_PES; j++) {
+                peList.add(new PeSimple(1000));
+            }
+
+            hostList.add(new HostSimple(10000, 10000, 100000, peList));
+        }
+
+        new DatacenterSimple(simulation, hostList).setSchedulingInterval(1);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        final List<Vm> vmList = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vmList.add(new VmSimple(1000, 2).setRam(512).setBw(1000).setSize(1000));
+        }
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudletList.add(new CloudletSimple(10000 + i * 1000L, 1).setUtilizationModel(new UtilizationModelFull()));
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        return broker;
+    }
+
+    private static String cloudletsState(final DatacenterBroker broker) {
+        return broker.getCloudletSubmittedList().stream()
+                   .map(c -> String.format("%d %s vm%d %.4f %.4f", c.getId(), c.getStatus(), c.getVm().getId(), c.getExecStartTime(), c.getFinishTime()))
+                   .collect(Collectors.joining("\n"));
+    }
+}
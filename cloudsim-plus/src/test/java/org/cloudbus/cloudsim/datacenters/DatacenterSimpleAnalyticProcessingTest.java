@@ -0,0 +1,97 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelStep;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the {@link Datacenter#enableAnalyticProcessing() analytic processing}
+ * for a Cloudlet whose CPU utilization changes at a known time.
+ */
+public class DatacenterSimpleAnalyticProcessingTest {
+    private static final int MIPS = 1000;
+    private static final long CLOUDLET_LENGTH = MIPS*10;
+    private static final double STEP_TIME = 4;
+    private static final double UTILIZATION_AFTER_STEP = 0.5;
+    private static final double SCHEDULING_INTERVAL = 1;
+
+    /**
+     * The accepted difference between the expected and actual finish times,
+     * since the executed length of Cloudlets is stored as integer MI.
+     */
+    private static final double TIME_DELTA = 0.3;
+
+    private int hostUpdates;
+
+    @Test
+    public void testAnalyticProcessingComputesExactFinishTimeAcrossUtilizationStep() {
+        final Cloudlet cloudlet = runSimulation(true);
+
+        /* The Cloudlet uses the whole VM MIPS up to the step,
+         * then it runs the remaining length using just part of the MIPS. */
+        final double lengthBeforeStep = MIPS * (STEP_TIME - cloudlet.getExecStartTime());
+        final double expectedFinishTime = STEP_TIME + (CLOUDLET_LENGTH - lengthBeforeStep) / (MIPS * UTILIZATION_AFTER_STEP);
+        assertEquals(expectedFinishTime, cloudlet.getFinishTime(), TIME_DELTA);
+    }
+
+    @Test
+    public void testAnalyticAndSteppedFinishTimesDifferLessThanSchedulingInterval() {
+        final double steppedFinishTime = runSimulation(false).getFinishTime();
+        final int steppedHostUpdates = hostUpdates;
+        final double analyticFinishTime = runSimulation(true).getFinishTime();
+
+        /* The periodic processing samples the utilization at the end of each interval,
+         * so it may account the step up to one scheduling interval earlier. */
+        assertEquals(steppedFinishTime, analyticFinishTime, SCHEDULING_INTERVAL / UTILIZATION_AFTER_STEP);
+        assertTrue(hostUpdates < steppedHostUpdates,
+            "The analytic processing should update Cloudlets fewer times than the stepped one.");
+    }
+
+    /**
+     * Runs a simulation with a single Cloudlet whose CPU utilization drops at {@link #STEP_TIME}.
+     * @param analyticProcessing indicates if the analytic processing must be enabled
+     * @return the Cloudlet after the simulation finishes
+     */
+    private Cloudlet runSimulation(final boolean analyticProcessing) {
+        final CloudSim simulation = new CloudSim();
+        hostUpdates = 0;
+        final Host host = new HostSimple(1000, 1000, 1000, Collections.singletonList(new PeSimple(MIPS)));
+        host.addOnUpdateProcessingListener(info -> hostUpdates++);
+
+        final Datacenter datacenter = new DatacenterSimple(simulation, Collections.singletonList(host));
+        datacenter.setSchedulingInterval(SCHEDULING_INTERVAL);
+        if(analyticProcessing) {
+            datacenter.enableAnalyticProcessing();
+        }
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final Vm vm = new VmSimple(MIPS, 1).setRam(100).setBw(100).setSize(100);
+        vm.setCloudletScheduler(new CloudletSchedulerTimeShared());
+        broker.submitVm(vm);
+
+        final Cloudlet cloudlet = new CloudletSimple(CLOUDLET_LENGTH, 1);
+        cloudlet.setUtilizationModelCpu(new UtilizationModelStep(1).addStep(STEP_TIME, UTILIZATION_AFTER_STEP))
+                .setUtilizationModelRam(new UtilizationModelDynamic(0.1))
+                .setUtilizationModelBw(new UtilizationModelDynamic(0.1));
+        broker.submitCloudlet(cloudlet);
+
+        simulation.start();
+        return cloudlet;
+    }
+}
@@ -0,0 +1,56 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class DatacenterSimpleCloudletSubmissionTest {
+    /**
+     * Cloudlets submitted together are sent in a single bulk request,
+     * while the last one, submitted with a delay, is sent alone.
+     * Every one of them must be submitted by the overridable hook.
+     */
+    @Test
+    public void testEveryCloudletIsSubmittedThroughTheHook() {
+        final CloudSim simulation = new CloudSim();
+        final Host host = new HostSimple(1000, 1000, 1000, Collections.singletonList(new PeSimple(1000)));
+        final List<Cloudlet> submittedCloudlets = new ArrayList<>();
+        new DatacenterSimple(simulation, Collections.singletonList(host)) {
+            @Override
+            protected double submitCloudletToVm(final Cloudlet cloudlet) {
+                submittedCloudlets.add(cloudlet);
+                return super.submitCloudletToVm(cloudlet);
+            }
+        };
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 1).setRam(100).setBw(100).setSize(100));
+
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            cloudlets.add(new CloudletSimple(1000, 1));
+        }
+        cloudlets.get(3).setSubmissionDelay(5);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+
+        assertEquals(cloudlets, submittedCloudlets);
+        assertEquals(cloudlets.size(), broker.getCloudletFinishedList().size());
+    }
+}
@@ -259,6 +259,21 @@ public class HostSimpleTest {
         assertTrue(vm.isInMigration());
     }
 
+    @Test
+    public void testGetVmsMigratingInIsReadOnlyBeforeAndAfterMigration() {
+        final int numberOfPes = 2;
+        final Host host = createHostSimple(0, numberOfPes);
+        final VmSimple vm = VmTestUtil.createVm(
+                0, HOST_MIPS, numberOfPes, RAM, BW, STORAGE,
+                new CloudletSchedulerTimeShared());
+        vm.setHost(Host.NULL);
+        assertThrows(UnsupportedOperationException.class, () -> host.getVmsMigratingIn().add(vm));
+
+        host.addMigratingInVm(vm);
+        assertThrows(UnsupportedOperationException.class, () -> host.getVmsMigratingIn().remove(vm));
+        assertTrue(host.getVmsMigratingIn().contains(vm));
+    }
+
     @Test
     public void testAddMigratingInVmAndCheckAvailableMipsAndStorage() {
         final int numberOfPes = 1;
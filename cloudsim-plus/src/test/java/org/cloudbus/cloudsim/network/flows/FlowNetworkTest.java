@@ -0,0 +1,132 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.network.flows;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class FlowNetworkTest {
+    private static final double DELTA = 0.000001;
+
+    private final List<NetworkLink> links = new ArrayList<>();
+    private final List<NetworkFlow> flows = new ArrayList<>();
+
+    @Test
+    public void testSingleLinkSharedEqually() {
+        final NetworkLink link = newLink(9);
+        final NetworkFlow flow0 = newFlow(link);
+        final NetworkFlow flow1 = newFlow(link);
+        final NetworkFlow flow2 = newFlow(link);
+
+        FlowNetwork.computeMaxMinFairRates(links, flows);
+        assertAll(
+            () -> assertEquals(3, flow0.getRate(), DELTA),
+            () -> assertEquals(3, flow1.getRate(), DELTA),
+            () -> assertEquals(3, flow2.getRate(), DELTA),
+            () -> assertEquals(1, link.getUtilization(), DELTA)
+        );
+    }
+
+    /**
+     * Flows limited by a congested link leave bandwidth
+     * in other links for flows not crossing the congested one.
+     */
+    @Test
+    public void testBandwidthNotUsedByBottleneckedFlowsIsShared() {
+        final NetworkLink wideLink = newLink(10);
+        final NetworkLink narrowLink = newLink(4);
+        final NetworkFlow wideOnlyFlow = newFlow(wideLink);
+        final NetworkFlow crossingFlow = newFlow(wideLink, narrowLink);
+        final NetworkFlow narrowOnlyFlow = newFlow(narrowLink);
+
+        FlowNetwork.computeMaxMinFairRates(links, flows);
+        assertAll(
+            () -> assertEquals(2, crossingFlow.getRate(), DELTA),
+            () -> assertEquals(2, narrowOnlyFlow.getRate(), DELTA),
+            () -> assertEquals(8, wideOnlyFlow.getRate(), DELTA)
+        );
+    }
+
+    @Test
+    public void testRatesRecomputedAfterFlowRemoval() {
+        final NetworkLink link = newLink(10);
+        final NetworkFlow flow0 = newFlow(link);
+        final NetworkFlow flow1 = newFlow(link);
+        FlowNetwork.computeMaxMinFairRates(links, flows);
+        assertEquals(5, flow0.getRate(), DELTA);
+
+        link.removeFlow(flow1);
+        flows.remove(flow1);
+        FlowNetwork.computeMaxMinFairRates(links, flows);
+        assertEquals(10, flow0.getRate(), DELTA);
+    }
+
+    @Test
+    public void testTransfer() {
+        final NetworkLink link = newLink(10);
+        final NetworkFlow flow = newFlow(link);
+        FlowNetwork.computeMaxMinFairRates(links, flows);
+
+        assertEquals(10, flow.getRemainingTime(), DELTA);
+        flow.transfer(4);
+        assertAll(
+            () -> assertEquals(60, flow.getRemainingMegaBits(), DELTA),
+            () -> assertEquals(6, flow.getRemainingTime(), DELTA)
+        );
+    }
+
+    @Test
+    public void testLinkWithoutBandwidth() {
+        assertThrows(IllegalArgumentException.class, () -> new NetworkLink("link", 0));
+    }
+
+    private NetworkLink newLink(final double bandwidth) {
+        final NetworkLink link = new NetworkLink("link" + links.size(), bandwidth);
+        links.add(link);
+        return link;
+    }
+
+    /**
+     * Creates a flow transferring 100 Megabits through some links.
+     * @param path the links the flow crosses
+     * @return the created flow
+     */
+    private NetworkFlow newFlow(final NetworkLink... path) {
+        final NetworkFlow flow = new NetworkFlow(null, 100, Arrays.asList(path), 0, 0);
+        for (final NetworkLink link : path) {
+            link.addFlow(flow);
+        }
+
+        flows.add(flow);
+        return flow;
+    }
+}
@@ -0,0 +1,160 @@
+package org.cloudbus.cloudsim.network.switches;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.network.HostPacket;
+import org.cloudbus.cloudsim.network.VmPacket;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class AbstractSwitchTest {
+    private static final double SWITCHING_DELAY = 0.5;
+    private static final double UPLINK_BW = 80;
+    private static final double DELTA = 1e-9;
+
+    private CloudSim simulation;
+    private ForwardingSwitch forwardingSwitch;
+    private ReceiverSwitch receiverSwitch;
+
+    @BeforeEach
+    public void setUp() {
+        simulation = new CloudSim();
+        receiverSwitch = new ReceiverSwitch(simulation);
+        forwardingSwitch = new ForwardingSwitch(simulation, receiverSwitch);
+    }
+
+    /**
+     * Packets arriving at the same time, in the same event or not,
+     * are forwarded in a single round.
+     * The ones with the same transfer delay are delivered together, in their arrival order.
+     */
+    @Test
+    public void testPacketsArrivingTogetherAreForwardedInOneRound() {
+        final HostPacket pkt1 = newPacket(1_000_000);
+        final HostPacket pkt2 = newPacket(2_000_000);
+        final HostPacket pkt3 = newPacket(1_000_000);
+        final HostPacket pkt4 = newPacket(1_000_000);
+        forwardingSwitch.addArrival(1, Arrays.asList(pkt1, pkt2, pkt3));
+        forwardingSwitch.addArrival(1, pkt4);
+        simulation.start();
+
+        final double forwardTime = 1 + SWITCHING_DELAY;
+        final List<SimEvent> received = receiverSwitch.getReceivedEvents();
+        assertEquals(2, received.size());
+        assertDelivery(received.get(0), forwardTime + transferDelay(pkt1, 4), Arrays.asList(pkt1, pkt3, pkt4));
+        assertDelivery(received.get(1), forwardTime + transferDelay(pkt2, 4), Collections.singletonList(pkt2));
+    }
+
+    /**
+     * A packet arriving before the buffered ones are forwarded
+     * postpones the forwarding, so that all of them are forwarded together
+     * after the switching delay since the last arrival.
+     */
+    @Test
+    public void testPacketArrivalPostponesForwarding() {
+        final HostPacket pkt1 = newPacket(1_000_000);
+        final HostPacket pkt2 = newPacket(1_000_000);
+        final HostPacket pkt3 = newPacket(1_000_000);
+        forwardingSwitch.addArrival(1, pkt1);
+        forwardingSwitch.addArrival(1.3, pkt2);
+        forwardingSwitch.addArrival(5, pkt3);
+        simulation.start();
+
+        final List<SimEvent> received = receiverSwitch.getReceivedEvents();
+        assertEquals(2, received.size());
+        assertDelivery(received.get(0), 1.3 + SWITCHING_DELAY + transferDelay(pkt1, 2), Arrays.asList(pkt1, pkt2));
+
+        //A single packet is sent alone, instead of inside a List
+        final SimEvent last = received.get(1);
+        assertEquals(5 + SWITCHING_DELAY + transferDelay(pkt3, 1), last.getTime(), DELTA);
+        assertSame(pkt3, last.getData());
+    }
+
+    private double transferDelay(final HostPacket pkt, final int simultaneousPackets) {
+        return forwardingSwitch.uplinkTransferDelay(pkt, simultaneousPackets);
+    }
+
+    private static void assertDelivery(final SimEvent evt, final double expectedTime, final List<HostPacket> expectedPackets) {
+        assertEquals(expectedTime, evt.getTime(), DELTA);
+        assertEquals(expectedPackets, evt.getData());
+    }
+
+    private static HostPacket newPacket(final long size) {
+        return new HostPacket(null, new VmPacket(Vm.NULL, Vm.NULL, size, null, null));
+    }
+
+    /**
+     * A switch that receives packets at given times and forwards them to a single uplink switch.
+     */
+    private static class ForwardingSwitch extends AbstractSwitch {
+        private final Switch uplinkSwitch;
+        private final List<Object[]> arrivals = new ArrayList<>();
+
+        ForwardingSwitch(final CloudSim simulation, final Switch uplinkSwitch) {
+            super(simulation, null);
+            this.uplinkSwitch = uplinkSwitch;
+            setSwitchingDelay(SWITCHING_DELAY);
+            setUplinkBandwidth(UPLINK_BW);
+        }
+
+        void addArrival(final double time, final Object packets) {
+            arrivals.add(new Object[]{time, packets});
+        }
+
+        @Override
+        protected void startEntity() {
+            super.startEntity();
+            arrivals.forEach(arrival -> schedule(this, (double) arrival[0], CloudSimTags.NETWORK_EVENT_UP, arrival[1]));
+        }
+
+        @Override
+        protected void processPacketUp(final HostPacket pkt) {
+            addPacketToSendToUplinkSwitch(uplinkSwitch, pkt);
+        }
+
+        @Override
+        public int getLevel() {
+            return EdgeSwitch.LEVEL;
+        }
+    }
+
+    /**
+     * A switch that just records the packets it receives.
+     */
+    private static class ReceiverSwitch extends AbstractSwitch {
+        private final List<SimEvent> receivedEvents = new ArrayList<>();
+
+        ReceiverSwitch(final CloudSim simulation) {
+            super(simulation, null);
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if(evt.getTag() == CloudSimTags.NETWORK_EVENT_UP) {
+                receivedEvents.add(evt);
+            }
+        }
+
+        List<SimEvent> getReceivedEvents() {
+            return receivedEvents;
+        }
+
+        @Override
+        public int getLevel() {
+            return AggregateSwitch.LEVEL;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CloudletSchedulerCompletelyFairTest {
+    private static final int LATENCY = 12;
+
+    private CloudletSchedulerCompletelyFair instance;
+
+    @BeforeEach
+    public void setUp() {
+        instance = new CloudletSchedulerCompletelyFair();
+        instance.setLatency(LATENCY);
+        instance.setMinimumGranularity(LATENCY);
+        final Vm vm = new VmSimple(1000, 4);
+        vm.setCloudletScheduler(instance);
+    }
+
+    @Test
+    public void testTimeSliceAfterPausingAndResumingCloudlets() {
+        final Cloudlet cloudlet1 = newCloudlet(1, 0);
+        final Cloudlet cloudlet2 = newCloudlet(2, 5);
+        final Cloudlet cloudlet3 = newCloudlet(3, 0);
+        instance.cloudletSubmit(cloudlet1);
+        instance.cloudletSubmit(cloudlet2);
+        instance.cloudletSubmit(cloudlet3);
+        instance.cloudletPause(cloudlet3);
+        instance.computeCloudletTimeSlice(getCloudletExecution(cloudlet1));
+
+        /* Replaces cloudlet2 by cloudlet3 into the execution list,
+         * keeping the number of running Cloudlets unchanged. */
+        instance.cloudletPause(cloudlet2);
+        instance.cloudletResume(cloudlet3);
+
+        //cloudlet1 and cloudlet3 have the same weight, so each one gets half of the latency
+        assertEquals(LATENCY/2.0, instance.computeCloudletTimeSlice(getCloudletExecution(cloudlet1)));
+    }
+
+    @Test
+    public void testTimeSliceAfterCancellingRunningCloudlet() {
+        final Cloudlet cloudlet1 = newCloudlet(1, 0);
+        final Cloudlet cloudlet2 = newCloudlet(2, 5);
+        final Cloudlet cloudlet3 = newCloudlet(3, 0);
+        instance.cloudletSubmit(cloudlet1);
+        instance.cloudletSubmit(cloudlet2);
+        instance.cloudletSubmit(cloudlet3);
+        instance.cloudletPause(cloudlet3);
+        instance.computeCloudletTimeSlice(getCloudletExecution(cloudlet1));
+
+        instance.cloudletCancel(cloudlet2);
+        instance.cloudletResume(cloudlet3);
+
+        assertEquals(LATENCY/2.0, instance.computeCloudletTimeSlice(getCloudletExecution(cloudlet1)));
+    }
+
+    private CloudletExecution getCloudletExecution(final Cloudlet cloudlet) {
+        return instance.getCloudletExecList()
+                       .stream()
+                       .filter(cle -> cle.getCloudlet() == cloudlet)
+                       .findFirst()
+                       .orElseThrow(IllegalStateException::new);
+    }
+
+    private static Cloudlet newCloudlet(final long id, final int priority) {
+        final Cloudlet cloudlet = new CloudletSimple(id, 1000, 1);
+        cloudlet.setPriority(priority);
+        return cloudlet;
+    }
+}
@@ -0,0 +1,125 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompletelyFairRunqueueTest {
+    private CompletelyFairRunqueue instance;
+
+    @BeforeEach
+    public void setUp() {
+        instance = new CompletelyFairRunqueue();
+    }
+
+    @Test
+    public void testIterationOrderByVirtualRuntimePriorityAndId() {
+        final CloudletExecution cle1 = newCloudletExecution(1, 0, 3);
+        final CloudletExecution cle2 = newCloudletExecution(2, 0, 1);
+        final CloudletExecution cle3 = newCloudletExecution(3, 1, 1);
+        final CloudletExecution cle4 = newCloudletExecution(4, 0, 1);
+        instance.addAll(Arrays.asList(cle1, cle2, cle3, cle4));
+
+        assertEquals(Arrays.asList(cle2, cle4, cle3, cle1), new ArrayList<>(instance));
+        assertSame(cle2, instance.get(0));
+        assertSame(cle1, instance.get(3));
+    }
+
+    @Test
+    public void testReinsertAfterVirtualRuntimeChange() {
+        final CloudletExecution cle1 = newCloudletExecution(1, 0, 1);
+        final CloudletExecution cle2 = newCloudletExecution(2, 0, 2);
+        instance.addAll(Arrays.asList(cle1, cle2));
+
+        cle1.setVirtualRuntime(5);
+        assertTrue(instance.reinsert(cle1));
+        assertEquals(Arrays.asList(cle2, cle1), new ArrayList<>(instance));
+        assertEquals(2, instance.size());
+    }
+
+    @Test
+    public void testReinsertWhenNotInQueue() {
+        assertFalse(instance.reinsert(newCloudletExecution(1, 0, 1)));
+        assertTrue(instance.isEmpty());
+    }
+
+    @Test
+    public void testReinsertDoesNotReplaceAnotherExecutionWithSameId() {
+        final CloudletExecution waiting = newCloudletExecution(1, 0, 1);
+        final CloudletExecution other = newCloudletExecution(1, 0, 1);
+        instance.add(waiting);
+
+        assertFalse(instance.reinsert(other));
+        assertEquals(1, instance.size());
+        assertSame(waiting, instance.get(0));
+    }
+
+    @Test
+    public void testRemoveAfterVirtualRuntimeChange() {
+        final CloudletExecution cle1 = newCloudletExecution(1, 0, 1);
+        final CloudletExecution cle2 = newCloudletExecution(2, 0, 2);
+        instance.addAll(Arrays.asList(cle1, cle2));
+
+        cle1.setVirtualRuntime(10);
+        assertTrue(instance.remove(cle1));
+        assertFalse(instance.contains(cle1));
+        assertEquals(Arrays.asList(cle2), new ArrayList<>(instance));
+        assertFalse(instance.remove(cle1));
+    }
+
+    @Test
+    public void testRemoveUsingIterator() {
+        final CloudletExecution cle1 = newCloudletExecution(1, 0, 1);
+        final CloudletExecution cle2 = newCloudletExecution(2, 0, 2);
+        instance.addAll(Arrays.asList(cle1, cle2));
+
+        instance.removeIf(cle -> cle == cle1);
+        assertEquals(1, instance.size());
+        assertFalse(instance.contains(cle1));
+        assertTrue(instance.contains(cle2));
+    }
+
+    @Test
+    public void testAddCloudletsWithDuplicatedIds() {
+        final CloudletExecution cle1 = newCloudletExecution(1, 0, 1);
+        final CloudletExecution cle2 = newCloudletExecution(1, 0, 1);
+        instance.add(cle1);
+        instance.add(cle2);
+
+        assertEquals(2, instance.size());
+        final List<CloudletExecution> list = new ArrayList<>(instance);
+        assertSame(cle1, list.get(0));
+        assertSame(cle2, list.get(1));
+
+        assertTrue(instance.remove(cle1));
+        assertEquals(1, instance.size());
+        assertSame(cle2, instance.get(0));
+    }
+
+    @Test
+    public void testRemoveEqualCloudletNotAdded() {
+        final CloudletExecution cle1 = newCloudletExecution(1, 0, 1);
+        instance.add(cle1);
+
+        final CloudletExecution equalCle = new CloudletExecution(cle1.getCloudlet());
+        assertTrue(instance.contains(equalCle));
+        assertTrue(instance.remove(equalCle));
+        assertTrue(instance.isEmpty());
+    }
+
+    private static CloudletExecution newCloudletExecution(final long id, final int priority, final double virtualRuntime) {
+        final Cloudlet cloudlet = new CloudletSimple(id, 1000, 1);
+        cloudlet.setPriority(priority);
+        final CloudletExecution cle = new CloudletExecution(cloudlet);
+        cle.setVirtualRuntime(virtualRuntime);
+        return cle;
+    }
+}
@@ -0,0 +1,112 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet.network;
+
+import org.cloudbus.cloudsim.cloudlets.network.CloudletReceiveTask;
+import org.cloudbus.cloudsim.cloudlets.network.NetworkCloudlet;
+import org.cloudbus.cloudsim.network.VmPacket;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class CloudletTaskSchedulerSimpleTest {
+    private CloudletTaskSchedulerSimple scheduler;
+    private Vm senderVm1;
+    private Vm senderVm2;
+    private Vm receiverVm;
+
+    @BeforeEach
+    public void setUp() {
+        senderVm1 = new VmSimple(0, 1000, 1);
+        senderVm2 = new VmSimple(1, 1000, 1);
+        receiverVm = new VmSimple(2, 1000, 1);
+        scheduler = new CloudletTaskSchedulerSimple();
+        scheduler.setVm(receiverVm);
+    }
+
+    @Test
+    public void testPacketsAreRoutedToTheReceiveTaskOfTheirCloudletAndSenderVm() {
+        final CloudletReceiveTask task1 = newReceiveTask(senderVm1, 2);
+        final CloudletReceiveTask task2 = newReceiveTask(senderVm1, 1);
+        final NetworkCloudlet cloudlet1 = newCloudlet(0, task1);
+        final NetworkCloudlet cloudlet2 = newCloudlet(1, task2);
+
+        final VmPacket pkt1 = addPacket(senderVm1, cloudlet1);
+        final VmPacket pkt2 = addPacket(senderVm1, cloudlet2);
+        addPacket(senderVm2, cloudlet1);
+        final VmPacket pkt4 = addPacket(senderVm1, cloudlet1);
+        assertEquals(3, scheduler.getReceivedPacketQueuesNumber());
+
+        scheduler.processCloudletTasks(cloudlet1, 0);
+        assertEquals(Arrays.asList(pkt1, pkt4), task1.getPacketsReceived());
+        assertTrue(task1.isFinished());
+
+        scheduler.processCloudletTasks(cloudlet2, 0);
+        assertEquals(Collections.singletonList(pkt2), task2.getPacketsReceived());
+
+        //Just the packet sent from another VM is still waiting for a receive task
+        assertEquals(1, scheduler.getReceivedPacketQueuesNumber());
+        assertEquals(1, scheduler.getSenderVmsNumber());
+    }
+
+    @Test
+    public void testDrainedQueuesAreRemoved() {
+        final CloudletReceiveTask task = newReceiveTask(senderVm1, 3);
+        final NetworkCloudlet cloudlet = newCloudlet(0, task);
+
+        addPacket(senderVm1, cloudlet);
+        scheduler.processCloudletTasks(cloudlet, 0);
+        assertEquals(0, scheduler.getReceivedPacketQueuesNumber());
+        assertEquals(0, scheduler.getSenderVmsNumber());
+
+        //Packets arriving later are queued again and delivered to the same task
+        addPacket(senderVm1, cloudlet);
+        addPacket(senderVm1, cloudlet);
+        assertEquals(1, scheduler.getReceivedPacketQueuesNumber());
+        scheduler.processCloudletTasks(cloudlet, 0);
+        assertEquals(3, task.getPacketsReceived().size());
+        assertTrue(task.isFinished());
+        assertEquals(0, scheduler.getReceivedPacketQueuesNumber());
+        assertEquals(0, scheduler.getSenderVmsNumber());
+    }
+
+    @Test
+    public void testPollingWithoutPacketsDoesNotCreateQueues() {
+        final CloudletReceiveTask task = newReceiveTask(senderVm1, 1);
+        final NetworkCloudlet cloudlet = newCloudlet(0, task);
+        addPacket(senderVm2, cloudlet);
+
+        scheduler.processCloudletTasks(cloudlet, 0);
+        assertTrue(task.getPacketsReceived().isEmpty());
+        assertEquals(1, scheduler.getReceivedPacketQueuesNumber());
+        assertEquals(1, scheduler.getSenderVmsNumber());
+    }
+
+    private static CloudletReceiveTask newReceiveTask(final Vm senderVm, final int expectedPackets) {
+        final CloudletReceiveTask task = new CloudletReceiveTask(0, senderVm);
+        task.setExpectedPacketsToReceive(expectedPackets);
+        return task;
+    }
+
+    private NetworkCloudlet newCloudlet(final int id, final CloudletReceiveTask task) {
+        final NetworkCloudlet cloudlet = new NetworkCloudlet(id, 1000, 1);
+        cloudlet.addTask(task);
+        cloudlet.setVm(receiverVm);
+        cloudlet.startNextTaskIfCurrentIsFinished(0);
+        return cloudlet;
+    }
+
+    private VmPacket addPacket(final Vm senderVm, final NetworkCloudlet receiverCloudlet) {
+        final VmPacket pkt = new VmPacket(senderVm, receiverVm, 100, null, receiverCloudlet);
+        assertTrue(scheduler.addPacketToListOfPacketsSentFromVm(pkt));
+        return pkt;
+    }
+}
@@ -0,0 +1,152 @@
+package org.cloudbus.cloudsim.util;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.hosts.HostStateHistoryEntry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class StateHistoryTest {
+    private static final int ENTRIES = 2000;
+
+    private static StateHistory<HostStateHistoryEntry> createHistory() {
+        return new StateHistory<>(HostStateHistoryEntry::new);
+    }
+
+    private static void recordEntries(final StateHistory<HostStateHistoryEntry> history) {
+        for (int i = 0; i < ENTRIES; i++) {
+            history.record(i, i * 10, i * 20, i % 2 == 0);
+        }
+    }
+
+    private static void assertEntry(final StateHistory<HostStateHistoryEntry> history, final int index, final int expectedTime) {
+        final HostStateHistoryEntry entry = history.get(index);
+        assertAll(
+            () -> assertEquals(expectedTime, entry.getTime()),
+            () -> assertEquals(expectedTime * 10, entry.getAllocatedMips()),
+            () -> assertEquals(expectedTime * 20, entry.getRequestedMips()),
+            () -> assertEquals(expectedTime % 2 == 0, entry.isActive()),
+            () -> assertEquals(expectedTime, history.getTime(index)),
+            () -> assertEquals(expectedTime * 10, history.getAllocatedMips(index)),
+            () -> assertEquals(expectedTime * 20, history.getRequestedMips(index)),
+            () -> assertEquals(expectedTime % 2 == 0, history.getFlag(index))
+        );
+    }
+
+    @Test
+    public void testRecordKeepsAllEntries() {
+        final StateHistory<HostStateHistoryEntry> history = createHistory();
+        recordEntries(history);
+        assertEquals(ENTRIES, history.size());
+        for (int i = 0; i < ENTRIES; i++) {
+            assertEntry(history, i, i);
+        }
+    }
+
+    @Test
+    public void testRecordReplacesEntryWithSameTime() {
+        final StateHistory<HostStateHistoryEntry> history = createHistory();
+        history.record(1, 10, 20, true);
+        history.record(1, 30, 40, false);
+        assertEquals(1, history.size());
+        assertEquals(30, history.getAllocatedMips(0));
+        assertFalse(history.getFlag(0));
+    }
+
+    @Test
+    public void testMaxEntriesKeepsNewestEntries() {
+        final int maxEntries = 700;
+        final StateHistory<HostStateHistoryEntry> history = createHistory().setMaxEntries(maxEntries);
+        recordEntries(history);
+        assertEquals(maxEntries, history.size());
+        for (int i = 0; i < maxEntries; i++) {
+            assertEntry(history, i, ENTRIES - maxEntries + i);
+        }
+    }
+
+    @Test
+    public void testMinTimeBetweenEntriesDownsamplesHistory() {
+        final StateHistory<HostStateHistoryEntry> history = createHistory().setMinTimeBetweenEntries(10);
+        recordEntries(history);
+        assertEquals(ENTRIES / 10, history.size());
+        for (int i = 0; i < history.size(); i++) {
+            assertEntry(history, i, i * 10);
+        }
+    }
+
+    @Test
+    public void testSpillToDiskKeepsAllEntries() throws IOException {
+        final Path file = Files.createTempFile("state-history", ".bin");
+        try {
+            final StateHistory<HostStateHistoryEntry> history = createHistory().enableSpillToDisk(file);
+            recordEntries(history);
+            assertEquals(ENTRIES, history.size());
+            for (int i = 0; i < ENTRIES; i++) {
+                assertEntry(history, i, i);
+            }
+            history.close();
+        } finally {
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testCloseDeletesSpillFileAndKeepsEntriesInMemory() throws IOException {
+        final Path file = Files.createTempFile("state-history", ".bin");
+        final StateHistory<HostStateHistoryEntry> history = createHistory().enableSpillToDisk(file);
+        recordEntries(history);
+        history.close();
+
+        assertFalse(Files.exists(file));
+        assertFalse(history.isSpillToDiskEnabled());
+        final int inMemory = history.size();
+        assertTrue(inMemory > 0 && inMemory < ENTRIES);
+        for (int i = 0; i < inMemory; i++) {
+            assertEntry(history, i, ENTRIES - inMemory + i);
+        }
+    }
+
+    @Test
+    public void testRecorderReleasesSpillFileWhenSimulationFinishes() throws IOException {
+        final Path file = Files.createTempFile("state-history", ".bin");
+        try {
+            final CloudSim simulation = new CloudSim();
+            final StateHistory.Recorder<HostStateHistoryEntry> recorder =
+                StateHistory.newRecorder(HostStateHistoryEntry::new, () -> simulation);
+            final StateHistory<HostStateHistoryEntry> history = recorder.getHistory().enableSpillToDisk(file);
+            for (int i = 0; i < ENTRIES; i++) {
+                recorder.record(i, i * 10, i * 20, i % 2 == 0);
+            }
+
+            simulation.start();
+
+            /* If the spill file was released at the end of the simulation,
+             * it has to be open again to read spilled entries, which fails after it is deleted. */
+            Files.delete(file);
+            assertThrows(UncheckedIOException.class, () -> history.get(0));
+        } finally {
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testSpillToDiskCannotBeEnabledAfterRecording() {
+        final StateHistory<HostStateHistoryEntry> history = createHistory();
+        history.record(0, 0, 0, true);
+        assertThrows(IllegalStateException.class, () -> history.enableSpillToDisk(Path.of("unused")));
+    }
+
+    @Test
+    public void testHistoryIsReadOnly() {
+        final StateHistory<HostStateHistoryEntry> history = createHistory();
+        assertThrows(UnsupportedOperationException.class, () -> history.add(new HostStateHistoryEntry(0, 0, 0, true)));
+    }
+}
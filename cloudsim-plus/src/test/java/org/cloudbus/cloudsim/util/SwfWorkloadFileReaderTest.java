@@ -5,7 +5,15 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -36,6 +44,54 @@ public class SwfWorkloadFileReaderTest {
 	    readFile(ZIP_FILE, JOBS_AT_SWF_LCG_FILE + JOBS_AT_SWF_NASA_FILE);
     }
 
+    @Test
+    public void readGzWithJobFilter() {
+        final SwfWorkloadFileReader reader = SwfWorkloadFileReader.getInstance(SWF_FILE+".gz", 1);
+        reader.setJobFilter((submitTime, numProc, runTime) -> numProc > 1);
+        final List<Cloudlet> cloudletList = reader.generateWorkload();
+        assertTrue(cloudletList.size() < JOBS_AT_SWF_LCG_FILE);
+        for (final Cloudlet cloudlet : cloudletList) {
+            assertTrue(cloudlet.getNumberOfPes() > 1);
+        }
+    }
+
+    @Test
+    public void streamGz() {
+        final SwfWorkloadFileReader reader = SwfWorkloadFileReader.getInstance(SWF_FILE+".gz", 1);
+        try (Stream<Cloudlet> stream = reader.stream()) {
+            assertEquals(JOBS_AT_SWF_LCG_FILE, stream.count());
+        }
+    }
+
+    @Test
+    public void streamZipWithTwoSwfFiles() {
+        final SwfWorkloadFileReader reader = SwfWorkloadFileReader.getInstance(ZIP_FILE, 1);
+        try (Stream<Cloudlet> stream = reader.stream()) {
+            assertEquals(JOBS_AT_SWF_LCG_FILE + JOBS_AT_SWF_NASA_FILE, stream.count());
+        }
+    }
+
+    @Test
+    public void readSwfInParallel() throws IOException {
+        final Path file = Files.createTempFile(SWF_FILE, ".swf");
+        try (InputStream input = new GZIPInputStream(ResourceLoader.newInputStream(SWF_FILE+".gz", getClass()))) {
+            Files.copy(input, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        try {
+            final List<Cloudlet> sequential = new SwfWorkloadFileReader(file.toString(), 1).generateWorkload();
+            final List<Cloudlet> parallel = new SwfWorkloadFileReader(file.toString(), 1).setParallel(true).generateWorkload();
+            assertEquals(JOBS_AT_SWF_LCG_FILE, parallel.size());
+            assertEquals(ids(sequential), ids(parallel));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<Long> ids(final List<Cloudlet> cloudletList) {
+        return cloudletList.stream().map(Cloudlet::getId).collect(Collectors.toList());
+    }
+
     private void readFile(String fileNameWithoutPath, int numberOfJobs) {
         final SwfWorkloadFileReader reader = SwfWorkloadFileReader.getInstance(fileNameWithoutPath, 1);
         final long milisecs = System.currentTimeMillis();
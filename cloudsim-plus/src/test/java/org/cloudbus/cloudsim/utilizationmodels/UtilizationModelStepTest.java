@@ -0,0 +1,39 @@
+package org.cloudbus.cloudsim.utilizationmodels;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UtilizationModelStepTest {
+    @Test
+    public void testGetUtilizationBetweenSteps() {
+        final UtilizationModelStep instance = new UtilizationModelStep(1).addStep(4, 0.5).addStep(10, 0.2);
+        assertEquals(1, instance.getUtilization(0));
+        assertEquals(1, instance.getUtilization(3.9));
+        assertEquals(0.5, instance.getUtilization(4));
+        assertEquals(0.5, instance.getUtilization(9.9));
+        assertEquals(0.2, instance.getUtilization(10));
+        assertEquals(0.2, instance.getUtilization(1000));
+    }
+
+    @Test
+    public void testGetNextUtilizationChangeTime() {
+        final UtilizationModelStep instance = new UtilizationModelStep(1).addStep(4, 0.5).addStep(10, 0.2);
+        assertEquals(4, instance.getNextUtilizationChangeTime(0));
+        assertEquals(10, instance.getNextUtilizationChangeTime(4));
+        assertEquals(Double.MAX_VALUE, instance.getNextUtilizationChangeTime(10));
+    }
+
+    @Test
+    public void testAddStepWithPercentageGreaterThanOne() {
+        final UtilizationModelStep instance = new UtilizationModelStep(1);
+        assertThrows(IllegalArgumentException.class, () -> instance.addStep(1, 1.1));
+    }
+
+    @Test
+    public void testAddStepWithAbsoluteUnit() {
+        final UtilizationModelStep instance = new UtilizationModelStep(UtilizationModel.Unit.ABSOLUTE, 100).addStep(1, 500);
+        assertEquals(500, instance.getUtilization(2));
+    }
+}
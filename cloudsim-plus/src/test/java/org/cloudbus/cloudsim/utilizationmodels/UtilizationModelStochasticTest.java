@@ -12,6 +12,13 @@ import org.cloudbus.cloudsim.distributions.UniformDistr;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -88,6 +95,67 @@ public class UtilizationModelStochasticTest {
         }
     }
 
+    @Test
+    public void testUtilizationForPastTimeNotInHistory() {
+        utilizationModel.getUtilization(10);
+        final double utilization5 = utilizationModel.getUtilization(5);
+        utilizationModel.getUtilization(7);
+
+        assertAll(
+            () -> assertEquals(3, utilizationModel.getHistorySize()),
+            () -> assertEquals(Double.valueOf(utilization5), utilizationModel.getUtilizationHistory(5)),
+            () -> assertNull(utilizationModel.getUtilizationHistory(6)),
+            () -> assertEquals(utilization5, utilizationModel.getUtilization(5))
+        );
+    }
+
+    @Test
+    public void testSaveAndLoadHistory() throws IOException {
+        final int MAX_TIME = 100_000;
+        IntStream.range(0, MAX_TIME).forEach(time -> utilizationModel.getUtilization(time));
+
+        final Path file = Files.createTempFile("utilization-history", ".bin");
+        try {
+            utilizationModel.saveHistory(file.toString());
+            assertEquals(3 * Integer.BYTES + MAX_TIME * 2 * Double.BYTES, Files.size(file));
+
+            final UtilizationModelStochastic loaded = new UtilizationModelStochastic(new UniformDistr(0, 1, 1));
+            loaded.loadHistory(file.toString());
+            assertEquals(MAX_TIME, loaded.getHistorySize());
+            for (int time = MAX_TIME-1; time >= 0; time--) {
+                final double expected = utilizationModel.getUtilizationHistory(time);
+                assertEquals(expected, loaded.getUtilization(time), "Utilization for time " + time);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testLoadSerializedHistory() throws IOException {
+        final Map<Double, Double> history = new HashMap<>();
+        history.put(2.0, 0.2);
+        history.put(1.0, 0.1);
+
+        final Path file = Files.createTempFile("utilization-history", ".ser");
+        try {
+            try (OutputStream out = Files.newOutputStream(file);
+                 ObjectOutputStream oos = new ObjectOutputStream(out))
+            {
+                oos.writeObject(history);
+            }
+
+            utilizationModel.loadHistory(file.toString());
+            assertAll(
+                () -> assertEquals(2, utilizationModel.getHistorySize()),
+                () -> assertEquals(0.1, utilizationModel.getUtilization(1)),
+                () -> assertEquals(0.2, utilizationModel.getUtilization(2))
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
     /**
      * A Pseudo Random Number Generator (PRNG) that always returns -1.
      */
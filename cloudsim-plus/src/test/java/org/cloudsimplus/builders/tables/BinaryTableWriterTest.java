@@ -0,0 +1,76 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class BinaryTableWriterTest {
+    @Test
+    public void testWrittenRowsAreReadBack() {
+        final int rows = BinaryTableWriter.BLOCK_SIZE * 2 + 10;
+        final CsvTable table = new CsvTable();
+        final List<TableColumn> columns = Arrays.asList(
+            table.addColumn("ID"), table.addColumn("Time", "Seconds"), table.addColumn("Status"));
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (TableWriter writer = new BinaryTableWriter(output)) {
+            for (int i = 0; i < rows; i++) {
+                writer.writeRow(columns, new Object[]{i, i / 2.0, "S" + i});
+            }
+        }
+
+        final List<Object[]> readRows = new ArrayList<>();
+        try (BinaryTableReader reader = new BinaryTableReader(new ByteArrayInputStream(output.toByteArray()))) {
+            assertEquals(Arrays.asList("ID", "Time", "Status"), reader.getColumnTitles());
+            assertEquals(Arrays.asList("", "Seconds", ""), reader.getColumnSubTitles());
+            assertEquals(rows, reader.forEachRow(row -> readRows.add(row.clone())));
+        }
+
+        for (int i = 0; i < rows; i++) {
+            assertArrayEquals(new Object[]{(long) i, i / 2.0, "S" + i}, readRows.get(i));
+        }
+    }
+
+    @Test
+    public void testEmptyTable() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new BinaryTableWriter(output).close();
+        try (BinaryTableReader reader = new BinaryTableReader(new ByteArrayInputStream(output.toByteArray()))) {
+            assertEquals(0, reader.getColumnTitles().size());
+            assertEquals(0, reader.forEachRow(row -> {}));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.cloudsimplus.builders.tables;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class CloudletsTableBuilderTest {
+    private static final int VMS = 2;
+    private static final int CLOUDLETS = 10;
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+    private List<Cloudlet> cloudlets;
+    private StringWriter onFinishOutput;
+    private TableWriter onFinishWriter;
+
+    @BeforeEach
+    public void setUp() {
+        simulation = new CloudSim();
+        final List<Host> hosts = new ArrayList<>();
+        final List<Pe> peList = Arrays.asList(new PeSimple(1000), new PeSimple(1000));
+        hosts.add(new HostSimple(10000, 10000, 100000, peList));
+        new DatacenterSimple(simulation, hosts);
+
+        broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vms = new ArrayList<>();
+        for (int i = 0; i < VMS; i++) {
+            vms.add(new VmSimple(1000, 1).setRam(1000).setBw(1000).setSize(1000));
+        }
+
+        //Cloudlets with the same length finish at the same time
+        cloudlets = new ArrayList<>();
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudlets.add(new CloudletSimple(1000 * (1 + i / VMS), 1).setUtilizationModel(new UtilizationModelFull()));
+        }
+
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+
+        onFinishOutput = new StringWriter();
+        onFinishWriter = new CsvTableWriter(onFinishOutput);
+        new CloudletsTableBuilder().writeOnFinish(broker, onFinishWriter);
+    }
+
+    @Test
+    public void testWriteOnFinishWritesTheSameRowsAsTheFinishedList() {
+        simulation.start();
+        onFinishWriter.close();
+
+        final List<Cloudlet> finishedCloudlets = broker.getCloudletFinishedList();
+        assertEquals(CLOUDLETS, finishedCloudlets.size());
+        assertEquals(sortedLines(finishedCloudlets), sortedLines(onFinishOutput));
+    }
+
+    /**
+     * Terminates the simulation as soon as the last Cloudlets are returned to the broker,
+     * so that no later event is processed to finalize them.
+     */
+    @Test
+    public void testWriteOnFinishWritesCloudletsReturnedByTheLastEvent() {
+        final int[] returned = {0};
+        simulation.addOnEventProcessingListener(evt -> {
+            if(evt.getTag() == CloudSimTags.CLOUDLET_RETURN && ++returned[0] == CLOUDLETS){
+                simulation.terminate();
+            }
+        });
+        simulation.start();
+        onFinishWriter.close();
+
+        assertEquals(CLOUDLETS, returned[0]);
+        assertEquals(sortedLines(cloudlets), sortedLines(onFinishOutput));
+    }
+
+    private static List<String> sortedLines(final List<Cloudlet> cloudlets) {
+        final StringWriter output = new StringWriter();
+        try (TableWriter writer = new CsvTableWriter(output)) {
+            new CloudletsTableBuilder(cloudlets).write(writer);
+        }
+
+        return sortedLines(output);
+    }
+
+    private static List<String> sortedLines(final StringWriter output) {
+        final List<String> lines = Arrays.asList(output.toString().split(System.lineSeparator()));
+        lines.sort(null);
+        return lines;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class CsvTableWriterTest {
+    @Test
+    public void testAppendFixedPointMatchesStringFormat() {
+        final double[] values = {0, -0.0, 0.5, 1.5, 2.5, -2.5, 1.005, 0.125, -0.04, 9.995, 123456.785, 1e20, -1e-20, Double.NaN};
+        final Random random = new Random(1);
+        for (int decimals = 0; decimals <= 9; decimals++) {
+            for (final double value : values) {
+                assertFixedPoint(value, decimals);
+            }
+
+            for (int i = 0; i < 10_000; i++) {
+                assertFixedPoint((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12)), decimals);
+            }
+        }
+    }
+
+    private static void assertFixedPoint(final double value, final int decimals) {
+        final StringBuilder builder = new StringBuilder();
+        CsvTableWriter.appendFixedPoint(builder, value, decimals);
+        assertEquals(String.format(Locale.ROOT, "%." + decimals + "f", value), builder.toString(), "value " + value);
+    }
+
+    @Test
+    public void testWriteRows() {
+        final StringWriter output = new StringWriter();
+        final CsvTable table = new CsvTable();
+        final List<TableColumn> columns = Arrays.asList(
+            table.addColumn("ID"),
+            table.addColumn("Time", "Seconds").setFormat("%.1f"),
+            table.addColumn("PEs").setFormat("%d"),
+            table.addColumn("Value").setFormat("%5s"));
+
+        try (TableWriter writer = new CsvTableWriter(output)) {
+            writer.writeRow(columns, new Object[]{1, 10.25, 2, "a"});
+            writer.writeRow(columns, new Object[]{2, 3.0, 4L, "b"});
+        }
+
+        final String nl = System.lineSeparator();
+        final String expected =
+            "ID;Time;PEs;Value" + nl +
+            ";Seconds;;" + nl +
+            "1;10.3;2;    a" + nl +
+            "2;3.0;4;    b" + nl;
+        assertEquals(expected, output.toString());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class CloudletToVmMappingSimulatedAnnealingTest {
+    private static final int SEED = 1;
+    private static final int CLOUDLETS = 200;
+    private static final int VMS = 20;
+
+    @Test
+    public void testSolveWithParallelSearchesIsReproducible() {
+        final CloudletToVmMappingSolution solution1 = createHeuristic(4, false).solve();
+        final CloudletToVmMappingSolution solution2 = createHeuristic(4, false).solve();
+        assertEquals(solution1.getCost(), solution2.getCost());
+        assertEquals(CLOUDLETS, solution1.getResult().size());
+    }
+
+    @Test
+    public void testSolveWithParallelTemperingIsReproducible() {
+        final CloudletToVmMappingSimulatedAnnealing heuristic = createHeuristic(4, true);
+        final CloudletToVmMappingSolution solution1 = heuristic.solve();
+        final CloudletToVmMappingSolution solution2 = createHeuristic(4, true).solve();
+        assertEquals(solution1.getCost(), solution2.getCost());
+        assertEquals(CLOUDLETS, solution1.getResult().size());
+        assertEquals(new CloudletToVmMappingSolution(solution1).getCost(true), solution1.getCost());
+        assertEquals(solution1, heuristic.getBestSolutionSoFar());
+    }
+
+    @Test
+    public void testSetParallelSearchesWhenZero() {
+        final CloudletToVmMappingSimulatedAnnealing heuristic = createHeuristic(1, false);
+        assertThrows(IllegalArgumentException.class, () -> heuristic.setParallelSearches(0));
+    }
+
+    private CloudletToVmMappingSimulatedAnnealing createHeuristic(final int parallelSearches, final boolean parallelTempering) {
+        final CloudletToVmMappingSimulatedAnnealing heuristic =
+            new CloudletToVmMappingSimulatedAnnealing(1, new UniformDistr(0, 1, SEED));
+        heuristic.setColdTemperature(0.001);
+        heuristic.setCoolingRate(0.01);
+        heuristic.setNeighborhoodSearchesByIteration(10);
+        heuristic.setParallelSearches(parallelSearches);
+        heuristic.setParallelTempering(parallelTempering);
+        heuristic.setTemperatureExchangeInterval(10);
+
+        final List<Vm> vmList = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vmList.add(new VmSimple(i, 1000, i % 4 + 1));
+        }
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudletList.add(new CloudletSimple(i, 1000, i % 2 + 1));
+        }
+
+        heuristic.setVmList(vmList);
+        heuristic.setCloudletList(cloudletList);
+        return heuristic;
+    }
+}
@@ -24,8 +24,11 @@
 package org.cloudsimplus.heuristics;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
 import org.cloudbus.cloudsim.cloudlets.CloudletTestUtil;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
 import org.cloudbus.cloudsim.vms.VmTestUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -37,6 +40,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  *
@@ -186,4 +190,50 @@ public class CloudletToVmMappingSolutionTest {
             swappedVmsEntries.get(1).getValue().getId());
         assertEquals(swappedVmsEntries, originalEntries, msg);
     }
+
+    @Test
+    public void testBindCloudletToAnotherVmUpdatesCost() {
+        final Vm vm0 = new VmSimple(0, 1000, 2);
+        final Vm vm1 = new VmSimple(1, 1000, 2);
+        final Cloudlet cloudlet0 = new CloudletSimple(0, 1000, 1);
+        final Cloudlet cloudlet1 = new CloudletSimple(1, 1000, 1);
+
+        final CloudletToVmMappingSolution instance = new CloudletToVmMappingSolution(Heuristic.NULL);
+        instance.bindCloudletToVm(cloudlet0, vm0);
+        instance.bindCloudletToVm(cloudlet1, vm0);
+        assertEquals(0, instance.getCost());
+
+        instance.bindCloudletToVm(cloudlet1, vm1);
+        assertEquals(2, instance.getCost());
+        assertEquals(2, instance.getResult().size());
+        assertSame(vm1, instance.getResult().get(cloudlet1));
+    }
+
+    @Test
+    public void testCostOfNeighborsIsEqualToRecomputedCost() {
+        final int numberOfVms = 10;
+        final CloudletToVmMappingSimulatedAnnealing heuristic =
+            new CloudletToVmMappingSimulatedAnnealing(1, new UniformDistr(0, 1, 1));
+        final CloudletToVmMappingSolution instance = new CloudletToVmMappingSolution(heuristic);
+        final Vm[] vms = new Vm[numberOfVms];
+        for (int i = 0; i < numberOfVms; i++) {
+            vms[i] = new VmSimple(i, 1000, i + 1);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            instance.bindCloudletToVm(new CloudletSimple(i, 1000, i % 3 + 1), vms[i % numberOfVms]);
+        }
+
+        CloudletToVmMappingSolution best = instance;
+        for (int i = 0; i < 1000; i++) {
+            final CloudletToVmMappingSolution neighbor = heuristic.createNeighbor(best);
+            final double cost = neighbor.getCost();
+            assertEquals(new CloudletToVmMappingSolution(neighbor).getCost(true), cost);
+            if(i % 2 == 0){
+                best = neighbor;
+            }
+        }
+
+        assertEquals(100, best.getResult().size());
+    }
 }
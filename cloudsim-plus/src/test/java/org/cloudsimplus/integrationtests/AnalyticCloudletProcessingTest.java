@@ -0,0 +1,123 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * An Integration Test (IT) running a simulation scenario with 1 PM of 1 PE,
+ * 1 VM of 1 PE using a {@link CloudletSchedulerTimeShared} and 2 Cloudlets,
+ * the second one arriving while the first one is running.
+ * It checks if the {@link Datacenter#enableAnalyticProcessing() analytic processing}
+ * computes the exact finish time of Cloudlets,
+ * updating their processing fewer times than the periodic processing
+ * defined by the {@link Datacenter#getSchedulingInterval() scheduling interval}.
+ */
+public final class AnalyticCloudletProcessingTest {
+    private static final int MIPS = 1000;
+    private static final int SCHEDULING_INTERVAL = 1;
+    private static final long FIRST_CLOUDLET_LENGTH = MIPS*10;
+    private static final long SECOND_CLOUDLET_LENGTH = MIPS*5;
+    private static final double SECOND_CLOUDLET_DELAY = 2.5;
+
+    /**
+     * The accepted difference between the expected and actual finish times,
+     * since the executed length of Cloudlets is stored as integer MI.
+     */
+    private static final double TIME_DELTA = 0.3;
+
+    private CloudSim simulation;
+    private Cloudlet cloudlet1;
+    private Cloudlet cloudlet2;
+    private int hostUpdates;
+
+    @Test
+    public void integrationTest() {
+        final int periodicHostUpdates = runSimulation(false);
+        final int analyticHostUpdates = runSimulation(true);
+        assertTrue(analyticHostUpdates < periodicHostUpdates,
+            "The analytic processing should update Cloudlets fewer times than the periodic one.");
+
+        /* While both Cloudlets are running, each one gets half of the VM MIPS.
+         * Then, the first Cloudlet runs alone to finish its remaining length. */
+        final double firstCloudletLengthBeforeSecondArrival = MIPS * (cloudlet2.getExecStartTime() - cloudlet1.getExecStartTime());
+        final double secondCloudletExpectedFinishTime = cloudlet2.getExecStartTime() + SECOND_CLOUDLET_LENGTH/(MIPS/2.0);
+        final double firstCloudletRemainingLength = FIRST_CLOUDLET_LENGTH - firstCloudletLengthBeforeSecondArrival - SECOND_CLOUDLET_LENGTH;
+        final double firstCloudletExpectedFinishTime = secondCloudletExpectedFinishTime + firstCloudletRemainingLength/MIPS;
+
+        assertEquals(secondCloudletExpectedFinishTime, cloudlet2.getFinishTime(), TIME_DELTA);
+        assertEquals(firstCloudletExpectedFinishTime, cloudlet1.getFinishTime(), TIME_DELTA);
+    }
+
+    /**
+     * Runs the simulation scenario.
+     * @param analyticProcessing indicates if the analytic processing must be enabled
+     * @return the number of times the Host updated the processing of its VM
+     */
+    private int runSimulation(final boolean analyticProcessing) {
+        simulation = new CloudSim();
+        hostUpdates = 0;
+        final Host host = new HostSimple(1000, 1000, 1000, Collections.singletonList(new PeSimple(MIPS)));
+        host.addOnUpdateProcessingListener(info -> hostUpdates++);
+
+        final Datacenter datacenter = new DatacenterSimple(simulation, Collections.singletonList(host));
+        datacenter.setSchedulingInterval(SCHEDULING_INTERVAL);
+        if(analyticProcessing) {
+            datacenter.enableAnalyticProcessing();
+        }
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final Vm vm = new VmSimple(MIPS, 1).setRam(100).setBw(100).setSize(100);
+        vm.setCloudletScheduler(new CloudletSchedulerTimeShared());
+        broker.submitVm(vm);
+
+        cloudlet1 = new CloudletSimple(FIRST_CLOUDLET_LENGTH, 1, new UtilizationModelFull());
+        cloudlet2 = new CloudletSimple(SECOND_CLOUDLET_LENGTH, 1, new UtilizationModelFull());
+        cloudlet2.setSubmissionDelay(SECOND_CLOUDLET_DELAY);
+        broker.submitCloudletList(Arrays.asList(cloudlet1, cloudlet2));
+
+        simulation.start();
+        return hostUpdates;
+    }
+}
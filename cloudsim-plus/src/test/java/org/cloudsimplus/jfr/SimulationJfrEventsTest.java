@@ -0,0 +1,108 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class SimulationJfrEventsTest {
+    private static final int CLOUDLETS = 4;
+
+    @Test
+    public void testSimulationEmitsJfrEvents() throws IOException {
+        final Path file = Files.createTempFile("cloudsimplus", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(SimEventDispatchEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(HostsUpdateEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(VmAllocationSearchEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            runSimulation();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        final long cloudletReturns = events.stream()
+            .filter(evt -> evt.getEventType().getName().equals("org.cloudsimplus.SimEventDispatch"))
+            .filter(evt -> evt.getInt("tag") == CloudSimTags.CLOUDLET_RETURN)
+            .count();
+        assertEquals(CLOUDLETS, cloudletReturns);
+
+        final List<RecordedEvent> searches = filter(events, "org.cloudsimplus.VmAllocationSearch");
+        assertEquals(1, searches.size());
+        assertTrue(searches.get(0).getBoolean("hostFound"));
+        assertTrue(filter(events, "org.cloudsimplus.HostsUpdate").size() > 0);
+    }
+
+    private static List<RecordedEvent> filter(final List<RecordedEvent> events, final String eventName) {
+        final List<RecordedEvent> filtered = new ArrayList<>();
+        events.stream().filter(evt -> evt.getEventType().getName().equals(eventName)).forEach(filtered::add);
+        return filtered;
+    }
+
+    private static void runSimulation() {
+        final CloudSim simulation = new CloudSim();
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        new DatacenterSimple(simulation, Collections.singletonList(new HostSimple(10000, 10000, 100000, peList)));
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 2).setRam(512).setBw(1000).setSize(1000));
+        for (int i = 0; i < CLOUDLETS; i++) {
+            broker.submitCloudlet(new CloudletSimple(1000, 1));
+        }
+
+        simulation.start();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * @since CloudSim Plus 5.2.0
+ */
+public class LogTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogTest.class.getSimpleName());
+
+    @Test
+    public void testSimulationIsNotSilentByDefault() {
+        final CloudSim simulation = new CloudSim();
+        assertFalse(simulation.isSilent());
+        assertEquals(LOGGER.isInfoEnabled(), Log.isInfoEnabled(LOGGER, simulation));
+        assertEquals(LOGGER.isWarnEnabled(), Log.isWarnEnabled(LOGGER, simulation));
+        assertEquals(LOGGER.isDebugEnabled(), Log.isDebugEnabled(LOGGER, simulation));
+        assertEquals(LOGGER.isTraceEnabled(), Log.isTraceEnabled(LOGGER, simulation));
+    }
+
+    @Test
+    public void testSilentSimulationDisablesAllLevels() {
+        final CloudSim simulation = new CloudSim();
+        assertSame(simulation, simulation.setSilent(true));
+        assertTrue(simulation.isSilent());
+        assertFalse(Log.isInfoEnabled(LOGGER, simulation));
+        assertFalse(Log.isWarnEnabled(LOGGER, simulation));
+        assertFalse(Log.isDebugEnabled(LOGGER, simulation));
+        assertFalse(Log.isTraceEnabled(LOGGER, simulation));
+    }
+
+    @Test
+    public void testSilentModeIsPerSimulation() {
+        final CloudSim silent = new CloudSim().setSilent(true);
+        final CloudSim verbose = new CloudSim();
+        assertFalse(Log.isWarnEnabled(LOGGER, silent));
+        assertEquals(LOGGER.isWarnEnabled(), Log.isWarnEnabled(LOGGER, verbose));
+    }
+
+    @Test
+    public void testNullSimulationIsNotSilent() {
+        assertFalse(Simulation.NULL.isSilent());
+    }
+
+    @Test
+    public void testVerboseSimulationLogsItsLifecycle() {
+        final List<ILoggingEvent> events = runSimulationAndGetLogEvents(new CloudSim());
+        assertTrue(events.stream().anyMatch(evt -> evt.getFormattedMessage().contains("is starting...")));
+    }
+
+    @Test
+    public void testSilentSimulationJustLogsErrors() {
+        final List<String> messages =
+            runSimulationAndGetLogEvents(new CloudSim().setSilent(true))
+                .stream()
+                .filter(evt -> evt.getLevel() != Level.ERROR)
+                .map(ILoggingEvent::getFormattedMessage)
+                .collect(toList());
+        assertEquals(Collections.emptyList(), messages);
+    }
+
+    private static List<ILoggingEvent> runSimulationAndGetLogEvents(final CloudSim simulation) {
+        final ch.qos.logback.classic.Logger root =
+            (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+        final Level previousLevel = root.getLevel();
+        final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        root.addAppender(appender);
+        root.setLevel(Level.INFO);
+        try {
+            final List<Host> hosts = Collections.singletonList(new HostSimple(1000, 1000, 1000, Collections.singletonList(new PeSimple(1000))));
+            new DatacenterSimple(simulation, hosts);
+            final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+            broker.submitVm(new VmSimple(1000, 1).setRam(100).setBw(100).setSize(100));
+            broker.submitCloudlet(new CloudletSimple(1000, 1));
+            simulation.start();
+        } finally {
+            root.setLevel(previousLevel);
+            root.detachAppender(appender);
+            appender.stop();
+        }
+
+        return appender.list;
+    }
+}